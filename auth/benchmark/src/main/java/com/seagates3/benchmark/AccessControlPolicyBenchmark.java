@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import com.seagates3.acl.AccessControlPolicy;
+
+/**
+ * Compare the streaming ACL parser of AccessControlPolicy with building a DOM
+ * through a new DocumentBuilderFactory and walking it, as AccessControlPolicy
+ * used to do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public
+class AccessControlPolicyBenchmark {
+
+  @Param({"1", "10", "100"}) public int grants;
+
+ private
+  String acl;
+
+  @Setup public void setUp() { acl = createAcl(grants); }
+
+  @Benchmark public Object parse_Dom() throws Exception {
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setIgnoringComments(true);
+    Document doc = factory.newDocumentBuilder().parse(
+        new InputSource(new StringReader(acl)));
+
+    Element owner = (Element)doc.getElementsByTagName("Owner").item(0);
+    List<String> values = new ArrayList<>();
+    values.add(owner.getElementsByTagName("ID").item(0).getTextContent());
+    Element accessControlList =
+        (Element)doc.getElementsByTagName("AccessControlList").item(0);
+    NodeList grantNodes = accessControlList.getElementsByTagName("Grant");
+    for (int i = 0; i < grantNodes.getLength(); i++) {
+      Element grant = (Element)grantNodes.item(i);
+      Element grantee = (Element)grant.getElementsByTagName("Grantee").item(0);
+      values.add(grantee.getAttribute("xsi:type"));
+      values.add(grant.getElementsByTagName("ID").item(0).getTextContent());
+      values.add(
+          grant.getElementsByTagName("DisplayName").item(0).getTextContent());
+      values.add(
+          grant.getElementsByTagName("Permission").item(0).getTextContent());
+    }
+    return values;
+  }
+
+  @Benchmark public AccessControlPolicy parse_Streaming() throws Exception {
+    return new AccessControlPolicy(acl);
+  }
+
+ private
+  static String createAcl(int grants) {
+    StringBuilder acl = new StringBuilder(
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" +
+        "<AccessControlPolicy " +
+        "xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">" +
+        "<Owner><ID>b103e16d027d24270d8facf37a48b141fd88ac8f43f9f942b91ba1cf1" +
+        "dc33f71</ID><DisplayName>s3test</DisplayName></Owner>" +
+        "<AccessControlList>");
+    for (int i = 0; i < grants; i++) {
+      acl.append("<Grant><Grantee xmlns:xsi=")
+          .append("\"http://www.w3.org/2001/XMLSchema-instance\" ")
+          .append("xsi:type=\"CanonicalUser\"><ID>")
+          .append("c103e16d027d24270d8facf37a48b141fd88ac8f43f9f942b91ba1cf1")
+          .append(String.format("%07d", i))
+          .append("</ID><DisplayName>account")
+          .append(i)
+          .append("</DisplayName></Grantee><Permission>READ</Permission>")
+          .append("</Grant>");
+    }
+    return acl.append("</AccessControlList></AccessControlPolicy>")
+        .toString();
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.seagates3.acl.ACLAuthorizer;
+import com.seagates3.acl.AccessControlPolicyCache;
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.cache.PrincipalCache;
+import com.seagates3.model.Account;
+import com.seagates3.model.Requestor;
+import com.seagates3.model.User;
+import com.seagates3.policy.BucketPolicyAuthorizer;
+import com.seagates3.policy.BucketPolicyCache;
+import com.seagates3.response.ServerResponse;
+import com.seagates3.util.BinaryUtil;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+
+/**
+ * Measure authorizing a GetObject request against the resource ACL and the
+ * bucket policy sent by S3 server, with and without the ACL and bucket policy
+ * caches. The requestor is the root user of the bucket owner account and is
+ * kept in PrincipalCache so that no LDAP lookup is made.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public
+class AuthorizationBenchmark {
+
+ private
+  static final String OWNER_CANONICAL_ID =
+      "b103e16d027d24270d8facf37a48b141fd88ac8f43f9f942b91ba1cf1dc33f71";
+ private
+  static final String GRANTEE_CANONICAL_ID =
+      "c103e16d027d24270d8facf37a48b141fd88ac8f43f9f942b91ba1cf1dc33f71";
+
+  @Param({"false", "true"}) public boolean cache;
+
+ private
+  final ACLAuthorizer aclAuthorizer = new ACLAuthorizer();
+ private
+  final BucketPolicyAuthorizer bucketPolicyAuthorizer =
+      new BucketPolicyAuthorizer();
+ private
+  Map<String, String> requestBody;
+ private
+  Requestor requestor;
+
+  @Setup public void setUp() throws Exception {
+    Properties config = new Properties();
+    config.setProperty("samlMetadataFileName", "saml-metadata.xml");
+    config.setProperty("enableAclCache", String.valueOf(cache));
+    config.setProperty("aclCacheSize", "10000");
+    config.setProperty("enableBucketPolicyCache", String.valueOf(cache));
+    config.setProperty("bucketPolicyCacheSize", "10000");
+    config.setProperty("bucketPolicyCacheTTL", "60");
+    config.setProperty("enablePrincipalCache", "true");
+    config.setProperty("principalCacheSize", "10000");
+    config.setProperty("principalCacheTTL", "3600");
+    config.setProperty("principalCacheNegativeTTL", "3600");
+    AuthServerConfig.init(config);
+    AccessControlPolicyCache.init();
+    BucketPolicyCache.init();
+    PrincipalCache.init();
+
+    Account account = new Account();
+    account.setId("12345");
+    account.setName("s3test");
+    account.setCanonicalId(OWNER_CANONICAL_ID);
+    User user = new User();
+    user.setId("123");
+    user.setName("root");
+    user.setAccountName("s3test");
+    PrincipalCache.putRootUser(user.getId(), user);
+
+    requestor = new Requestor();
+    requestor.setId(user.getId());
+    requestor.setName(user.getName());
+    requestor.setAccount(account);
+
+    requestBody = new TreeMap<>();
+    requestBody.put("Action", "AuthorizeUser");
+    requestBody.put("Method", "GET");
+    requestBody.put("ClientAbsoluteUri", "/seagatebucket/test.txt");
+    requestBody.put("ClientQueryParams", "");
+    requestBody.put("S3Action", "GetObject");
+    requestBody.put("Auth-ACL", BinaryUtil.encodeToBase64String(createAcl()));
+    requestBody.put("Policy", createPolicy());
+
+    ServerResponse response = authorize_BucketPolicy();
+    if (!authorize_ACL() || response == null ||
+        response.getResponseStatus() != HttpResponseStatus.OK) {
+      throw new IllegalStateException("Sample request not authorized");
+    }
+  }
+
+  @Benchmark public boolean authorize_ACL() throws Exception {
+    return aclAuthorizer.isAuthorized(requestor, requestBody);
+  }
+
+  @Benchmark public ServerResponse authorize_BucketPolicy() {
+    return bucketPolicyAuthorizer.authorizePolicy(requestor, requestBody);
+  }
+
+ private
+  static String createAcl() {
+    return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" +
+        "<AccessControlPolicy " +
+        "xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">" + "<Owner><ID>" +
+        OWNER_CANONICAL_ID + "</ID><DisplayName>s3test</DisplayName>" +
+        "</Owner><AccessControlList>" + createGrant(GRANTEE_CANONICAL_ID,
+                                                    "account2", "READ") +
+        createGrant(OWNER_CANONICAL_ID, "s3test", "FULL_CONTROL") +
+        "</AccessControlList></AccessControlPolicy>";
+  }
+
+ private
+  static String createGrant(String canonicalId, String displayName,
+                            String permission) {
+    return "<Grant><Grantee " +
+        "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" " +
+        "xsi:type=\"CanonicalUser\"><ID>" + canonicalId + "</ID>" +
+        "<DisplayName>" + displayName + "</DisplayName></Grantee>" +
+        "<Permission>" + permission + "</Permission></Grant>";
+  }
+
+ private
+  static String createPolicy() {
+    return "{\"Version\":\"2012-10-17\",\"Id\":\"Policy1462526893193\"," +
+        "\"Statement\":[" +
+        "{\"Sid\":\"DenyDelete\",\"Effect\":\"Deny\"," +
+        "\"Principal\":{\"AWS\":\"*\"},\"Action\":\"s3:DeleteObject\"," +
+        "\"Resource\":\"arn:aws:s3:::seagatebucket/*\"}," +
+        "{\"Sid\":\"AllowGet\",\"Effect\":\"Allow\"," +
+        "\"Principal\":{\"AWS\":\"*\"}," +
+        "\"Action\":[\"s3:GetObject\",\"s3:GetObjectAcl\"]," +
+        "\"Resource\":\"arn:aws:s3:::seagatebucket/*\"}]}";
+  }
+}
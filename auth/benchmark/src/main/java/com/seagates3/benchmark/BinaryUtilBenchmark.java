@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.seagates3.util.BinaryUtil;
+
+/**
+ * Compare HMAC-SHA256 and SHA-256 through BinaryUtil with looking up a new
+ * Mac or MessageDigest on every call, as BinaryUtil used to do.
+ *
+ * Run with -prof gc to see the allocation rate of each variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public
+class BinaryUtilBenchmark {
+
+ private
+  byte[] key;
+ private
+  byte[] data;
+ private
+  byte[] out;
+
+  @Setup public void setUp() {
+    key = "AWS4A7gWoBVCPgnJKzqlXGPOJt/zxW+rMtbCMvyfmMQE".getBytes(
+        StandardCharsets.UTF_8);
+    data = ("AWS4-HMAC-SHA256\n20160321T120000Z\n20160321/us-west-2/s3/" +
+            "aws4_request\n" +
+            "0b9b6ec2a4a3b9f4f6e6c7cbd1e9e6e4b6a3a7e0a1b8e2c9f1a0d3b5c7e9f1a3")
+               .getBytes(StandardCharsets.UTF_8);
+    out = new byte[BinaryUtil.SHA256_LENGTH];
+  }
+
+  @Benchmark public byte[] hmacSHA256_GetInstancePerCall() throws Exception {
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(key, "HmacSHA256"));
+    return mac.doFinal(data);
+  }
+
+  @Benchmark public byte[] hmacSHA256_ThreadLocal() {
+    return BinaryUtil.hmacSHA256(key, data);
+  }
+
+  @Benchmark public byte[] hmacSHA256_ThreadLocalIntoBuffer() {
+    BinaryUtil.hmacSHA256(key, data, 0, data.length, out, 0);
+    return out;
+  }
+
+  @Benchmark public byte[] sha256_GetInstancePerCall() throws Exception {
+    MessageDigest md = MessageDigest.getInstance("SHA-256");
+    md.update(data);
+    return md.digest();
+  }
+
+  @Benchmark public byte[] sha256_ThreadLocal() {
+    return BinaryUtil.hashSHA256(data);
+  }
+
+  @Benchmark public byte[] sha256_ThreadLocalIntoBuffer() {
+    BinaryUtil.hashSHA256(data, 0, data.length, out, 0);
+    return out;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.seagates3.policy.PatternMatcher;
+import com.seagates3.policy.PolicyUtil;
+
+/**
+ * Compare wildcard matching of object keys against a bucket policy resource
+ * using the dynamic programming matcher PolicyUtil used to have, the greedy
+ * PolicyUtil.isPatternMatching and a compiled PatternMatcher.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public
+class PatternMatcherBenchmark {
+
+ private
+  static final String PATTERN = "mybucket/*/logs/*.gz";
+
+  @Param({"64", "1024"}) public int keyLength;
+
+ private
+  String key;
+ private
+  PatternMatcher matcher;
+
+  @Setup public void setUp() {
+    StringBuilder builder = new StringBuilder("mybucket/");
+    while (builder.length() < keyLength - "/logs/app.gz".length()) {
+      builder.append("dir/");
+    }
+    key = builder.append("logs/app.gz").toString();
+    matcher = PatternMatcher.compile(PATTERN);
+  }
+
+  @Benchmark public boolean match_DynamicProgramming() {
+    return matchesDynamicProgramming(key, PATTERN);
+  }
+
+  @Benchmark public boolean match_Greedy() {
+    return PolicyUtil.isPatternMatching(key, PATTERN);
+  }
+
+  @Benchmark public boolean match_Compiled() { return matcher.matches(key); }
+
+ private
+  static boolean matchesDynamicProgramming(String input, String pattern) {
+    int inputLength = input.length();
+    int patternLength = pattern.length();
+    if (patternLength == 0) return (inputLength == 0);
+    boolean[][] data = new boolean[inputLength + 1][patternLength + 1];
+    data[0][0] = true;
+    for (int count = 1; count <= patternLength; count++)
+      if (pattern.charAt(count - 1) == '*') data[0][count] = data[0][count - 1];
+    for (int i = 1; i <= inputLength; i++) {
+      for (int j = 1; j <= patternLength; j++) {
+        if (pattern.charAt(j - 1) == '*')
+          data[i][j] = data[i][j - 1] || data[i - 1][j];
+        else if (pattern.charAt(j - 1) == '?' ||
+                 input.charAt(i - 1) == pattern.charAt(j - 1))
+          data[i][j] = data[i - 1][j - 1];
+      }
+    }
+    return data[inputLength][patternLength];
+  }
+}
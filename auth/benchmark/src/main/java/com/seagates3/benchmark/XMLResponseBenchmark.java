@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark;
+
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import com.seagates3.response.ServerResponse;
+import com.seagates3.response.formatter.xml.AuthenticationResponseFormatter;
+
+/**
+ * Compare writing an AuthenticateUser response with
+ * AuthenticationResponseFormatter and with the DOM document and Transformer
+ * the formatters used before XMLResponseWriter. Both produce the same body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public
+class XMLResponseBenchmark {
+
+ private
+  static final String IAM_XMLNS = "https://iam.seagate.com/doc/2010-05-08/";
+ private
+  static final String REQUEST_ID = "0000";
+
+ private
+  final AuthenticationResponseFormatter formatter =
+      new AuthenticationResponseFormatter();
+ private
+  LinkedHashMap<String, String> responseElements;
+
+  @Setup public void setUp() {
+    responseElements = new LinkedHashMap<>();
+    responseElements.put("UserId", "123");
+    responseElements.put("UserName", "root");
+    responseElements.put("AccountId", "12345");
+    responseElements.put("AccountName", "s3test");
+    responseElements.put("SignatureSHA256", "BSewvoSw/0siUq9A1BHvZA/mNxH2Ug==");
+    responseElements.put("CanonicalId", "C12345");
+    responseElements.put("Email", "test@seagate.com");
+  }
+
+  @Benchmark public String format_XMLResponseWriter() {
+    ServerResponse response =
+        formatter.formatAuthenticatedResponse(responseElements, REQUEST_ID);
+    return response.getResponseBody();
+  }
+
+  @Benchmark public String format_DOM() throws Exception {
+    Document doc = DocumentBuilderFactory.newInstance()
+                       .newDocumentBuilder()
+                       .newDocument();
+    Element response = doc.createElement("AuthenticateUserResponse");
+    response.setAttribute("xmlns", IAM_XMLNS);
+    doc.appendChild(response);
+
+    Element result = doc.createElement("AuthenticateUserResult");
+    response.appendChild(result);
+    for (Map.Entry<String, String> entry : responseElements.entrySet()) {
+      Element element = doc.createElement(entry.getKey());
+      element.appendChild(doc.createTextNode(entry.getValue()));
+      result.appendChild(element);
+    }
+
+    Element metadata = doc.createElement("ResponseMetadata");
+    response.appendChild(metadata);
+    Element requestId = doc.createElement("RequestId");
+    requestId.appendChild(doc.createTextNode(REQUEST_ID));
+    metadata.appendChild(requestId);
+
+    StringWriter writer = new StringWriter();
+    TransformerFactory.newInstance().newTransformer().transform(
+        new DOMSource(doc), new StreamResult(writer));
+    return writer.toString();
+  }
+}
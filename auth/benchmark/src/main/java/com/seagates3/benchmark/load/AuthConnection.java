@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark.load;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keep-alive HTTP/1.1 connection to the auth server, used by one thread.
+ *
+ * Requests are sent one at a time and every response is read completely
+ * before the next request, as S3 server does on each of its connections. The
+ * connection is opened again on the next request after the server closes it
+ * or an I/O error.
+ */
+class AuthConnection implements Closeable {
+
+ private
+  static final int CONNECT_TIMEOUT_MILLIS = 5000;
+
+ private
+  final String host;
+ private
+  final int port;
+ private
+  final int readTimeoutMillis;
+ private
+  final StringBuilder line = new StringBuilder();
+ private
+  byte[] body = new byte[4096];
+ private
+  int bodyLength;
+ private
+  Socket socket;
+ private
+  InputStream in;
+ private
+  OutputStream out;
+
+  AuthConnection(String host, int port, int readTimeoutMillis) {
+    this.host = host;
+    this.port = port;
+    this.readTimeoutMillis = readTimeoutMillis;
+  }
+
+  /**
+   * Send the request and read the response.
+   *
+   * @return HTTP status of the response.
+   * @throws IOException if the request fails. The connection is closed.
+   */
+  int send(LoadRequest request) throws IOException {
+    try {
+      if (socket == null) {
+        connect();
+      }
+      out.write(request.getBytes());
+      out.flush();
+      return readResponse();
+    }
+    catch (IOException ex) {
+      close();
+      throw ex;
+    }
+  }
+
+  /**
+   * Return the body of the last response.
+   */
+  String getResponseBody() {
+    return new String(body, 0, bodyLength, StandardCharsets.UTF_8);
+  }
+
+  @Override public void close() {
+    if (socket != null) {
+      try {
+        socket.close();
+      }
+      catch (IOException ex) {
+      }
+      socket = null;
+      in = null;
+      out = null;
+    }
+  }
+
+ private
+  void connect() throws IOException {
+    Socket newSocket = new Socket();
+    newSocket.setTcpNoDelay(true);
+    newSocket.setSoTimeout(readTimeoutMillis);
+    newSocket.connect(new InetSocketAddress(host, port),
+                      CONNECT_TIMEOUT_MILLIS);
+    socket = newSocket;
+    in = new BufferedInputStream(newSocket.getInputStream());
+    out = newSocket.getOutputStream();
+  }
+
+  /**
+   * Read the status line, the headers and a body of Content-Length bytes.
+   */
+ private
+  int readResponse() throws IOException {
+    String statusLine = readLine();
+    int status;
+    try {
+      status = Integer.parseInt(statusLine.split(" ")[1]);
+    }
+    catch (RuntimeException ex) {
+      throw new IOException("Invalid status line: " + statusLine);
+    }
+
+    int contentLength = -1;
+    boolean keepAlive = true;
+    for (String header = readLine(); !header.isEmpty(); header = readLine()) {
+      int colon = header.indexOf(':');
+      if (colon < 0) {
+        continue;
+      }
+      String name = header.substring(0, colon).trim();
+      String value = header.substring(colon + 1).trim();
+      if (name.equalsIgnoreCase("Content-Length")) {
+        contentLength = Integer.parseInt(value);
+      } else if (name.equalsIgnoreCase("Connection")) {
+        keepAlive = !value.equalsIgnoreCase("close");
+      }
+    }
+    if (contentLength < 0) {
+      throw new IOException("Response without Content-Length");
+    }
+
+    if (body.length < contentLength) {
+      body = new byte[contentLength];
+    }
+    for (bodyLength = 0; bodyLength < contentLength;) {
+      int read = in.read(body, bodyLength, contentLength - bodyLength);
+      if (read < 0) {
+        throw new EOFException("Connection closed while reading response");
+      }
+      bodyLength += read;
+    }
+
+    if (!keepAlive) {
+      close();
+    }
+    return status;
+  }
+
+ private
+  String readLine() throws IOException {
+    line.setLength(0);
+    for (int b = in.read(); b != '\n'; b = in.read()) {
+      if (b < 0) {
+        throw new EOFException("Connection closed while reading response");
+      }
+      if (b != '\r') {
+        line.append((char)b);
+      }
+    }
+    return line.toString();
+  }
+}
@@ -0,0 +1,541 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark.load;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.cache.SigningKeyCache;
+import com.seagates3.model.Account;
+import com.seagates3.model.Requestor;
+import com.seagates3.perf.RecordingHistogram;
+
+/**
+ * Load generator of the auth server.
+ *
+ * Each of the connection threads keeps one keep-alive connection open and
+ * sends one request at a time, as S3 server does. With a target rate, every
+ * thread sends its requests at fixed intervals and the latency of a request
+ * is measured from the time it was due to be sent. A request delayed by a
+ * slow response before it is counted with the delay, instead of the stall
+ * being hidden because the generator waited for it (coordinated omission).
+ * The service time, from sending a request to its response, is reported
+ * alongside. Without a target rate, every thread sends its next request as
+ * soon as the response arrives.
+ *
+ * Requests are either generated, see SyntheticRequests, or replayed from a
+ * log, see RequestLog. Generated requests are signed with the given access
+ * key, or with the root access key of an account created on start with the
+ * credentials of the LDAP admin, which also works with dataSource=memory.
+ *
+ * java -cp benchmarks.jar com.seagates3.benchmark.load.LoadGenerator
+ *     -createAccount loadtest -adminSecret ldapadmin -rate 5000
+ */
+public
+class LoadGenerator {
+
+ private
+  static final double[] PERCENTILES = {50, 90, 99, 99.9};
+ private
+  static final String TOTAL = "Total";
+ private
+  static final String IO_ERROR = "I/O error";
+
+ private
+  String host = "127.0.0.1";
+ private
+  int port = 9085;
+ private
+  int connections = 16;
+ private
+  double rate;
+ private
+  int duration = 60;
+ private
+  int warmup = 10;
+ private
+  int timeout = 10000;
+ private
+  String mix = SyntheticRequests.DEFAULT_MIX;
+ private
+  int objects = 100;
+ private
+  String replayFile;
+ private
+  String accessKey;
+ private
+  String secretKey;
+ private
+  String accountName = "loadtest";
+ private
+  String canonicalId =
+      "b103e16d027d24270d8facf37a48b141fd88ac8f43f9f942b91ba1cf1dc33f71";
+ private
+  boolean createAccount;
+ private
+  String adminKey = "sgiamadmin";
+ private
+  String adminSecret;
+
+ private
+  final ConcurrentMap<String, ActionStats> stats = new ConcurrentHashMap<>();
+
+ public
+  static void usage() {
+    System.out.println(
+        "Usage: java -cp benchmarks.jar " +
+        "com.seagates3.benchmark.load.LoadGenerator [options]");
+    System.out.println("-host <host>             Auth server host");
+    System.out.println("-port <port>             Auth server http port");
+    System.out.println("-connections <count>     Connections, one thread " +
+                       "each");
+    System.out.println("-rate <requests/s>       Target rate of all " +
+                       "connections, 0 for none");
+    System.out.println("-duration <seconds>      Measured duration");
+    System.out.println("-warmup <seconds>        Unmeasured duration before");
+    System.out.println("-timeout <milliseconds>  Response timeout");
+    System.out.println("-mix <action:weight,..>  Generated actions, default " +
+                       SyntheticRequests.DEFAULT_MIX);
+    System.out.println("-objects <count>         Objects of the generated " +
+                       "requests");
+    System.out.println("-replay <file>           Replay the request log " +
+                       "instead");
+    System.out.println("-accessKey <id>          Access key to sign with");
+    System.out.println("-secretKey <key>         Secret key to sign with");
+    System.out.println("-accountName <name>      Account of the access key");
+    System.out.println("-canonicalId <id>        Canonical id of the account");
+    System.out.println("-createAccount <name>    Create the account and sign " +
+                       "with its root key");
+    System.out.println("-adminKey <cn>           ldapLoginCN of the auth " +
+                       "server");
+    System.out.println("-adminSecret <password>  Plain ldapLoginPW of the " +
+                       "auth server");
+    System.out.println("-help");
+  }
+
+ public
+  static void main(String[] args) throws Exception {
+    LoadGenerator loadGenerator = new LoadGenerator();
+    try {
+      loadGenerator.parseArgs(args);
+    }
+    catch (IllegalArgumentException ex) {
+      System.err.println(ex.getMessage());
+      usage();
+      System.exit(1);
+    }
+    loadGenerator.run(loadGenerator.createRequestSource());
+    loadGenerator.report();
+  }
+
+ private
+  void parseArgs(String[] args) {
+    for (int i = 0; i < args.length; i++) {
+      String name = args[i];
+      if (name.equals("-help")) {
+        usage();
+        System.exit(0);
+      }
+      if (i + 1 == args.length) {
+        throw new IllegalArgumentException("Missing value of " + name);
+      }
+
+      String value = args[++i];
+      try {
+        switch (name) {
+          case "-host":
+            host = value;
+            break;
+          case "-port":
+            port = Integer.parseInt(value);
+            break;
+          case "-connections":
+            connections = Integer.parseInt(value);
+            break;
+          case "-rate":
+            rate = Double.parseDouble(value);
+            break;
+          case "-duration":
+            duration = Integer.parseInt(value);
+            break;
+          case "-warmup":
+            warmup = Integer.parseInt(value);
+            break;
+          case "-timeout":
+            timeout = Integer.parseInt(value);
+            break;
+          case "-mix":
+            SyntheticRequests.parseMix(value);
+            mix = value;
+            break;
+          case "-objects":
+            objects = Integer.parseInt(value);
+            break;
+          case "-replay":
+            replayFile = value;
+            break;
+          case "-accessKey":
+            accessKey = value;
+            break;
+          case "-secretKey":
+            secretKey = value;
+            break;
+          case "-accountName":
+            accountName = value;
+            break;
+          case "-canonicalId":
+            canonicalId = value;
+            break;
+          case "-createAccount":
+            createAccount = true;
+            accountName = value;
+            break;
+          case "-adminKey":
+            adminKey = value;
+            break;
+          case "-adminSecret":
+            adminSecret = value;
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option " + name);
+        }
+      }
+      catch (NumberFormatException ex) {
+        throw new IllegalArgumentException("Invalid value of " + name);
+      }
+    }
+
+    if (connections <= 0 || duration <= 0 || warmup < 0 || objects <= 0 ||
+        rate < 0) {
+      throw new IllegalArgumentException("Invalid option value");
+    }
+    if (replayFile == null && !createAccount &&
+        (accessKey == null || secretKey == null)) {
+      throw new IllegalArgumentException(
+          "Either -replay, -createAccount or -accessKey and -secretKey " +
+          "are required");
+    }
+    if (createAccount && adminSecret == null) {
+      throw new IllegalArgumentException("-createAccount needs -adminSecret");
+    }
+  }
+
+ private
+  RequestSource createRequestSource() throws Exception {
+    String hostHeader = host + ":" + port;
+    if (replayFile != null) {
+      RequestLog requestLog = new RequestLog(replayFile, hostHeader);
+      System.out.println("Replaying " + requestLog.size() + " requests of " +
+                         replayFile);
+      return requestLog;
+    }
+
+    // AuthorizeUser responses fail without any of the requestor fields,
+    // which S3 server always sends.
+    Requestor requestor = new Requestor();
+    requestor.setAccount(new Account());
+    requestor.getAccount().setId("12345");
+    requestor.getAccount().setName(accountName);
+    requestor.getAccount().setCanonicalId(canonicalId);
+    requestor.getAccount().setEmail(accountName + "@seagate.com");
+    requestor.setId("123");
+    requestor.setName("root");
+    if (createAccount) {
+      createAccount(requestor);
+    }
+
+    Properties config = new Properties();
+    config.setProperty("samlMetadataFileName", "saml-metadata.xml");
+    config.setProperty("defaultEndpoint", "127.0.0.1");
+    config.setProperty("s3Endpoints", RequestSigner.S3_HOST);
+    config.setProperty("enableSigningKeyCache", "false");
+    AuthServerConfig.init(config);
+    SigningKeyCache.init();
+
+    SyntheticRequests requests = new SyntheticRequests(
+        hostHeader, new RequestSigner(accessKey, secretKey), requestor, mix,
+        objects);
+    requests.verify();
+    return requests;
+  }
+
+  /**
+   * Create the account with CreateAccount and sign with its root access key.
+   */
+ private
+  void createAccount(Requestor requestor) throws IOException {
+    Map<String, String> requestBody = new TreeMap<>();
+    requestBody.put("Action", "CreateAccount");
+    requestBody.put("AccountName", accountName);
+    requestBody.put("Email", requestor.getAccount().getEmail());
+    LoadRequest request = LoadRequest.post(
+        "CreateAccount", host + ":" + port,
+        new RequestSigner(adminKey, adminSecret).signIamRequest(new Date()),
+        LoadRequest.encode(requestBody));
+
+    String response;
+    try (AuthConnection connection =
+             new AuthConnection(host, port, timeout)) {
+      int status = connection.send(request);
+      response = connection.getResponseBody();
+      if (status / 100 != 2) {
+        throw new IOException("CreateAccount failed with status " + status +
+                              ": " + response);
+      }
+    }
+
+    requestor.getAccount().setId(getElement(response, "AccountId"));
+    requestor.getAccount().setCanonicalId(getElement(response, "CanonicalId"));
+    accessKey = getElement(response, "AccessKeyId");
+    secretKey = getElement(response, "RootSecretKeyId");
+    System.out.println("Created account " + accountName + " with access key " +
+                       accessKey);
+  }
+
+ private
+  static String getElement(String xml, String name) throws IOException {
+    Matcher matcher =
+        Pattern.compile("<" + name + ">([^<]*)</" + name + ">").matcher(xml);
+    if (!matcher.find()) {
+      throw new IOException("No " + name + " in response: " + xml);
+    }
+    return matcher.group(1);
+  }
+
+  /**
+   * Send requests from all connections for the warmup and the measured
+   * duration.
+   */
+ private
+  void run(RequestSource source) throws InterruptedException {
+    long startNanos = System.nanoTime();
+    long measureNanos = startNanos + TimeUnit.SECONDS.toNanos(warmup);
+    long endNanos = measureNanos + TimeUnit.SECONDS.toNanos(duration);
+    long intervalNanos =
+        rate > 0 ? (long)(TimeUnit.SECONDS.toNanos(1) * connections / rate)
+                 : 0;
+
+    System.out.println(
+        "Sending requests to " + host + ":" + port + " from " + connections +
+        " connections at " + (rate > 0 ? rate + " requests/s" : "full speed") +
+        " for " + duration + " s after " + warmup + " s of warmup");
+
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < connections; i++) {
+      Worker worker = new Worker(
+          source, new AuthConnection(host, port, timeout),
+          startNanos + i * intervalNanos / connections, intervalNanos,
+          measureNanos, endNanos);
+      Thread thread = new Thread(worker, "load-" + i);
+      thread.start();
+      threads.add(thread);
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+ private
+  ActionStats getStats(String action) {
+    ActionStats actionStats = stats.get(action);
+    if (actionStats == null) {
+      stats.putIfAbsent(action, new ActionStats());
+      actionStats = stats.get(action);
+    }
+    return actionStats;
+  }
+
+ private
+  void report() {
+    Map<String, ActionStats> actions = new TreeMap<>(stats);
+    ActionStats total = actions.remove(TOTAL);
+    if (total == null) {
+      System.out.println("No requests completed");
+      return;
+    }
+    actions.put(TOTAL, total);
+
+    if (rate > 0) {
+      System.out.println("\nResponse time from the intended send time, in ms");
+      printLatencies(actions, true);
+      System.out.println("\nService time from the actual send time, in ms");
+      printLatencies(actions, false);
+    } else {
+      System.out.println("\nLatency, in ms");
+      printLatencies(actions, false);
+    }
+
+    System.out.println("\nResponses");
+    for (Map.Entry<String, ActionStats> action : actions.entrySet()) {
+      System.out.println(String.format("%-22s %s", action.getKey(),
+                                       action.getValue().getOutcomes()));
+    }
+  }
+
+ private
+  void printLatencies(Map<String, ActionStats> actions,
+                      boolean responseTime) {
+    StringBuilder header =
+        new StringBuilder(String.format("%-22s %9s %9s %9s", "Action",
+                                        "Count", "Req/s", "Mean"));
+    for (double percentile : PERCENTILES) {
+      header.append(String.format(" %9s", "p" + format(percentile)));
+    }
+    header.append(String.format(" %9s", "Max"));
+    System.out.println(header);
+
+    for (Map.Entry<String, ActionStats> action : actions.entrySet()) {
+      RecordingHistogram.Snapshot snapshot =
+          (responseTime ? action.getValue().responseTime
+                        : action.getValue().serviceTime).snapshot();
+      StringBuilder line = new StringBuilder(String.format(
+          "%-22s %9d %9.1f %9.3f", action.getKey(), snapshot.getCount(),
+          (double)snapshot.getCount() / duration,
+          snapshot.getMeanNanos() / 1e6));
+      for (double percentile : PERCENTILES) {
+        line.append(String.format(
+            " %9.3f", snapshot.getPercentileNanos(percentile) / 1e6));
+      }
+      line.append(String.format(" %9.3f", snapshot.getMaxNanos() / 1e6));
+      System.out.println(line);
+    }
+  }
+
+ private
+  static String format(double percentile) {
+    return percentile == (long)percentile ? String.valueOf((long)percentile)
+                                          : String.valueOf(percentile);
+  }
+
+  /**
+   * Latencies and response statuses of the requests of one action.
+   */
+ private
+  static final class ActionStats {
+
+    final RecordingHistogram responseTime = new RecordingHistogram();
+    final RecordingHistogram serviceTime = new RecordingHistogram();
+    final ConcurrentMap<String, AtomicLong> outcomes =
+        new ConcurrentHashMap<>();
+
+    void record(long responseNanos, long serviceNanos, String outcome) {
+      responseTime.record(responseNanos);
+      serviceTime.record(serviceNanos);
+      AtomicLong count = outcomes.get(outcome);
+      if (count == null) {
+        outcomes.putIfAbsent(outcome, new AtomicLong());
+        count = outcomes.get(outcome);
+      }
+      count.incrementAndGet();
+    }
+
+    String getOutcomes() {
+      StringBuilder text = new StringBuilder();
+      for (Map.Entry<String, AtomicLong> outcome :
+           new TreeMap<>(outcomes).entrySet()) {
+        if (text.length() > 0) {
+          text.append(", ");
+        }
+        text.append(outcome.getKey()).append(": ").append(outcome.getValue());
+      }
+      return text.toString();
+    }
+  }
+
+  /**
+   * Send requests on one connection until the end of the run.
+   */
+ private
+  final class Worker implements Runnable {
+
+    final RequestSource source;
+    final AuthConnection connection;
+    final long intervalNanos;
+    final long measureNanos;
+    final long endNanos;
+    long intendedNanos;
+
+    Worker(RequestSource source, AuthConnection connection,
+           long intendedNanos, long intervalNanos, long measureNanos,
+           long endNanos) {
+      this.source = source;
+      this.connection = connection;
+      this.intendedNanos = intendedNanos;
+      this.intervalNanos = intervalNanos;
+      this.measureNanos = measureNanos;
+      this.endNanos = endNanos;
+    }
+
+    @Override public void run() {
+      try {
+        for (long now = System.nanoTime(); now < endNanos;
+             now = System.nanoTime()) {
+          if (intervalNanos > 0) {
+            if (intendedNanos >= endNanos) {
+              break;
+            }
+            while (now < intendedNanos) {
+              LockSupport.parkNanos(intendedNanos - now);
+              now = System.nanoTime();
+            }
+          }
+
+          LoadRequest request = source.next();
+          long sentNanos = System.nanoTime();
+          String outcome;
+          try {
+            outcome = String.valueOf(connection.send(request));
+          }
+          catch (IOException ex) {
+            outcome = IO_ERROR;
+          }
+          long doneNanos = System.nanoTime();
+
+          long startedNanos = intervalNanos > 0 ? intendedNanos : sentNanos;
+          if (startedNanos >= measureNanos) {
+            long responseNanos = doneNanos - startedNanos;
+            long serviceNanos = doneNanos - sentNanos;
+            getStats(request.getAction())
+                .record(responseNanos, serviceNanos, outcome);
+            getStats(TOTAL).record(responseNanos, serviceNanos, outcome);
+          }
+          intendedNanos += intervalNanos;
+        }
+      }
+      finally {
+        connection.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark.load;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A request sent to the auth server: the complete HTTP POST, serialized once
+ * so that sending it costs no more than writing its bytes.
+ */
+final class LoadRequest {
+
+ private
+  final String action;
+ private
+  final byte[] bytes;
+
+ private
+  LoadRequest(String action, byte[] bytes) {
+    this.action = action;
+    this.bytes = bytes;
+  }
+
+  /**
+   * Create a POST of the url-encoded request body, as S3 server sends it.
+   *
+   * @param action Name under which the latency of the request is reported.
+   * @param host Value of the Host header.
+   * @param headers Additional headers.
+   * @param requestBody Url-encoded request body.
+   */
+  static LoadRequest post(String action, String host,
+                          Map<String, String> headers, String requestBody) {
+    byte[] body = requestBody.getBytes(StandardCharsets.UTF_8);
+    StringBuilder head = new StringBuilder();
+    head.append("POST / HTTP/1.1\r\n").append("Host: ").append(host).append(
+        "\r\n");
+    head.append("Content-Type: application/x-www-form-urlencoded\r\n");
+    head.append("Content-Length: ").append(body.length).append("\r\n");
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      head.append(header.getKey()).append(": ").append(header.getValue())
+          .append("\r\n");
+    }
+    head.append("\r\n");
+    byte[] headBytes = head.toString().getBytes(StandardCharsets.ISO_8859_1);
+
+    byte[] bytes = new byte[headBytes.length + body.length];
+    System.arraycopy(headBytes, 0, bytes, 0, headBytes.length);
+    System.arraycopy(body, 0, bytes, headBytes.length, body.length);
+    return new LoadRequest(action, bytes);
+  }
+
+  static LoadRequest post(String action, String host,
+                          Map<String, String> requestBody) {
+    return post(action, host, Collections.<String, String>emptyMap(),
+                encode(requestBody));
+  }
+
+  /**
+   * Return the parameters as an application/x-www-form-urlencoded body.
+   * Parameters without a value are left out.
+   */
+  static String encode(Map<String, String> parameters) {
+    StringBuilder body = new StringBuilder();
+    try {
+      for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+        if (parameter.getValue() == null) {
+          continue;
+        }
+        if (body.length() > 0) {
+          body.append('&');
+        }
+        body.append(URLEncoder.encode(parameter.getKey(), "UTF-8"))
+            .append('=')
+            .append(URLEncoder.encode(parameter.getValue(), "UTF-8"));
+      }
+    }
+    catch (UnsupportedEncodingException ex) {
+      throw new IllegalStateException(ex);
+    }
+    return body.toString();
+  }
+
+  String getAction() { return action; }
+
+  byte[] getBytes() { return bytes; }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark.load;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Requests replayed from a log of auth server requests.
+ *
+ * Every line of the log is the url-encoded body of one request, as S3 server
+ * posts it. Blank lines and lines starting with '#' are skipped. Requests are
+ * sent in the order of the log, starting over at its end, and reported under
+ * their Action.
+ *
+ * AuthenticateUser requests signed more than 15 minutes before they are
+ * replayed are rejected with RequestTimeTooSkewed after the requestor is
+ * looked up, without verifying their signature.
+ */
+class RequestLog implements RequestSource {
+
+ private
+  final List<LoadRequest> requests;
+ private
+  final AtomicLong position = new AtomicLong();
+
+  RequestLog(String fileName, String host) throws IOException {
+    requests = new ArrayList<>();
+    try (BufferedReader reader = Files.newBufferedReader(
+             Paths.get(fileName), StandardCharsets.UTF_8)) {
+      for (String line = reader.readLine(); line != null;
+           line = reader.readLine()) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        requests.add(LoadRequest.post(getAction(line), host,
+                                      Collections.<String, String>emptyMap(),
+                                      line));
+      }
+    }
+    if (requests.isEmpty()) {
+      throw new IOException("No requests in " + fileName);
+    }
+  }
+
+  @Override public LoadRequest next() {
+    return requests.get(
+        (int)(position.getAndIncrement() % requests.size()));
+  }
+
+  int size() { return requests.size(); }
+
+  /**
+   * Return the value of the Action parameter of the request body.
+   */
+  static String getAction(String requestBody) {
+    for (String parameter : requestBody.split("&")) {
+      int equals = parameter.indexOf('=');
+      if (equals > 0 && parameter.substring(0, equals).equals("Action")) {
+        try {
+          return URLDecoder.decode(parameter.substring(equals + 1), "UTF-8");
+        }
+        catch (UnsupportedEncodingException ex) {
+          throw new IllegalStateException(ex);
+        }
+      }
+    }
+    return "Unknown";
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark.load;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.TreeMap;
+
+import com.seagates3.util.AWSSignUtil;
+import com.seagates3.util.BinaryUtil;
+
+/**
+ * Sign requests the way S3 clients do.
+ *
+ * AuthenticateUser requests carry the headers of a path style S3 request
+ * signed with AWS V2 or V4, as S3 server forwards them. Only the Host,
+ * x-amz-date and x-amz-content-sha256 headers are signed, and the object
+ * path must not need URL encoding.
+ */
+class RequestSigner {
+
+  static final String S3_HOST = "s3.seagate.com";
+
+ private
+  static final String REGION = "US";
+ private
+  static final String SERVICE = "s3";
+ private
+  static final String SIGNED_HEADERS = "host;x-amz-content-sha256;x-amz-date";
+ private
+  static final String EMPTY_PAYLOAD_SHA256 =
+      "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+ private
+  final String accessKeyId;
+ private
+  final String secretKey;
+
+  RequestSigner(String accessKeyId, String secretKey) {
+    this.accessKeyId = accessKeyId;
+    this.secretKey = secretKey;
+  }
+
+  String getAccessKeyId() { return accessKeyId; }
+
+  String getSecretKey() { return secretKey; }
+
+  /**
+   * Return the body of an AuthenticateUser request of an S3 request signed
+   * with AWS V2.
+   */
+  Map<String, String> signV2(String method, String uri, Date date) {
+    String amzDate = format("EEE, dd MMM yyyy HH:mm:ss +0000", date);
+    String stringToSign =
+        method + "\n\n\n\n" + "x-amz-date:" + amzDate + "\n" + uri;
+
+    Map<String, String> requestBody = createRequestBody(method, uri);
+    requestBody.put("x-amz-date", amzDate);
+    requestBody.put("Authorization",
+                    "AWS " + accessKeyId + ":" +
+                        AWSSignUtil.calculateSignatureAWSV2(stringToSign,
+                                                            secretKey));
+    return requestBody;
+  }
+
+  /**
+   * Return the body of an AuthenticateUser request of an S3 request without
+   * payload signed with AWS V4.
+   */
+  Map<String, String> signV4(String method, String uri, Date date) {
+    String amzDate = format("yyyyMMdd'T'HHmmss'Z'", date);
+    String scopeDate = amzDate.substring(0, 8);
+    String credentialScope =
+        scopeDate + "/" + REGION + "/" + SERVICE + "/aws4_request";
+
+    String canonicalRequest =
+        method + "\n" + uri + "\n\n" + "host:" + S3_HOST + "\n" +
+        "x-amz-content-sha256:" + EMPTY_PAYLOAD_SHA256 + "\n" +
+        "x-amz-date:" + amzDate + "\n\n" + SIGNED_HEADERS + "\n" +
+        EMPTY_PAYLOAD_SHA256;
+    String stringToSign = "AWS4-HMAC-SHA256\n" + amzDate + "\n" +
+                          credentialScope + "\n" +
+                          BinaryUtil.hexEncodedHash(canonicalRequest);
+    String signature = AWSSignUtil.calculateSignatureAWSV4(
+        stringToSign, secretKey, scopeDate, REGION, SERVICE);
+
+    Map<String, String> requestBody = createRequestBody(method, uri);
+    requestBody.put("x-amz-date", amzDate);
+    requestBody.put("x-amz-content-sha256", EMPTY_PAYLOAD_SHA256);
+    requestBody.put("Authorization",
+                    "AWS4-HMAC-SHA256 Credential=" + accessKeyId + "/" +
+                        credentialScope + ", SignedHeaders=" +
+                        SIGNED_HEADERS + ", Signature=" + signature);
+    return requestBody;
+  }
+
+  /**
+   * Return the headers of an IAM request to the auth server, such as
+   * CreateAccount, signed with AWS V2. Such requests are signed over the
+   * headers of the HTTP request itself instead of its body.
+   */
+  Map<String, String> signIamRequest(Date date) {
+    String amzDate = format("EEE, dd MMM yyyy HH:mm:ss +0000", date);
+    String contentType = "application/x-www-form-urlencoded";
+    String stringToSign = "POST\n\n" + contentType + "\n\n" + "x-amz-date:" +
+                          amzDate + "\n/";
+
+    Map<String, String> headers = new TreeMap<>();
+    headers.put("x-amz-date", amzDate);
+    headers.put("Authorization",
+                "AWS " + accessKeyId + ":" +
+                    AWSSignUtil.calculateSignatureAWSV2(stringToSign,
+                                                        secretKey));
+    return headers;
+  }
+
+ private
+  static Map<String, String> createRequestBody(String method, String uri) {
+    Map<String, String> requestBody =
+        new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    requestBody.put("Action", "AuthenticateUser");
+    requestBody.put("Method", method);
+    requestBody.put("ClientAbsoluteUri", uri);
+    requestBody.put("ClientQueryParams", "");
+    requestBody.put("Host", S3_HOST);
+    requestBody.put("Version", "2010-05-08");
+    return requestBody;
+  }
+
+ private
+  static String format(String pattern, Date date) {
+    SimpleDateFormat dateFormat = new SimpleDateFormat(pattern, Locale.US);
+    dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+    return dateFormat.format(date);
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.benchmark.load;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.seagates3.authentication.AWSSign;
+import com.seagates3.authentication.AWSV2Sign;
+import com.seagates3.authentication.AWSV4Sign;
+import com.seagates3.authentication.ClientRequestParser;
+import com.seagates3.authentication.ClientRequestToken;
+import com.seagates3.model.AccessKey;
+import com.seagates3.model.Requestor;
+import com.seagates3.util.BinaryUtil;
+
+/**
+ * AuthenticateUser and AuthorizeUser requests generated in a weighted mix.
+ *
+ * Every action is sent for GETs of a number of objects of one bucket.
+ * AuthenticateUser requests are signed with AWS V2 or V4. AuthorizeUser
+ * requests carry the V4 signed headers of the S3 request, the requestor and
+ * either the ACL of the object, owned by the requestor, or also a bucket
+ * policy which allows GetObject to everyone.
+ */
+class SyntheticRequests implements RequestSource {
+
+  static final String AUTHENTICATE_V2 = "AuthenticateUser-V2";
+  static final String AUTHENTICATE_V4 = "AuthenticateUser-V4";
+  static final String AUTHORIZE_ACL = "AuthorizeUser-ACL";
+  static final String AUTHORIZE_POLICY = "AuthorizeUser-Policy";
+  static final String DEFAULT_MIX = AUTHENTICATE_V4 + ":4," + AUTHENTICATE_V2 +
+                                    ":1," + AUTHORIZE_ACL + ":4," +
+                                    AUTHORIZE_POLICY + ":1";
+
+ private
+  static final String BUCKET = "loadbucket";
+
+  /**
+   * The auth server rejects requests signed more than 15 minutes ago, so the
+   * requests are signed again after this interval.
+   */
+ private
+  static final long SIGNING_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+ private
+  final String host;
+ private
+  final RequestSigner signer;
+ private
+  final Requestor requestor;
+ private
+  final int objects;
+ private
+  final String[] actions;
+ private
+  final int[] cumulativeWeights;
+ private
+  volatile LoadRequest[][] requests;
+ private
+  volatile long signedAt;
+
+  /**
+   * @param host Value of the Host header of the requests.
+   * @param signer Signer with the access key of the requestor.
+   * @param requestor Requestor with its account, sent by AuthorizeUser.
+   * @param mix Comma separated action:weight list.
+   * @param objects Number of objects requested.
+   */
+  SyntheticRequests(String host, RequestSigner signer, Requestor requestor,
+                    String mix, int objects) {
+    this.host = host;
+    this.signer = signer;
+    this.requestor = requestor;
+    this.objects = objects;
+
+    Map<String, Integer> weights = parseMix(mix);
+    actions = weights.keySet().toArray(new String[weights.size()]);
+    cumulativeWeights = new int[actions.length];
+    int total = 0;
+    for (int i = 0; i < actions.length; i++) {
+      total += weights.get(actions[i]);
+      cumulativeWeights[i] = total;
+    }
+    sign();
+  }
+
+  @Override public LoadRequest next() {
+    if (System.currentTimeMillis() - signedAt > SIGNING_INTERVAL_MILLIS) {
+      signAgain();
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int weight = random.nextInt(cumulativeWeights[actions.length - 1]);
+    int action = 0;
+    while (cumulativeWeights[action] <= weight) {
+      action++;
+    }
+    return requests[action][random.nextInt(objects)];
+  }
+
+  /**
+   * Verify the signatures of the AuthenticateUser requests with the signers
+   * of the auth server, so that a signing mistake is not measured as load.
+   * AuthServerConfig has to be initialized.
+   *
+   * @throws IllegalStateException if a signature does not match.
+   */
+  void verify() throws Exception {
+    AccessKey accessKey = new AccessKey();
+    accessKey.setId(signer.getAccessKeyId());
+    accessKey.setSecretKey(signer.getSecretKey());
+    Requestor keyOwner = new Requestor();
+    keyOwner.setAccessKey(accessKey);
+
+    Date now = new Date();
+    verify(signer.signV2("GET", getUri(0), now), new AWSV2Sign(), keyOwner);
+    verify(signer.signV4("GET", getUri(0), now), new AWSV4Sign(), keyOwner);
+  }
+
+ private
+  static void verify(Map<String, String> requestBody, AWSSign awsSign,
+                     Requestor keyOwner) throws Exception {
+    ClientRequestToken token = ClientRequestParser.parse(null, requestBody);
+    if (token == null || !awsSign.authenticate(token, keyOwner)) {
+      throw new IllegalStateException(
+          "Signature of generated request does not match: " + requestBody);
+    }
+  }
+
+ private
+  synchronized void signAgain() {
+    if (System.currentTimeMillis() - signedAt > SIGNING_INTERVAL_MILLIS) {
+      sign();
+    }
+  }
+
+ private
+  void sign() {
+    Date now = new Date();
+    LoadRequest[][] signed = new LoadRequest[actions.length][objects];
+    for (int i = 0; i < actions.length; i++) {
+      for (int object = 0; object < objects; object++) {
+        signed[i][object] = LoadRequest.post(
+            actions[i], host, createRequestBody(actions[i], object, now));
+      }
+    }
+    requests = signed;
+    signedAt = now.getTime();
+  }
+
+ private
+  Map<String, String> createRequestBody(String action, int object,
+                                        Date date) {
+    if (AUTHENTICATE_V2.equals(action)) {
+      return signer.signV2("GET", getUri(object), date);
+    }
+
+    Map<String, String> requestBody =
+        signer.signV4("GET", getUri(object), date);
+    if (AUTHENTICATE_V4.equals(action)) {
+      return requestBody;
+    }
+
+    requestBody.put("Action", "AuthorizeUser");
+    requestBody.put("S3Action", "GetObject");
+    requestBody.put("RequestorAccountId", requestor.getAccount().getId());
+    requestBody.put("RequestorAccountName", requestor.getAccount().getName());
+    requestBody.put("RequestorCanonicalId",
+                    requestor.getAccount().getCanonicalId());
+    requestBody.put("RequestorEmail", requestor.getAccount().getEmail());
+    requestBody.put("RequestorUserId", requestor.getId());
+    requestBody.put("RequestorUserName", requestor.getName());
+    requestBody.put("Auth-ACL", BinaryUtil.encodeToBase64String(createAcl()));
+    if (AUTHORIZE_POLICY.equals(action)) {
+      requestBody.put("Policy", createPolicy());
+    }
+    return requestBody;
+  }
+
+ private
+  static String getUri(int object) {
+    return "/" + BUCKET + "/object" + object;
+  }
+
+ private
+  String createAcl() {
+    return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" +
+        "<AccessControlPolicy " +
+        "xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">" + "<Owner><ID>" +
+        requestor.getAccount().getCanonicalId() + "</ID><DisplayName>" +
+        requestor.getAccount().getName() + "</DisplayName></Owner>" +
+        "<AccessControlList><Grant><Grantee " +
+        "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" " +
+        "xsi:type=\"CanonicalUser\"><ID>" +
+        requestor.getAccount().getCanonicalId() + "</ID><DisplayName>" +
+        requestor.getAccount().getName() + "</DisplayName></Grantee>" +
+        "<Permission>FULL_CONTROL</Permission></Grant>" +
+        "</AccessControlList></AccessControlPolicy>";
+  }
+
+ private
+  static String createPolicy() {
+    return "{\"Version\":\"2012-10-17\",\"Id\":\"LoadPolicy\"," +
+        "\"Statement\":[{\"Sid\":\"AllowGet\",\"Effect\":\"Allow\"," +
+        "\"Principal\":{\"AWS\":\"*\"},\"Action\":\"s3:GetObject\"," +
+        "\"Resource\":\"arn:aws:s3:::" + BUCKET + "/*\"}]}";
+  }
+
+  /**
+   * Return the weights of the actions of the mix, in the order of the mix.
+   *
+   * @throws IllegalArgumentException if an action is unknown or a weight is
+   *         not a positive number.
+   */
+  static Map<String, Integer> parseMix(String mix) {
+    List<String> known = new ArrayList<>();
+    known.add(AUTHENTICATE_V2);
+    known.add(AUTHENTICATE_V4);
+    known.add(AUTHORIZE_ACL);
+    known.add(AUTHORIZE_POLICY);
+
+    Map<String, Integer> weights = new LinkedHashMap<>();
+    for (String entry : mix.split(",")) {
+      String[] tokens = entry.trim().split(":");
+      if (!known.contains(tokens[0])) {
+        throw new IllegalArgumentException("Unknown action " + tokens[0] +
+                                           ", expected one of " + known);
+      }
+
+      int weight;
+      try {
+        weight = tokens.length == 1 ? 1 : Integer.parseInt(tokens[1]);
+      }
+      catch (NumberFormatException ex) {
+        weight = 0;
+      }
+      if (tokens.length > 2 || weight <= 0) {
+        throw new IllegalArgumentException("Invalid weight in " + entry);
+      }
+      weights.put(tokens[0], weight);
+    }
+    return weights;
+  }
+}
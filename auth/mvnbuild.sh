@@ -23,12 +23,13 @@
 
 SRC_ROOT="$(dirname "$( cd "$( dirname "${BASH_SOURCE[0]}" )" && pwd ) " )"
 
-USAGE="USAGE: bash $(basename "$0") [clean|package|jacoco-report] [--help | -h]
+USAGE="USAGE: bash $(basename "$0") [clean|package|jacoco-report|benchmark] [--help | -h]
 
 where:
 clean              clean previous build
 package            build and package
 jacoco-report      generate system test coverage report
+benchmark          build JMH micro benchmarks of auth server
 --help             display this help and exit"
 
 if [ -z $1 ]
@@ -44,6 +45,8 @@ case "$1" in
        cd $SRC_ROOT/auth/encryptcli
        mvn clean
        cd $SRC_ROOT/auth/server
+       mvn clean
+       cd $SRC_ROOT/auth/benchmark
        mvn clean
         ;;
     package )
@@ -63,6 +66,12 @@ case "$1" in
        cd $SRC_ROOT/auth/server
        mvn jacoco:report
         ;;
+    benchmark )
+       cd $SRC_ROOT/auth/server
+       mvn install -DskipTests
+       cd $SRC_ROOT/auth/benchmark
+       mvn package
+        ;;
     --help | -h )
         echo "$USAGE"
         exit 1
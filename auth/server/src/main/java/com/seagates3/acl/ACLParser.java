@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.acl;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.xml.sax.SAXException;
+
+import com.seagates3.exception.GrantListFullException;
+
+/**
+ * Single pass StAX parser of an AccessControlPolicy XML.
+ *
+ * Elements are matched by their names the way getElementsByTagName of a DOM
+ * built without namespace awareness matches them: the first Owner and its
+ * first ID and DisplayName, the first AccessControlList and every Grant in
+ * it. Text of an element is its text content, including the text of its
+ * children.
+ */
+class ACLParser {
+
+ private
+  static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+ private
+  final XMLStreamReader reader;
+
+ private
+  Owner owner;
+ private
+  AccessControlList accessControlList;
+
+  // Depth of the element being read, 1 for the root element.
+ private
+  int depth;
+
+ private
+  int ownerDepth;
+ private
+  boolean ownerDone;
+ private
+  String ownerId;
+ private
+  String ownerDisplayName;
+
+ private
+  int aclDepth;
+ private
+  boolean aclDone;
+
+ private
+  int grantDepth;
+ private
+  String granteeType;
+ private
+  String granteeId;
+ private
+  String granteeDisplayName;
+ private
+  String granteeUri;
+ private
+  String granteeEmail;
+ private
+  String permission;
+
+  // Element whose text content is being collected.
+ private
+  String textElement;
+ private
+  int textDepth;
+ private
+  final StringBuilder text = new StringBuilder();
+
+ private
+  ACLParser(XMLStreamReader reader) { this.reader = reader; }
+
+  /**
+   * Parse the policy from the stream reader. The reader is closed.
+   */
+  static ACLParser parse(XMLStreamReader reader)
+      throws SAXException, GrantListFullException {
+    ACLParser parser = new ACLParser(reader);
+    try {
+      parser.read();
+    }
+    catch (XMLStreamException e) {
+      throw new SAXException("Invalid ACL XML: " + e.getMessage(), e);
+    }
+    finally {
+      try {
+        reader.close();
+      }
+      catch (XMLStreamException e) {
+      }
+    }
+    return parser;
+  }
+
+  static XMLInputFactory getInputFactory() { return INPUT_FACTORY; }
+
+  Owner getOwner() { return owner; }
+
+  AccessControlList getAccessControlList() { return accessControlList; }
+
+ private
+  static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+                        false);
+    return factory;
+  }
+
+ private
+  void read() throws XMLStreamException, SAXException, GrantListFullException {
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamConstants.START_ELEMENT:
+          depth++;
+          startElement(getQualifiedName(reader.getPrefix(),
+                                        reader.getLocalName()));
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          endElement();
+          depth--;
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+        case XMLStreamConstants.SPACE:
+          if (textElement != null) {
+            text.append(reader.getTextCharacters(), reader.getTextStart(),
+                        reader.getTextLength());
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    if (!ownerDone || ownerId == null) {
+      throw new SAXException("Owner ID is missing in ACL");
+    }
+    if (!aclDone) {
+      throw new SAXException("AccessControlList is missing in ACL");
+    }
+    owner = new Owner(ownerId, ownerDisplayName);
+  }
+
+ private
+  void startElement(String name) throws SAXException {
+    if (!ownerDone) {
+      if (ownerDepth == 0 && "Owner".equals(name)) {
+        ownerDepth = depth;
+      } else if (ownerDepth > 0) {
+        if (ownerId == null && "ID".equals(name)) {
+          startText(name);
+        } else if (ownerDisplayName == null && "DisplayName".equals(name)) {
+          startText(name);
+        }
+      }
+    }
+
+    if (!aclDone) {
+      if (aclDepth == 0 && "AccessControlList".equals(name)) {
+        aclDepth = depth;
+        accessControlList = new AccessControlList();
+      } else if (aclDepth > 0) {
+        if (grantDepth == 0 && "Grant".equals(name)) {
+          startGrant();
+        } else if (grantDepth > 0) {
+          startGrantChild(name);
+        }
+      }
+    }
+  }
+
+ private
+  void startGrant() {
+    grantDepth = depth;
+    granteeType = null;
+    granteeId = null;
+    granteeDisplayName = null;
+    granteeUri = null;
+    granteeEmail = null;
+    permission = null;
+  }
+
+ private
+  void startGrantChild(String name) {
+    if (granteeType == null && "Grantee".equals(name)) {
+      granteeType = "";
+      for (int i = 0; i < reader.getAttributeCount(); i++) {
+        String attribute = getQualifiedName(reader.getAttributePrefix(i),
+                                            reader.getAttributeLocalName(i));
+        if ("xsi:type".equals(attribute)) {
+          granteeType = reader.getAttributeValue(i);
+          break;
+        }
+      }
+    } else if ((granteeId == null && "ID".equals(name)) ||
+               (granteeDisplayName == null && "DisplayName".equals(name)) ||
+               (granteeUri == null && "URI".equals(name)) ||
+               (granteeEmail == null && "EmailAddress".equals(name)) ||
+               (permission == null && "Permission".equals(name))) {
+      startText(name);
+    }
+  }
+
+ private
+  static String getQualifiedName(String prefix, String localName) {
+    if (prefix == null || prefix.isEmpty()) {
+      return localName;
+    }
+    return prefix + ":" + localName;
+  }
+
+ private
+  void startText(String name) {
+    if (textElement == null) {
+      textElement = name;
+      textDepth = depth;
+      text.setLength(0);
+    }
+  }
+
+ private
+  void endElement() throws SAXException, GrantListFullException {
+    if (textElement != null && depth == textDepth) {
+      endText(textElement, text.toString());
+      textElement = null;
+    }
+
+    if (depth == ownerDepth && !ownerDone) {
+      ownerDone = true;
+    } else if (depth == grantDepth && grantDepth > 0) {
+      accessControlList.addGrant(createGrant());
+      grantDepth = 0;
+    } else if (depth == aclDepth && !aclDone) {
+      aclDone = true;
+    }
+  }
+
+ private
+  void endText(String name, String value) {
+    if (!ownerDone && ownerDepth > 0 && grantDepth == 0) {
+      if ("ID".equals(name)) {
+        ownerId = value;
+      } else if ("DisplayName".equals(name)) {
+        ownerDisplayName = value;
+      }
+      return;
+    }
+
+    switch (name) {
+      case "ID":
+        granteeId = value;
+        break;
+      case "DisplayName":
+        granteeDisplayName = value;
+        break;
+      case "URI":
+        granteeUri = value;
+        break;
+      case "EmailAddress":
+        granteeEmail = value;
+        break;
+      case "Permission":
+        permission = value;
+        break;
+      default:
+        break;
+    }
+  }
+
+ private
+  Grant createGrant() throws SAXException {
+    if (granteeType == null) {
+      throw new SAXException("Grantee is missing in Grant");
+    }
+
+    Grantee grantee = new Grantee("", "");
+    if (Grantee.Types.CanonicalUser.toString().equals(granteeType)) {
+      grantee.setCanonicalId(required(granteeId, "ID"));
+      grantee.setDisplayName(granteeDisplayName);
+    } else if (Grantee.Types.Group.toString().equals(granteeType)) {
+      grantee = new Grantee(null, null, required(granteeUri, "URI"), null,
+                            Grantee.Types.Group);
+    } else if (Grantee.Types.AmazonCustomerByEmail.toString().equals(
+                   granteeType)) {
+      grantee = new Grantee(null, null, null,
+                            required(granteeEmail, "EmailAddress"),
+                            Grantee.Types.AmazonCustomerByEmail);
+    }
+
+    return new Grant(grantee, required(permission, "Permission"));
+  }
+
+ private
+  static String required(String value, String name) throws SAXException {
+    if (value == null) {
+      throw new SAXException(name + " is missing in Grant");
+    }
+    return value;
+  }
+}
@@ -30,8 +30,10 @@ import java.util.StringTokenizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.seagates3.dao.ldap.AccountImpl;
-import com.seagates3.dao.ldap.GroupImpl;
+import com.seagates3.dao.AccountDAO;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
+import com.seagates3.dao.GroupDAO;
 import com.seagates3.model.Account;
 import com.seagates3.model.Group;
 import com.seagates3.response.ServerResponse;
@@ -208,8 +210,10 @@ class ACLRequestValidator {
                          String permission) {
 
     boolean isValid = true;
-    AccountImpl accountImpl = new AccountImpl();
-    GroupImpl groupImpl = new GroupImpl();
+    AccountDAO accountDAO =
+        (AccountDAO)DAODispatcher.getResourceDAO(DAOResource.ACCOUNT);
+    GroupDAO groupDAO =
+        (GroupDAO)DAODispatcher.getResourceDAO(DAOResource.GROUP);
     int index = grantee.indexOf('=');
     if (index == -1) {
       response.setResponseBody(
@@ -225,11 +229,11 @@ class ACLRequestValidator {
         try {
           if (granteeDetails != null && !granteeDetails.trim().isEmpty()) {
             if (actualGrantee.equalsIgnoreCase("emailaddress")) {
-              account = accountImpl.findByEmailAddress(granteeDetails);
+              account = accountDAO.findByEmailAddress(granteeDetails);
             } else if (actualGrantee.equalsIgnoreCase("id")) {
-              account = accountImpl.findByCanonicalID(granteeDetails);
+              account = accountDAO.findByCanonicalID(granteeDetails);
             } else if (actualGrantee.equalsIgnoreCase("URI")) {
-              group = groupImpl.getGroup(granteeDetails);
+              group = groupDAO.getGroup(granteeDetails);
             }
             if (account != null && account.exists()) {
               updateAccountPermissionMap(accountPermissionMap, permission,
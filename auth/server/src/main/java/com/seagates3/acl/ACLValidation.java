@@ -28,13 +28,10 @@ import javax.xml.parsers.ParserConfigurationException;
 
 import org.xml.sax.SAXException;
 
-import com.novell.ldap.LDAPConnection;
-import com.novell.ldap.LDAPEntry;
-import com.novell.ldap.LDAPException;
-import com.novell.ldap.LDAPSearchResults;
 import com.seagates3.authserver.AuthServerConfig;
-import com.seagates3.dao.ldap.AccountImpl;
-import com.seagates3.dao.ldap.LDAPUtils;
+import com.seagates3.dao.AccountDAO;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
 import com.seagates3.exception.DataAccessException;
 import com.seagates3.exception.GrantListFullException;
 import com.seagates3.model.Account;
@@ -171,7 +168,9 @@ class ACLValidation {
                        Grantee.Types.AmazonCustomerByEmail)) {
           String email = grantList.get(counter).grantee.emailAddress;
           try {
-            if (!new AccountImpl().findByEmailAddress(email).exists()) {
+            AccountDAO accountDAO =
+                (AccountDAO)DAODispatcher.getResourceDAO(DAOResource.ACCOUNT);
+            if (!accountDAO.findByEmailAddress(email).exists()) {
               LOGGER.error("ACL validation failed. Email Address " + email +
                            " is not linked to any of the existing accounts.");
               return responseGenerator.unresolvableGrantByEmailAddress();
@@ -202,43 +201,17 @@ class ACLValidation {
  public
   static boolean checkIdExists(String canonicalID, String displayname) {
 
-    Account account = new Account();
-    String[] attrs = {LDAPUtils.ORGANIZATIONAL_NAME, LDAPUtils.ACCOUNT_ID};
-    String filter =
-        String.format("(&(%s=%s)(%s=%s))", LDAPUtils.CANONICAL_ID, canonicalID,
-                      LDAPUtils.OBJECT_CLASS, LDAPUtils.ACCOUNT_OBJECT_CLASS);
-
-    LOGGER.debug("dn:" + filter + "\nattrs:" + LDAPUtils.ORGANIZATIONAL_NAME +
-                 LDAPUtils.ACCOUNT_ID);
-    LOGGER.debug("Searching canonical id: " + canonicalID);
-
-    LDAPSearchResults ldapResults;
+    Account account;
     try {
-      ldapResults = LDAPUtils.search(LDAPUtils.BASE_DN,
-                                     LDAPConnection.SCOPE_SUB, filter, attrs);
+      AccountDAO accountDAO =
+          (AccountDAO)DAODispatcher.getResourceDAO(DAOResource.ACCOUNT);
+      account = accountDAO.findByCanonicalID(canonicalID);
     }
-    catch (LDAPException ex) {
-
-      LOGGER.error("Failed to search account " + "of canonical Id " +
-                   canonicalID);
+    catch (DataAccessException ex) {
+      LOGGER.error("Failed to search account of canonical Id " + canonicalID);
       return false;
     }
 
-    if (ldapResults.hasMore()) {
-      try {
-        LDAPEntry entry = ldapResults.next();
-        account.setName(
-            entry.getAttribute(LDAPUtils.ORGANIZATIONAL_NAME).getStringValue());
-        account.setId(
-            entry.getAttribute(LDAPUtils.ACCOUNT_ID).getStringValue());
-      }
-      catch (LDAPException ex) {
-        LOGGER.error("Failed to find account details." + "of canonical id: " +
-                     canonicalID);
-        return false;
-      }
-    }
-
     if (!(account.exists())) {
       return false;
     }
@@ -46,18 +46,22 @@ import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 
 import com.seagates3.authserver.AuthServerConfig;
-import com.seagates3.dao.ldap.GroupImpl;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
+import com.seagates3.dao.GroupDAO;
 import com.seagates3.exception.BadRequestException;
 import com.seagates3.exception.DataAccessException;
 import com.seagates3.exception.GrantListFullException;
 import com.seagates3.model.Account;
-import com.seagates3.util.BinaryUtil;
 
 public
 class AccessControlList {
 
  private
   ArrayList<Grant> grantList = new ArrayList<Grant>();
+  // Built on first permission check, dropped when the grants change.
+ private
+  volatile GrantIndex grantIndex;
  private
   final Logger LOGGER =
       LoggerFactory.getLogger(AccessControlList.class.getName());
@@ -76,6 +80,7 @@ class AccessControlList {
 
     if (grantList.size() < AuthServerConfig.MAX_GRANT_SIZE) {
       grantList.add(grant);
+      grantIndex = null;
     } else {
       LOGGER.warn("Attempting to add Grant more than 100. Rejected");
       throw new GrantListFullException("Addition of Grant to ACL failed as " +
@@ -86,7 +91,10 @@ class AccessControlList {
   /**
    * Clear the grantList
    */
-  void clearGrantList() { grantList.clear(); }
+  void clearGrantList() {
+    grantList.clear();
+    grantIndex = null;
+  }
 
   void setGrant(Grant grant) {}
 
@@ -131,41 +139,64 @@ class AccessControlList {
       }
     }
 
-      if (!isPermissionAvailable) {
-      for (int counter = 0; counter < this.getGrantList().size(); counter++) {
-        Grant grantRecord = this.getGrantList().get(counter);
-        GroupImpl groupImpl = new GroupImpl();
-        String canonicalId = grantRecord.grantee.canonicalId;
-        String emailId = grantRecord.grantee.emailAddress;
-        String uri = grantRecord.grantee.uri;
-
-        Grant grant = this.getGrantList().get(counter);
-
-        if (account != null) {
-          if ((canonicalId != null &&
-               canonicalId.equals(account.getCanonicalId())) ||
-              (emailId != null && emailId.equals(account.getEmail())) ||
-              (uri != null &&
-               groupImpl.findByPathAndAccount(account, uri).exists()) ||
-              (isUserAuthenticated &&
-               groupImpl.isPartOfAuthenticatedUsersGroup(uri)) ||
-              (groupImpl.isPartOfAllUsersGroup(uri))) {
-            if (hasPermission(grant, requiredPermission)) {
-              isPermissionAvailable = true;
-              break;
-            }
-          }
-
-        } else if (groupImpl.isPartOfAllUsersGroup(uri)) {
-          if (hasPermission(grant, requiredPermission)) {
-            isPermissionAvailable = true;
-            break;
-          }
-        }
-      }
+    if (!isPermissionAvailable) {
+      isPermissionAvailable = isPermissionGranted(account, requiredPermission,
+                                                  isUserAuthenticated);
     }
     return isPermissionAvailable;
   }
+  /**
+   * Check the grants through the grant index. Only grants to account groups
+   * other than AllUsers and AuthenticatedUsers, and only those granting the
+   * required permission, need a group lookup.
+   */
+ private
+  boolean isPermissionGranted(Account account, String requiredPermission,
+                              boolean isUserAuthenticated)
+      throws DataAccessException {
+    int required = GrantIndex.toPermission(requiredPermission);
+    if (required == 0) {
+      LOGGER.warn("Unknown permission " + requiredPermission);
+      return false;
+    }
+
+    GrantIndex index = getGrantIndex();
+    if (account == null) {
+      return (index.getPermissions(null, null, false) & required) == required;
+    }
+
+    int permissions = index.getPermissions(
+        account.getCanonicalId(), account.getEmail(), isUserAuthenticated);
+    if ((permissions & required) == required) {
+      return true;
+    }
+
+    GroupDAO groupDAO = null;
+    for (Map.Entry<String, Integer> group :
+         index.getGroupPermissions().entrySet()) {
+      if ((group.getValue() & required) != required) {
+        continue;
+      }
+      if (groupDAO == null) {
+        groupDAO = (GroupDAO)DAODispatcher.getResourceDAO(DAOResource.GROUP);
+      }
+      if (groupDAO.findByPathAndAccount(account, group.getKey()).exists()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+ private
+  GrantIndex getGrantIndex() {
+    GrantIndex index = grantIndex;
+    if (index == null) {
+      index = new GrantIndex(grantList);
+      grantIndex = index;
+    }
+    return index;
+  }
+
   /**
        * Method actually checks expected and required permissions
        *
@@ -201,8 +232,7 @@ class AccessControlList {
         LOGGER.error(ex);
         throw new BadRequestException(ex);
       }
-      AccessControlPolicy acp =
-          new AccessControlPolicy(BinaryUtil.base64DecodeString(encodedACL));
+      AccessControlPolicy acp = AccessControlPolicyCache.get(encodedACL);
       owner = acp.getOwner().getCanonicalId();
     }
     catch (ParserConfigurationException | SAXException | IOException |
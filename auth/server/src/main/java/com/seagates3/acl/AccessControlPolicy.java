@@ -19,13 +19,19 @@
  */
 
 package com.seagates3.acl;
-import java.io.*;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -46,8 +52,23 @@ import com.seagates3.exception.GrantListFullException;
 public
 class AccessControlPolicy {
 
+  /*
+   * DocumentBuilderFactory is not thread safe, so the shared factory is
+   * locked while creating a builder. The document builder is only needed to
+   * write the XML back, which is not on the authorization path.
+   */
+ private
+  static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY =
+      createDocumentBuilderFactory();
+
  private
   Document doc;
+ private
+  String xmlString;
+ private
+  File xmlFile;
+ private
+  boolean readOnly;
   Owner owner;
   AccessControlList accessControlList;
 
@@ -55,101 +76,89 @@ class AccessControlPolicy {
   AccessControlPolicy(File xmlFile) throws ParserConfigurationException,
       SAXException, IOException, GrantListFullException {
 
-    DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-    DocumentBuilder dBuilder;
-    dBuilder = dbFactory.newDocumentBuilder();
-    doc = dBuilder.parse(xmlFile);
-    doc.getDocumentElement().normalize();
-    loadXml(doc);
+    try (InputStream in = new FileInputStream(xmlFile)) {
+      loadXml(ACLParser.getInputFactory().createXMLStreamReader(in));
+    }
+    catch (XMLStreamException e) {
+      throw new SAXException("Invalid ACL XML: " + e.getMessage(), e);
+    }
+    this.xmlFile = xmlFile;
   }
 
  public
   AccessControlPolicy(String xmlString) throws ParserConfigurationException,
       SAXException, IOException, GrantListFullException {
 
+    try {
+      loadXml(ACLParser.getInputFactory().createXMLStreamReader(
+          new StringReader(xmlString)));
+    }
+    catch (XMLStreamException e) {
+      throw new SAXException("Invalid ACL XML: " + e.getMessage(), e);
+    }
+    this.xmlString = xmlString;
+  }
+
+  /**
+   * Parse the ACL XML into a policy which can be shared between requests.
+   * The XML is not kept, hence the policy can not be modified or serialised
+   * back to XML.
+   */
+  static AccessControlPolicy parseReadOnly(String xmlString)
+      throws ParserConfigurationException,
+      SAXException, IOException, GrantListFullException {
+    AccessControlPolicy acp = new AccessControlPolicy(xmlString);
+    acp.xmlString = null;
+    acp.readOnly = true;
+    return acp;
+  }
+
+ private
+  static DocumentBuilderFactory createDocumentBuilderFactory() {
     DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
     factory.setIgnoringComments(true);
-    DocumentBuilder builder = null;
-    builder = factory.newDocumentBuilder();
-    doc = builder.parse(new InputSource(new StringReader(xmlString)));
-    loadXml(doc);
+    return factory;
   }
 
-  // Load ACL elements from XML doc.
+  // Load ACL elements in a single pass over the XML.
  private
-  void loadXml(Document doc) throws GrantListFullException {
-
-    Owner owner = new Owner("", "");
-    NodeList ownerNodes = doc.getElementsByTagName("Owner");
-    Node firstOwnerNode = ownerNodes.item(0);
-    Element firstOwnerElement = (Element)firstOwnerNode;
-    Node ownerId = firstOwnerElement.getElementsByTagName("ID").item(0);
-    owner.setCanonicalId(ownerId.getTextContent());
-    Node ownerDisplayName =
-        firstOwnerElement.getElementsByTagName("DisplayName").item(0);
-    if (ownerDisplayName != null) {
-    owner.setDisplayName(ownerDisplayName.getTextContent());
-    } else {
+  void loadXml(XMLStreamReader reader)
+      throws SAXException, GrantListFullException {
+    ACLParser parser = ACLParser.parse(reader);
+    this.owner = parser.getOwner();
+    this.accessControlList = parser.getAccessControlList();
+  }
 
-      owner.setDisplayName(null);
+  /**
+   * Build the DOM of the XML this policy was loaded from. The DOM is only
+   * built when the policy is written back to XML.
+   */
+ private
+  Document getDocument() throws TransformerException {
+    if (doc != null) {
+      return doc;
     }
-    this.owner = owner;
-    AccessControlList accessControlList = new AccessControlList();
-    NodeList accessContolListNodes =
-        doc.getElementsByTagName("AccessControlList");
-    Node firstAccessControlListnode = accessContolListNodes.item(0);
-    Element firstAccessControlListElement = (Element)firstAccessControlListnode;
-    NodeList Grant =
-        firstAccessControlListElement.getElementsByTagName("Grant");
-
-    // Iterates over GrantList
-    for (int counter = 0; counter < Grant.getLength(); counter++) {
-
-      Node grantitem = Grant.item(counter);
 
-      Element grantitemelement = (Element)grantitem;
-
-      Grantee grantee = null;
-
-      Node granteeNode =
-          grantitemelement.getElementsByTagName("Grantee").item(0);
-      Element granteeElement = (Element)granteeNode;
-      String type = granteeElement.getAttribute("xsi:type");
-      grantee = new Grantee("", "");
-
-      if (Grantee.Types.CanonicalUser.toString().equals(type)) {
-        Node granteeId = grantitemelement.getElementsByTagName("ID").item(0);
-
-        grantee.setCanonicalId(granteeId.getTextContent());
-
-        Node granteeDisplayname =
-            grantitemelement.getElementsByTagName("DisplayName").item(0);
-
-        if (granteeDisplayname != null) {
-          grantee.setDisplayName(granteeDisplayname.getTextContent());
-        } else {
-
-          grantee.setDisplayName(null);
-        }
-      } else if (Grantee.Types.Group.toString().equals(type)) {
-        Node granteeUri = grantitemelement.getElementsByTagName("URI").item(0);
-        grantee = new Grantee(null, null, granteeUri.getTextContent(), null,
-                              Grantee.Types.Group);
-      } else if (Grantee.Types.AmazonCustomerByEmail.toString().equals(type)) {
-        Node granteeEmail =
-            grantitemelement.getElementsByTagName("EmailAddress").item(0);
-        grantee = new Grantee(null, null, null, granteeEmail.getTextContent(),
-                              Grantee.Types.AmazonCustomerByEmail);
+    try {
+      DocumentBuilder builder;
+      synchronized(DOCUMENT_BUILDER_FACTORY) {
+        builder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
       }
-      Node permission =
-          grantitemelement.getElementsByTagName("Permission").item(0);
-      Grant grant = new Grant(grantee, permission.getTextContent());
-      accessControlList.addGrant(grant);
+      if (xmlFile != null) {
+        doc = builder.parse(xmlFile);
+        doc.getDocumentElement().normalize();
+      } else {
+        doc = builder.parse(new InputSource(new StringReader(xmlString)));
+      }
+    }
+    catch (ParserConfigurationException | SAXException | IOException e) {
+      throw new TransformerException("Failed to parse ACL XML", e);
     }
-    this.accessControlList = accessControlList;
+    return doc;
   }
 
   void setOwner(Owner newOwner) {
+    checkWritable();
     owner.canonicalId = newOwner.getCanonicalId();
     owner.displayName = newOwner.getDisplayName();
   }
@@ -160,6 +169,7 @@ class AccessControlPolicy {
 
   void setAccessControlList(AccessControlList acl)
       throws GrantListFullException {
+    checkWritable();
     this.accessControlList.clearGrantList();
     for (int counter = 0; counter < acl.getGrantList().size(); counter++) {
       this.accessControlList.addGrant(acl.getGrantList().get(counter));
@@ -174,6 +184,7 @@ class AccessControlPolicy {
  public
   void initDefaultACL(String canonicalId,
                       String name) throws GrantListFullException {
+    checkWritable();
     owner = new Owner(canonicalId, name);
     accessControlList = new AccessControlList();
     Grantee grantee = new Grantee(canonicalId, name);
@@ -184,9 +195,11 @@ class AccessControlPolicy {
   // Returns ACL XML in string buffer.
  public
   String getXml() throws TransformerException {
+    checkWritable();
     TransformerFactory tf = TransformerFactory.newInstance();
     Transformer transformer;
     transformer = tf.newTransformer();
+    getDocument();
     flushXmlValues();
     StringWriter writer = new StringWriter();
     transformer.transform(new DOMSource(doc), new StreamResult(writer));
@@ -194,6 +207,14 @@ class AccessControlPolicy {
     return xml;
   }
 
+ private
+  void checkWritable() {
+    if (readOnly) {
+      throw new UnsupportedOperationException(
+          "Shared access control policy can not be modified");
+    }
+  }
+
  private
   void flushXmlValues() {
     NodeList ownerNodes = doc.getElementsByTagName("Owner");
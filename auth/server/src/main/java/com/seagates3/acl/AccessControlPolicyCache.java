@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.acl;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
+
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.cache.ExpiringCache;
+import com.seagates3.exception.GrantListFullException;
+import com.seagates3.util.BinaryUtil;
+
+/**
+ * Cache of parsed resource ACLs, keyed by the SHA-256 hash of the base64
+ * encoded ACL sent by S3 server in the Auth-ACL field.
+ *
+ * The key is derived from the ACL content, so a cached policy never goes
+ * stale. Cached policies are shared by concurrent requests and are read only.
+ * Entries expire a few minutes after they are parsed, so that ACLs which are
+ * no longer sent do not hold memory.
+ *
+ * The cache is created during startup in main method. Until then, or when it
+ * is disabled, every call parses the ACL.
+ */
+public
+class AccessControlPolicyCache {
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(AccessControlPolicyCache.class.getName());
+
+ private
+  static final int TTL_MINUTES = 10;
+
+ private
+  static ExpiringCache<String, AccessControlPolicy> cache;
+
+ private
+  AccessControlPolicyCache() {}
+
+ public
+  static void init() {
+    if (!AuthServerConfig.isAclCacheEnabled()) {
+      cache = null;
+      LOGGER.info("ACL cache is disabled");
+      return;
+    }
+
+    cache = new ExpiringCache<>(AuthServerConfig.getAclCacheSize(),
+                                TTL_MINUTES, TimeUnit.MINUTES);
+    LOGGER.info("Created ACL cache of size " +
+                AuthServerConfig.getAclCacheSize());
+  }
+
+ public
+  static boolean isEnabled() { return cache != null; }
+
+  /**
+   * Return the policy of the base64 encoded ACL, parsing it only if it is
+   * not cached. The returned policy must not be modified.
+   *
+   * @param encodedACL Base64 encoded ACL XML.
+   * @return Parsed policy.
+   */
+ public
+  static AccessControlPolicy get(String encodedACL)
+      throws ParserConfigurationException,
+      SAXException, IOException, GrantListFullException {
+    if (cache == null) {
+      return new AccessControlPolicy(BinaryUtil.base64DecodeString(encodedACL));
+    }
+
+    String key = BinaryUtil.base64EncodedHash(encodedACL);
+    AccessControlPolicy acp = cache.get(key);
+    if (acp == null) {
+      acp = AccessControlPolicy.parseReadOnly(
+          BinaryUtil.base64DecodeString(encodedACL));
+      cache.put(key, acp);
+    }
+    return acp;
+  }
+
+ public
+  static void invalidateAll() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+ public
+  static long getHitCount() { return cache == null ? 0 : cache.getHitCount(); }
+
+ public
+  static long getMissCount() {
+    return cache == null ? 0 : cache.getMissCount();
+  }
+
+ public
+  static long getEvictionCount() {
+    return cache == null ? 0 : cache.getEvictionCount();
+  }
+
+ public
+  static int size() { return cache == null ? 0 : cache.size(); }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.acl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Permissions of an access control list, indexed by grantee.
+ *
+ * Every grantee maps to a bitmask of the permissions granted to it, so that
+ * checking a permission is a hash lookup per kind of grantee instead of a
+ * scan of the grants. The AllUsers and AuthenticatedUsers groups are kept
+ * apart from the other group grants, which need a directory lookup to decide
+ * whether the requestor belongs to the group.
+ *
+ * An index is immutable and built from the grants of the list at the time.
+ */
+class GrantIndex {
+
+  static final String ALL_USERS_GROUP_URI =
+      "http://acs.amazonaws.com/groups/global/AllUsers";
+  static final String AUTHENTICATED_USERS_GROUP_URI =
+      "http://acs.amazonaws.com/groups/global/AuthenticatedUsers";
+
+  static final int READ = 1;
+  static final int WRITE = 1 << 1;
+  static final int READ_ACP = 1 << 2;
+  static final int WRITE_ACP = 1 << 3;
+  static final int FULL_CONTROL = READ | WRITE | READ_ACP | WRITE_ACP;
+
+ private
+  final Map<String, Integer> byCanonicalId;
+ private
+  final Map<String, Integer> byEmail;
+  // Groups other than AllUsers and AuthenticatedUsers, by group URI.
+ private
+  final Map<String, Integer> byGroup;
+ private
+  final int allUsers;
+ private
+  final int authenticatedUsers;
+
+  GrantIndex(List<Grant> grants) {
+    Map<String, Integer> canonicalIds = new HashMap<>();
+    Map<String, Integer> emails = new HashMap<>();
+    Map<String, Integer> groups = new HashMap<>();
+    int all = 0;
+    int authenticated = 0;
+
+    for (int i = 0; i < grants.size(); i++) {
+      Grant grant = grants.get(i);
+      int permission = toPermission(grant.getPermission());
+      Grantee grantee = grant.getGrantee();
+      if (permission == 0 || grantee == null) {
+        continue;
+      }
+
+      add(canonicalIds, grantee.canonicalId, permission);
+      add(emails, grantee.emailAddress, permission);
+      if (ALL_USERS_GROUP_URI.equals(grantee.uri)) {
+        all |= permission;
+      } else if (AUTHENTICATED_USERS_GROUP_URI.equals(grantee.uri)) {
+        authenticated |= permission;
+      } else {
+        add(groups, grantee.uri, permission);
+      }
+    }
+
+    byCanonicalId = canonicalIds;
+    byEmail = emails;
+    byGroup = Collections.unmodifiableMap(groups);
+    allUsers = all;
+    authenticatedUsers = authenticated;
+  }
+
+  /**
+   * Return the permission bit of the permission name, FULL_CONTROL for
+   * FULL_CONTROL and 0 for unknown names.
+   */
+  static int toPermission(String permission) {
+    if (permission == null) {
+      return 0;
+    }
+    switch (permission) {
+      case "READ":
+        return READ;
+      case "WRITE":
+        return WRITE;
+      case "READ_ACP":
+        return READ_ACP;
+      case "WRITE_ACP":
+        return WRITE_ACP;
+      case "FULL_CONTROL":
+        return FULL_CONTROL;
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * Return the permissions granted to an account directly, by email address
+   * or through the AllUsers and, if authenticated, AuthenticatedUsers groups.
+   * A null canonical id stands for an anonymous requestor.
+   */
+  int getPermissions(String canonicalId, String email,
+                     boolean isUserAuthenticated) {
+    int permissions = allUsers;
+    if (canonicalId == null) {
+      return permissions;
+    }
+    if (isUserAuthenticated) {
+      permissions |= authenticatedUsers;
+    }
+    permissions |= get(byCanonicalId, canonicalId);
+    permissions |= get(byEmail, email);
+    return permissions;
+  }
+
+  /**
+   * Return the permissions granted to groups other than AllUsers and
+   * AuthenticatedUsers, by group URI.
+   */
+  Map<String, Integer> getGroupPermissions() { return byGroup; }
+
+ private
+  static void add(Map<String, Integer> index, String key, int permission) {
+    if (key == null) {
+      return;
+    }
+    Integer current = index.get(key);
+    index.put(key, current == null ? permission : current | permission);
+  }
+
+ private
+  static int get(Map<String, Integer> index, String key) {
+    if (key == null) {
+      return 0;
+    }
+    Integer permission = index.get(key);
+    return permission == null ? 0 : permission;
+  }
+}
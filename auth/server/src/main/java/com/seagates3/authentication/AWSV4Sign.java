@@ -20,6 +20,7 @@
 
 package com.seagates3.authentication;
 
+import com.seagates3.cache.SigningKeyCache;
 import com.seagates3.exception.InvalidTokenException;
 import com.seagates3.model.Requestor;
 
@@ -27,10 +28,7 @@ import com.seagates3.util.BinaryUtil;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.net.URLEncoder;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.TreeMap;
 
 import com.seagates3.util.IEMUtil;
 import org.slf4j.Logger;
@@ -86,17 +84,17 @@ public class AWSV4Sign implements AWSSign {
      */
     private Boolean verifySignature(ClientRequestToken clientRequestToken,
                        Requestor requestor) throws InvalidTokenException {
-        String canonicalRequest, stringToSign, signature;
+        String canonicalRequestHash, stringToSign, signature;
         byte[] signingKey;
 
-        canonicalRequest = createCanonicalRequest(clientRequestToken);
-        LOGGER.debug("Canonical request- " + canonicalRequest);
+        canonicalRequestHash = hashCanonicalRequest(clientRequestToken,
+                createHashedPayload(clientRequestToken));
 
-        stringToSign = createStringToSign(canonicalRequest, clientRequestToken);
+        stringToSign = createStringToSign(canonicalRequestHash,
+                clientRequestToken);
         LOGGER.debug("String to sign- " + stringToSign);
 
-        String secretKey = requestor.getAccesskey().getSecretKey();
-        signingKey = deriveSigningKey(clientRequestToken, secretKey);
+        signingKey = getSigningKey(clientRequestToken, requestor);
         LOGGER.debug("Signing key- " + signingKey);
 
         signature = calculateSignature(signingKey, stringToSign);
@@ -119,18 +117,17 @@ public class AWSV4Sign implements AWSSign {
     private Boolean verifyChunkedSeedSignature(
             ClientRequestToken clientRequestToken, Requestor requestor)
                                          throws InvalidTokenException {
-        String canonicalRequest, stringToSign, signature;
+        String canonicalRequestHash, stringToSign, signature;
         byte[] signingKey;
 
-        canonicalRequest = createCanonicalRequestChunkedSeed(clientRequestToken);
-        LOGGER.debug("Canonical request- " + canonicalRequest);
+        canonicalRequestHash = hashCanonicalRequest(clientRequestToken,
+                STREAMING_AWS4_HMAC_SHA256_PAYLOAD);
 
-        stringToSign = createStringToSign(canonicalRequest,
+        stringToSign = createStringToSign(canonicalRequestHash,
                 clientRequestToken);
         LOGGER.debug("String to sign- " + stringToSign);
 
-        String secretKey = requestor.getAccesskey().getSecretKey();
-        signingKey = deriveSigningKey(clientRequestToken, secretKey);
+        signingKey = getSigningKey(clientRequestToken, requestor);
         LOGGER.debug("Signing key- " + signingKey);
 
         signature = calculateSignature(signingKey, stringToSign);
@@ -157,8 +154,7 @@ public class AWSV4Sign implements AWSSign {
         stringToSign = createStringToSignChunked(clientRequestToken);
         LOGGER.debug("String to sign- " + stringToSign);
 
-        String secretKey = requestor.getAccesskey().getSecretKey();
-        signingKey = deriveSigningKey(clientRequestToken, secretKey);
+        signingKey = getSigningKey(clientRequestToken, requestor);
         LOGGER.debug("Signing key- " + signingKey);
 
         signature = calculateSignature(signingKey, stringToSign);
@@ -173,73 +169,34 @@ public class AWSV4Sign implements AWSSign {
     }
 
     /**
-     * Canonical Request is in the following format.
+     * Return the hex encoded hash of the canonical request, which is in the
+     * following format.
      *
      * HTTPRequestMethod + '\n' + CanonicalURI + '\n' + CanonicalQueryString +
-     * '\n' + CanonicalHeaders + '\n' + SignedHeaders + '\n' +
-     * HexEncode(Hash(RequestPayload))
-      * @throws InvalidTokenException
-     */
-    private String createCanonicalRequest(
-            ClientRequestToken clientRequestToken)
-                    throws InvalidTokenException {
-        String httpMethod, canonicalURI, canonicalQuery, canonicalHeader,
-                hashedPayload, canonicalRequest;
-
-        httpMethod = clientRequestToken.getHttpMethod();
-        canonicalURI = clientRequestToken.getUri();
-        /**
-         * getCanonicalQuery is not required for s3cmd as query field in
-         * clientRequestToken is already encoded from s3server.
-         * If required in other CLI's query field needs to be URL-encoded
-         * in getCanonicalQuery.
-         */
-        canonicalQuery = getCanonicalQuery(clientRequestToken.getQuery());
-        canonicalHeader = createCanonicalHeader(clientRequestToken);
-        hashedPayload = createHashedPayload(clientRequestToken);
-
-        canonicalRequest = String.format("%s\n%s\n%s\n%s\n%s\n%s",
-                httpMethod,
-                canonicalURI,
-                canonicalQuery,
-                canonicalHeader,
-                clientRequestToken.getSignedHeaders(),
-                hashedPayload);
-
-        return canonicalRequest;
-    }
-
-    /**
-     * Create a canonical request for seed request of a chunked request.
+     * '\n' + CanonicalHeaders + '\n' + SignedHeaders + '\n' + HashedPayload
      *
-     * HTTPRequestMethod + '\n' + CanonicalURI + '\n' + CanonicalQueryString +
-     * '\n' + CanonicalHeaders + '\n' + SignedHeaders + '\n' +
-     * STREAMING-AWS4-HMAC-SHA256-PAYLOAD
+     * HashedPayload is STREAMING-AWS4-HMAC-SHA256-PAYLOAD for the seed request
+     * of a chunked request.
+     *
+     * The query field in clientRequestToken is already encoded by s3server,
+     * hence it is not URL-encoded again.
      *
-     * @param clientRequestToken
-     * @return
      * @throws InvalidTokenException
      */
-    private String createCanonicalRequestChunkedSeed(
-            ClientRequestToken clientRequestToken)
-                        throws InvalidTokenException {
-        String httpMethod, canonicalURI, canonicalQuery, canonicalHeader,
-                canonicalRequest;
-
-        httpMethod = clientRequestToken.getHttpMethod();
-        canonicalURI = clientRequestToken.getUri();
-        canonicalQuery = getCanonicalQuery(clientRequestToken.getQuery());
-        canonicalHeader = createCanonicalHeader(clientRequestToken);
-
-        canonicalRequest = String.format("%s\n%s\n%s\n%s\n%s\n%s",
-                httpMethod,
-                canonicalURI,
-                canonicalQuery,
-                canonicalHeader,
-                clientRequestToken.getSignedHeaders(),
-                STREAMING_AWS4_HMAC_SHA256_PAYLOAD);
+    private String hashCanonicalRequest(ClientRequestToken clientRequestToken,
+            String hashedPayload) throws InvalidTokenException {
+        StringBuilder canonicalRequest = null;
+        if (LOGGER.isDebugEnabled()) {
+            canonicalRequest = new StringBuilder();
+        }
+
+        String hash = CanonicalRequestDigest.hexEncodedHash(clientRequestToken,
+                hashedPayload, canonicalRequest);
 
-        return canonicalRequest;
+        if (canonicalRequest != null) {
+            LOGGER.debug("Canonical request- " + canonicalRequest);
+        }
+        return hash;
     }
 
     /*
@@ -307,12 +264,11 @@ public class AWSV4Sign implements AWSSign {
      * Structure of String to sign- Algorithm + '\n' + RequestDate + '\n' +
      * CredentialScope + '\n' + HashedCanonicalRequest
      */
-    private String createStringToSign(String canonicalRequest,
+    private String createStringToSign(String hexEncodedCRHash,
             ClientRequestToken clientRequestToken) {
-        String stringToSign, requestDate, hexEncodedCRHash;
+        String stringToSign, requestDate;
 
         requestDate = clientRequestToken.getRequestHeaders().get("x-amz-date");
-        hexEncodedCRHash = BinaryUtil.hexEncodedHash(canonicalRequest);
 
         stringToSign = String.format("%s\n%s\n%s\n%s",
                 clientRequestToken.getSigningAlgorithm(), requestDate,
@@ -355,6 +311,27 @@ public class AWSV4Sign implements AWSSign {
         return stringToSign;
     }
 
+    /**
+     * Return the signing key of the request, deriving it from the secret key
+     * only if it is not cached for the access key and credential scope.
+     */
+    private byte[] getSigningKey(ClientRequestToken clientRequestToken,
+            Requestor requestor) {
+        String accessKeyId = requestor.getAccesskey().getId();
+        String secretKey = requestor.getAccesskey().getSecretKey();
+        String scope = clientRequestToken.getDate() + "/"
+                + clientRequestToken.getRegion() + "/"
+                + clientRequestToken.getService();
+
+        byte[] signingKey = SigningKeyCache.get(accessKeyId, scope, secretKey);
+        if (signingKey == null) {
+            signingKey = deriveSigningKey(clientRequestToken, secretKey);
+            SigningKeyCache.put(accessKeyId, scope, secretKey, signingKey);
+        }
+
+        return signingKey;
+    }
+
     /**
      * Before calculating the signature, derive a signing key secret access key.
      *
@@ -405,116 +382,4 @@ public class AWSV4Sign implements AWSSign {
 
         return null;
     }
-
-    /**
-     * The canonical headers consist of a list of all the HTTP headers are
-     * include as a part of the AWS request. Convert all header names to
-     * lowercase and trim excess blank space characters out of the header
-     * values.
-     *
-     * Canonical Header = CanonicalHeadersEntry0 + CanonicalHeadersEntry1 + ...
-     * + CanonicalHeadersEntryN
-     *
-     * CanonicalHeadersEntry = Lowercase(HeaderName) + ':' +
-     * Trimall(HeaderValue) + '\n'
-     * @throws InvalidTokenException
-     */
-    private String createCanonicalHeader(ClientRequestToken clientRequestToken)
-                                                 throws InvalidTokenException {
-       String headerValue = "";
-        String canonicalHeader = "";
-        Map<String, String> requestHeaders = clientRequestToken.getRequestHeaders();
-
-        for (String s : clientRequestToken.getSignedHeaders().split(";")) {
-
-            headerValue = requestHeaders.get(s);
-            if (headerValue == null) {
-
-              if (s.equalsIgnoreCase("connection")) {
-                canonicalHeader += "connection:Keep-Alive\n";
-              } else {
-
-                String errMsg = "Signed header :" + s +
-                                " is not found in Request header list";
-                LOGGER.error(errMsg);
-
-                throw new InvalidTokenException(errMsg);
-              }
-            }
-            headerValue = headerValue.trim();
-            if (s.equalsIgnoreCase("content-type")) {
-                /*
-                 * Strangely, the aws .net sdk doesn't send the content type.
-                 * Hence the content type is hard coded.
-                 */
-                if (headerValue.isEmpty()) {
-                  canonicalHeader += "content-type:\n";
-                } else {
-                    canonicalHeader += String.format("%s:%s\n", s, headerValue);
-                }
-            } else {
-                canonicalHeader += String.format("%s:%s\n", s, headerValue);
-            }
-        }
-
-        return canonicalHeader;
-    }
-
-    /**
-     * To construct the canonical query string, complete the following steps:
-     *
-     * 1. URI-encode each parameter name and value according to the following
-     * rules: a. Do not URL-encode any of the unreserved characters that RFC
-     * 3986 defines: A-Z, a-z, 0-9, hyphen ( - ), underscore ( _ ), period ( .
-     * ), and tilde ( ~ ). b. Percent-encode all other characters with %XY,
-     * where X and Y are hexadecimal characters (0-9 and uppercase A-F). For
-     * example, the space character must be encoded as %20 (not using '+', as
-     * some encoding schemes do) and extended UTF-8 characters must be in the
-     * form %XY%ZA%BC.
-     *
-     * 2. Sort the encoded parameter names by character code (that is, in strict
-     * ASCII order). For example, a parameter name that begins with the
-     * uppercase letter F (ASCII code 70) precedes a parameter name that begins
-     * with a lowercase letter b (ASCII code 98).
-     *
-     * 3. Build the canonical query string by starting with the first parameter
-     * name in the sorted list.
-     *
-     * 4. For each parameter, append the URI-encoded parameter name, followed by
-     * the character '=' (ASCII code 61), followed by the URI-encoded parameter
-     * value. Use an empty string for parameters that have no value.
-     *
-     * 5. Append the character '&' (ASCII code 38) after each parameter value
-     * except for the last value in the list.
-     */
-    private String getCanonicalQuery(String query) {
-        if (query == null || query.isEmpty()) {
-            return "";
-        }
-
-        Map<String, String> queryParams = new TreeMap<>();
-        String[] tokens = query.split("&");
-        for (String token : tokens) {
-            String[] subTokens = token.split("=");
-            if (subTokens.length == 2) {
-                queryParams.put(subTokens[0], subTokens[1]);
-            } else {
-                queryParams.put(subTokens[0], "");
-            }
-        }
-        String canonicalString = "";
-        Iterator<Map.Entry<String, String>> entries = queryParams.entrySet().iterator();
-        while (entries.hasNext()) {
-            Map.Entry<String, String> entry = entries.next();
-            // Values already url encoded by s3server
-            // so we can directly use it for verification.
-            canonicalString += entry.getKey() + "=";
-            canonicalString += entry.getValue();
-            if (entries.hasNext()) {
-                canonicalString += "&";
-            }
-        }
-
-        return canonicalString;
-    }
 }
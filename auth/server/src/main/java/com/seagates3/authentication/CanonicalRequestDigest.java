@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authentication;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.seagates3.exception.InvalidTokenException;
+import com.seagates3.util.BinaryUtil;
+
+import io.netty.util.concurrent.FastThreadLocal;
+
+/**
+ * Hash the AWS V4 canonical request of a client request.
+ *
+ * The canonical request is encoded to UTF-8 and fed to the SHA-256 digest as
+ * it is walked, through a small per thread buffer. Signed headers and query
+ * parameters are located by their offsets in the original strings, so apart
+ * from the header name used for the header lookup no intermediate strings are
+ * created.
+ */
+public
+class CanonicalRequestDigest {
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(CanonicalRequestDigest.class.getName());
+
+ private
+  static final int BUFFER_SIZE = 512;
+
+  /*
+   * A query parameter takes four slots in the query bounds: start and end of
+   * the name followed by start and end of the value.
+   */
+ private
+  static final int QUERY_PARAM_SLOTS = 4;
+
+ private
+  static final FastThreadLocal<CanonicalRequestDigest> DIGESTS =
+      new FastThreadLocal<CanonicalRequestDigest>() {
+        @Override protected CanonicalRequestDigest initialValue() {
+          return new CanonicalRequestDigest();
+        }
+      };
+
+ private
+  final byte[] buffer = new byte[BUFFER_SIZE];
+ private
+  final byte[] hash = new byte[BinaryUtil.SHA256_LENGTH];
+ private
+  int[] queryBounds = new int[16 * QUERY_PARAM_SLOTS];
+ private
+  int[] queryOrder = new int[16];
+
+ private
+  MessageDigest digest;
+ private
+  StringBuilder copy;
+ private
+  int position;
+
+ private
+  CanonicalRequestDigest() {}
+
+  /**
+   * Return the lower case hex encoded SHA-256 hash of the canonical request.
+   *
+   * HTTPRequestMethod + '\n' + CanonicalURI + '\n' + CanonicalQueryString +
+   * '\n' + CanonicalHeaders + '\n' + SignedHeaders + '\n' + HashedPayload
+   *
+   * @param clientRequestToken Request to hash.
+   * @param hashedPayload Last line of the canonical request.
+   * @param canonicalRequest If not null, the canonical request is appended
+   *        to it.
+   * @return Hex encoded hash or null if SHA-256 is not available.
+   * @throws InvalidTokenException If a signed header is missing.
+   */
+ public
+  static String hexEncodedHash(ClientRequestToken clientRequestToken,
+                               String hashedPayload,
+                               StringBuilder canonicalRequest)
+      throws InvalidTokenException {
+    return DIGESTS.get().hash(clientRequestToken, hashedPayload,
+                              canonicalRequest);
+  }
+
+ private
+  String hash(ClientRequestToken clientRequestToken, String hashedPayload,
+              StringBuilder canonicalRequest) throws InvalidTokenException {
+    digest = BinaryUtil.getSHA256Digest();
+    if (digest == null) {
+      return null;
+    }
+
+    copy = canonicalRequest;
+    position = 0;
+    try {
+      write(clientRequestToken.getHttpMethod());
+      write('\n');
+      write(clientRequestToken.getUri());
+      write('\n');
+      writeCanonicalQuery(clientRequestToken.getQuery());
+      write('\n');
+      writeCanonicalHeaders(clientRequestToken);
+      write('\n');
+      write(clientRequestToken.getSignedHeaders());
+      write('\n');
+      write(hashedPayload);
+      flush();
+
+      digest.digest(hash, 0, hash.length);
+      return BinaryUtil.toHex(hash);
+    }
+    catch (DigestException ex) {
+      throw new IllegalStateException(ex);
+    }
+    finally {
+      digest = null;
+      copy = null;
+    }
+  }
+
+  /**
+   * Write Lowercase(HeaderName) + ':' + Trim(HeaderValue) + '\n' for every
+   * signed header. Header names of signed headers are already lower case.
+   */
+ private
+  void writeCanonicalHeaders(ClientRequestToken clientRequestToken)
+      throws InvalidTokenException {
+    Map<String, String> requestHeaders = clientRequestToken.getRequestHeaders();
+    String signedHeaders = clientRequestToken.getSignedHeaders();
+
+    // Same headers as String.split(";"), which drops trailing empty names.
+    int end = signedHeaders.length();
+    while (end > 0 && signedHeaders.charAt(end - 1) == ';') {
+      end--;
+    }
+    if (end == 0 && !signedHeaders.isEmpty()) {
+      return;
+    }
+
+    int start = 0;
+    while (start <= end) {
+      int next = signedHeaders.indexOf(';', start);
+      if (next < 0 || next > end) {
+        next = end;
+      }
+      String name = signedHeaders.substring(start, next);
+      writeCanonicalHeader(name, requestHeaders.get(name));
+      start = next + 1;
+    }
+  }
+
+ private
+  void writeCanonicalHeader(String name, String value)
+      throws InvalidTokenException {
+    if (value == null) {
+      if (name.equalsIgnoreCase("connection")) {
+        write("connection:Keep-Alive\n");
+        return;
+      }
+
+      String errMsg =
+          "Signed header :" + name + " is not found in Request header list";
+      LOGGER.error(errMsg);
+      throw new InvalidTokenException(errMsg);
+    }
+
+    // Same bounds as String.trim().
+    int start = 0, end = value.length();
+    while (start < end && value.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && value.charAt(end - 1) <= ' ') {
+      end--;
+    }
+
+    if (start == end && name.equalsIgnoreCase("content-type")) {
+      /*
+       * Strangely, the aws .net sdk doesn't send the content type.
+       * Hence the content type is hard coded.
+       */
+      write("content-type:\n");
+      return;
+    }
+
+    write(name);
+    write(':');
+    write(value, start, end);
+    write('\n');
+  }
+
+  /**
+   * Write the query parameters sorted by name as name=value separated by '&'.
+   *
+   * Names and values are already URL encoded by s3server. A parameter without
+   * a value is written with an empty value. If a name repeats, only its last
+   * value is written.
+   */
+ private
+  void writeCanonicalQuery(String query) {
+    if (query == null || query.isEmpty()) {
+      return;
+    }
+
+    int count = parseQuery(query);
+    sortQueryParams(query, count);
+
+    boolean first = true;
+    for (int i = 0; i < count; i++) {
+      int param = queryOrder[i];
+      if (i + 1 < count && compareNames(query, param, queryOrder[i + 1]) == 0) {
+        continue;
+      }
+
+      if (!first) {
+        write('&');
+      }
+      first = false;
+
+      int slot = param * QUERY_PARAM_SLOTS;
+      write(query, queryBounds[slot], queryBounds[slot + 1]);
+      write('=');
+      write(query, queryBounds[slot + 2], queryBounds[slot + 3]);
+    }
+  }
+
+  /**
+   * Record the bounds of the query parameters and return their count.
+   *
+   * Parameters are split the way String.split("&") and String.split("=")
+   * would split them, so that the canonical query does not change.
+   */
+ private
+  int parseQuery(String query) {
+    int end = query.length();
+    while (end > 0 && query.charAt(end - 1) == '&') {
+      end--;
+    }
+    if (end == 0) {
+      return 0;
+    }
+
+    int count = 0;
+    int start = 0;
+    while (start <= end) {
+      int next = query.indexOf('&', start);
+      if (next < 0 || next > end) {
+        next = end;
+      }
+      addQueryParam(query, count++, start, next);
+      start = next + 1;
+    }
+    return count;
+  }
+
+ private
+  void addQueryParam(String query, int param, int start, int end) {
+    if ((param + 1) * QUERY_PARAM_SLOTS > queryBounds.length) {
+      int[] bounds = new int[queryBounds.length * 2];
+      System.arraycopy(queryBounds, 0, bounds, 0, queryBounds.length);
+      queryBounds = bounds;
+    }
+
+    int nameEnd = query.indexOf('=', start);
+    if (nameEnd < 0 || nameEnd > end) {
+      nameEnd = end;
+    }
+
+    // The value is kept only if it is the single non empty token after '='.
+    int valueStart = Math.min(nameEnd + 1, end);
+    int valueEnd = end;
+    while (valueEnd > valueStart && query.charAt(valueEnd - 1) == '=') {
+      valueEnd--;
+    }
+    int separator = query.indexOf('=', valueStart);
+    if (separator >= 0 && separator < valueEnd) {
+      valueEnd = valueStart;
+    }
+
+    int slot = param * QUERY_PARAM_SLOTS;
+    queryBounds[slot] = start;
+    queryBounds[slot + 1] = nameEnd;
+    queryBounds[slot + 2] = valueStart;
+    queryBounds[slot + 3] = valueEnd;
+  }
+
+  /**
+   * Stable insertion sort of the parameters by name. Queries have few
+   * parameters.
+   */
+ private
+  void sortQueryParams(String query, int count) {
+    if (count > queryOrder.length) {
+      queryOrder = new int[Math.max(count, queryOrder.length * 2)];
+    }
+
+    for (int i = 0; i < count; i++) {
+      int param = i;
+      int j = i;
+      while (j > 0 && compareNames(query, queryOrder[j - 1], param) > 0) {
+        queryOrder[j] = queryOrder[j - 1];
+        j--;
+      }
+      queryOrder[j] = param;
+    }
+  }
+
+  /**
+   * Compare the names of two parameters the way String.compareTo does.
+   */
+ private
+  int compareNames(String query, int param1, int param2) {
+    int start1 = queryBounds[param1 * QUERY_PARAM_SLOTS];
+    int end1 = queryBounds[param1 * QUERY_PARAM_SLOTS + 1];
+    int start2 = queryBounds[param2 * QUERY_PARAM_SLOTS];
+    int end2 = queryBounds[param2 * QUERY_PARAM_SLOTS + 1];
+
+    int length = Math.min(end1 - start1, end2 - start2);
+    for (int i = 0; i < length; i++) {
+      char c1 = query.charAt(start1 + i);
+      char c2 = query.charAt(start2 + i);
+      if (c1 != c2) {
+        return c1 - c2;
+      }
+    }
+    return (end1 - start1) - (end2 - start2);
+  }
+
+ private
+  void write(String text) {
+    if (text == null) {
+      text = "null";
+    }
+    write(text, 0, text.length());
+  }
+
+  /**
+   * Write text[start, end) encoded to UTF-8.
+   */
+ private
+  void write(String text, int start, int end) {
+    if (copy != null) {
+      copy.append(text, start, end);
+    }
+
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (position + 4 > BUFFER_SIZE) {
+        flush();
+      }
+
+      if (c < 0x80) {
+        buffer[position++] = (byte)c;
+      } else if (c < 0x800) {
+        buffer[position++] = (byte)(0xc0 | (c >> 6));
+        buffer[position++] = (byte)(0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c) && i + 1 < end &&
+                 Character.isLowSurrogate(text.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, text.charAt(++i));
+        buffer[position++] = (byte)(0xf0 | (codePoint >> 18));
+        buffer[position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3f));
+        buffer[position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3f));
+        buffer[position++] = (byte)(0x80 | (codePoint & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        // Unpaired surrogates are replaced as String.getBytes does.
+        buffer[position++] = (byte)'?';
+      } else {
+        buffer[position++] = (byte)(0xe0 | (c >> 12));
+        buffer[position++] = (byte)(0x80 | ((c >> 6) & 0x3f));
+        buffer[position++] = (byte)(0x80 | (c & 0x3f));
+      }
+    }
+  }
+
+ private
+  void write(char c) {
+    if (copy != null) {
+      copy.append(c);
+    }
+
+    if (position == BUFFER_SIZE) {
+      flush();
+    }
+    buffer[position++] = (byte)c;
+  }
+
+ private
+  void flush() {
+    digest.update(buffer, 0, position);
+    position = 0;
+  }
+}
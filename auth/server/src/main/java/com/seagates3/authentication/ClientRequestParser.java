@@ -60,7 +60,8 @@ public class ClientRequestParser {
         ClientRequestToken.AWSSigningVersion awsSigningVersion;
 
         if (requestAction.equals("AuthenticateUser")
-                || requestAction.equals("AuthorizeUser")) {
+                || requestAction.equals("AuthorizeUser")
+                || requestAction.equals("AuthenticateAndAuthorize")) {
             authorizationHeader = requestBody.get("authorization");
 
         } else if (requestAction.equals("ValidateACL")) {
@@ -115,7 +116,8 @@ public class ClientRequestParser {
         AWSRequestParser awsRequestParser = getAWSRequestParser(awsSigningVersion);
         ClientRequestToken clientrequesttoken = null;
         if (requestAction.equals("AuthenticateUser")
-                || requestAction.equals("AuthorizeUser")) {
+                || requestAction.equals("AuthorizeUser")
+                || requestAction.equals("AuthenticateAndAuthorize")) {
             try {
               if (awsRequestParser != null) {
                 clientrequesttoken = awsRequestParser.parse(requestBody);
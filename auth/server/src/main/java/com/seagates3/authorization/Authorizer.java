@@ -38,6 +38,7 @@ import com.seagates3.acl.ACLRequestValidator;
 import com.seagates3.acl.ACLValidation;
 import com.seagates3.acl.AccessControlList;
 import com.seagates3.acl.AccessControlPolicy;
+import com.seagates3.acl.AccessControlPolicyCache;
 import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.exception.BadRequestException;
 import com.seagates3.exception.DataAccessException;
@@ -52,7 +53,6 @@ import com.seagates3.policy.BucketPolicyValidator;
 import com.seagates3.policy.PolicyUtil;
 import com.seagates3.response.ServerResponse;
 import com.seagates3.response.generator.AuthorizationResponseGenerator;
-import com.seagates3.util.BinaryUtil;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 
@@ -304,8 +304,8 @@ class Authorizer {
       AccessControlPolicy existingAcp = null;
       try {
         if (requestBody.get("Auth-ACL") != null) {
-          existingAcp = new AccessControlPolicy(
-              BinaryUtil.base64DecodeString(requestBody.get("Auth-ACL")));
+          existingAcp =
+              AccessControlPolicyCache.get(requestBody.get("Auth-ACL"));
           LOGGER.debug(
               "Sending Auth-ACL for validating new owner against existing " +
               "owner");
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authserver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.seagates3.response.ServerResponse;
+import com.seagates3.response.StructuredServerResponse;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Protocol buffers encoding of the messages of /v2/auth, as defined in
+ * authserver.proto. The messages are small and flat, so they are read and
+ * written directly in the wire format.
+ */
+public
+final class AuthProtobufCodec {
+
+ public
+  static final String CONTENT_TYPE = "application/x-protobuf";
+
+ private
+  static final int WIRETYPE_VARINT = 0;
+ private
+  static final int WIRETYPE_FIXED64 = 1;
+ private
+  static final int WIRETYPE_LENGTH_DELIMITED = 2;
+ private
+  static final int WIRETYPE_FIXED32 = 5;
+
+  // AuthRequest
+ private
+  static final int REQUEST_PARAMETER = 1;
+
+  // Field
+ private
+  static final int FIELD_NAME = 1;
+ private
+  static final int FIELD_VALUE = 2;
+
+  // AuthResponse
+ private
+  static final int RESPONSE_STATUS = 1;
+ private
+  static final int RESPONSE_REQUEST_ID = 2;
+ private
+  static final int RESPONSE_RESULT = 3;
+ private
+  static final int RESPONSE_ERROR_CODE = 4;
+ private
+  static final int RESPONSE_ERROR_MESSAGE = 5;
+ private
+  static final int RESPONSE_BODY = 6;
+
+ private
+  static final String AMZ_PREFIX = "x-amz-";
+
+ private
+  AuthProtobufCodec() {}
+
+  /**
+   * Decode an AuthRequest into the same parameter map AuthRequestDecoder
+   * returns for the url-encoded form.
+   *
+   * @throws IllegalArgumentException if the message is malformed.
+   */
+ public
+  static Map<String, String> decodeRequest(ByteBuf content) {
+    Map<String, String> parameters =
+        new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    ByteBuf in = content.duplicate();
+    while (in.isReadable()) {
+      int tag = readTag(in);
+      if (tag == ((REQUEST_PARAMETER << 3) | WIRETYPE_LENGTH_DELIMITED)) {
+        decodeParameter(in.readSlice(readLength(in)), parameters);
+      } else {
+        skipField(in, tag);
+      }
+    }
+    return parameters;
+  }
+
+ private
+  static void decodeParameter(ByteBuf in, Map<String, String> parameters) {
+    String name = "";
+    String value = "";
+    while (in.isReadable()) {
+      int tag = readTag(in);
+      if (tag == ((FIELD_NAME << 3) | WIRETYPE_LENGTH_DELIMITED)) {
+        name = readString(in);
+      } else if (tag == ((FIELD_VALUE << 3) | WIRETYPE_LENGTH_DELIMITED)) {
+        value = readString(in);
+      } else {
+        skipField(in, tag);
+      }
+    }
+
+    String previous = parameters.get(name);
+    if (previous != null &&
+        name.regionMatches(true, 0, AMZ_PREFIX, 0, AMZ_PREFIX.length())) {
+      value = previous + "," + value;
+    }
+    parameters.put(name, value);
+  }
+
+  /**
+   * Encode the response as an AuthResponse. Responses which keep their
+   * elements are encoded without writing their XML body.
+   */
+ public
+  static void encodeResponse(ServerResponse response, ByteBuf out) {
+    writeTag(out, RESPONSE_STATUS, WIRETYPE_VARINT);
+    writeVarint(out, response.getResponseStatus().code());
+
+    if (!(response instanceof StructuredServerResponse)) {
+      writeString(out, RESPONSE_BODY, response.getResponseBody());
+      return;
+    }
+
+    StructuredServerResponse structured = (StructuredServerResponse)response;
+    writeString(out, RESPONSE_REQUEST_ID, structured.getRequestId());
+    for (Map.Entry<String, String> element :
+         structured.getElements().entrySet()) {
+      String name = element.getKey();
+      String value = element.getValue();
+      writeTag(out, RESPONSE_RESULT, WIRETYPE_LENGTH_DELIMITED);
+      writeVarint(out, stringFieldSize(name) + stringFieldSize(value));
+      writeString(out, FIELD_NAME, name);
+      writeString(out, FIELD_VALUE, value);
+    }
+    if (structured.isError()) {
+      writeString(out, RESPONSE_ERROR_CODE, structured.getErrorCode());
+      writeString(out, RESPONSE_ERROR_MESSAGE, structured.getErrorMessage());
+    }
+  }
+
+ private
+  static int readTag(ByteBuf in) {
+    long tag = readVarint(in);
+    if (tag >>> 3 == 0 || tag > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid field tag " + tag);
+    }
+    return (int)tag;
+  }
+
+ private
+  static int readLength(ByteBuf in) {
+    long length = readVarint(in);
+    if (length < 0 || length > in.readableBytes()) {
+      throw new IllegalArgumentException("Invalid field length " + length);
+    }
+    return (int)length;
+  }
+
+ private
+  static long readVarint(ByteBuf in) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      if (!in.isReadable()) {
+        throw new IllegalArgumentException("Truncated varint");
+      }
+      byte b = in.readByte();
+      value |= (long)(b & 0x7f) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+ private
+  static String readString(ByteBuf in) {
+    int length = readLength(in);
+    String value =
+        in.toString(in.readerIndex(), length, StandardCharsets.UTF_8);
+    in.skipBytes(length);
+    return value;
+  }
+
+ private
+  static void skipField(ByteBuf in, int tag) {
+    switch (tag & 7) {
+      case WIRETYPE_VARINT:
+        readVarint(in);
+        break;
+      case WIRETYPE_FIXED64:
+        skipBytes(in, 8);
+        break;
+      case WIRETYPE_LENGTH_DELIMITED:
+        in.skipBytes(readLength(in));
+        break;
+      case WIRETYPE_FIXED32:
+        skipBytes(in, 4);
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid wire type " + (tag & 7));
+    }
+  }
+
+ private
+  static void skipBytes(ByteBuf in, int length) {
+    if (in.readableBytes() < length) {
+      throw new IllegalArgumentException("Truncated field");
+    }
+    in.skipBytes(length);
+  }
+
+ private
+  static void writeTag(ByteBuf out, int field, int wireType) {
+    writeVarint(out, (field << 3) | wireType);
+  }
+
+ private
+  static void writeVarint(ByteBuf out, int value) {
+    while ((value & ~0x7f) != 0) {
+      out.writeByte((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+ private
+  static int varintSize(int value) {
+    int size = 1;
+    while ((value & ~0x7f) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  /**
+   * Size of a string field with a field number below 16. Null strings are
+   * not written.
+   */
+ private
+  static int stringFieldSize(String value) {
+    if (value == null) {
+      return 0;
+    }
+    int length = utf8Length(value);
+    return 1 + varintSize(length) + length;
+  }
+
+ private
+  static void writeString(ByteBuf out, int field, String value) {
+    if (value == null) {
+      return;
+    }
+    writeTag(out, field, WIRETYPE_LENGTH_DELIMITED);
+    writeVarint(out, utf8Length(value));
+    writeUtf8(out, value);
+  }
+
+  /**
+   * Length of the UTF-8 encoding of value, with unpaired surrogates encoded
+   * as '?' like String.getBytes does.
+   */
+ private
+  static int utf8Length(String value) {
+    int length = value.length();
+    int bytes = length;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        continue;
+      } else if (c < 0x800) {
+        bytes += 1;
+      } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                 Character.isLowSurrogate(value.charAt(i + 1))) {
+        bytes += 2;
+        i++;
+      } else if (!Character.isSurrogate(c)) {
+        bytes += 2;
+      }
+    }
+    return bytes;
+  }
+
+ private
+  static void writeUtf8(ByteBuf out, String value) {
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        out.writeByte(c);
+      } else if (c < 0x800) {
+        out.writeByte(0xc0 | (c >> 6));
+        out.writeByte(0x80 | (c & 0x3f));
+      } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                 Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        out.writeByte(0xf0 | (codePoint >> 18));
+        out.writeByte(0x80 | ((codePoint >> 12) & 0x3f));
+        out.writeByte(0x80 | ((codePoint >> 6) & 0x3f));
+        out.writeByte(0x80 | (codePoint & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        out.writeByte('?');
+      } else {
+        out.writeByte(0xe0 | (c >> 12));
+        out.writeByte(0x80 | ((c >> 6) & 0x3f));
+        out.writeByte(0x80 | (c & 0x3f));
+      }
+    }
+  }
+}
@@ -44,6 +44,20 @@ public class AuthRequestDecoder extends HttpPostRequestDecoder {
                 fullHttpRequest);
     }
 
+    /**
+     * Return the parameters of the request body. Url-encoded bodies are
+     * decoded by UrlEncodedRequestBody without creating an attribute per
+     * parameter. Multipart bodies are decoded by AuthRequestDecoder.
+     */
+    public static Map<String, String> decodeRequestBody(
+            FullHttpRequest fullHttpRequest) {
+        if (!HttpPostRequestDecoder.isMultipart(fullHttpRequest)) {
+            return UrlEncodedRequestBody.decode(fullHttpRequest.content());
+        }
+
+        return new AuthRequestDecoder(fullHttpRequest).getRequestBodyAsMap();
+    }
+
     public Map<String, String> getRequestBodyAsMap() {
         return parseRequestBody(getBodyHttpDatas());
     }
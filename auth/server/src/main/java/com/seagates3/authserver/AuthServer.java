@@ -20,14 +20,29 @@
 
 package com.seagates3.authserver;
 
+import com.seagates3.acl.AccessControlPolicyCache;
+import com.seagates3.cache.AccessKeyCache;
+import com.seagates3.cache.PrincipalCache;
+import com.seagates3.cache.RequestorCache;
+import com.seagates3.cache.SigningKeyCache;
 import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.ldap.LdapAsyncSearcher;
+import com.seagates3.dao.ldap.LdapConnectionManager;
 import com.seagates3.exception.ServerInitialisationException;
 import com.seagates3.fi.FaultPoints;
-import com.seagates3.perf.S3Perf;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.PerfRegistry;
+import com.seagates3.policy.BucketPolicyCache;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LogLevel;
@@ -39,6 +54,9 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.config.ConfigurationSource;
 import org.apache.logging.log4j.core.config.Configurator;
@@ -53,6 +71,12 @@ class AuthServer {
  private
   static EventExecutorGroup executorGroup;
 
+  /**
+   * True if the server uses the native epoll transport.
+   */
+ private
+  static boolean epoll;
+
  private
   static Logger logger;
 
@@ -61,7 +85,7 @@ class AuthServer {
         Runtime.getRuntime().addShutdownHook(new Thread() {
             @Override
             public void run() {
-                S3Perf.clean();
+                PerfRegistry.clean();
                 shutdownExecutors();
   }
         });
@@ -69,14 +93,22 @@ class AuthServer {
 
        private
         static void shutdownExecutors() {
-          bossGroup.shutdownGracefully();
-          logger.info("Boss group shutdown");
+          if (bossGroup != null) {
+            bossGroup.shutdownGracefully();
+            logger.info("Boss group shutdown");
+          }
 
           workerGroup.shutdownGracefully();
           logger.info("Worker group shutdown");
 
           executorGroup.shutdownGracefully();
           logger.info("Executor group shutdown");
+
+          LdapAsyncSearcher.shutdown();
+          logger.info("Asynchronous LDAP searcher shutdown");
+
+          LdapConnectionManager.shutdown();
+          logger.info("LDAP connection pool shutdown");
         }
 
         /**
@@ -139,7 +171,14 @@ class AuthServer {
           SSLContextProvider.init();
           IAMResourceMapper.init();
           DAODispatcher.init();
-          S3Perf.init();
+          PerfRegistry.init();
+          AccessKeyCache.init();
+          RequestorCache.init();
+          SigningKeyCache.init();
+          AccessControlPolicyCache.init();
+          BucketPolicyCache.init();
+          PrincipalCache.init();
+          LdapAsyncSearcher.init();
 
           /**
            * If fault injection is enabled, create instance of FaultPoints
@@ -151,38 +190,66 @@ class AuthServer {
           AuthServer.attachShutDownHook();
 
           // Configure the server.
-          bossGroup =
-              new NioEventLoopGroup(AuthServerConfig.getBossGroupThreads());
-          logger.info("Created boss event loop group with " +
-                      AuthServerConfig.getBossGroupThreads() + " threads");
+          epoll = isEpollTransport();
+          if (epoll) {
+            // Worker event loops accept connections on their own channels.
+            workerGroup = new EpollEventLoopGroup(
+                AuthServerConfig.getWorkerGroupThreads());
+            logger.info("Created epoll worker event loop group with " +
+                        AuthServerConfig.getWorkerGroupThreads() + " threads");
+          } else {
+            bossGroup =
+                new NioEventLoopGroup(AuthServerConfig.getBossGroupThreads());
+            logger.info("Created boss event loop group with " +
+                        AuthServerConfig.getBossGroupThreads() + " threads");
 
-          workerGroup =
-              new NioEventLoopGroup(AuthServerConfig.getWorkerGroupThreads());
-          logger.info("Created worker event loop group with " +
-                      AuthServerConfig.getWorkerGroupThreads() + " threads");
+            workerGroup = new NioEventLoopGroup(
+                AuthServerConfig.getWorkerGroupThreads());
+            logger.info("Created worker event loop group with " +
+                        AuthServerConfig.getWorkerGroupThreads() + " threads");
+          }
 
           executorGroup = new DefaultEventExecutorGroup(
               AuthServerConfig.getEventExecutorThreads());
           logger.info("Created event executor with " +
                       AuthServerConfig.getEventExecutorThreads() + " threads");
 
+          Map<String, EventExecutorGroup> executors = new LinkedHashMap<>();
+          executors.put("worker", workerGroup);
+          executors.put("event_executor", executorGroup);
+          MetricsRegistry.register(new AuthServerMetrics(executors));
+
           ArrayList<Channel> serverChannels = new ArrayList<>();
 
           if (AuthServerConfig.isHttpEnabled()) {
             int httpPort = AuthServerConfig.getHttpPort();
             String host = AuthServerConfig.getDefaultHost();
-            Channel serverChannel = httpServerBootstrap(
-                bossGroup, workerGroup, executorGroup, host, httpPort);
-            serverChannels.add(serverChannel);
+            if (epoll) {
+              serverChannels.addAll(epollServerBootstrap(
+                  workerGroup, AuthServerConfig.getWorkerGroupThreads(),
+                  new AuthServerHTTPInitializer(executorGroup), host,
+                  httpPort));
+            } else {
+              Channel serverChannel = httpServerBootstrap(
+                  bossGroup, workerGroup, executorGroup, host, httpPort);
+              serverChannels.add(serverChannel);
+            }
             logger.info("Auth server is listening on HTTP port " + httpPort);
           }
 
           if (AuthServerConfig.isHttpsEnabled()) {
             int httpsPort = AuthServerConfig.getHttpsPort();
             String host = AuthServerConfig.getDefaultHost();
-            Channel serverChannel = httpsServerBootstrap(
-                bossGroup, workerGroup, executorGroup, host, httpsPort);
-            serverChannels.add(serverChannel);
+            if (epoll) {
+              serverChannels.addAll(epollServerBootstrap(
+                  workerGroup, AuthServerConfig.getWorkerGroupThreads(),
+                  new AuthServerHTTPSInitializer(executorGroup), host,
+                  httpsPort));
+            } else {
+              Channel serverChannel = httpsServerBootstrap(
+                  bossGroup, workerGroup, executorGroup, host, httpsPort);
+              serverChannels.add(serverChannel);
+            }
             logger.info("Auth server is listening on HTTPS port " + httpsPort);
           }
 
@@ -227,4 +294,52 @@ class AuthServer {
           Channel serverChannel = b.bind(host, port).sync().channel();
           return serverChannel;
         }
+
+        /**
+         * Return true if the epoll transport is configured and the native
+         * library can be loaded.
+         */
+       private
+        static boolean isEpollTransport() {
+          if (!"epoll".equalsIgnoreCase(AuthServerConfig.getNettyTransport())) {
+            return false;
+          }
+
+          if (!Epoll.isAvailable()) {
+            logger.warn("Native epoll transport is unavailable, using nio. " +
+                        "Cause: " + Epoll.unavailabilityCause());
+            return false;
+          }
+
+          return true;
+        }
+
+        /**
+         * Bind one SO_REUSEPORT server channel per acceptor with the native
+         * epoll transport. The server channels are registered with the worker
+         * event loops, and the kernel balances new connections across them.
+         * Connections use pooled direct buffers.
+         *
+         * @param acceptors Number of server channels to bind.
+         */
+       private
+        static List<Channel> epollServerBootstrap(
+            EventLoopGroup workerGroup, int acceptors,
+            ChannelHandler initializer, String host,
+            int port) throws InterruptedException {
+          ServerBootstrap b = new ServerBootstrap();
+          b.option(ChannelOption.SO_BACKLOG, 1024);
+          b.option(EpollChannelOption.SO_REUSEPORT, true);
+          b.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+          b.group(workerGroup)
+              .channel(EpollServerSocketChannel.class)
+              .handler(new LoggingHandler(LogLevel.INFO))
+              .childHandler(initializer);
+
+          List<Channel> serverChannels = new ArrayList<>();
+          for (int i = 0; i < acceptors; i++) {
+            serverChannels.add(b.bind(host, port).sync().channel());
+          }
+          return serverChannels;
+        }
         }
@@ -239,8 +239,62 @@ public class AuthServerConfig {
         return Integer.parseInt(authServerConfig.getProperty("ldapMaxCons"));
     }
 
-    public static int getLdapMaxSharedConnections() {
-        return Integer.parseInt(authServerConfig.getProperty("ldapMaxSharedCons"));
+    /**
+     * Number of LDAP connections created at startup and kept in the pool.
+     */
+    public static int getLdapMinConnections() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "ldapMinCons", "10"));
+    }
+
+    /**
+     * Time in milliseconds to wait for a pooled LDAP connection.
+     */
+    public static long getLdapConnectionAcquireTimeout() {
+        return Long.parseLong(authServerConfig.getProperty(
+                "ldapConnectionAcquireTimeout", "5000"));
+    }
+
+    /**
+     * Interval in seconds between checks of idle LDAP connections.
+     */
+    public static long getLdapPoolValidationInterval() {
+        return Long.parseLong(authServerConfig.getProperty(
+                "ldapPoolValidationInterval", "30"));
+    }
+
+    public static int getLdapCircuitBreakerThreshold() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "ldapCircuitBreakerThreshold", "5"));
+    }
+
+    /**
+     * Time in milliseconds for which LDAP requests fail without connecting
+     * once the circuit breaker opened.
+     */
+    public static long getLdapCircuitBreakerOpenTime() {
+        return Long.parseLong(authServerConfig.getProperty(
+                "ldapCircuitBreakerOpenTime", "5000"));
+    }
+
+    /**
+     * LDAP read replicas as host or host:port, without the provider.
+     */
+    public static String[] getLdapReplicaHosts() {
+        String replicas = authServerConfig.getProperty("ldapReplicaHosts", "");
+        if (replicas.trim().isEmpty()) {
+            return new String[0];
+        }
+        return replicas.trim().split("\\s*,\\s*");
+    }
+
+    /**
+     * Time in milliseconds after a write of an LDAP entry during which
+     * searches of the entry are sent to the provider instead of the replicas.
+     */
+    public static long getLdapReadAfterWriteWindow() {
+        return Long.parseLong(authServerConfig.getProperty(
+                "ldapReadAfterWriteWindow", "5000"));
     }
 
     public static String getLdapLoginDN() {
@@ -284,6 +338,13 @@ public class AuthServerConfig {
                 authServerConfig.getProperty("nettyWorkerGroupThreads"));
     }
 
+    /**
+     * Return the netty transport, nio or epoll.
+     */
+    public static String getNettyTransport() {
+        return authServerConfig.getProperty("nettyTransport", "nio");
+    }
+
     public static boolean isPerfEnabled() {
         return Boolean.valueOf(authServerConfig.getProperty("perfEnabled"));
     }
@@ -292,6 +353,15 @@ public class AuthServerConfig {
         return authServerConfig.getProperty("perfLogFile");
     }
 
+    /**
+     * Return the interval in seconds at which stage latencies are written to
+     * the perf log.
+     */
+    public static int getPerfExportInterval() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "perfExportInterval", "10"));
+    }
+
     public static int getEventExecutorThreads() {
         return Integer.parseInt(
                 authServerConfig.getProperty("nettyEventExecutorThreads"));
@@ -301,6 +371,143 @@ public class AuthServerConfig {
         return Boolean.valueOf(authServerConfig.getProperty("enableFaultInjection"));
     }
 
+    public static boolean isAccessKeyCacheEnabled() {
+        return Boolean.valueOf(authServerConfig.getProperty(
+                "enableAccessKeyCache", "true"));
+    }
+
+    public static int getAccessKeyCacheSize() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "accessKeyCacheSize", "10000"));
+    }
+
+    /**
+     * @return Time to live of a cached access key in seconds.
+     */
+    public static int getAccessKeyCacheTTL() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "accessKeyCacheTTL", "60"));
+    }
+
+    public static boolean isRequestorCacheEnabled() {
+        return Boolean.valueOf(authServerConfig.getProperty(
+                "enableRequestorCache", "true"));
+    }
+
+    public static int getRequestorCacheSize() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "requestorCacheSize", "10000"));
+    }
+
+    /**
+     * @return Time to live of a cached user or account in seconds.
+     */
+    public static int getRequestorCacheTTL() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "requestorCacheTTL", "60"));
+    }
+
+    public static boolean isSigningKeyCacheEnabled() {
+        return Boolean.valueOf(authServerConfig.getProperty(
+                "enableSigningKeyCache", "true"));
+    }
+
+    public static int getSigningKeyCacheSize() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "signingKeyCacheSize", "10000"));
+    }
+
+    public static boolean isAclCacheEnabled() {
+        return Boolean.valueOf(authServerConfig.getProperty(
+                "enableAclCache", "true"));
+    }
+
+    public static int getAclCacheSize() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "aclCacheSize", "10000"));
+    }
+
+    public static boolean isBucketPolicyCacheEnabled() {
+        return Boolean.valueOf(authServerConfig.getProperty(
+                "enableBucketPolicyCache", "true"));
+    }
+
+    public static int getBucketPolicyCacheSize() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "bucketPolicyCacheSize", "10000"));
+    }
+
+    /**
+     * @return Time to live of a compiled bucket policy in seconds.
+     */
+    public static int getBucketPolicyCacheTTL() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "bucketPolicyCacheTTL", "60"));
+    }
+
+    public static boolean isPrincipalCacheEnabled() {
+        return Boolean.valueOf(authServerConfig.getProperty(
+                "enablePrincipalCache", "true"));
+    }
+
+    public static int getPrincipalCacheSize() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "principalCacheSize", "10000"));
+    }
+
+    /**
+     * @return Time to live of a resolved principal in seconds.
+     */
+    public static int getPrincipalCacheTTL() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "principalCacheTTL", "60"));
+    }
+
+    /**
+     * @return Time to live of a principal which could not be resolved, in
+     * seconds.
+     */
+    public static int getPrincipalCacheNegativeTTL() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "principalCacheNegativeTTL", "10"));
+    }
+
+    public static boolean isAsyncLdapEnabled() {
+        return Boolean.valueOf(authServerConfig.getProperty(
+                "enableAsyncLdap", "false"));
+    }
+
+    public static int getLdapAsyncCallbackThreads() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "ldapAsyncCallbackThreads", "2"));
+    }
+
+    /**
+     * Number of connections the asynchronous LDAP searches are multiplexed
+     * on.
+     */
+    public static int getLdapAsyncConnections() {
+        return Integer.parseInt(authServerConfig.getProperty(
+                "ldapAsyncConnections", "2"));
+    }
+
+    /**
+     * Time in milliseconds after which an asynchronous LDAP search fails.
+     */
+    public static long getLdapAsyncTimeout() {
+        return Long.parseLong(authServerConfig.getProperty(
+                "ldapAsyncTimeout", "10000"));
+    }
+
+    /**
+     * Latency in microseconds added to every operation of the in-memory data
+     * source.
+     */
+    public static long getMemoryDataSourceLatency() {
+        return Long.parseLong(authServerConfig.getProperty(
+                "memoryDataSourceLatency", "0"));
+    }
+
     /**
      * Set the SAML Metadata file Path.
      *
@@ -41,10 +41,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.seagates3.controller.SAMLWebSSOController;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.PrometheusWriter;
 import com.seagates3.response.ServerResponse;
 import com.seagates3.util.IEMUtil;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -120,6 +125,8 @@ class AuthServerGetHandler {
         return;
       }
 
+    } else if (httpRequest.getUri().startsWith("/auth/metrics")) {
+      returnMetrics();
     } else if (httpRequest.getUri().startsWith("/saml/session")) {
       LOGGER.debug("Calling SAML WEB SSO Controller");
 
@@ -161,17 +168,49 @@ class AuthServerGetHandler {
       response.headers().set(CONTENT_TYPE, "text/xml");
       response.headers().set(CONTENT_LENGTH,
                              response.content().readableBytes());
+      writeResponse(response);
+    }
+  }
 
-      if (!keepAlive) {
-        ctx.write(response).addListener(ChannelFutureListener.CLOSE);
+  /**
+   * Send the metrics of the auth server in the Prometheus text format. The
+   * metrics are rendered and sent by the metrics registry thread.
+   */
+ private
+  void returnMetrics() {
+    MetricsRegistry.renderAsync().whenComplete(
+        new BiConsumer<String, Throwable>() {
+          @Override public void accept(String metrics, Throwable error) {
+            if (error != null) {
+              LOGGER.error("Failed to render metrics.", error);
+              sendErrorResponse(HttpResponseStatus.INTERNAL_SERVER_ERROR,
+                                "Failed to render metrics.");
+              ctx.flush();
+              return;
+            }
+            ByteBuf content = ctx.alloc().buffer(metrics.length());
+            ByteBufUtil.writeUtf8(content, metrics);
+            FullHttpResponse response =
+                new DefaultFullHttpResponse(HTTP_1_1, OK, content);
+            response.headers().set(CONTENT_TYPE, PrometheusWriter.CONTENT_TYPE);
+            response.headers().set(CONTENT_LENGTH, content.readableBytes());
+            writeResponse(response);
+            ctx.flush();
+          }
+        });
+  }
 
-        LOGGER.debug("Connection closed.");
-      } else {
-        response.headers().set(CONNECTION, HttpHeaders.Values.KEEP_ALIVE);
-        ctx.writeAndFlush(response);
+ private
+  void writeResponse(FullHttpResponse response) {
+    if (!keepAlive) {
+      ctx.write(response).addListener(ChannelFutureListener.CLOSE);
 
-        LOGGER.debug("Connection kept alive.");
-      }
+      LOGGER.debug("Connection closed.");
+    } else {
+      response.headers().set(CONNECTION, HttpHeaders.Values.KEEP_ALIVE);
+      ctx.writeAndFlush(response);
+
+      LOGGER.debug("Connection kept alive.");
     }
   }
 
@@ -270,7 +309,6 @@ class AuthServerGetHandler {
   }
  private
   Map<String, String> getHttpRequestBodyAsMap() {
-    AuthRequestDecoder decoder = new AuthRequestDecoder(httpRequest);
-    return decoder.getRequestBodyAsMap();
+    return AuthRequestDecoder.decodeRequestBody(httpRequest);
   }
 }
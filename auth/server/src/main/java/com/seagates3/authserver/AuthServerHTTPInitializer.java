@@ -24,7 +24,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
-import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.concurrent.EventExecutorGroup;
@@ -42,7 +41,6 @@ public class AuthServerHTTPInitializer extends ChannelInitializer<SocketChannel>
         ChannelPipeline p = ch.pipeline();
 
         p.addLast(new HttpServerCodec());
-        p.addLast("decoder", new HttpRequestDecoder());
         p.addLast("aggregator", new HttpObjectAggregator(1048576));
         p.addLast(new ChunkedWriteHandler());
         p.addLast(EXECUTOR_GROUP, new AuthServerHandler());
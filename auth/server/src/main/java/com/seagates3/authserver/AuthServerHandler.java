@@ -20,7 +20,8 @@
 
 package com.seagates3.authserver;
 
-import com.seagates3.perf.S3Perf;
+import com.seagates3.perf.PerfRegistry;
+import com.seagates3.perf.RecordingHistogram;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
@@ -38,6 +39,9 @@ public class AuthServerHandler extends ChannelInboundHandlerAdapter {
     private final Logger LOGGER = LoggerFactory.getLogger(
             AuthServerHandler.class.getName());
 
+    private static final RecordingHistogram latency =
+            PerfRegistry.getHistogram("AuthServerHandler");
+
     /**
      *
      * @param ctx
@@ -50,7 +54,8 @@ public class AuthServerHandler extends ChannelInboundHandlerAdapter {
     /**
      * Entry point to the server handler. Perform basic validation like check if
      * the request is an "FullHttpRequest" object etc and then pass the control
-     * to "AuthServerPostHandler" to handle 'Post' requests and
+     * to "AuthServerV2Handler" to handle 'Post' requests of the binary
+     * protocol, "AuthServerPostHandler" to handle other 'Post' requests and
      * "AuthServerGetHandler" to handle 'Get' requests.
      *
      * @param ctx Channel Hander Context object.
@@ -58,8 +63,7 @@ public class AuthServerHandler extends ChannelInboundHandlerAdapter {
      */
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) {
-        S3Perf perf = new S3Perf();
-        perf.startClock();
+        long startTime = System.nanoTime();
         if (msg instanceof FullHttpRequest) {
             FullHttpRequest httpRequest = (FullHttpRequest) msg;
 
@@ -68,7 +72,10 @@ public class AuthServerHandler extends ChannelInboundHandlerAdapter {
             LOGGER.debug("URI - " + httpRequest.getUri());
 
             try {
-                if (httpRequest.getMethod().equals(HttpMethod.POST)) {
+                if (httpRequest.getMethod().equals(HttpMethod.POST) &&
+                        AuthServerV2Handler.accepts(httpRequest)) {
+                    new AuthServerV2Handler(ctx, httpRequest).run();
+                } else if (httpRequest.getMethod().equals(HttpMethod.POST)) {
                     new AuthServerPostHandler(ctx, httpRequest).run();
                 } else if (httpRequest.getMethod().equals(HttpMethod.GET)) {
                     new AuthServerGetHandler(ctx, httpRequest).run();
@@ -80,8 +87,7 @@ public class AuthServerHandler extends ChannelInboundHandlerAdapter {
             }
 
         }
-        perf.endClock();
-        perf.printTime("AuthServerHandler");
+        latency.record(System.nanoTime() - startTime);
     }
 
     @Override
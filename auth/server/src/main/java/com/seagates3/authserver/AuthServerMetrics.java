@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authserver;
+
+import com.seagates3.acl.AccessControlPolicyCache;
+import com.seagates3.cache.AccessKeyCache;
+import com.seagates3.cache.PrincipalCache;
+import com.seagates3.cache.RequestorCache;
+import com.seagates3.cache.SigningKeyCache;
+import com.seagates3.dao.ldap.LdapConnectionManager;
+import com.seagates3.dao.ldap.LdapConnectionPool;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.PrometheusWriter;
+import com.seagates3.policy.BucketPolicyCache;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collect the state of the auth server components for /auth/metrics: the
+ * task queues of the netty executors, the LDAP connection pools and the
+ * caches.
+ */
+public
+class AuthServerMetrics implements MetricsRegistry.Collector {
+
+ private
+  final Map<String, EventExecutorGroup> executorGroups;
+
+  /**
+   * @param executorGroups Executor groups by name.
+   */
+ public
+  AuthServerMetrics(Map<String, EventExecutorGroup> executorGroups) {
+    this.executorGroups = new LinkedHashMap<>(executorGroups);
+  }
+
+  @Override public void collect(PrometheusWriter writer) {
+    collectExecutors(writer);
+    collectLdapPools(writer);
+    collectCaches(writer);
+  }
+
+ private
+  void collectExecutors(PrometheusWriter writer) {
+    writer.family("auth_executor_pending_tasks", "gauge",
+                  "Tasks waiting in the queues of an executor group.");
+    for (Map.Entry<String, EventExecutorGroup> entry :
+         executorGroups.entrySet()) {
+      long pending = 0;
+      Iterator<EventExecutor> executors = entry.getValue().iterator();
+      while (executors.hasNext()) {
+        EventExecutor executor = executors.next();
+        if (executor instanceof SingleThreadEventExecutor) {
+          pending += ((SingleThreadEventExecutor)executor).pendingTasks();
+        }
+      }
+      writer.sample("auth_executor_pending_tasks",
+                    PrometheusWriter.label("executor", entry.getKey()),
+                    pending);
+    }
+  }
+
+ private
+  void collectLdapPools(PrometheusWriter writer) {
+    List<LdapConnectionPool> pools = new ArrayList<>();
+    if (LdapConnectionManager.getPool() != null) {
+      pools.add(LdapConnectionManager.getPool());
+    }
+    pools.addAll(LdapConnectionManager.getReadPools());
+
+    writer.family("auth_ldap_pool_connections", "gauge",
+                  "Connections of an LDAP pool by state.");
+    for (LdapConnectionPool pool : pools) {
+      String name = PrometheusWriter.label("pool", pool.getName());
+      writer.sample("auth_ldap_pool_connections", name + ",state=\"active\"",
+                    pool.getActiveCount());
+      writer.sample("auth_ldap_pool_connections", name + ",state=\"idle\"",
+                    pool.getIdleCount());
+    }
+
+    writer.family("auth_ldap_pool_max_connections", "gauge",
+                  "Maximum number of connections of an LDAP pool.");
+    for (LdapConnectionPool pool : pools) {
+      writer.sample("auth_ldap_pool_max_connections",
+                    PrometheusWriter.label("pool", pool.getName()),
+                    pool.getMaxConnections());
+    }
+
+    writer.family("auth_ldap_pool_waiters", "gauge",
+                  "Callers waiting for a connection of an LDAP pool.");
+    for (LdapConnectionPool pool : pools) {
+      writer.sample("auth_ldap_pool_waiters",
+                    PrometheusWriter.label("pool", pool.getName()),
+                    pool.getWaiterCount());
+    }
+
+    writer.family("auth_ldap_pool_circuit_open", "gauge",
+                  "1 if requests to the LDAP server of a pool are failed " +
+                      "without connecting.");
+    for (LdapConnectionPool pool : pools) {
+      writer.sample("auth_ldap_pool_circuit_open",
+                    PrometheusWriter.label("pool", pool.getName()),
+                    pool.isCircuitOpen() ? 1 : 0);
+    }
+
+    writer.family("auth_ldap_pool_errors_total", "counter",
+                  "Failed connection requests and discarded connections " +
+                      "of an LDAP pool.");
+    for (LdapConnectionPool pool : pools) {
+      String name = PrometheusWriter.label("pool", pool.getName());
+      writer.sample("auth_ldap_pool_errors_total",
+                    name + ",error=\"acquire_timeout\"",
+                    pool.getAcquireTimeoutCount());
+      writer.sample("auth_ldap_pool_errors_total",
+                    name + ",error=\"circuit_open\"", pool.getRejectedCount());
+      writer.sample("auth_ldap_pool_errors_total",
+                    name + ",error=\"discarded\"", pool.getDiscardedCount());
+    }
+
+    writer.family("auth_ldap_pool_acquire_duration_seconds", "histogram",
+                  "Time to acquire a connection of an LDAP pool.");
+    for (LdapConnectionPool pool : pools) {
+      writer.histogram("auth_ldap_pool_acquire_duration_seconds",
+                       PrometheusWriter.label("pool", pool.getName()),
+                       pool.getAcquireLatency().snapshot());
+    }
+  }
+
+ private
+  void collectCaches(PrometheusWriter writer) {
+    writer.family("auth_cache_hits_total", "counter",
+                  "Lookups found in a cache.");
+    writer.sample("auth_cache_hits_total", "cache=\"access_key\"",
+                  AccessKeyCache.getHitCount());
+    writer.sample("auth_cache_hits_total", "cache=\"requestor\"",
+                  RequestorCache.getHitCount());
+    writer.sample("auth_cache_hits_total", "cache=\"signing_key\"",
+                  SigningKeyCache.getHitCount());
+    writer.sample("auth_cache_hits_total", "cache=\"acl\"",
+                  AccessControlPolicyCache.getHitCount());
+    writer.sample("auth_cache_hits_total", "cache=\"bucket_policy\"",
+                  BucketPolicyCache.getHitCount());
+    writer.sample("auth_cache_hits_total", "cache=\"principal\"",
+                  PrincipalCache.getHitCount());
+
+    writer.family("auth_cache_misses_total", "counter",
+                  "Lookups not found in a cache.");
+    writer.sample("auth_cache_misses_total", "cache=\"access_key\"",
+                  AccessKeyCache.getMissCount());
+    writer.sample("auth_cache_misses_total", "cache=\"requestor\"",
+                  RequestorCache.getMissCount());
+    writer.sample("auth_cache_misses_total", "cache=\"signing_key\"",
+                  SigningKeyCache.getMissCount());
+    writer.sample("auth_cache_misses_total", "cache=\"acl\"",
+                  AccessControlPolicyCache.getMissCount());
+    writer.sample("auth_cache_misses_total", "cache=\"bucket_policy\"",
+                  BucketPolicyCache.getMissCount());
+    writer.sample("auth_cache_misses_total", "cache=\"principal\"",
+                  PrincipalCache.getMissCount());
+  }
+}
@@ -27,12 +27,15 @@ import static io.netty.handler.codec.http.HttpHeaders.Names.CONTENT_TYPE;
 import com.seagates3.controller.FaultPointsController;
 import com.seagates3.controller.IAMController;
 import com.seagates3.controller.SAMLWebSSOController;
+import com.seagates3.dao.ldap.LdapAsyncSearcher;
+import com.seagates3.perf.MetricsRegistry;
 import com.seagates3.response.ServerResponse;
 import com.seagates3.response.generator.FaultPointsResponseGenerator;
 import com.seagates3.response.generator.ResponseGenerator;
 import com.seagates3.util.BinaryUtil;
 
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -40,8 +43,13 @@ import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpVersion;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.seagates3.util.BinaryUtil;
@@ -51,15 +59,26 @@ public class AuthServerPostHandler {
     private final Logger LOGGER = LoggerFactory.getLogger(
             AuthServerHandler.class.getName());
 
+    /**
+     * Actions served without a mapping in routes.json.
+     */
+    private static final Set<String> SERVED_ACTIONS = new HashSet<>(
+            Arrays.asList("AuthenticateUser", "AuthorizeUser",
+                    "AuthenticateAndAuthorize", "ValidateACL",
+                    "ValidatePolicy", "InjectFault", "ResetFault"));
+
     final ChannelHandlerContext ctx;
     final FullHttpRequest httpRequest;
     final Boolean keepAlive;
+    private final long startTime;
+    private String requestAction;
 
     public AuthServerPostHandler(ChannelHandlerContext ctx,
             FullHttpRequest httpRequest) {
         this.httpRequest = httpRequest;
         this.ctx = ctx;
         keepAlive = HttpHeaders.isKeepAlive(httpRequest);
+        startTime = System.nanoTime();
     }
 
     public void run() {
@@ -81,14 +100,23 @@ public class AuthServerPostHandler {
         } else {
             ServerResponse serverResponse;
             String action = requestBody.get("Action");
+            requestAction = action;
             if (action == null) {
                 LOGGER.debug("Request action can not be null.");
                 returnHTTPResponse(new ResponseGenerator().badRequest());
                 return;
             }
+            if (!isSupportedAction(action)) {
+                LOGGER.debug("Action not supported: " + action);
+                returnHTTPResponse(new ResponseGenerator().invalidAction());
+                return;
+            }
             LOGGER.debug("Requested action: " + action);
             if (isFiRequest(action)) {
                 serverResponse = serveFiRequest(requestBody);
+            } else if (LdapAsyncSearcher.isEnabled()) {
+                serveIamRequestAsync(requestBody);
+                return;
             } else {
                 serverResponse = serveIamRequest(requestBody);
             }
@@ -99,23 +127,27 @@ public class AuthServerPostHandler {
 
     /**
      * Read the requestResponse object and send the response to the client.
+     * The body is encoded into a buffer of the channel allocator, which is
+     * pooled with the epoll transport.
      */
-    private void returnHTTPResponse(ServerResponse requestResponse) {
+    protected void returnHTTPResponse(ServerResponse requestResponse) {
         String responseBody = requestResponse.getResponseBody();
+        ByteBuf content = ctx.alloc().buffer(responseBody.length());
+        ByteBufUtil.writeUtf8(content, responseBody);
         FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
-                requestResponse.getResponseStatus(),
-                Unpooled.wrappedBuffer(responseBody.getBytes(StandardCharsets.UTF_8))
-        );
+                requestResponse.getResponseStatus(), content);
         response.headers().set(CONTENT_TYPE, "text/xml");
         response.headers().set(CONTENT_LENGTH, response.content().readableBytes());
 
         returnHTTPResponse(response);
     }
 
-    private void returnHTTPResponse(FullHttpResponse response) {
+    protected void returnHTTPResponse(FullHttpResponse response) {
 
         LOGGER.info("Sending HTTP Response code [" +
                                response.getStatus() + "]");
+        MetricsRegistry.recordResponse(getMetricsAction(requestAction),
+                response.getStatus().code(), System.nanoTime() - startTime);
 
         if (!keepAlive) {
             ctx.write(response).addListener(ChannelFutureListener.CLOSE);
@@ -131,9 +163,28 @@ public class AuthServerPostHandler {
         }
     }
 
-    private Map<String, String> getHttpRequestBodyAsMap() {
-        AuthRequestDecoder decoder = new AuthRequestDecoder(httpRequest);
-        return decoder.getRequestBodyAsMap();
+    protected Map<String, String> getHttpRequestBodyAsMap() {
+        return AuthRequestDecoder.decodeRequestBody(httpRequest);
+    }
+
+    /**
+     * Actions which can be requested on this endpoint.
+     */
+    protected boolean isSupportedAction(String action) {
+        return true;
+    }
+
+    /**
+     * Return the action to label the metrics of a request with. Actions the
+     * server does not know are counted as "unknown", so that clients sending
+     * arbitrary actions cannot grow the metrics.
+     */
+    static String getMetricsAction(String action) {
+        if (action == null || SERVED_ACTIONS.contains(action)
+                || IAMResourceMapper.isMapped(action)) {
+            return action;
+        }
+        return "unknown";
     }
 
     private boolean isFiRequest(String request) {
@@ -163,4 +214,39 @@ public class AuthServerPostHandler {
         IAMController iamController = new IAMController();
         return iamController.serve(httpRequest, requestBody);
     }
+
+    /**
+     * Serve the IAM request and send the response once it completes. The
+     * response of a request waiting on LDAP is generated and sent on the
+     * executor of the channel, with the request id of this request.
+     */
+    private void serveIamRequestAsync(Map<String, String> requestBody) {
+        final String reqId = AuthServerConfig.getReqId();
+        Executor executor = new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                ctx.executor().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        AuthServerConfig.setReqId(reqId);
+                        command.run();
+                    }
+                });
+            }
+        };
+
+        CompletableFuture<ServerResponse> response = new IAMController()
+                .serveAsync(httpRequest, requestBody, executor);
+        response.whenComplete(new BiConsumer<ServerResponse, Throwable>() {
+            @Override
+            public void accept(ServerResponse serverResponse, Throwable ex) {
+                if (ex != null) {
+                    LOGGER.error("Failed to serve request. " + ex);
+                    serverResponse = new ResponseGenerator()
+                            .internalServerError();
+                }
+                returnHTTPResponse(serverResponse);
+            }
+        });
+    }
 }
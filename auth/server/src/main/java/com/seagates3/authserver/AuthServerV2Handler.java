@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authserver;
+
+import static io.netty.handler.codec.http.HttpHeaders.Names.CONTENT_LENGTH;
+import static io.netty.handler.codec.http.HttpHeaders.Names.CONTENT_TYPE;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.seagates3.response.ServerResponse;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+
+/**
+ * Serve AuthenticateUser, AuthorizeUser and AuthenticateAndAuthorize requests
+ * of the binary protocol (POST /v2/auth). Requests and responses are protobuf
+ * messages, see authserver.proto. Requests are served by IAMController like
+ * the url-encoded ones, without decoding a form or writing XML.
+ */
+public
+class AuthServerV2Handler extends AuthServerPostHandler {
+
+ public
+  static final String URI = "/v2/auth";
+
+ private
+  final Logger LOGGER =
+      LoggerFactory.getLogger(AuthServerV2Handler.class.getName());
+
+ public
+  AuthServerV2Handler(ChannelHandlerContext ctx, FullHttpRequest httpRequest) {
+    super(ctx, httpRequest);
+  }
+
+  /**
+   * True if the request is sent to the binary protocol endpoint.
+   */
+ public
+  static boolean accepts(FullHttpRequest httpRequest) {
+    String uri = httpRequest.getUri();
+    return uri.startsWith(URI) &&
+           (uri.length() == URI.length() || uri.charAt(URI.length()) == '?');
+  }
+
+  /**
+   * Decode the AuthRequest. A malformed message is answered like a request
+   * without an action.
+   */
+  @Override protected Map<String, String> getHttpRequestBodyAsMap() {
+    try {
+      return AuthProtobufCodec.decodeRequest(httpRequest.content());
+    }
+    catch (IllegalArgumentException ex) {
+      LOGGER.debug("Malformed request message. " + ex.getMessage());
+      return Collections.emptyMap();
+    }
+  }
+
+  @Override protected boolean isSupportedAction(String action) {
+    return "AuthenticateUser".equals(action) ||
+           "AuthorizeUser".equals(action) ||
+           "AuthenticateAndAuthorize".equals(action);
+  }
+
+  @Override protected void returnHTTPResponse(ServerResponse requestResponse) {
+    ByteBuf content = ctx.alloc().buffer();
+    AuthProtobufCodec.encodeResponse(requestResponse, content);
+    FullHttpResponse response = new DefaultFullHttpResponse(
+        HttpVersion.HTTP_1_1, requestResponse.getResponseStatus(), content);
+    response.headers().set(CONTENT_TYPE, AuthProtobufCodec.CONTENT_TYPE);
+    response.headers().set(CONTENT_LENGTH, content.readableBytes());
+
+    returnHTTPResponse(response);
+  }
+}
@@ -27,6 +27,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * IAM APIs do not follow restful architecture. IAM requests are HTTP POST
@@ -39,10 +40,11 @@ public class IAMResourceMapper {
 
     private static final String ROUTES_CONFIG_FILE = "/IAMroutes.json";
 
-    private static HashMap<String, String> routeConfigs;
+    private static HashMap<String, ResourceMap> routeConfigs;
 
     /**
-     * Read the handler mapping rules from routes.json.
+     * Read the handler mapping rules from routes.json and resolve the
+     * controller and validator of every action.
      *
      * @throws java.io.UnsupportedEncodingException
      */
@@ -51,7 +53,14 @@ public class IAMResourceMapper {
                IAMResourceMapper.class.getResourceAsStream(ROUTES_CONFIG_FILE);
            InputStreamReader reader = new InputStreamReader(in, "UTF-8")) {
         Gson gson = new Gson();
-        routeConfigs = gson.fromJson(reader, HashMap.class);
+        HashMap<String, String> routes = gson.fromJson(reader, HashMap.class);
+        HashMap<String, ResourceMap> resourceMaps = new HashMap<>();
+        for (Map.Entry<String, String> route : routes.entrySet()) {
+          String[] tokens = route.getValue().split("#", 2);
+          resourceMaps.put(route.getKey(),
+                           new ResourceMap(tokens[0], tokens[1]));
+        }
+        routeConfigs = resourceMaps;
        }
        catch (IOException e) {
          // Do nothing
@@ -71,15 +80,24 @@ public class IAMResourceMapper {
      */
     public static ResourceMap getResourceMap(String action)
             throws AuthResourceNotFoundException {
-        String controllerAction = routeConfigs.get(action);
+        ResourceMap resourceMap = routeConfigs.get(action);
 
-        if (controllerAction == null) {
+        if (resourceMap == null) {
             String errorMessage = "Requested operation " + action
                     + " is not supported.";
             throw new AuthResourceNotFoundException(errorMessage);
         }
 
-        String[] tokens = controllerAction.split("#", 2);
-        return new ResourceMap(tokens[0], tokens[1]);
+        return resourceMap;
+    }
+
+    /**
+     * Return true if the action is mapped to a controller.
+     *
+     * @param action
+     * @return True if routes.json has the action.
+     */
+    public static boolean isMapped(String action) {
+        return routeConfigs != null && routeConfigs.containsKey(action);
     }
 }
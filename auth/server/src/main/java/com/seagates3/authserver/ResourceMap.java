@@ -20,19 +20,61 @@
 
 package com.seagates3.authserver;
 
+import com.seagates3.model.Requestor;
+import com.seagates3.response.ServerResponse;
+import com.seagates3.util.IEMUtil;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
 import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Controller and parameter validator of an IAM action.
+ *
+ * The validator method and the controller constructor and action are resolved
+ * once when the map is created. Dispatching a request invokes the resolved
+ * method handles directly instead of looking up the classes and methods
+ * through reflection on every request.
+ */
 public class ResourceMap {
 
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ResourceMap.class.getName());
+
+    private static final MethodType VALIDATOR_TYPE =
+            MethodType.methodType(Boolean.class, Map.class);
+    private static final MethodType CONTROLLER_TYPE =
+            MethodType.methodType(void.class, Requestor.class, Map.class);
+    private static final MethodType ACTION_TYPE =
+            MethodType.methodType(ServerResponse.class);
+
     private final String controllerName;
     private final String action;
 
     private final String VALIDATOR_PACKAGE = "com.seagates3.parameter.validator";
     private final String CONTROLLER_PACKAGE = "com.seagates3.controller";
 
+    /**
+     * (Map) -> Boolean, bound to the validator instance. Null if the validator
+     * could not be resolved.
+     */
+    private final MethodHandle validator;
+
+    /**
+     * (Requestor, Map) -> ServerResponse. Creates the controller and invokes
+     * the action. Null if the controller could not be resolved.
+     */
+    private final MethodHandle controller;
+
     public ResourceMap(String controllerName, String action) {
         this.controllerName = controllerName;
         this.action = action;
+
+        validator = resolveValidator();
+        controller = resolveController();
     }
 
     /**
@@ -73,4 +115,96 @@ public class ResourceMap {
         return String.format("isValid%sParams", StringUtils.capitalize(action));
     }
 
+    /**
+     * Validate the request parameters.
+     *
+     * @param requestBody
+     * @return False if the parameters are invalid or the validator could not
+     * be resolved.
+     */
+    public Boolean validate(Map<String, String> requestBody) {
+        if (validator == null) {
+            return false;
+        }
+
+        try {
+            Boolean isValidRequest = (Boolean) validator.invokeExact(requestBody);
+            return isValidRequest == null ? false : isValidRequest;
+        } catch (Throwable ex) {
+            LOGGER.error("Exception: ", ex);
+        }
+
+        return false;
+    }
+
+    /**
+     * Create the controller for the requestor and perform the action.
+     *
+     * @param requestor
+     * @param requestBody
+     * @return Server response or null if the action failed or the controller
+     * could not be resolved.
+     */
+    public ServerResponse perform(Requestor requestor,
+            Map<String, String> requestBody) {
+        if (controller == null) {
+            return null;
+        }
+
+        try {
+            return (ServerResponse) controller.invokeExact(requestor,
+                    requestBody);
+        } catch (Throwable ex) {
+            LOGGER.error("Exception: ", ex);
+        }
+
+        return null;
+    }
+
+    private MethodHandle resolveValidator() {
+        try {
+            Class<?> validatorClass = Class.forName(getParamValidatorClass());
+            return MethodHandles.lookup()
+                    .findVirtual(validatorClass, getParamValidatorMethod(),
+                            VALIDATOR_TYPE)
+                    .bindTo(validatorClass.newInstance());
+        } catch (ClassNotFoundException ex) {
+            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.CLASS_NOT_FOUND_EX,
+                    "Failed to get required class",
+                    String.format("\"cause\": \"%s\"", ex.getCause()));
+        } catch (NoSuchMethodException ex) {
+            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.NO_SUCH_METHOD_EX,
+                    "Failed to invoke method",
+                    String.format("\"cause\": \"%s\"", ex.getCause()));
+        } catch (SecurityException | IllegalAccessException
+                | InstantiationException ex) {
+            LOGGER.error("Exception: ", ex);
+        }
+
+        return null;
+    }
+
+    private MethodHandle resolveController() {
+        try {
+            Class<?> controllerClass = Class.forName(getControllerClass());
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle constructor = lookup.findConstructor(controllerClass,
+                    CONTROLLER_TYPE);
+            MethodHandle actionMethod = lookup.findVirtual(controllerClass,
+                    action, ACTION_TYPE);
+            return MethodHandles.filterReturnValue(constructor, actionMethod);
+        } catch (ClassNotFoundException ex) {
+            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.CLASS_NOT_FOUND_EX,
+                    "Failed to get required class",
+                    String.format("\"cause\": \"%s\"", ex.getCause()));
+        } catch (NoSuchMethodException ex) {
+            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.NO_SUCH_METHOD_EX,
+                    "Failed to invoke method",
+                    String.format("\"cause\": \"%s\"", ex.getCause()));
+        } catch (SecurityException | IllegalAccessException ex) {
+            LOGGER.error("Exception: ", ex);
+        }
+
+        return null;
+    }
 }
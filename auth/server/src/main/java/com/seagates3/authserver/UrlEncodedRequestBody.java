@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authserver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Parameters of an application/x-www-form-urlencoded request body.
+ *
+ * The body is copied once out of the request buffer and percent-decoded in
+ * place. Every parameter is kept as offsets into the decoded bytes and is
+ * indexed in an open addressing table by a case-insensitive hash of its name.
+ * Names and values are converted to strings when they are looked up.
+ *
+ * Like AuthRequestDecoder, names are case-insensitive and the values of
+ * repeated x-amz- parameters are joined with a comma. Other repeated
+ * parameters keep the last value.
+ *
+ * Lookups do not create a map. Iterating or modifying the parameters copies
+ * them once into a case-insensitive TreeMap, which backs the object from then
+ * on.
+ */
+public
+class UrlEncodedRequestBody extends AbstractMap<String, String> {
+
+ private
+  static final String AMZ_PREFIX = "x-amz-";
+
+  /**
+   * Percent-decoded names and values.
+   */
+ private
+  final byte[] data;
+
+  /**
+   * Start and end offsets in data of every parameter name and value, in the
+   * order of the body.
+   */
+ private
+  final int[] nameStart;
+ private
+  final int[] nameEnd;
+ private
+  final int[] valueStart;
+ private
+  final int[] valueEnd;
+
+  /**
+   * Next parameter whose value is joined to this one, or -1.
+   */
+ private
+  final int[] nextValue;
+
+  /**
+   * Distinct names. The name of an entry is the name of its first parameter.
+   * Names with non ASCII characters are converted to strings while parsing.
+   */
+ private
+  final int[] entryParam;
+ private
+  final int[] entryHash;
+ private
+  final int[] firstValue;
+ private
+  final int[] lastValue;
+ private
+  final String[] names;
+ private
+  final String[] values;
+ private
+  int entryCount;
+
+  /**
+   * Open addressing table of entry index + 1. Zero marks an empty slot.
+   */
+ private
+  final int[] slots;
+
+ private
+  TreeMap<String, String> map;
+
+ private
+  UrlEncodedRequestBody(byte[] data, int maxParams) {
+    this.data = data;
+    nameStart = new int[maxParams];
+    nameEnd = new int[maxParams];
+    valueStart = new int[maxParams];
+    valueEnd = new int[maxParams];
+    nextValue = new int[maxParams];
+    entryParam = new int[maxParams];
+    entryHash = new int[maxParams];
+    firstValue = new int[maxParams];
+    lastValue = new int[maxParams];
+    names = new String[maxParams];
+    values = new String[maxParams];
+
+    int capacity = Integer.highestOneBit(maxParams * 2 - 1) << 1;
+    slots = new int[Math.max(capacity, 8)];
+  }
+
+  /**
+   * Decode the readable bytes of the buffer. The reader index of the buffer
+   * is not changed.
+   *
+   * @param content Url-encoded request body.
+   * @throws IllegalArgumentException if the body has an invalid percent
+   * escape sequence.
+   */
+ public
+  static UrlEncodedRequestBody decode(ByteBuf content) {
+    byte[] data = new byte[content.readableBytes()];
+    content.getBytes(content.readerIndex(), data);
+
+    int maxParams = 1;
+    for (byte b : data) {
+      if (b == '&') {
+        maxParams++;
+      }
+    }
+
+    UrlEncodedRequestBody body = new UrlEncodedRequestBody(data, maxParams);
+    body.parse();
+    return body;
+  }
+
+ private
+  void parse() {
+    int length = data.length;
+    int read = 0;
+    int write = 0;
+    int params = 0;
+
+    while (read < length) {
+      int start = write;
+      boolean ascii = true;
+      boolean hasValue = false;
+
+      while (read < length) {
+        byte b = data[read];
+        if (b == '=') {
+          read++;
+          hasValue = true;
+          break;
+        }
+        if (b == '&') {
+          break;
+        }
+        read = decodeByte(read, write);
+        ascii &= data[write] >= 0;
+        write++;
+      }
+
+      if (!hasValue && read == length) {
+        // A trailing name without '=' is not a parameter.
+        break;
+      }
+
+      int end = write;
+      int valueBegin = write;
+      boolean endOfBody = false;
+
+      while (read < length) {
+        byte b = data[read];
+        if (b == '&') {
+          read++;
+          break;
+        }
+        if (b == '\r' || b == '\n') {
+          endOfBody = true;
+          break;
+        }
+        read = decodeByte(read, write);
+        write++;
+      }
+
+      if (end > start) {
+        nameStart[params] = start;
+        nameEnd[params] = end;
+        valueStart[params] = valueBegin;
+        valueEnd[params] = write;
+        nextValue[params] = -1;
+        add(params, ascii);
+        params++;
+      }
+
+      if (endOfBody) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Decode the byte at the read offset into the write offset. Return the
+   * offset of the next undecoded byte.
+   */
+ private
+  int decodeByte(int read, int write) {
+    byte b = data[read];
+    if (b == '+') {
+      data[write] = ' ';
+      return read + 1;
+    }
+    if (b != '%') {
+      data[write] = b;
+      return read + 1;
+    }
+
+    int high = read + 2 < data.length ? hexValue(data[read + 1]) : -1;
+    int low = high >= 0 ? hexValue(data[read + 2]) : -1;
+    if (low < 0) {
+      throw new IllegalArgumentException(
+          "Invalid escape sequence at offset " + read + " of request body");
+    }
+    data[write] = (byte)((high << 4) | low);
+    return read + 3;
+  }
+
+ private
+  static int hexValue(byte b) {
+    if (b >= '0' && b <= '9') {
+      return b - '0';
+    }
+    if (b >= 'a' && b <= 'f') {
+      return b - 'a' + 10;
+    }
+    if (b >= 'A' && b <= 'F') {
+      return b - 'A' + 10;
+    }
+    return -1;
+  }
+
+ private
+  void add(int param, boolean ascii) {
+    String name = null;
+    int hash;
+    if (ascii) {
+      hash = hash(data, nameStart[param], nameEnd[param]);
+    } else {
+      name = string(nameStart[param], nameEnd[param]);
+      hash = hash(name);
+    }
+
+    int mask = slots.length - 1;
+    int slot = hash & mask;
+    while (slots[slot] != 0) {
+      int entry = slots[slot] - 1;
+      if (entryHash[entry] == hash && nameEquals(entry, param, name)) {
+        if (isAmzParam(param, name)) {
+          nextValue[lastValue[entry]] = param;
+          lastValue[entry] = param;
+        } else {
+          firstValue[entry] = param;
+          lastValue[entry] = param;
+        }
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    int entry = entryCount++;
+    entryParam[entry] = param;
+    entryHash[entry] = hash;
+    firstValue[entry] = param;
+    lastValue[entry] = param;
+    names[entry] = name;
+    slots[slot] = entry + 1;
+  }
+
+  /**
+   * Compare the name of the entry with the name of a parameter. The name is
+   * null if the parameter name is ASCII.
+   */
+ private
+  boolean nameEquals(int entry, int param, String name) {
+    if (name != null || names[entry] != null) {
+      String paramName =
+          name != null ? name : string(nameStart[param], nameEnd[param]);
+      return paramName.equalsIgnoreCase(getName(entry));
+    }
+
+    int start = nameStart[entryParam[entry]];
+    int length = nameEnd[entryParam[entry]] - start;
+    if (length != nameEnd[param] - nameStart[param]) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (fold((char)data[start + i]) !=
+          fold((char)data[nameStart[param] + i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+ private
+  boolean nameEquals(int entry, String key) {
+    if (names[entry] != null) {
+      return names[entry].equalsIgnoreCase(key);
+    }
+
+    int start = nameStart[entryParam[entry]];
+    int length = nameEnd[entryParam[entry]] - start;
+    if (length != key.length()) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = key.charAt(i);
+      if (data[start + i] != c && fold((char)data[start + i]) != fold(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+ private
+  boolean isAmzParam(int param, String name) {
+    if (name != null) {
+      return name.regionMatches(true, 0, AMZ_PREFIX, 0, AMZ_PREFIX.length());
+    }
+
+    int start = nameStart[param];
+    if (nameEnd[param] - start < AMZ_PREFIX.length()) {
+      return false;
+    }
+    for (int i = 0; i < AMZ_PREFIX.length(); i++) {
+      if (fold((char)data[start + i]) != AMZ_PREFIX.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Case folding of String.CASE_INSENSITIVE_ORDER.
+   */
+ private
+  static char fold(char c) {
+    if (c < 0x80) {
+      return c >= 'A' && c <= 'Z' ? (char)(c + ('a' - 'A')) : c;
+    }
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+
+ private
+  static int hash(byte[] bytes, int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + fold((char)bytes[i]);
+    }
+    return spread(hash);
+  }
+
+ private
+  static int hash(String key) {
+    int hash = 0;
+    for (int i = 0; i < key.length(); i++) {
+      hash = 31 * hash + fold(key.charAt(i));
+    }
+    return spread(hash);
+  }
+
+ private
+  static int spread(int hash) { return hash ^ (hash >>> 16); }
+
+ private
+  String string(int start, int end) {
+    return new String(data, start, end - start, StandardCharsets.UTF_8);
+  }
+
+ private
+  int find(Object key) {
+    if (!(key instanceof String)) {
+      return -1;
+    }
+
+    String name = (String)key;
+    int hash = hash(name);
+    int mask = slots.length - 1;
+    int slot = hash & mask;
+    while (slots[slot] != 0) {
+      int entry = slots[slot] - 1;
+      if (entryHash[entry] == hash && nameEquals(entry, name)) {
+        return entry;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+ private
+  String getName(int entry) {
+    if (names[entry] == null) {
+      int param = entryParam[entry];
+      names[entry] = string(nameStart[param], nameEnd[param]);
+    }
+    return names[entry];
+  }
+
+ private
+  String getValue(int entry) {
+    if (values[entry] != null) {
+      return values[entry];
+    }
+
+    int param = firstValue[entry];
+    String value = string(valueStart[param], valueEnd[param]);
+    if (nextValue[param] >= 0) {
+      StringBuilder joined = new StringBuilder(value);
+      for (param = nextValue[param]; param >= 0; param = nextValue[param]) {
+        joined.append(',').append(string(valueStart[param], valueEnd[param]));
+      }
+      value = joined.toString();
+    }
+    values[entry] = value;
+    return value;
+  }
+
+ private
+  TreeMap<String, String> toMap() {
+    if (map == null) {
+      TreeMap<String, String> parameters =
+          new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+      for (int entry = 0; entry < entryCount; entry++) {
+        parameters.put(getName(entry), getValue(entry));
+      }
+      map = parameters;
+    }
+    return map;
+  }
+
+  @Override public String get(Object key) {
+    if (map != null) {
+      return map.get(key);
+    }
+    int entry = find(key);
+    return entry < 0 ? null : getValue(entry);
+  }
+
+  @Override public boolean containsKey(Object key) {
+    if (map != null) {
+      return map.containsKey(key);
+    }
+    return find(key) >= 0;
+  }
+
+  @Override public int size() {
+    return map != null ? map.size() : entryCount;
+  }
+
+  @Override public String put(String key, String value) {
+    return toMap().put(key, value);
+  }
+
+  @Override public String remove(Object key) { return toMap().remove(key); }
+
+  @Override public void clear() { toMap().clear(); }
+
+  @Override public Set<Map.Entry<String, String>> entrySet() {
+    return toMap().entrySet();
+  }
+}
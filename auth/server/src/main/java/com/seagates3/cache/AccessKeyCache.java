@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.model.AccessKey;
+
+/**
+ * Cache of access keys looked up while authenticating requests, keyed by
+ * access key id.
+ *
+ * Only existing access keys are cached. Controllers which modify or delete an
+ * access key must invalidate it. Changes made through another auth server
+ * instance are picked up once the entry expires.
+ *
+ * The cache is created during startup in main method. Until then every
+ * lookup is a miss and invalidation is a no-op.
+ */
+public
+class AccessKeyCache {
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(AccessKeyCache.class.getName());
+
+ private
+  static ExpiringCache<String, AccessKey> cache;
+
+ private
+  AccessKeyCache() {}
+
+ public
+  static void init() {
+    if (!AuthServerConfig.isAccessKeyCacheEnabled()) {
+      cache = null;
+      LOGGER.info("Access key cache is disabled");
+      return;
+    }
+
+    cache = new ExpiringCache<>(AuthServerConfig.getAccessKeyCacheSize(),
+                                AuthServerConfig.getAccessKeyCacheTTL(),
+                                TimeUnit.SECONDS);
+    LOGGER.info("Created access key cache of size " +
+                AuthServerConfig.getAccessKeyCacheSize() + " with TTL " +
+                AuthServerConfig.getAccessKeyCacheTTL() + " seconds");
+  }
+
+ public
+  static boolean isEnabled() { return cache != null; }
+
+  /**
+   * Return the cached access key or null.
+   */
+ public
+  static AccessKey get(String accessKeyId) {
+    if (cache == null || accessKeyId == null) {
+      return null;
+    }
+    return cache.get(accessKeyId);
+  }
+
+ public
+  static void put(AccessKey accessKey) {
+    if (cache == null || !accessKey.exists()) {
+      return;
+    }
+    cache.put(accessKey.getId(), accessKey);
+  }
+
+ public
+  static void invalidate(String accessKeyId) {
+    if (cache == null || accessKeyId == null) {
+      return;
+    }
+    LOGGER.debug("Invalidating cached access key " + accessKeyId);
+    cache.invalidate(accessKeyId);
+  }
+
+ public
+  static void invalidateAll() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+ public
+  static long getHitCount() { return cache == null ? 0 : cache.getHitCount(); }
+
+ public
+  static long getMissCount() {
+    return cache == null ? 0 : cache.getMissCount();
+  }
+
+ public
+  static long getEvictionCount() {
+    return cache == null ? 0 : cache.getEvictionCount();
+  }
+
+ public
+  static int size() { return cache == null ? 0 : cache.size(); }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, thread safe key value cache whose entries expire after a fixed
+ * time to live.
+ *
+ * Lookups are lock free. When the cache is full, expired entries are purged
+ * first and, if that does not free enough room, about a tenth of the
+ * remaining entries are dropped in iteration order.
+ */
+public
+class ExpiringCache<K, V> {
+
+ private
+  static class Entry<V> {
+    final V value;
+    final long expiresAt;
+
+    Entry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+ private
+  final ConcurrentHashMap<K, Entry<V>> entries;
+ private
+  final int maxEntries;
+ private
+  final long ttlNanos;
+
+ private
+  final AtomicLong hits = new AtomicLong();
+ private
+  final AtomicLong misses = new AtomicLong();
+ private
+  final AtomicLong evictions = new AtomicLong();
+
+  /**
+   * @param maxEntries Maximum number of entries held by the cache.
+   * @param ttl Time to live of an entry.
+   * @param unit Time unit of ttl.
+   */
+ public
+  ExpiringCache(int maxEntries, long ttl, TimeUnit unit) {
+    if (maxEntries <= 0 || ttl <= 0) {
+      throw new IllegalArgumentException(
+          "Cache size and time to live should be positive.");
+    }
+    this.maxEntries = maxEntries;
+    this.ttlNanos = unit.toNanos(ttl);
+    this.entries = new ConcurrentHashMap<>(Math.min(maxEntries, 1024));
+  }
+
+  /**
+   * Return the cached value or null if the key is absent or has expired.
+   */
+ public
+  V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+
+    if (currentTimeNanos() - entry.expiresAt >= 0) {
+      if (entries.remove(key, entry)) {
+        evictions.incrementAndGet();
+      }
+      misses.incrementAndGet();
+      return null;
+    }
+
+    hits.incrementAndGet();
+    return entry.value;
+  }
+
+  /**
+   * Add or replace the value of the key.
+   */
+ public
+  void put(K key, V value) { put(key, value, ttlNanos, TimeUnit.NANOSECONDS); }
+
+  /**
+   * Add or replace the value of the key with its own time to live.
+   */
+ public
+  void put(K key, V value, long ttl, TimeUnit unit) {
+    if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+      makeRoom();
+    }
+    entries.put(key,
+                new Entry<>(value, currentTimeNanos() + unit.toNanos(ttl)));
+  }
+
+ public
+  void invalidate(K key) { entries.remove(key); }
+
+ public
+  void invalidateAll() { entries.clear(); }
+
+ public
+  int size() { return entries.size(); }
+
+ public
+  long getHitCount() { return hits.get(); }
+
+ public
+  long getMissCount() { return misses.get(); }
+
+ public
+  long getEvictionCount() { return evictions.get(); }
+
+  /**
+   * Time source of the cache. Tests override it to move the clock.
+   */
+ protected
+  long currentTimeNanos() { return System.nanoTime(); }
+
+ private
+  void makeRoom() {
+    long now = currentTimeNanos();
+    Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+    while (it.hasNext()) {
+      if (now - it.next().getValue().expiresAt >= 0) {
+        it.remove();
+        evictions.incrementAndGet();
+      }
+    }
+
+    int target = maxEntries - Math.max(1, maxEntries / 10);
+    it = entries.entrySet().iterator();
+    while (entries.size() > target && it.hasNext()) {
+      it.next();
+      it.remove();
+      evictions.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.seagates3.authorization.Authorizer;
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.model.Account;
+import com.seagates3.model.User;
+
+/**
+ * Cache of principals resolved while evaluating bucket policies.
+ *
+ * Three lookups are cached: user ARN to user id, user id to whether the user
+ * is the root user of its account, and canonical id to account. Principals
+ * which do not exist are cached as well, for principalCacheNegativeTTL
+ * seconds, so that a policy naming a deleted user does not cost a directory
+ * search on every request.
+ *
+ * The cache is created during startup in main method. Until then every
+ * lookup is a miss and invalidation is a no-op.
+ */
+public
+class PrincipalCache {
+
+  /**
+   * User id cached for an ARN which does not belong to any user.
+   */
+ public
+  static final String NO_USER_ID = "";
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(PrincipalCache.class.getName());
+
+ private
+  static ExpiringCache<String, String> userIds;
+ private
+  static ExpiringCache<String, Boolean> rootUsers;
+ private
+  static ExpiringCache<String, Account> accounts;
+ private
+  static long negativeTTL;
+
+ private
+  PrincipalCache() {}
+
+ public
+  static void init() {
+    if (!AuthServerConfig.isPrincipalCacheEnabled()) {
+      userIds = null;
+      rootUsers = null;
+      accounts = null;
+      LOGGER.info("Principal cache is disabled");
+      return;
+    }
+
+    int size = AuthServerConfig.getPrincipalCacheSize();
+    int ttl = AuthServerConfig.getPrincipalCacheTTL();
+    negativeTTL = AuthServerConfig.getPrincipalCacheNegativeTTL();
+    userIds = new ExpiringCache<>(size, ttl, TimeUnit.SECONDS);
+    rootUsers = new ExpiringCache<>(size, ttl, TimeUnit.SECONDS);
+    accounts = new ExpiringCache<>(size, ttl, TimeUnit.SECONDS);
+    LOGGER.info("Created principal cache of size " + size + " with TTL " +
+                ttl + " seconds");
+  }
+
+ public
+  static boolean isEnabled() { return userIds != null; }
+
+  /**
+   * Return the id of the user with the ARN, NO_USER_ID if there is no such
+   * user or null if it is not cached.
+   */
+ public
+  static String getUserId(String arn) {
+    if (userIds == null || arn == null) {
+      return null;
+    }
+    return userIds.get(arn);
+  }
+
+  /**
+   * Cache the user found by its ARN. A null or non existing user is cached
+   * as NO_USER_ID.
+   */
+ public
+  static void putUserId(String arn, User user) {
+    if (userIds == null || arn == null) {
+      return;
+    }
+
+    if (user == null || !user.exists()) {
+      userIds.put(arn, NO_USER_ID, negativeTTL, TimeUnit.SECONDS);
+    } else {
+      userIds.put(arn, user.getId());
+    }
+  }
+
+  /**
+   * Return whether the user is a root user or null if it is not cached.
+   */
+ public
+  static Boolean isRootUser(String userId) {
+    if (rootUsers == null || userId == null) {
+      return null;
+    }
+    return rootUsers.get(userId);
+  }
+
+ public
+  static void putRootUser(String userId, User user) {
+    if (rootUsers == null || userId == null || user == null) {
+      return;
+    }
+
+    if (user.exists()) {
+      rootUsers.put(userId, Authorizer.isRootUser(user));
+    } else {
+      rootUsers.put(userId, Boolean.FALSE, negativeTTL, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Return the account with the canonical id or null if it is not cached. The
+   * account returned does not exist if no account has the canonical id.
+   */
+ public
+  static Account getAccount(String canonicalId) {
+    if (accounts == null || canonicalId == null) {
+      return null;
+    }
+    return accounts.get(canonicalId);
+  }
+
+ public
+  static void putAccount(String canonicalId, Account account) {
+    if (accounts == null || canonicalId == null || account == null) {
+      return;
+    }
+
+    if (account.exists()) {
+      accounts.put(canonicalId, account);
+    } else {
+      accounts.put(canonicalId, account, negativeTTL, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Drop the cached ARN and root user entries of the user.
+   */
+ public
+  static void invalidateUser(User user) {
+    if (userIds == null || user == null) {
+      return;
+    }
+    LOGGER.debug("Invalidating cached principal " + user.getId());
+    if (user.getArn() != null) {
+      userIds.invalidate(user.getArn());
+    }
+    if (user.getId() != null) {
+      rootUsers.invalidate(user.getId());
+    }
+  }
+
+ public
+  static void invalidateAccount(String canonicalId) {
+    if (accounts == null || canonicalId == null) {
+      return;
+    }
+    LOGGER.debug("Invalidating cached principal account " + canonicalId);
+    accounts.invalidate(canonicalId);
+  }
+
+ public
+  static void invalidateAll() {
+    if (userIds != null) {
+      userIds.invalidateAll();
+      rootUsers.invalidateAll();
+      accounts.invalidateAll();
+    }
+  }
+
+ public
+  static long getHitCount() {
+    if (userIds == null) {
+      return 0;
+    }
+    return userIds.getHitCount() + rootUsers.getHitCount() +
+        accounts.getHitCount();
+  }
+
+ public
+  static long getMissCount() {
+    if (userIds == null) {
+      return 0;
+    }
+    return userIds.getMissCount() + rootUsers.getMissCount() +
+        accounts.getMissCount();
+  }
+
+ public
+  static long getEvictionCount() {
+    if (userIds == null) {
+      return 0;
+    }
+    return userIds.getEvictionCount() + rootUsers.getEvictionCount() +
+        accounts.getEvictionCount();
+  }
+
+ public
+  static int size() {
+    if (userIds == null) {
+      return 0;
+    }
+    return userIds.size() + rootUsers.size() + accounts.size();
+  }
+}
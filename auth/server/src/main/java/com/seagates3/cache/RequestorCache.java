@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.model.AccessKey;
+import com.seagates3.model.Account;
+import com.seagates3.model.Requestor;
+
+/**
+ * Cache of resolved requestors.
+ *
+ * A requestor is resolved in two steps, user id to user and account name and
+ * account name to account, each backed by its own cache so that users and
+ * accounts can be invalidated independently. The requestor is rebuilt around
+ * the access key of the request on every hit.
+ *
+ * The cache is created during startup in main method. Until then every
+ * lookup is a miss and invalidation is a no-op.
+ */
+public
+class RequestorCache {
+
+ private
+  static class UserIdentity {
+    final String name;
+    final String accountName;
+
+    UserIdentity(String name, String accountName) {
+      this.name = name;
+      this.accountName = accountName;
+    }
+  }
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(RequestorCache.class.getName());
+
+ private
+  static ExpiringCache<String, UserIdentity> users;
+ private
+  static ExpiringCache<String, Account> accounts;
+
+ private
+  RequestorCache() {}
+
+ public
+  static void init() {
+    if (!AuthServerConfig.isRequestorCacheEnabled()) {
+      users = null;
+      accounts = null;
+      LOGGER.info("Requestor cache is disabled");
+      return;
+    }
+
+    int size = AuthServerConfig.getRequestorCacheSize();
+    int ttl = AuthServerConfig.getRequestorCacheTTL();
+    users = new ExpiringCache<>(size, ttl, TimeUnit.SECONDS);
+    accounts = new ExpiringCache<>(size, ttl, TimeUnit.SECONDS);
+    LOGGER.info("Created requestor cache of size " + size + " with TTL " +
+                ttl + " seconds");
+  }
+
+ public
+  static boolean isEnabled() { return users != null; }
+
+  /**
+   * Return the requestor owning the access key or null if it is not cached.
+   */
+ public
+  static Requestor get(AccessKey accessKey) {
+    if (users == null || accessKey.getUserId() == null) {
+      return null;
+    }
+
+    UserIdentity user = users.get(accessKey.getUserId());
+    if (user == null) {
+      return null;
+    }
+
+    Account account = accounts.get(user.accountName);
+    if (account == null) {
+      return null;
+    }
+
+    Requestor requestor = new Requestor();
+    requestor.setAccessKey(accessKey);
+    requestor.setId(accessKey.getUserId());
+    requestor.setName(user.name);
+    requestor.setAccount(account);
+    return requestor;
+  }
+
+ public
+  static void put(Requestor requestor) {
+    if (users == null || !requestor.exists()) {
+      return;
+    }
+
+    Account account = requestor.getAccount();
+    if (account == null || !account.exists()) {
+      return;
+    }
+
+    users.put(requestor.getId(),
+              new UserIdentity(requestor.getName(), account.getName()));
+    accounts.put(account.getName(), account);
+  }
+
+ public
+  static void invalidateUser(String userId) {
+    if (users == null || userId == null) {
+      return;
+    }
+    LOGGER.debug("Invalidating cached user " + userId);
+    users.invalidate(userId);
+  }
+
+ public
+  static void invalidateAccount(String accountName) {
+    if (accounts == null || accountName == null) {
+      return;
+    }
+    LOGGER.debug("Invalidating cached account " + accountName);
+    accounts.invalidate(accountName);
+  }
+
+ public
+  static void invalidateAll() {
+    if (users != null) {
+      users.invalidateAll();
+      accounts.invalidateAll();
+    }
+  }
+
+ public
+  static long getHitCount() {
+    return accounts == null ? 0 : accounts.getHitCount();
+  }
+
+ public
+  static long getMissCount() {
+    return users == null ? 0 : users.getMissCount() + accounts.getMissCount();
+  }
+
+ public
+  static long getEvictionCount() {
+    if (users == null) {
+      return 0;
+    }
+    return users.getEvictionCount() + accounts.getEvictionCount();
+  }
+
+ public
+  static int size() { return users == null ? 0 : users.size(); }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.seagates3.authserver.AuthServerConfig;
+
+/**
+ * Cache of AWS V4 signing keys, keyed by access key id and credential scope.
+ *
+ * A signing key only depends on the secret key and the date, region and
+ * service of the credential scope. The secret key is stored along with the
+ * signing key and compared on every lookup. Entries expire at the next UTC
+ * day boundary, after which clients sign with a new credential scope.
+ *
+ * The cache is created during startup in main method. Until then every
+ * lookup is a miss.
+ */
+public
+class SigningKeyCache {
+
+ private
+  static class SigningKey {
+    final String secretKey;
+    final byte[] key;
+
+    SigningKey(String secretKey, byte[] key) {
+      this.secretKey = secretKey;
+      this.key = key;
+    }
+  }
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(SigningKeyCache.class.getName());
+
+ private
+  static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1);
+
+ private
+  static ExpiringCache<String, SigningKey> cache;
+
+ private
+  SigningKeyCache() {}
+
+ public
+  static void init() {
+    if (!AuthServerConfig.isSigningKeyCacheEnabled()) {
+      cache = null;
+      LOGGER.info("Signing key cache is disabled");
+      return;
+    }
+
+    cache = new ExpiringCache<>(AuthServerConfig.getSigningKeyCacheSize(), 1,
+                                TimeUnit.DAYS);
+    LOGGER.info("Created signing key cache of size " +
+                AuthServerConfig.getSigningKeyCacheSize());
+  }
+
+ public
+  static boolean isEnabled() { return cache != null; }
+
+  /**
+   * Return the signing key derived from the secret key for the credential
+   * scope or null if it is not cached.
+   */
+ public
+  static byte[] get(String accessKeyId, String credentialScope,
+                    String secretKey) {
+    if (cache == null || accessKeyId == null || credentialScope == null) {
+      return null;
+    }
+
+    SigningKey signingKey = cache.get(getKey(accessKeyId, credentialScope));
+    if (signingKey == null || !signingKey.secretKey.equals(secretKey)) {
+      return null;
+    }
+    return signingKey.key;
+  }
+
+ public
+  static void put(String accessKeyId, String credentialScope, String secretKey,
+                  byte[] key) {
+    if (cache == null || accessKeyId == null || credentialScope == null ||
+        secretKey == null || key == null) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    long ttl = MILLIS_PER_DAY - (now % MILLIS_PER_DAY);
+    cache.put(getKey(accessKeyId, credentialScope),
+              new SigningKey(secretKey, key), ttl, TimeUnit.MILLISECONDS);
+  }
+
+ public
+  static void invalidateAll() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+ public
+  static long getHitCount() { return cache == null ? 0 : cache.getHitCount(); }
+
+ public
+  static long getMissCount() {
+    return cache == null ? 0 : cache.getMissCount();
+  }
+
+ public
+  static long getEvictionCount() {
+    return cache == null ? 0 : cache.getEvictionCount();
+  }
+
+ public
+  static int size() { return cache == null ? 0 : cache.size(); }
+
+ private
+  static String getKey(String accessKeyId, String credentialScope) {
+    return accessKeyId + "/" + credentialScope;
+  }
+}
@@ -20,6 +20,7 @@
 
 package com.seagates3.controller;
 
+import com.seagates3.cache.AccessKeyCache;
 import com.seagates3.dao.AccessKeyDAO;
 import com.seagates3.dao.DAODispatcher;
 import com.seagates3.dao.DAOResource;
@@ -155,6 +156,7 @@ public class AccessKeyController extends AbstractController {
         LOGGER.info("Deleting access key");
         try {
             accessKeyDAO.delete(accessKey);
+            AccessKeyCache.invalidate(accessKey.getId());
         } catch (DataAccessException ex) {
             return accessKeyResponseGenerator.internalServerError();
         }
@@ -265,6 +267,7 @@ public class AccessKeyController extends AbstractController {
         if (accessKey.getStatus().compareTo(newStatus) != 0) {
             try {
                 accessKeyDAO.update(accessKey, newStatus);
+                AccessKeyCache.invalidate(accessKey.getId());
             } catch (DataAccessException ex) {
                 return accessKeyResponseGenerator.internalServerError();
             }
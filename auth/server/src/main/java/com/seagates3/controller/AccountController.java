@@ -20,6 +20,9 @@
 
 package com.seagates3.controller;
 
+import com.seagates3.cache.AccessKeyCache;
+import com.seagates3.cache.PrincipalCache;
+import com.seagates3.cache.RequestorCache;
 import com.seagates3.dao.AccessKeyDAO;
 import com.seagates3.dao.AccountDAO;
 import com.seagates3.dao.DAODispatcher;
@@ -350,6 +353,8 @@ public class AccountController extends AbstractController {
             accountDao.deleteOu(account, LDAPUtils.GROUP_OU);
             accountDao.deleteOu(account, LDAPUtils.POLICY_OU);
             accountDao.delete(account);
+            RequestorCache.invalidateAccount(account.getName());
+            PrincipalCache.invalidateAccount(account.getCanonicalId());
         } catch (DataAccessException e) {
             if (e.getLocalizedMessage().contains("subordinate objects must be deleted first")) {
                 return accountResponseGenerator.deleteConflict();
@@ -368,6 +373,7 @@ public class AccountController extends AbstractController {
         AccessKey[] accessKeys = accessKeyDAO.findAll(user);
         for (AccessKey accessKey : accessKeys) {
             accessKeyDAO.delete(accessKey);
+            AccessKeyCache.invalidate(accessKey.getId());
         }
     }
 
@@ -377,6 +383,8 @@ public class AccountController extends AbstractController {
 
         deleteAccessKeys(user);
         userDAO.delete(user);
+        RequestorCache.invalidateUser(user.getId());
+        PrincipalCache.invalidateUser(user);
     }
 
     private void deleteUsers(Account account, String path) throws DataAccessException {
@@ -29,6 +29,7 @@ import com.seagates3.authorization.RootPermissionAuthorizer;
 import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.authserver.IAMResourceMapper;
 import com.seagates3.authserver.ResourceMap;
+import com.seagates3.dao.ldap.LdapAsyncSearcher;
 import com.seagates3.exception.AuthResourceNotFoundException;
 import com.seagates3.exception.InternalServerException;
 import com.seagates3.exception.InvalidAccessKeyException;
@@ -39,17 +40,19 @@ import com.seagates3.exception.InvalidUserException;
 import com.seagates3.model.AccessKey;
 import com.seagates3.model.Account;
 import com.seagates3.model.Requestor;
-import com.seagates3.perf.S3Perf;
+import com.seagates3.perf.PerfRegistry;
+import com.seagates3.perf.RecordingHistogram;
 import com.seagates3.response.ServerResponse;
+import com.seagates3.response.StructuredServerResponse;
 import com.seagates3.response.generator.AuthenticationResponseGenerator;
 import com.seagates3.service.RequestorService;
-import com.seagates3.util.IEMUtil;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,13 +62,13 @@ class IAMController {
  private
   final Logger LOGGER = LoggerFactory.getLogger(IAMController.class.getName());
  private
-  final S3Perf perf;
+  static final RecordingHistogram validationLatency =
+      PerfRegistry.getHistogram("Request validation");
   AuthenticationResponseGenerator responseGenerator;
 
  public
   IAMController() {
     responseGenerator = new AuthenticationResponseGenerator();
-    perf = new S3Perf();
   }
 
   /**
@@ -120,11 +123,10 @@ class IAMController {
       requestor.setAccessKey(akey);
       LOGGER.debug("Calling signature validator.");
 
-      perf.startClock();
+      long startTime = System.nanoTime();
       serverResponse =
           new SignatureValidator().validate(clientRequestToken, requestor);
-      perf.endClock();
-      perf.printTime("Request validation");
+      validationLatency.record(System.nanoTime() - startTime);
 
       if (!serverResponse.getResponseStatus().equals(HttpResponseStatus.OK)) {
         LOGGER.error("Incorrect signature. Request not authenticated");
@@ -209,11 +211,10 @@ class IAMController {
 
       LOGGER.debug("Calling signature validator.");
 
-      perf.startClock();
+      long startTime = System.nanoTime();
       serverResponse =
           new SignatureValidator().validate(clientRequestToken, requestor);
-      perf.endClock();
-      perf.printTime("Request validation");
+      validationLatency.record(System.nanoTime() - startTime);
 
       if (!serverResponse.getResponseStatus().equals(HttpResponseStatus.OK)) {
         LOGGER.error("Incorrect signature. Request not authenticated");
@@ -229,6 +230,11 @@ class IAMController {
 
         return serverResponse;
       }
+
+      if (requestAction.equals("AuthenticateAndAuthorize")) {
+        return authorizeAuthenticated(requestor, clientRequestToken,
+                                      requestBody);
+      }
     } else {
       requestor = new Requestor();
     }
@@ -281,91 +287,180 @@ class IAMController {
   }
 
   /**
-   * Validate the request parameters.
+   * Serve the request without blocking the caller on LDAP searches.
    *
-   * @param resourceMap
+   * Only AuthenticateUser and AuthenticateAndAuthorize, which S3 server sends
+   * for every request, find the requestor asynchronously. All other actions
+   * are served by serve. The response is generated on the executor unless
+   * the requestor was found in the caches.
+   *
+   * @param httpRequest
    * @param requestBody
-   * @return
+   * @param executor Executor to generate the response on.
+   * @return Future of the response. It never fails.
    */
- private
-  Boolean validateRequest(ResourceMap resourceMap,
-                          Map<String, String> requestBody) {
-    Boolean isValidrequest = false;
-    Class < ? > validator;
-    Method method;
-    Object obj;
-    String validatorClass = resourceMap.getParamValidatorClass();
+ public
+  CompletableFuture<ServerResponse> serveAsync(FullHttpRequest httpRequest,
+                                               final Map<String, String>
+                                                   requestBody,
+                                               Executor executor) {
+    String requestAction = requestBody.get("Action");
+    if (!("AuthenticateUser".equals(requestAction) ||
+          "AuthenticateAndAuthorize".equals(requestAction)) ||
+        !LdapAsyncSearcher.isEnabled()) {
+      return CompletableFuture.completedFuture(serve(httpRequest, requestBody));
+    }
 
+    LOGGER.info("Requested action is  - " + requestAction);
+    LOGGER.debug("Parsing Client Request");
+    final ClientRequestToken clientRequestToken;
     try {
-      LOGGER.debug("Calling " + resourceMap.getControllerAction() +
-                   " validator.");
-      validator = Class.forName(validatorClass);
-      obj = validator.newInstance();
-      method =
-          validator.getMethod(resourceMap.getParamValidatorMethod(), Map.class);
-      isValidrequest = (Boolean)method.invoke(obj, requestBody);
+      clientRequestToken = ClientRequestParser.parse(httpRequest, requestBody);
     }
-    catch (ClassNotFoundException ex) {
-      IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.CLASS_NOT_FOUND_EX,
-                  "Failed to get required class",
-                  String.format("\"cause\": \"%s\"", ex.getCause()));
+    catch (InvalidAccessKeyException ex) {
+      LOGGER.debug(ex.getServerResponse().getResponseBody());
+      return CompletableFuture.completedFuture(ex.getServerResponse());
     }
-    catch (NoSuchMethodException ex) {
-      IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.NO_SUCH_METHOD_EX,
-                  "Failed to invoke method",
-                  String.format("\"cause\": \"%s\"", ex.getCause()));
+    catch (InvalidArgumentException ex) {
+      LOGGER.debug(ex.getServerResponse().getResponseBody());
+      return CompletableFuture.completedFuture(ex.getServerResponse());
     }
-    catch (SecurityException | IllegalAccessException |
-           IllegalArgumentException | InvocationTargetException |
-           InstantiationException ex) {
-      LOGGER.error("Exception: ", ex);
+
+    if (clientRequestToken == null) {
+      return CompletableFuture.completedFuture(
+          responseGenerator.AccessDenied());
     }
 
-    return isValidrequest;
+    CompletableFuture<Requestor> requestorFuture =
+        RequestorService.getRequestorAsync(clientRequestToken);
+    BiFunction<Requestor, Throwable, ServerResponse> authenticate =
+        new BiFunction<Requestor, Throwable, ServerResponse>() {
+      @Override public ServerResponse apply(Requestor requestor,
+                                            Throwable ex) {
+        if (ex != null) {
+          return getErrorResponse(ex);
+        }
+        return authenticate(clientRequestToken, requestor, requestBody);
+      }
+    };
+
+    if (requestorFuture.isDone()) {
+      return requestorFuture.handle(authenticate);
+    }
+    return requestorFuture.handleAsync(authenticate, executor);
   }
 
   /**
-   * Perform action requested by user.
+   * Validate the signature of the request and generate the AuthenticateUser
+   * or AuthenticateAndAuthorize response.
    */
  private
-  ServerResponse performAction(ResourceMap resourceMap,
-                               Map<String, String> requestBody,
-                               Requestor requestor) {
+  ServerResponse authenticate(ClientRequestToken clientRequestToken,
+                              Requestor requestor,
+                              Map<String, String> requestBody) {
+    LOGGER.debug("Requestor is valid." + requestor);
+    LOGGER.debug("Calling signature validator.");
+
+    long startTime = System.nanoTime();
+    ServerResponse serverResponse =
+        new SignatureValidator().validate(clientRequestToken, requestor);
+    validationLatency.record(System.nanoTime() - startTime);
+    if (!serverResponse.getResponseStatus().equals(HttpResponseStatus.OK)) {
+      LOGGER.error("Incorrect signature. Request not authenticated");
+      return serverResponse;
+    }
 
-    String controllerClassName = resourceMap.getControllerClass();
-    Class < ? > controller;
-    Constructor < ? > controllerConstructor;
-    Method method;
-    Object obj;
+    if ("AuthenticateAndAuthorize".equals(requestBody.get("Action"))) {
+      return authorizeAuthenticated(requestor, clientRequestToken,
+                                    requestBody);
+    }
 
-    try {
-      LOGGER.debug("Calling " + resourceMap.getControllerAction() +
-                   " controller.");
-      controller = Class.forName(controllerClassName);
-      controllerConstructor =
-          controller.getConstructor(Requestor.class, Map.class);
-      obj = controllerConstructor.newInstance(requestor, requestBody);
-
-      method = controller.getMethod(resourceMap.getControllerAction());
-      return (ServerResponse)method.invoke(obj);
+    serverResponse = responseGenerator.generateAuthenticatedResponse(
+        requestor, clientRequestToken);
+    LOGGER.info("Request is authenticated for user: " + requestor.getName() +
+                " account: " + requestor.getAccount().getName());
+    return serverResponse;
+  }
+
+  /**
+   * Authorize the request of an authenticated requestor and generate the
+   * AuthenticateAndAuthorize response. Unlike AuthorizeUser, the requestor
+   * is the one found while authenticating the request, so S3 server does not
+   * send its identity back in a second request.
+   */
+ private
+  ServerResponse authorizeAuthenticated(Requestor requestor,
+                                        ClientRequestToken clientRequestToken,
+                                        Map<String, String> requestBody) {
+    LOGGER.info("Request is authenticated for user: " + requestor.getName() +
+                " account: " + requestor.getAccount().getName());
+
+    ServerResponse serverResponse =
+        new Authorizer().authorize(requestor, requestBody);
+    if (serverResponse == null ||
+        !HttpResponseStatus.OK.equals(serverResponse.getResponseStatus())) {
+      return serverResponse;
     }
-    catch (ClassNotFoundException ex) {
-      IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.CLASS_NOT_FOUND_EX,
-                  "Failed to get required class",
-                  String.format("\"cause\": \"%s\"", ex.getCause()));
+
+    String acl = null;
+    if (serverResponse instanceof StructuredServerResponse) {
+      acl = ((StructuredServerResponse)serverResponse).getElements().get("ACL");
     }
-    catch (NoSuchMethodException ex) {
-      IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.NO_SUCH_METHOD_EX,
-                  "Failed to invoke method",
-                  String.format("\"cause\": \"%s\"", ex.getCause()));
+    return responseGenerator.generateAuthenticatedAndAuthorizedResponse(
+        requestor, clientRequestToken, acl);
+  }
+
+  /**
+   * Return the response of the exception which failed finding the requestor.
+   */
+ private
+  ServerResponse getErrorResponse(Throwable ex) {
+    Throwable cause = ex;
+    if (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
     }
-    catch (SecurityException | IllegalAccessException |
-           IllegalArgumentException | InvocationTargetException |
-           InstantiationException ex) {
-      LOGGER.error("Exception: ", ex);
+
+    ServerResponse serverResponse;
+    if (cause instanceof InvalidAccessKeyException) {
+      serverResponse = ((InvalidAccessKeyException)cause).getServerResponse();
+    } else if (cause instanceof InternalServerException) {
+      serverResponse = ((InternalServerException)cause).getServerResponse();
+    } else if (cause instanceof InvalidRequestorException) {
+      serverResponse = ((InvalidRequestorException)cause).getServerResponse();
+    } else {
+      LOGGER.error("Failed to find requestor. " + cause);
+      return responseGenerator.internalServerError();
     }
 
-    return null;
+    LOGGER.debug(serverResponse.getResponseBody());
+    return serverResponse;
+  }
+
+  /**
+   * Validate the request parameters.
+   *
+   * @param resourceMap
+   * @param requestBody
+   * @return
+   */
+ private
+  Boolean validateRequest(ResourceMap resourceMap,
+                          Map<String, String> requestBody) {
+    LOGGER.debug("Calling " + resourceMap.getControllerAction() +
+                 " validator.");
+    return resourceMap.validate(requestBody);
+  }
+
+  /**
+   * Perform action requested by user.
+   */
+ private
+  ServerResponse performAction(ResourceMap resourceMap,
+                               Map<String, String> requestBody,
+                               Requestor requestor) {
+    LOGGER.debug("Calling " + resourceMap.getControllerAction() +
+                 " controller.");
+    return resourceMap.perform(requestor, requestBody);
   }
 }
 
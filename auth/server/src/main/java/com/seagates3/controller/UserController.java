@@ -20,6 +20,8 @@
 
 package com.seagates3.controller;
 
+import com.seagates3.cache.PrincipalCache;
+import com.seagates3.cache.RequestorCache;
 import com.seagates3.dao.AccessKeyDAO;
 import com.seagates3.dao.DAODispatcher;
 import com.seagates3.dao.DAOResource;
@@ -90,6 +92,7 @@ public class UserController extends AbstractController {
         user.setArn(arn);
         try {
             userDAO.save(user);
+            PrincipalCache.invalidateUser(user);
         } catch (DataAccessException ex) {
             return userResponseGenerator.internalServerError();
         }
@@ -135,6 +138,8 @@ public class UserController extends AbstractController {
 
         try {
             userDAO.delete(user);
+            RequestorCache.invalidateUser(user.getId());
+            PrincipalCache.invalidateUser(user);
         } catch (DataAccessException ex) {
             return userResponseGenerator.internalServerError();
         }
@@ -229,6 +234,8 @@ public class UserController extends AbstractController {
 
         try {
             userDAO.update(user, newUserName, newPath);
+            RequestorCache.invalidateUser(user.getId());
+            PrincipalCache.invalidateUser(user);
         } catch (DataAccessException ex) {
             return userResponseGenerator.internalServerError();
         }
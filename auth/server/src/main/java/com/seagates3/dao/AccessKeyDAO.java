@@ -20,6 +20,8 @@
 
 package com.seagates3.dao;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.seagates3.exception.DataAccessException;
 import com.seagates3.model.AccessKey;
 import com.seagates3.model.User;
@@ -31,6 +33,11 @@ public interface AccessKeyDAO {
      */
     public AccessKey find(String accessKeyId) throws DataAccessException;
 
+    /*
+     * Get the access key details from the database without blocking.
+     */
+    public CompletableFuture<AccessKey> findAsync(String accessKeyId);
+
     public AccessKey findFromToken(String accessKeyId) throws DataAccessException;
 
     /*
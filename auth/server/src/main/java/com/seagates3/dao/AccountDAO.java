@@ -20,6 +20,8 @@
 
 package com.seagates3.dao;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.seagates3.exception.DataAccessException;
 import com.seagates3.model.Account;
 
@@ -45,6 +47,11 @@ public interface AccountDAO {
      */
     public Account find(String name) throws DataAccessException;
 
+    /*
+     * Get the account details from the database without blocking.
+     */
+    public CompletableFuture<Account> findAsync(String name);
+
     /*
      * Add a new entry for the account in the database.
      */
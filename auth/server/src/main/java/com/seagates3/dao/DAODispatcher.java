@@ -23,7 +23,9 @@ package com.seagates3.dao;
 import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.authserver.SSLContextProvider;
 import com.seagates3.dao.ldap.LdapConnectionManager;
+import com.seagates3.dao.memory.MemoryStore;
 import com.seagates3.exception.ServerInitialisationException;
+import java.util.EnumMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -31,6 +33,12 @@ public class DAODispatcher {
 
     private static final String DAO_PACKAGE = "com.seagates3.dao";
     private static DAOProvider provider;
+
+    /**
+     * DAO implementations are stateless. One instance of every DAO of the
+     * provider is created during init and shared by all requests.
+     */
+    private static EnumMap<DAOResource, Object> resourceDAOs;
     private static final Logger LOGGER
             = LogManager.getLogger(SSLContextProvider.class.getName());
 
@@ -38,13 +46,35 @@ public class DAODispatcher {
         String dataSource = AuthServerConfig.getDataSource();
         DAODispatcher.provider = DAOProvider.valueOf(dataSource.toUpperCase());
 
-        if ("LDAP".equals(dataSource.toUpperCase())) {
+        if (provider == DAOProvider.LDAP) {
             LdapConnectionManager.initLdap();
             LOGGER.info("Initialized LDAP");
+        } else if (provider == DAOProvider.MEMORY) {
+            MemoryStore.init();
+            LOGGER.info("Initialized in-memory data source");
+        }
+
+        EnumMap<DAOResource, Object> daos = new EnumMap<>(DAOResource.class);
+        for (DAOResource daoResource : DAOResource.values()) {
+            Object dao = createResourceDAO(daoResource);
+            if (dao != null) {
+                daos.put(daoResource, dao);
+            }
         }
+        resourceDAOs = daos;
     }
 
     public static Object getResourceDAO(DAOResource daoResource) {
+        EnumMap<DAOResource, Object> daos = resourceDAOs;
+        Object dao = daos == null ? null : daos.get(daoResource);
+        if (dao == null) {
+            dao = createResourceDAO(daoResource);
+        }
+
+        return dao;
+    }
+
+    private static Object createResourceDAO(DAOResource daoResource) {
         Class<?> validator;
         Object obj;
         String resourceDAOName = getResourceDAOName(daoResource.toString());
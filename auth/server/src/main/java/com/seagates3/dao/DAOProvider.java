@@ -21,7 +21,8 @@
 package com.seagates3.dao;
 
 public enum DAOProvider {
-    LDAP("Ldap");
+    LDAP("Ldap"),
+    MEMORY("Memory");
 
     private final String className;
 
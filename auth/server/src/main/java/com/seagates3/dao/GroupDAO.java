@@ -66,4 +66,15 @@ public interface GroupDAO {
     public
      Group findByPathAndAccount(Account account,
                                 String path) throws DataAccessException;
+
+     /**
+      * Find group by uri. The AllUsers and AuthenticatedUsers groups are
+      * static and always exist.
+      *
+      * @param uri
+      * @return
+      * @throws DataAccessException
+      */
+    public
+     Group getGroup(String uri) throws DataAccessException;
 }
@@ -20,6 +20,8 @@
 
 package com.seagates3.dao;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.seagates3.exception.DataAccessException;
 import com.seagates3.model.AccessKey;
 import com.seagates3.model.Requestor;
@@ -30,4 +32,9 @@ public interface RequestorDAO {
      * Get the requestor details from the database.
      */
     public Requestor find(AccessKey accessKey) throws DataAccessException;
+
+    /*
+     * Get the requestor details from the database without blocking.
+     */
+    public CompletableFuture<Requestor> findAsync(AccessKey accessKey);
 }
@@ -21,6 +21,9 @@
 package com.seagates3.dao.ldap;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,12 +41,17 @@ import com.seagates3.fi.FaultPoints;
 import com.seagates3.model.AccessKey;
 import com.seagates3.model.AccessKey.AccessKeyStatus;
 import com.seagates3.model.User;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.RecordingHistogram;
 import com.seagates3.util.DateUtil;
 
 public class AccessKeyImpl implements AccessKeyDAO {
 
     private final Logger LOGGER =
             LoggerFactory.getLogger(AccessKeyImpl.class.getName());
+
+    private static final RecordingHistogram FIND_LATENCY =
+            MetricsRegistry.getLdapHistogram("AccessKeyImpl.find");
     /**
      * Search the access key in LDAP.
      *
@@ -71,7 +79,7 @@ public class AccessKeyImpl implements AccessKeyDAO {
         LDAPConnection lc = null;
         try {
 
-          lc = LdapConnectionManager.getConnection();
+          lc = LdapConnectionManager.getReadConnection(accessKeyBaseDN);
 
           if (lc != null && lc.isConnected()) {
 
@@ -81,8 +89,13 @@ public class AccessKeyImpl implements AccessKeyDAO {
               throw new LDAPException();
             }
 
-            ldapResults = lc.search(accessKeyBaseDN, LDAPConnection.SCOPE_SUB,
-                                    filter, attrs, false);
+            long startTime = System.nanoTime();
+            try {
+              ldapResults = lc.search(accessKeyBaseDN,
+                                      LDAPConnection.SCOPE_SUB, filter, attrs,
+                                      false);
+            }
+            finally { FIND_LATENCY.record(System.nanoTime() - startTime); }
           }
           if (ldapResults.hasMore()) {
             LDAPEntry entry;
@@ -95,31 +108,7 @@ public class AccessKeyImpl implements AccessKeyDAO {
                                             ex);
             }
 
-            accessKey.setUserId(
-                entry.getAttribute(LDAPUtils.USER_ID).getStringValue());
-            accessKey.setSecretKey(
-                entry.getAttribute(LDAPUtils.SECRET_KEY).getStringValue());
-            AccessKeyStatus status =
-                AccessKeyStatus.valueOf(entry.getAttribute(LDAPUtils.STATUS)
-                                            .getStringValue()
-                                            .toUpperCase());
-            accessKey.setStatus(status);
-
-            String createTime = DateUtil.toServerResponseFormat(
-                entry.getAttribute(LDAPUtils.CREATE_TIMESTAMP)
-                    .getStringValue());
-            accessKey.setCreateDate(createTime);
-
-            String objectClass =
-                entry.getAttribute(LDAPUtils.OBJECT_CLASS).getStringValue();
-            if (objectClass.equalsIgnoreCase("fedaccesskey")) {
-              String expiry = DateUtil.toServerResponseFormat(
-                  entry.getAttribute(LDAPUtils.EXPIRY).getStringValue());
-
-                accessKey.setExpiry(expiry);
-                accessKey.setToken(
-                    entry.getAttribute(LDAPUtils.TOKEN).getStringValue());
-            }
+            setAccessKeyAttributes(accessKey, entry);
           }
           lc.abandon(ldapResults);
         }
@@ -132,6 +121,69 @@ public class AccessKeyImpl implements AccessKeyDAO {
         return accessKey;
     }
 
+    /**
+     * Search the access key in LDAP without blocking the caller.
+     *
+     * @param accessKeyId
+     * @return Future of the access key. The user id of the access key is not
+     * set if it does not exist.
+     */
+    @Override public CompletableFuture<AccessKey> findAsync(
+        final String accessKeyId) {
+      String[] attrs = {LDAPUtils.USER_ID,         LDAPUtils.SECRET_KEY,
+                        LDAPUtils.EXPIRY,          LDAPUtils.TOKEN,
+                        LDAPUtils.STATUS,          LDAPUtils.CREATE_TIMESTAMP,
+                        LDAPUtils.OBJECT_CLASS};
+
+      String accessKeyBaseDN = String.format(
+          "%s=accesskeys,%s", LDAPUtils.ORGANIZATIONAL_UNIT_NAME,
+          LDAPUtils.BASE_DN);
+
+      String filter =
+          String.format("%s=%s", LDAPUtils.ACCESS_KEY_ID, accessKeyId);
+
+      return LdapAsyncSearcher.search("AccessKeyImpl.findAsync",
+                                      accessKeyBaseDN, LDAPConnection.SCOPE_SUB,
+                                      filter, attrs)
+          .thenApply(new Function<List<LDAPEntry>, AccessKey>() {
+            @Override public AccessKey apply(List<LDAPEntry> entries) {
+              AccessKey accessKey = new AccessKey();
+              accessKey.setId(accessKeyId);
+              if (!entries.isEmpty()) {
+                setAccessKeyAttributes(accessKey, entries.get(0));
+              }
+              return accessKey;
+            }
+          });
+    }
+
+    /**
+     * Copy the attributes of the access key entry to the access key.
+     */
+    private void setAccessKeyAttributes(AccessKey accessKey, LDAPEntry entry) {
+      accessKey.setUserId(
+          entry.getAttribute(LDAPUtils.USER_ID).getStringValue());
+      accessKey.setSecretKey(
+          entry.getAttribute(LDAPUtils.SECRET_KEY).getStringValue());
+      AccessKeyStatus status = AccessKeyStatus.valueOf(
+          entry.getAttribute(LDAPUtils.STATUS).getStringValue().toUpperCase());
+      accessKey.setStatus(status);
+
+      String createTime = DateUtil.toServerResponseFormat(
+          entry.getAttribute(LDAPUtils.CREATE_TIMESTAMP).getStringValue());
+      accessKey.setCreateDate(createTime);
+
+      String objectClass =
+          entry.getAttribute(LDAPUtils.OBJECT_CLASS).getStringValue();
+      if (objectClass.equalsIgnoreCase("fedaccesskey")) {
+        String expiry = DateUtil.toServerResponseFormat(
+            entry.getAttribute(LDAPUtils.EXPIRY).getStringValue());
+
+        accessKey.setExpiry(expiry);
+        accessKey.setToken(entry.getAttribute(LDAPUtils.TOKEN).getStringValue());
+      }
+    }
+
     @Override public AccessKey findFromToken(String secretToken)
         throws DataAccessException {
       AccessKey accKey = new AccessKey();
@@ -151,7 +203,7 @@ public class AccessKeyImpl implements AccessKeyDAO {
       LDAPSearchResults ldapResultsForToken;
 
         try {
-          ldapResultsForToken = LDAPUtils.search(
+          ldapResultsForToken = LDAPUtils.search("AccessKeyImpl.findFromToken",
               accKeyBaseDN, LDAPConnection.SCOPE_SUB, dnfilter, dnattrs);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to find Access Key.");
@@ -259,8 +311,8 @@ public class AccessKeyImpl implements AccessKeyDAO {
         LDAPSearchResults ldapResults;
         try {
 
-            ldapResults = LDAPUtils.search(accessKeyBaseDN,
-                    LDAPConnection.SCOPE_SUB, filter, attrs);
+            ldapResults = LDAPUtils.search("AccessKeyImpl.getCount",
+                    accessKeyBaseDN, LDAPConnection.SCOPE_SUB, filter, attrs);
 
             /**
              * TODO - Replace this iteration with existing getCount method if
@@ -308,7 +360,7 @@ public class AccessKeyImpl implements AccessKeyDAO {
                 LDAPUtils.ACCESS_KEY_ID, accessKey.getId(),
                 LDAPUtils.ORGANIZATIONAL_UNIT_NAME, LDAPUtils.BASE_DN);
         try {
-            LDAPUtils.delete(dn);
+            LDAPUtils.delete("AccessKeyImpl.delete", dn);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to delete access key.");
             throw new DataAccessException("Failed to delete access key" + ex);
@@ -359,7 +411,7 @@ public class AccessKeyImpl implements AccessKeyDAO {
                 attr);
 
         try {
-            LDAPUtils.modify(dn, modify);
+            LDAPUtils.modify("AccessKeyImpl.update", dn, modify);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to update the access key of userId: "
                                              + accessKey.getUserId());
@@ -388,7 +440,8 @@ public class AccessKeyImpl implements AccessKeyDAO {
         );
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("AccessKeyImpl.save",
+                    new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to save access key of userId:"
                                         + accessKey.getUserId());
@@ -424,7 +477,8 @@ public class AccessKeyImpl implements AccessKeyDAO {
         );
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("AccessKeyImpl.save",
+                    new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to save federated access key.");
             throw new DataAccessException("Failed to save federated access key" + ex);
@@ -449,7 +503,7 @@ public class AccessKeyImpl implements AccessKeyDAO {
 
       LDAPSearchResults ldapResults;
       try {
-        ldapResults = LDAPUtils.search(accessKeyBaseDN,
+        ldapResults = LDAPUtils.search("AccessKeyImpl.find", accessKeyBaseDN,
                                        LDAPConnection.SCOPE_SUB, filter, attrs);
       }
       catch (LDAPException ex) {
@@ -21,6 +21,9 @@
 package com.seagates3.dao.ldap;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,12 +38,18 @@ import com.seagates3.dao.AccountDAO;
 import com.seagates3.exception.DataAccessException;
 import com.seagates3.fi.FaultPoints;
 import com.seagates3.model.Account;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.RecordingHistogram;
 
 public class AccountImpl implements AccountDAO {
 
   private
    final Logger LOGGER = LoggerFactory.getLogger(AccountImpl.class.getName());
 
+  private
+   static final RecordingHistogram FIND_LATENCY =
+       MetricsRegistry.getLdapHistogram("AccountImpl.find");
+
     @Override
     public Account findByID(String accountID) throws DataAccessException {
         Account account = new Account();
@@ -55,7 +64,7 @@ public class AccountImpl implements AccountDAO {
 
         LDAPSearchResults ldapResults;
         try {
-          ldapResults = LDAPUtils.search(
+          ldapResults = LDAPUtils.search("AccountImpl.findByID",
               LDAPUtils.BASE_DN, LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to search account details."
@@ -97,7 +106,7 @@ public class AccountImpl implements AccountDAO {
 
         LDAPSearchResults ldapResults;
         try {
-          ldapResults = LDAPUtils.search(
+          ldapResults = LDAPUtils.search("AccountImpl.findByCanonicalID",
               LDAPUtils.BASE_DN, LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
           LOGGER.error("Failed to search account " + "of canonical Id " +
@@ -150,7 +159,7 @@ public class AccountImpl implements AccountDAO {
 
         LOGGER.debug("Searching account: " + name + " filter: " + filter);
         try {
-          lc = LdapConnectionManager.getConnection();
+          lc = LdapConnectionManager.getReadConnection(LDAPUtils.BASE_DN);
 
           if (lc != null && lc.isConnected()) {
 
@@ -160,11 +169,17 @@ public class AccountImpl implements AccountDAO {
               throw new LDAPException();
             }
 
-            ldapResults = lc.search(LDAPUtils.BASE_DN, LDAPConnection.SCOPE_SUB,
-                                    filter, attrs, false);
+            long startTime = System.nanoTime();
+            try {
+              ldapResults = lc.search(LDAPUtils.BASE_DN,
+                                      LDAPConnection.SCOPE_SUB, filter, attrs,
+                                      false);
+            }
+            finally { FIND_LATENCY.record(System.nanoTime() - startTime); }
           }
         } catch (LDAPException ex) {
             LOGGER.error("Failed to search account: " + name);
+            LdapConnectionManager.releaseConnection(lc);
             throw new DataAccessException("failed to search account.\n" + ex);
         }
         try {
@@ -177,37 +192,7 @@ public class AccountImpl implements AccountDAO {
                 }
 
                 LDAPEntry entry = ldapResults.next();
-                account.setId(
-                    entry.getAttribute(LDAPUtils.ACCOUNT_ID).getStringValue());
-                account.setCanonicalId(
-                    entry.getAttribute(LDAPUtils.CANONICAL_ID)
-                        .getStringValue());
-                account.setEmail(
-                    entry.getAttribute(LDAPUtils.EMAIL).getStringValue());
-
-                try {
-                  account.setPassword(
-                      entry.getAttribute(LDAPUtils.PASSWORD).getStringValue());
-                }
-                catch (Exception e) {
-                  LOGGER.debug("Password value not found in ldap");
-                }
-                try {
-                  account.setPwdResetRequired(
-                      entry.getAttribute(LDAPUtils.PASSWORD_RESET_REQUIRED)
-                          .getStringValue());
-                }
-                catch (Exception e) {
-                  LOGGER.debug("pwdReset required value not found in ldap");
-                }
-                try {
-                  account.setProfileCreateDate(
-                      (entry.getAttribute(LDAPUtils.PROFILE_CREATE_DATE)
-                           .getStringValue()));
-                }
-                catch (Exception e) {
-                  LOGGER.debug("profileCreateDate value not found in ldap");
-                }
+                setAccountAttributes(account, entry);
           }
           lc.abandon(ldapResults);
         }
@@ -221,6 +206,73 @@ public class AccountImpl implements AccountDAO {
         return account;
     }
 
+    /**
+     * Search the account in LDAP without blocking the caller.
+     *
+     * @param name Account name
+     * @return Future of the account. The id of the account is not set if it
+     * does not exist.
+     */
+    @Override public CompletableFuture<Account> findAsync(final String name) {
+      String[] attrs = {
+          LDAPUtils.ACCOUNT_ID,          LDAPUtils.CANONICAL_ID,
+          LDAPUtils.PASSWORD,            LDAPUtils.PASSWORD_RESET_REQUIRED,
+          LDAPUtils.PROFILE_CREATE_DATE, LDAPUtils.EMAIL};
+      String filter = String.format(
+          "(&(%s=%s)(%s=%s))", LDAPUtils.ORGANIZATIONAL_NAME, name,
+          LDAPUtils.OBJECT_CLASS, LDAPUtils.ACCOUNT_OBJECT_CLASS);
+
+      LOGGER.debug("Searching account: " + name + " filter: " + filter);
+      return LdapAsyncSearcher.search("AccountImpl.findAsync",
+                                      LDAPUtils.BASE_DN,
+                                      LDAPConnection.SCOPE_SUB, filter, attrs)
+          .thenApply(new Function<List<LDAPEntry>, Account>() {
+            @Override public Account apply(List<LDAPEntry> entries) {
+              Account account = new Account();
+              account.setName(name);
+              if (!entries.isEmpty()) {
+                setAccountAttributes(account, entries.get(0));
+              }
+              return account;
+            }
+          });
+    }
+
+    /**
+     * Copy the attributes of the account entry to the account.
+     */
+   private
+    void setAccountAttributes(Account account, LDAPEntry entry) {
+      account.setId(entry.getAttribute(LDAPUtils.ACCOUNT_ID).getStringValue());
+      account.setCanonicalId(
+          entry.getAttribute(LDAPUtils.CANONICAL_ID).getStringValue());
+      account.setEmail(entry.getAttribute(LDAPUtils.EMAIL).getStringValue());
+
+      try {
+        account.setPassword(
+            entry.getAttribute(LDAPUtils.PASSWORD).getStringValue());
+      }
+      catch (Exception e) {
+        LOGGER.debug("Password value not found in ldap");
+      }
+      try {
+        account.setPwdResetRequired(
+            entry.getAttribute(LDAPUtils.PASSWORD_RESET_REQUIRED)
+                .getStringValue());
+      }
+      catch (Exception e) {
+        LOGGER.debug("pwdReset required value not found in ldap");
+      }
+      try {
+        account.setProfileCreateDate(
+            (entry.getAttribute(LDAPUtils.PROFILE_CREATE_DATE)
+                 .getStringValue()));
+      }
+      catch (Exception e) {
+        LOGGER.debug("profileCreateDate value not found in ldap");
+      }
+    }
+
     /*
      * fetch all accounts from database
      */
@@ -247,8 +299,8 @@ public class AccountImpl implements AccountDAO {
                      accountFilter);
 
         try {
-            ldapResults = LDAPUtils.search(baseDn, LDAPConnection.SCOPE_SUB,
-                    accountFilter, attr);
+            ldapResults = LDAPUtils.search("AccountImpl.findAll", baseDn,
+                    LDAPConnection.SCOPE_SUB, accountFilter, attr);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to fetch accounts.");
             throw new DataAccessException("Failed to fetch accounts.\n" + ex);
@@ -326,7 +378,7 @@ public class AccountImpl implements AccountDAO {
         LOGGER.debug("Saving account dn: " + dn);
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("AccountImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to add new account: " + account.getName());
             throw new DataAccessException("failed to add new account.\n" + ex);
@@ -351,7 +403,7 @@ public class AccountImpl implements AccountDAO {
         LOGGER.debug("Deleting account dn: " + dn);
 
         try {
-            LDAPUtils.delete(dn);
+            LDAPUtils.delete("AccountImpl.delete", dn);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to delete account: " + account.getName());
             throw new DataAccessException("Failed to delete account.\n" + ex);
@@ -375,7 +427,7 @@ public class AccountImpl implements AccountDAO {
         LOGGER.debug("Deleting account dn: " + dn);
 
         try {
-            LDAPUtils.delete(dn);
+            LDAPUtils.delete("AccountImpl.deleteOu", dn);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to delete dn: " + dn);
             throw new DataAccessException("Failed to delete " + ou + " ou.\n" +
@@ -404,7 +456,7 @@ public class AccountImpl implements AccountDAO {
         LOGGER.debug("Creating user dn: " + dn);
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("AccountImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
           LOGGER.error("Failed to create dn: " + dn);
             throw new DataAccessException("failed to create user ou.\n" + ex);
@@ -431,7 +483,7 @@ public class AccountImpl implements AccountDAO {
         LOGGER.debug("Creating role dn: " + dn);
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("AccountImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to create role dn: " + dn);
             throw new DataAccessException("failed to create role ou.\n" + ex);
@@ -460,7 +512,7 @@ public class AccountImpl implements AccountDAO {
         LOGGER.debug("Creating Policy dn: " + dn);
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("AccountImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to create policy dn: " + dn);
             throw new DataAccessException("failed to create policy ou.\n" + ex);
@@ -489,7 +541,7 @@ public class AccountImpl implements AccountDAO {
                 LDAPUtils.GROUP_OU));
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("AccountImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to create groups dn: " + dn);
             throw new DataAccessException("failed to create groups ou.\n" + ex);
@@ -511,7 +563,7 @@ public class AccountImpl implements AccountDAO {
 
       LDAPSearchResults ldapResults;
         try {
-          ldapResults = LDAPUtils.search(
+          ldapResults = LDAPUtils.search("AccountImpl.findByEmailAddress",
               LDAPUtils.BASE_DN, LDAPConnection.SCOPE_SUB, filter, attrs);
         }
         catch (LDAPException ex) {
@@ -77,7 +77,7 @@ class AccountLoginProfileImpl implements AccountLoginProfileDAO {
 
     try {
       LOGGER.info("Modifying dn " + dn);
-      LDAPUtils.modify(dn, modList);
+      LDAPUtils.modify("AccountLoginProfileImpl.save", dn, modList);
     }
     catch (LDAPException ex) {
       LOGGER.error("Failed to modify the details of account: " +
@@ -51,7 +51,7 @@ public class FedUserImpl implements FedUserDAO {
 
         LDAPSearchResults ldapResults;
         try {
-            ldapResults = LDAPUtils.search(ldapBase,
+            ldapResults = LDAPUtils.search("FedUserImpl.find", ldapBase,
                     LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
             throw new DataAccessException("Failed to find federated user details.\n" + ex);
@@ -85,7 +85,7 @@ public class FedUserImpl implements FedUserDAO {
                 user.getId(), user.getAccountName(), LDAPUtils.getBaseDN());
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("FedUserImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             throw new DataAccessException("Failed to save federated user.\n" + ex);
         }
@@ -77,8 +77,9 @@ public class GroupImpl implements GroupDAO {
         LOGGER.debug("Searching group dn: " + ldapBase);
 
         try {
-          ldapResults = LDAPUtils.search(ldapBase, LDAPConnection.SCOPE_SUB,
-                                         filter, attrs);
+          ldapResults = LDAPUtils.search("GroupImpl.find", ldapBase,
+                                         LDAPConnection.SCOPE_SUB, filter,
+                                         attrs);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to find the group: " + groupName);
             throw new DataAccessException("Failed to find the group.\n" + ex);
@@ -137,7 +138,7 @@ public class GroupImpl implements GroupDAO {
         LOGGER.debug("Saving group dn: " + dn);
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("GroupImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to creat the group: " + group.getName());
             throw new DataAccessException("Failed to create group.\n" + ex);
@@ -164,7 +165,8 @@ public class GroupImpl implements GroupDAO {
 
       LDAPSearchResults ldapResults;
       try {
-        ldapResults = LDAPUtils.search(LDAPUtils.BASE_DN,
+        ldapResults = LDAPUtils.search("GroupImpl.findByPath",
+                                       LDAPUtils.BASE_DN,
                                        LDAPConnection.SCOPE_SUB, filter, attrs);
       }
       catch (LDAPException ex) {
@@ -217,7 +219,8 @@ public class GroupImpl implements GroupDAO {
 
       try {
         ldapResults =
-            LDAPUtils.search(ldapBase, LDAPConnection.SCOPE_SUB, filter, attrs);
+            LDAPUtils.search("GroupImpl.findByPathAndAccount", ldapBase,
+                             LDAPConnection.SCOPE_SUB, filter, attrs);
       }
       catch (LDAPException ex) {
         LOGGER.error("Failed to find the group with path - : " + path);
@@ -251,8 +254,7 @@ public class GroupImpl implements GroupDAO {
       * @return matching static group or matching user defined group or null
      * @throws DataAccessException
       */
-   public
-    Group getGroup(String uri) throws DataAccessException {
+   @Override public Group getGroup(String uri) throws DataAccessException {
       Group group = null;
       if (isPartOfAuthenticatedUsersGroup(uri) || isPartOfAllUsersGroup(uri)) {
         group = new Group();
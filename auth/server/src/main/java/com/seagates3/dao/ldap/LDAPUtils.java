@@ -31,6 +31,8 @@ import com.novell.ldap.LDAPException;
 import com.novell.ldap.LDAPModification;
 import com.novell.ldap.LDAPSearchResults;
 import com.seagates3.fi.FaultPoints;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.RecordingHistogram;
 import com.seagates3.util.IEMUtil;
 
 public
@@ -38,6 +40,14 @@ class LDAPUtils {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPUtils.class.getName());
 
+    /**
+     * Latency of the binds. Latencies of the other operations, excluding the
+     * wait for a connection, are recorded under the DAO method which called
+     * them.
+     */
+    private static final RecordingHistogram BIND_LATENCY =
+            MetricsRegistry.getLdapHistogram("LDAPUtils.bind");
+
     public static final String BASE_DN = "dc=s3,dc=seagate,dc=com";
     public static final String ACCESS_KEY_ID = "ak";
     public static final String ACCESS_KEY_OBJECT_CLASS = "accesskey";
@@ -125,6 +135,7 @@ class LDAPUtils {
     /**
      * Search for an entry in LDAP and return the search results.
      *
+     * @param method DAO method searching, e.g. "AccessKeyImpl.find".
      * @param base LDAP Base DN.
      * @param scope LDAP search scope.
      * @param filter LDAP Query filter.
@@ -132,13 +143,14 @@ class LDAPUtils {
      * @return LDAP Search Result.
      * @throws com.novell.ldap.LDAPException
      */
-    public static LDAPSearchResults search(String base, int scope,
-            String filter, String[] attrs) throws LDAPException {
+    public static LDAPSearchResults search(String method, String base,
+            int scope, String filter, String[] attrs) throws LDAPException {
         LDAPConnection lc;
-        lc = LdapConnectionManager.getConnection();
+        lc = LdapConnectionManager.getReadConnection(base);
         LDAPSearchResults ldapSearchResult = null;
 
         if (lc != null && lc.isConnected()) {
+            long startTime = System.nanoTime();
             try {
                 if (FaultPoints.fiEnabled() &&
                         FaultPoints.getInstance().isFaultPointActive("LDAP_SEARCH_FAIL")) {
@@ -157,6 +169,8 @@ class LDAPUtils {
                         String.format("\"cause\": \"%s\"", ldapException.getCause()));
                 throw ldapException;
             } finally {
+                MetricsRegistry.getLdapHistogram(method).record(
+                        System.nanoTime() - startTime);
                 LdapConnectionManager.releaseConnection(lc);
             }
         }
@@ -167,14 +181,17 @@ class LDAPUtils {
     /**
      * Add a new entry into LDAP.
      *
+     * @param method DAO method adding the entry.
      * @param newEntry New Entry
      * @throws com.novell.ldap.LDAPException
      */
-    public static void add(LDAPEntry newEntry) throws LDAPException {
+    public static void add(String method, LDAPEntry newEntry)
+            throws LDAPException {
         LDAPConnection lc;
         lc = LdapConnectionManager.getConnection();
 
         if (lc != null && lc.isConnected()) {
+            long startTime = System.nanoTime();
             try {
                 if (FaultPoints.fiEnabled() &&
                         FaultPoints.getInstance().isFaultPointActive("LDAP_ADD_ENTRY_FAIL")) {
@@ -182,6 +199,7 @@ class LDAPUtils {
                 }
 
                 lc.add(newEntry);
+                LdapConnectionManager.recordWrite(newEntry.getDN());
             } catch (LDAPException ldapException) {
                 LOGGER.error("Error occurred while adding new entry. Cause: "
                         + ldapException.getCause() + ". Message: "
@@ -191,6 +209,8 @@ class LDAPUtils {
                         String.format("\"cause\": \"%s\"", ldapException.getCause()));
                 throw ldapException;
             } finally {
+                MetricsRegistry.getLdapHistogram(method).record(
+                        System.nanoTime() - startTime);
                 LdapConnectionManager.releaseConnection(lc);
             }
         }
@@ -199,14 +219,17 @@ class LDAPUtils {
     /**
      * Delete an entry from LDAP.
      *
+     * @param method DAO method deleting the entry.
      * @param dn Distinguished name of the entry.
      * @throws com.novell.ldap.LDAPException
      */
-    public static void delete(String dn) throws LDAPException {
+    public static void delete(String method, String dn)
+            throws LDAPException {
         LDAPConnection lc;
         lc = LdapConnectionManager.getConnection();
 
         if (lc != null && lc.isConnected()) {
+            long startTime = System.nanoTime();
             try {
                 if (FaultPoints.fiEnabled() &&
                         FaultPoints.getInstance().isFaultPointActive("LDAP_DELETE_ENTRY_FAIL")) {
@@ -214,6 +237,7 @@ class LDAPUtils {
                 }
 
                 lc.delete(dn);
+                LdapConnectionManager.recordWrite(dn);
             } catch (LDAPException ldapException) {
                 LOGGER.error("Error occurred while deleting entry. Cause: "
                         + ldapException.getCause() + ". Message: "
@@ -223,6 +247,8 @@ class LDAPUtils {
                         String.format("\"cause\": \"%s\"", ldapException.getCause()));
                 throw ldapException;
             } finally {
+                MetricsRegistry.getLdapHistogram(method).record(
+                        System.nanoTime() - startTime);
                 LdapConnectionManager.releaseConnection(lc);
             }
         }
@@ -231,16 +257,18 @@ class LDAPUtils {
     /**
      * Modify an entry in LDAP
      *
+     * @param method DAO method modifying the entry.
      * @param dn Distinguished name of the entry.
      * @param modification LDAP modification.
      * @throws com.novell.ldap.LDAPException
      */
-    public static void modify(String dn, LDAPModification modification)
-            throws LDAPException {
+    public static void modify(String method, String dn,
+            LDAPModification modification) throws LDAPException {
         LDAPConnection lc;
         lc = LdapConnectionManager.getConnection();
 
         if (lc != null && lc.isConnected()) {
+            long startTime = System.nanoTime();
             try {
                 if (FaultPoints.fiEnabled() &&
                         FaultPoints.getInstance().isFaultPointActive("LDAP_UPDATE_ENTRY_FAIL")) {
@@ -248,6 +276,7 @@ class LDAPUtils {
                 }
 
                 lc.modify(dn, modification);
+                LdapConnectionManager.recordWrite(dn);
             } catch (LDAPException ldapException) {
                 LOGGER.error("Error occurred while updating entry. Cause: "
                         + ldapException.getCause() + ". Message: "
@@ -257,6 +286,8 @@ class LDAPUtils {
                         String.format("\"cause\": \"%s\"", ldapException.getCause()));
                 throw ldapException;
             } finally {
+                MetricsRegistry.getLdapHistogram(method).record(
+                        System.nanoTime() - startTime);
                 LdapConnectionManager.releaseConnection(lc);
             }
         }
@@ -265,11 +296,13 @@ class LDAPUtils {
     /**
      * Modify an entry in LDAP
      *
+     * @param method DAO method modifying the entry.
      * @param dn Distinguished name of the entry.
      * @param modList Modification list.
      * @throws com.novell.ldap.LDAPException
      */
-    public static void modify(String dn, ArrayList modList) throws LDAPException {
+    public static void modify(String method, String dn, ArrayList modList)
+            throws LDAPException {
         LDAPConnection lc;
         lc = LdapConnectionManager.getConnection();
 
@@ -277,6 +310,7 @@ class LDAPUtils {
         modifications = (LDAPModification[]) modList.toArray(modifications);
 
         if (lc != null && lc.isConnected()) {
+            long startTime = System.nanoTime();
             try {
                 if (FaultPoints.fiEnabled() &&
                         FaultPoints.getInstance().isFaultPointActive("LDAP_UPDATE_ENTRY_FAIL")) {
@@ -284,6 +318,7 @@ class LDAPUtils {
                 }
 
                 lc.modify(dn, modifications);
+                LdapConnectionManager.recordWrite(dn);
             } catch (LDAPException ldapException) {
                 LOGGER.error("Error occurred while updating entry. Cause: "
                         + ldapException.getCause() + ". Message: "
@@ -293,6 +328,8 @@ class LDAPUtils {
                         String.format("\"cause\": \"%s\"", ldapException.getCause()));
                 throw ldapException;
             } finally {
+                MetricsRegistry.getLdapHistogram(method).record(
+                        System.nanoTime() - startTime);
                 LdapConnectionManager.releaseConnection(lc);
             }
         }
@@ -307,9 +344,13 @@ class LDAPUtils {
    public
     static void bind(String dn, String password) throws LDAPException {
       LDAPConnection lc = new LDAPConnection(1000);
-      lc.connect(AuthServerConfig.getLdapHost(),
-                 AuthServerConfig.getLdapPort());
-      lc.bind(dn, password);
+      long startTime = System.nanoTime();
+      try {
+        lc.connect(AuthServerConfig.getLdapHost(),
+                   AuthServerConfig.getLdapPort());
+        lc.bind(dn, password);
+      }
+      finally { BIND_LATENCY.record(System.nanoTime() - startTime); }
       if (lc != null && lc.isConnected()) {
         try {
           if (FaultPoints.fiEnabled() &&
@@ -0,0 +1,474 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.ldap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.novell.ldap.LDAPConnection;
+import com.novell.ldap.LDAPEntry;
+import com.novell.ldap.LDAPException;
+import com.novell.ldap.LDAPMessage;
+import com.novell.ldap.LDAPResponse;
+import com.novell.ldap.LDAPSearchQueue;
+import com.novell.ldap.LDAPSearchResult;
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.fi.FaultPoints;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.RecordingHistogram;
+
+/**
+ * Asynchronous LDAP searches.
+ *
+ * The searcher owns ldapAsyncConnections long-lived connections to the
+ * provider, bound as the auth server admin, and sends the searches round
+ * robin on them without waiting for the result. Message IDs are unique per
+ * client, so any number of searches share a connection. Their message
+ * queues are merged into a single queue. One dispatcher thread reads the
+ * responses of all outstanding searches from that queue and completes the
+ * future of each search once its result arrives, so a handful of threads
+ * can keep hundreds of searches in flight.
+ *
+ * Sending never waits for a connection. If none is connected, the search
+ * fails at once. Connections which were lost are reopened every second.
+ *
+ * Futures are completed on a small callback executor, never on the
+ * dispatcher thread. Searches without a result after ldapAsyncTimeout
+ * milliseconds fail.
+ *
+ * The searcher is created during startup in main method when
+ * enableAsyncLdap is set. Until then, or when it is disabled, every search
+ * fails.
+ */
+public
+class LdapAsyncSearcher {
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(LdapAsyncSearcher.class.getName());
+
+ private
+  static LdapAsyncSearcher searcher;
+
+  /**
+   * Search in flight.
+   *
+   * Whoever removes the search from the pending searches completes it, so a
+   * search is completed once even if its result arrives as it expires.
+   * Entries are only added by the dispatcher before it removes the search.
+   */
+  static class PendingSearch {
+    final CompletableFuture<List<LDAPEntry>> future = new CompletableFuture<>();
+    final List<LDAPEntry> entries = new ArrayList<>();
+    final long startTime = System.nanoTime();
+   private
+    final LDAPConnection connection;
+   private
+    final int messageId;
+   private
+    final RecordingHistogram latency;
+
+    PendingSearch(LDAPConnection connection, int messageId,
+                  RecordingHistogram latency) {
+      this.connection = connection;
+      this.messageId = messageId;
+      this.latency = latency;
+    }
+
+    /**
+     * Ask the server to stop the search, so that it does not keep running
+     * after it timed out.
+     */
+    void abandon() {
+      if (connection == null) {
+        return;
+      }
+      try {
+        connection.abandon(messageId);
+      }
+      catch (LDAPException ex) {
+        LOGGER.debug("Failed to abandon LDAP search. Message: " +
+                     ex.getMessage());
+      }
+    }
+  }
+
+ private
+  final Map<Integer, PendingSearch> pending = new ConcurrentHashMap<>();
+ private
+  final Object lock = new Object();
+ private
+  final ScheduledExecutorService callbackExecutor;
+ private
+  final long timeoutNanos;
+ private
+  final LdapConnectionPool.ConnectionFactory factory;
+ private
+  final AtomicReferenceArray<LDAPConnection> connections;
+ private
+  final AtomicInteger nextConnection = new AtomicInteger();
+ private
+  LDAPSearchQueue queue;
+ private
+  volatile boolean running = true;
+ private
+  Thread dispatcher;
+
+  LdapAsyncSearcher(ScheduledExecutorService callbackExecutor,
+                    long timeoutMillis,
+                    LdapConnectionPool.ConnectionFactory factory,
+                    int connectionCount) {
+    this.callbackExecutor = callbackExecutor;
+    this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    this.factory = factory;
+    this.connections =
+        new AtomicReferenceArray<>(Math.max(1, connectionCount));
+  }
+
+ public
+  static synchronized void init() {
+    if (!AuthServerConfig.isAsyncLdapEnabled()) {
+      LOGGER.info("Asynchronous LDAP search is disabled");
+      return;
+    }
+
+    int threads = AuthServerConfig.getLdapAsyncCallbackThreads();
+    long timeout = AuthServerConfig.getLdapAsyncTimeout();
+    int connectionCount = AuthServerConfig.getLdapAsyncConnections();
+    LdapAsyncSearcher newSearcher = new LdapAsyncSearcher(
+        Executors.newScheduledThreadPool(threads,
+                                         new NamedThreadFactory("ldap-async")),
+        timeout, new LdapConnectionPool.ConnectionFactory() {
+          @Override public LDAPConnection create() throws LDAPException {
+            return LdapConnectionManager.connectAdmin();
+          }
+        }, connectionCount);
+    newSearcher.start();
+    searcher = newSearcher;
+    LOGGER.info("Started asynchronous LDAP search with " + connectionCount +
+                " connections, " + threads + " callback threads and timeout " +
+                timeout + " ms");
+  }
+
+ public
+  static synchronized void shutdown() {
+    if (searcher != null) {
+      searcher.stop();
+      searcher = null;
+    }
+  }
+
+ public
+  static boolean isEnabled() { return searcher != null; }
+
+  /**
+   * Search LDAP without waiting for the result.
+   *
+   * @param method DAO method searching, e.g. "AccessKeyImpl.findAsync".
+   * @return Future of the entries found. It fails with DataAccessException if
+   *         the search can not be sent, the server returns an error or no
+   *         result arrives in time.
+   */
+ public
+  static CompletableFuture<List<LDAPEntry>> search(String method, String base,
+                                                   int scope, String filter,
+                                                   String[] attrs) {
+    LdapAsyncSearcher current = searcher;
+    if (current == null) {
+      return failed(
+          new DataAccessException("Asynchronous LDAP search is disabled."));
+    }
+    return current.send(method, base, scope, filter, attrs);
+  }
+
+  /**
+   * Return a future failed with the exception.
+   */
+  static<T> CompletableFuture<T> failed(Throwable ex) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(ex);
+    return future;
+  }
+
+  void start() {
+    reconnect();
+    dispatcher = new Thread(new Runnable() {
+      @Override public void run() { dispatch(); }
+    }, "ldap-async-dispatcher");
+    dispatcher.setDaemon(true);
+    dispatcher.start();
+
+    callbackExecutor.scheduleWithFixedDelay(new Runnable() {
+      @Override public void run() {
+        expire(System.nanoTime());
+        reconnect();
+      }
+    }, 1, 1, TimeUnit.SECONDS);
+  }
+
+  void stop() {
+    running = false;
+    synchronized(lock) { lock.notifyAll(); }
+    if (dispatcher != null) {
+      dispatcher.interrupt();
+    }
+    failAll(new DataAccessException("Asynchronous LDAP search stopped."));
+    callbackExecutor.shutdown();
+    for (int i = 0; i < connections.length(); i++) {
+      disconnect(connections.getAndSet(i, null));
+    }
+  }
+
+  /**
+   * Open the connections which are missing or were lost.
+   */
+  void reconnect() {
+    for (int i = 0; i < connections.length(); i++) {
+      LDAPConnection lc = connections.get(i);
+      if (lc != null && lc.isConnected()) {
+        continue;
+      }
+      try {
+        LDAPConnection newConnection = factory.create();
+        if (connections.compareAndSet(i, lc, newConnection)) {
+          disconnect(lc);
+        } else {
+          disconnect(newConnection);
+        }
+      }
+      catch (LDAPException ex) {
+        LOGGER.error("Failed to open asynchronous LDAP connection. Message: " +
+                     ex.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Return the next connected connection, round robin, or null if none is.
+   */
+  LDAPConnection nextConnection() {
+    int count = connections.length();
+    int start = (nextConnection.getAndIncrement() & Integer.MAX_VALUE) % count;
+    for (int i = 0; i < count; i++) {
+      LDAPConnection lc = connections.get((start + i) % count);
+      if (lc != null && lc.isConnected()) {
+        return lc;
+      }
+    }
+    return null;
+  }
+
+ private
+  static void disconnect(LDAPConnection lc) {
+    if (lc == null) {
+      return;
+    }
+    try {
+      lc.disconnect();
+    }
+    catch (LDAPException ex) {
+      LOGGER.debug("Failed to disconnect LDAP connection. Message: " +
+                   ex.getMessage());
+    }
+  }
+
+ private
+  CompletableFuture<List<LDAPEntry>> send(String method, String base,
+                                          int scope, String filter,
+                                          String[] attrs) {
+    LDAPConnection lc = nextConnection();
+    if (lc == null) {
+      return failed(new DataAccessException("No LDAP connection available."));
+    }
+
+    try {
+      if (FaultPoints.fiEnabled() &&
+          FaultPoints.getInstance().isFaultPointActive("LDAP_SEARCH_FAIL")) {
+        throw new LDAPException();
+      }
+
+      LDAPSearchQueue searchQueue =
+          lc.search(base, scope, filter, attrs, false, (LDAPSearchQueue)null);
+      int messageId = searchQueue.getMessageIDs()[0];
+      PendingSearch search = new PendingSearch(
+          lc, messageId, MetricsRegistry.getLdapHistogram(method));
+      register(messageId, search);
+
+      synchronized(lock) {
+        if (queue == null) {
+          queue = searchQueue;
+        } else {
+          queue.merge(searchQueue);
+        }
+        lock.notifyAll();
+      }
+      return search.future;
+    }
+    catch (LDAPException ex) {
+      LOGGER.error("Error occurred while sending search. Cause: " +
+                   ex.getCause() + ". Message: " + ex.getMessage());
+      return failed(new DataAccessException("LDAP search failed.\n" + ex));
+    }
+  }
+
+  void register(int messageId, PendingSearch search) {
+    pending.put(messageId, search);
+  }
+
+  int getPendingCount() { return pending.size(); }
+
+ private
+  void dispatch() {
+    while (running) {
+      LDAPSearchQueue current;
+      try {
+        synchronized(lock) {
+          while (running && (queue == null || pending.isEmpty())) {
+            lock.wait();
+          }
+          current = queue;
+        }
+        if (!running) {
+          break;
+        }
+
+        LDAPMessage message = current.getResponse();
+        if (message == null) {
+          // Registered searches not merged into the queue yet.
+          synchronized(lock) { lock.wait(10); }
+          continue;
+        }
+        onMessage(message);
+      }
+      catch (InterruptedException ex) {
+        if (running) {
+          LOGGER.warn("Asynchronous LDAP dispatcher interrupted");
+        }
+      }
+      catch (LDAPException ex) {
+        LOGGER.error("Error occurred while reading search responses. Cause: " +
+                     ex.getCause() + ". Message: " + ex.getMessage());
+      }
+      catch (RuntimeException ex) {
+        LOGGER.error("Unexpected error in asynchronous LDAP dispatcher", ex);
+      }
+    }
+  }
+
+  /**
+   * Add a search entry to its search or complete the search on its final
+   * response. Responses of unknown searches, which timed out, are dropped.
+   */
+  void onMessage(LDAPMessage message) {
+    if (message instanceof LDAPSearchResult) {
+      PendingSearch search = pending.get(message.getMessageID());
+      if (search != null) {
+        search.entries.add(((LDAPSearchResult)message).getEntry());
+      }
+    } else if (message instanceof LDAPResponse) {
+      PendingSearch search = pending.remove(message.getMessageID());
+      if (search == null) {
+        return;
+      }
+      LDAPResponse response = (LDAPResponse)message;
+      int resultCode = response.getResultCode();
+      if (resultCode == LDAPException.SUCCESS) {
+        complete(search, null);
+      } else {
+        LDAPException ex = new LDAPException(
+            LDAPException.resultCodeToString(resultCode), resultCode,
+            response.getErrorMessage(), response.getMatchedDN());
+        LOGGER.error("Error occurred while searching for entry. Message: " +
+                     ex.getMessage());
+        complete(search, new DataAccessException("LDAP search failed.\n" + ex));
+      }
+    }
+  }
+
+  /**
+   * Abandon and fail the searches sent before the timeout.
+   */
+  void expire(long now) {
+    for (Map.Entry<Integer, PendingSearch> entry : pending.entrySet()) {
+      PendingSearch search = entry.getValue();
+      if (now - search.startTime > timeoutNanos &&
+          pending.remove(entry.getKey(), search)) {
+        search.abandon();
+        complete(search, new DataAccessException("LDAP search timed out."));
+      }
+    }
+  }
+
+ private
+  void failAll(DataAccessException ex) {
+    for (Map.Entry<Integer, PendingSearch> entry : pending.entrySet()) {
+      PendingSearch search = entry.getValue();
+      if (pending.remove(entry.getKey(), search)) {
+        search.future.completeExceptionally(ex);
+      }
+    }
+  }
+
+ private
+  void complete(final PendingSearch search, final Exception ex) {
+    search.latency.record(System.nanoTime() - search.startTime);
+    callbackExecutor.execute(new Runnable() {
+      @Override public void run() {
+        if (ex == null) {
+          search.future.complete(search.entries);
+        } else {
+          search.future.completeExceptionally(ex);
+        }
+      }
+    });
+  }
+
+ private
+  static class NamedThreadFactory implements ThreadFactory {
+
+   private
+    final String prefix;
+   private
+    final AtomicInteger count = new AtomicInteger();
+
+    NamedThreadFactory(String prefix) { this.prefix = prefix; }
+
+    @Override public Thread newThread(Runnable runnable) {
+      Thread thread =
+          new Thread(runnable, prefix + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -21,6 +21,15 @@
 package com.seagates3.dao.ldap;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,55 +38,238 @@ import com.novell.ldap.LDAPConnection;
 import com.novell.ldap.LDAPException;
 import com.novell.ldap.LDAPJSSESecureSocketFactory;
 import com.novell.ldap.LDAPSocketFactory;
-import com.novell.ldap.connectionpool.PoolManager;
 import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.exception.ServerInitialisationException;
 import com.seagates3.fi.FaultPoints;
 import com.seagates3.util.IEMUtil;
 
+/**
+ * Connections to the LDAP provider and its read replicas.
+ *
+ * Writes and binds go to the provider at ldapHost. Searches go to the
+ * replica with the fewest outstanding requests among those whose circuit
+ * breaker is closed, or to the provider if no replica is configured or
+ * healthy. For ldapReadAfterWriteWindow milliseconds after an entry was
+ * written, searches based on the entry, its parents or its children also go
+ * to the provider so that they see the write before it replicated.
+ */
 public class LdapConnectionManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LdapConnectionManager.class.getName());
-    static PoolManager ldapPool;
-    static String ldapLoginDN, ldapLoginPW;
+    static LdapConnectionPool ldapPool;
+    static List<LdapConnectionPool> readPools =
+            Collections.<LdapConnectionPool>emptyList();
+    static LDAPSocketFactory socketFactory;
+    static String ldapHost, ldapLoginDN, ldapLoginPW;
+    static int ldapPort;
+    static long readAfterWriteNanos;
+
+    /**
+     * Time of the latest successful write of each DN, in lower case, written
+     * within the read after write window.
+     */
+    static final ConcurrentMap<String, Long> recentWrites =
+            new ConcurrentHashMap<>();
+    private static final AtomicInteger nextReadPool = new AtomicInteger();
 
     public static void initLdap()
             throws ServerInitialisationException {
 
-        try {
-            LDAPSocketFactory socketFactory = null;
-            int port;
-            if (AuthServerConfig.isSSLToLdapEnabled()) {
-                port = AuthServerConfig.getLdapSSLPort();
-                LOGGER.info("Connecting ldap on SSL port :" + port);
-                socketFactory = new LDAPJSSESecureSocketFactory();
+        if (AuthServerConfig.isSSLToLdapEnabled()) {
+            ldapPort = AuthServerConfig.getLdapSSLPort();
+            LOGGER.info("Connecting ldap on SSL port :" + ldapPort);
+            socketFactory = new LDAPJSSESecureSocketFactory();
+        }
+        else {
+            ldapPort = AuthServerConfig.getLdapPort();
+            LOGGER.info("Connecting ldap on port :" + ldapPort);
+            socketFactory = null;
+        }
+
+        ldapHost = AuthServerConfig.getLdapHost();
+        ldapLoginDN = AuthServerConfig.getLdapLoginDN();
+        ldapLoginPW = AuthServerConfig.getLdapLoginPassword();
+        if (ldapLoginDN == null || ldapLoginPW == null) {
+            throw new ServerInitialisationException(
+                    "Failed to initialise LDAP.\nLDAP login is not set.");
+        }
+
+        ldapPool = createPool(ldapHost, ldapPort);
+
+        List<LdapConnectionPool> replicas = new ArrayList<>();
+        for (String replica : AuthServerConfig.getLdapReplicaHosts()) {
+            String host = replica;
+            int port = ldapPort;
+            int separator = replica.lastIndexOf(':');
+            if (separator > 0) {
+                host = replica.substring(0, separator);
+                try {
+                    port = Integer.parseInt(replica.substring(separator + 1));
+                } catch (NumberFormatException ex) {
+                    throw new ServerInitialisationException(
+                            "Invalid LDAP replica: " + replica);
+                }
+            }
+            LOGGER.info("Reading from ldap replica :" + host + ":" + port);
+            replicas.add(createPool(host, port));
+        }
+        readPools = Collections.unmodifiableList(replicas);
+        readAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(
+                AuthServerConfig.getLdapReadAfterWriteWindow());
+    }
+
+    private static LdapConnectionPool createPool(final String host,
+            final int port) {
+        LdapConnectionPool pool = new LdapConnectionPool(
+                host + ":" + port,
+                new LdapConnectionPool.ConnectionFactory() {
+                    @Override
+                    public LDAPConnection create() throws LDAPException {
+                        return connect(host, port, ldapLoginDN, ldapLoginPW);
+                    }
+                },
+                AuthServerConfig.getLdapMinConnections(),
+                AuthServerConfig.getLdapMaxConnections(),
+                AuthServerConfig.getLdapConnectionAcquireTimeout(),
+                AuthServerConfig.getLdapCircuitBreakerThreshold(),
+                AuthServerConfig.getLdapCircuitBreakerOpenTime());
+        pool.start(AuthServerConfig.getLdapPoolValidationInterval());
+        return pool;
+    }
+
+    public static void shutdown() {
+        if (ldapPool != null) {
+            ldapPool.stop();
+        }
+        for (LdapConnectionPool pool : readPools) {
+            pool.stop();
+        }
+    }
+
+    /**
+     * Return the pool of admin connections to the provider, e.g. to read its
+     * metrics.
+     */
+    public static LdapConnectionPool getPool() {
+        return ldapPool;
+    }
+
+    /**
+     * Return the pools of the read replicas.
+     */
+    public static List<LdapConnectionPool> getReadPools() {
+        return readPools;
+    }
+
+    /**
+     * Return a connection to search on. Connections to replicas are only
+     * used by searches, never by writes.
+     *
+     * @param base Base DN of the search.
+     */
+    public static LDAPConnection getReadConnection(String base) {
+        LdapConnectionPool pool = selectReadPool(base, System.nanoTime());
+        if (pool != ldapPool) {
+            try {
+                return pool.acquire();
+            } catch (LDAPException ex) {
+                LOGGER.warn("Failed to get connection to LDAP replica "
+                        + pool.getName() + ", reading from provider. Message: "
+                        + ex.getMessage());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return acquire();
+    }
+
+    /**
+     * Select the replica with the fewest outstanding requests. Ties are
+     * broken round robin so that idle replicas share the load.
+     *
+     * @return Replica pool, or the provider pool if no replica is healthy or
+     *         the base, one of its parents or one of its children was written
+     *         within the read after write window.
+     */
+    static LdapConnectionPool selectReadPool(String base, long now) {
+        List<LdapConnectionPool> pools = readPools;
+        int size = pools.size();
+        if (size == 0 || isRecentlyWritten(base, now)) {
+            return ldapPool;
+        }
+
+        int start = (nextReadPool.getAndIncrement() & Integer.MAX_VALUE) % size;
+        LdapConnectionPool selected = null;
+        int selectedOutstanding = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            LdapConnectionPool pool = pools.get((start + i) % size);
+            if (pool.isCircuitOpen()) {
+                continue;
             }
-            else {
-                port = AuthServerConfig.getLdapPort();
-                LOGGER.info("Connecting ldap on port :" + port);
+            int outstanding = pool.getOutstandingCount();
+            if (outstanding < selectedOutstanding) {
+                selected = pool;
+                selectedOutstanding = outstanding;
             }
+        }
+        return selected == null ? ldapPool : selected;
+    }
 
-            ldapPool = new PoolManager(AuthServerConfig.getLdapHost(),
-                    port,
-                    AuthServerConfig.getLdapMaxConnections(),
-                    AuthServerConfig.getLdapMaxSharedConnections(),
-                    socketFactory);
+    /**
+     * Record a successful write of the entry, so that searches of it go to
+     * the provider until the write replicated. Writes are not tracked
+     * without replicas.
+     *
+     * @param dn Distinguished name of the entry written.
+     */
+    public static void recordWrite(String dn) {
+        if (readPools.isEmpty() || readAfterWriteNanos <= 0 || dn == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (Map.Entry<String, Long> write : recentWrites.entrySet()) {
+            if (now - write.getValue() >= readAfterWriteNanos) {
+                recentWrites.remove(write.getKey(), write.getValue());
+            }
+        }
+        recentWrites.put(dn.toLowerCase(Locale.ROOT), now);
+    }
 
-            ldapLoginDN = AuthServerConfig.getLdapLoginDN();
-            ldapLoginPW = AuthServerConfig.getLdapLoginPassword();
-        } catch (LDAPException ex) {
-            String msg = "Failed to initialise LDAP.\n" + ex.toString();
-            if (retryLdapConnection(ex.getResultCode())) {
-              LOGGER.error(msg);
-              IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.LDAP_EX,
-                          "LDAP exception occurred",
-                          String.format("\"cause\": \"%s\"", ex.getCause()));
+    /**
+     * Return true if the base, one of its parents or one of its children was
+     * written within the read after write window.
+     */
+    static boolean isRecentlyWritten(String base, long now) {
+        if (recentWrites.isEmpty()) {
+            return false;
+        }
+        String baseDn = base == null ? "" : base.toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, Long> write : recentWrites.entrySet()) {
+            if (now - write.getValue() < readAfterWriteNanos
+                    && isRelated(baseDn, write.getKey())) {
+                return true;
             }
-            throw new ServerInitialisationException(msg);
         }
+        return false;
+    }
+
+    /**
+     * Return true if the DNs are equal or one is below the other.
+     */
+    private static boolean isRelated(String dn, String other) {
+        return dn.isEmpty() || dn.equals(other) || dn.endsWith("," + other)
+                || other.endsWith("," + dn);
     }
 
+    /**
+     * Return a connection to the provider to write on.
+     */
     public static LDAPConnection getConnection() {
+        return acquire();
+    }
+
+    private static LDAPConnection acquire() {
         LDAPConnection lc = null;
         try {
             if (FaultPoints.fiEnabled()) {
@@ -89,70 +281,43 @@ public class LdapConnectionManager {
                 }
             }
 
-            lc = ldapPool.getBoundConnection(
-                    ldapLoginDN, ldapLoginPW.getBytes("UTF-8"));
+            lc = ldapPool.acquire();
         } catch (LDAPException ex) {
-          if (retryLdapConnection(ex.getResultCode())) {
-            LOGGER.error("LDAPException Cause: " + ex.getCause() +
-                         ". Message: " + ex.getMessage());
-            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.LDAP_EX, "LDAP exception occurred",
-                    String.format("\"cause\": \"%s\"", ex.getCause()));
-          }
+          logConnectionFailure(ex);
         } catch (InterruptedException ex) {
             LOGGER.error("Failed to connect to LDAP server. Cause: "
                     + ex.getCause() + ". Message: "
                     + ex.getMessage());
-        } catch (UnsupportedEncodingException ex) {
-            LOGGER.error("UnsupportedEncodingException Cause: " + ex.getCause()
-                       + ". Message: " + ex.getMessage());
-            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.UTF8_UNAVAILABLE,
-                    "UTF-8 encoding is not supported", null);
         }
         return lc;
     }
 
-   public
-    static boolean retryLdapConnection(int resultcode) {
-
-      // resultcode 91 maps to CONNECT_ERROR,ldap client has either lost
-      // connection
-      // or can not establish connection to ldap server.
-      // resultcode 52 maps to UNAVAILABLE,ldap server can not process client's
-      // bind request usually because it is shutting down
-      // resultcode 81 maps to ldap libraries cannot establish initial
-      // connection with ldap server
-      // either ldap server is down or specified hostname or port number is
-      // incorrect.
-      boolean retryConnectionSuccess = false;
-      if (resultcode == 91 || resultcode == 52 || resultcode == 81) {
-        // wait on thread to retry new ldap connection
+    /**
+     * Return a connection to the pool. Connections bound as other users are
+     * disconnected.
+     */
+    public static void releaseConnection(LDAPConnection lc) {
+        if (lc == null || ldapPool.release(lc)) {
+            return;
+        }
+        for (LdapConnectionPool pool : readPools) {
+            if (pool.release(lc)) {
+                return;
+            }
+        }
 
         try {
-          Thread.sleep(500);
-          LDAPConnection conn = new LDAPConnection(1000);
-          conn.connect(AuthServerConfig.getLdapHost(),
-                       AuthServerConfig.getLdapPort());
-          retryConnectionSuccess = true;
-        }
-        catch (LDAPException e) {
-          LOGGER.error("LDAPException Cause: " + e.getCause() + ". Message: " +
-                       e.getMessage());
-          IEMUtil.log(IEMUtil.Level.FATAL, IEMUtil.LDAP_EX,
-                      "LDAP exception occurred",
-                      String.format("\"cause\": \"%s\"", e.getCause()));
-        }
-        catch (InterruptedException e) {
-          LOGGER.error("Reset key  delay failing - ", e);
-          Thread.currentThread().interrupt();
+            lc.disconnect();
+        } catch (LDAPException ex) {
+            LOGGER.debug("Failed to disconnect LDAP connection. Message: "
+                    + ex.getMessage());
         }
-      }
-      return retryConnectionSuccess;
-    }
-
-    public static void releaseConnection(LDAPConnection lc) {
-        ldapPool.makeConnectionAvailable(lc);
     }
 
+    /**
+     * Open a connection bound as the given user. It is not pooled and is
+     * disconnected by releaseConnection.
+     */
    public
     static LDAPConnection getConnection(String dn,
                                         String password) throws LDAPException {
@@ -169,29 +334,77 @@ public class LdapConnectionManager {
           }
         }
 
-        lc = ldapPool.getBoundConnection(dn, password.getBytes("UTF-8"));
+        if (ldapPool.isCircuitOpen()) {
+          throw new LDAPException("LDAP is unavailable",
+                                  LDAPException.CONNECT_ERROR,
+                                  LdapConnectionPool.CIRCUIT_OPEN);
+        }
+        lc = connect(ldapHost, ldapPort, dn, password);
       }
       catch (InterruptedException ex) {
         LOGGER.error("Failed to connect to LDAP server. Cause: " +
                      ex.getCause() + ". Message: " + ex.getMessage());
       }
-      catch (UnsupportedEncodingException ex) {
-        LOGGER.error("UnsupportedEncodingException Cause: " + ex.getCause() +
-                     ". Message: " + ex.getMessage());
-        IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.UTF8_UNAVAILABLE,
-                    "UTF-8 encoding is not supported", null);
-      }
       catch (LDAPException ex) {
-        if (retryLdapConnection(ex.getResultCode())) {
-          LOGGER.error("LDAPException Cause: " + ex.getCause() + ". Message: " +
-                       ex.getMessage());
-          IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.LDAP_EX,
-                      "LDAP exception occurred",
-                      String.format("\"cause\": \"%s\"", ex.getCause()));
-        }
+        logConnectionFailure(ex);
       }
 
       return lc;
     }
-}
 
+    /**
+     * Connect to the LDAP provider and bind as the auth server admin.
+     */
+    static LDAPConnection connectAdmin() throws LDAPException {
+        return connect(ldapHost, ldapPort, ldapLoginDN, ldapLoginPW);
+    }
+
+    /**
+     * Connect to LDAP and bind as the given user.
+     */
+    static LDAPConnection connect(String host, int port, String dn,
+            String password) throws LDAPException {
+        LDAPConnection lc = socketFactory == null ? new LDAPConnection()
+                                                  : new LDAPConnection(socketFactory);
+        try {
+            lc.connect(host, port);
+            lc.bind(LDAPConnection.LDAP_V3, dn, password.getBytes("UTF-8"));
+        } catch (LDAPException ex) {
+            disconnectQuietly(lc);
+            throw ex;
+        } catch (UnsupportedEncodingException ex) {
+            disconnectQuietly(lc);
+            LOGGER.error("UnsupportedEncodingException Cause: " + ex.getCause()
+                       + ". Message: " + ex.getMessage());
+            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.UTF8_UNAVAILABLE,
+                    "UTF-8 encoding is not supported", null);
+            throw new LDAPException("UTF-8 encoding is not supported",
+                    LDAPException.ENCODING_ERROR, null);
+        }
+        return lc;
+    }
+
+    private static void disconnectQuietly(LDAPConnection lc) {
+        try {
+            lc.disconnect();
+        } catch (LDAPException ex) {
+            LOGGER.debug("Failed to disconnect LDAP connection. Message: "
+                    + ex.getMessage());
+        }
+    }
+
+    /**
+     * Log the failure to get a connection. Requests rejected while the
+     * circuit breaker is open are not raised as IEM again.
+     */
+    private static void logConnectionFailure(LDAPException ex) {
+        LOGGER.error("LDAPException Cause: " + ex.getCause() +
+                     ". Message: " + ex.getMessage());
+        if (!LdapConnectionPool.CIRCUIT_OPEN.equals(
+                ex.getLDAPErrorMessage())) {
+            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.LDAP_EX,
+                    "LDAP exception occurred",
+                    String.format("\"cause\": \"%s\"", ex.getCause()));
+        }
+    }
+}
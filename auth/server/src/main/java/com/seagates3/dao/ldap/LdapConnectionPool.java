@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.ldap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.novell.ldap.LDAPConnection;
+import com.novell.ldap.LDAPException;
+import com.seagates3.perf.RecordingHistogram;
+
+/**
+ * Pool of LDAP connections bound as the auth server admin.
+ *
+ * Connections are created and bound up front, handed out to one caller at a
+ * time and returned to the pool unless they were disconnected. Callers wait
+ * at most the acquire timeout for a connection.
+ *
+ * A background task drops idle connections which are no longer alive and
+ * creates connections until the pool holds its minimum again. After a
+ * number of consecutive failures to connect, the circuit breaker opens and
+ * callers fail immediately instead of trying to connect, until the
+ * background task or a caller connects again after the open time.
+ */
+public
+class LdapConnectionPool {
+
+  /**
+   * Create a new bound connection.
+   */
+  interface ConnectionFactory {
+    LDAPConnection create() throws LDAPException;
+  }
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(LdapConnectionPool.class.getName());
+
+  /**
+   * Error message of the exceptions thrown while the circuit breaker is open.
+   */
+  static final String CIRCUIT_OPEN = "Circuit breaker is open";
+
+  /**
+   * Number of idle connections checked by one validation pass.
+   */
+  static final int VALIDATION_BATCH = 8;
+
+  /**
+   * Interval at which callers waiting for a connection try to create one.
+   */
+ private
+  static final long CREATE_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+ private
+  final String name;
+ private
+  final ConnectionFactory factory;
+ private
+  final int minConnections;
+ private
+  final int maxConnections;
+ private
+  final long acquireTimeoutNanos;
+ private
+  final int failureThreshold;
+ private
+  final long openNanos;
+
+ private
+  final LinkedBlockingDeque<LDAPConnection> idle =
+      new LinkedBlockingDeque<>();
+ private
+  final Map<LDAPConnection, Boolean> owned = new ConcurrentHashMap<>();
+ private
+  final AtomicInteger total = new AtomicInteger();
+ private
+  final AtomicInteger active = new AtomicInteger();
+ private
+  final AtomicInteger waiters = new AtomicInteger();
+ private
+  final AtomicInteger consecutiveFailures = new AtomicInteger();
+ private
+  final AtomicLong openUntil = new AtomicLong();
+ private
+  final AtomicLong acquireTimeouts = new AtomicLong();
+ private
+  final AtomicLong rejectedByBreaker = new AtomicLong();
+ private
+  final AtomicLong discarded = new AtomicLong();
+ private
+  final RecordingHistogram acquireLatency = new RecordingHistogram();
+
+ private
+  ScheduledExecutorService maintenance;
+
+  LdapConnectionPool(String name, ConnectionFactory factory,
+                     int minConnections, int maxConnections,
+                     long acquireTimeoutMillis, int failureThreshold,
+                     long openMillis) {
+    this.name = name;
+    this.factory = factory;
+    this.maxConnections = Math.max(1, maxConnections);
+    this.minConnections = Math.min(Math.max(0, minConnections),
+                                   this.maxConnections);
+    this.acquireTimeoutNanos =
+        TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+  }
+
+  /**
+   * Create the minimum number of connections and schedule their validation.
+   * Connections which can not be created now are retried by the validation
+   * task, so the auth server starts even if LDAP is not up yet.
+   */
+  void start(long validationIntervalSeconds) {
+    fill();
+
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+          @Override public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-maintenance");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    executor.scheduleWithFixedDelay(new Runnable() {
+      @Override public void run() {
+        try {
+          validate();
+          fill();
+        }
+        catch (RuntimeException ex) {
+          LOGGER.error("Failed to maintain LDAP connection pool " + name, ex);
+        }
+      }
+    }, validationIntervalSeconds, validationIntervalSeconds, TimeUnit.SECONDS);
+    maintenance = executor;
+
+    LOGGER.info("Started LDAP connection pool " + name + " with " +
+                total.get() + " of " + maxConnections + " connections");
+  }
+
+  void stop() {
+    if (maintenance != null) {
+      maintenance.shutdownNow();
+    }
+    LDAPConnection lc;
+    while ((lc = idle.pollFirst()) != null) {
+      discard(lc);
+    }
+  }
+
+  /**
+   * Take a connection from the pool, creating one if the pool is not full.
+   *
+   * @throws LDAPException CONNECT_ERROR if the circuit breaker is open or a
+   *         connection can not be created, LDAP_TIMEOUT if no connection
+   *         becomes available within the acquire timeout.
+   */
+  LDAPConnection acquire() throws LDAPException, InterruptedException {
+    long start = System.nanoTime();
+    waiters.incrementAndGet();
+    try {
+      while (true) {
+        LDAPConnection lc = idle.pollFirst();
+        if (lc == null) {
+          lc = create();
+        }
+        if (lc == null) {
+          long remaining = acquireTimeoutNanos - (System.nanoTime() - start);
+          if (remaining <= 0) {
+            acquireTimeouts.incrementAndGet();
+            throw new LDAPException("Timed out waiting for LDAP connection",
+                                    LDAPException.LDAP_TIMEOUT, null);
+          }
+          // Discarded connections make room without returning anything to
+          // the idle deque, so wait briefly and try to create one again.
+          lc = idle.pollFirst(Math.min(remaining, CREATE_RETRY_NANOS),
+                              TimeUnit.NANOSECONDS);
+          if (lc == null) {
+            continue;
+          }
+        }
+
+        if (!lc.isConnected()) {
+          discard(lc);
+          continue;
+        }
+
+        active.incrementAndGet();
+        acquireLatency.record(System.nanoTime() - start);
+        return lc;
+      }
+    }
+    finally { waiters.decrementAndGet(); }
+  }
+
+  /**
+   * Return a connection taken from the pool. Connections which were
+   * disconnected are dropped and replaced later.
+   *
+   * @return False if the connection does not belong to the pool.
+   */
+  boolean release(LDAPConnection lc) {
+    if (lc == null || !owned.containsKey(lc)) {
+      return false;
+    }
+
+    active.decrementAndGet();
+    if (lc.isConnected()) {
+      idle.offerFirst(lc);
+    } else {
+      discard(lc);
+    }
+    return true;
+  }
+
+ public
+  boolean isCircuitOpen() { return System.nanoTime() - openUntil.get() < 0; }
+
+ public
+  String getName() { return name; }
+
+ public
+  int getActiveCount() { return active.get(); }
+
+ public
+  int getIdleCount() { return idle.size(); }
+
+ public
+  int getWaiterCount() { return waiters.get(); }
+
+  /**
+   * Return the number of callers holding or waiting for a connection.
+   */
+ public
+  int getOutstandingCount() { return active.get() + waiters.get(); }
+
+ public
+  int getTotalCount() { return total.get(); }
+
+ public
+  int getMaxConnections() { return maxConnections; }
+
+ public
+  long getAcquireTimeoutCount() { return acquireTimeouts.get(); }
+
+ public
+  long getRejectedCount() { return rejectedByBreaker.get(); }
+
+ public
+  long getDiscardedCount() { return discarded.get(); }
+
+ public
+  RecordingHistogram getAcquireLatency() { return acquireLatency; }
+
+  /**
+   * Create a connection if the pool is not full.
+   *
+   * @return New connection or null if the pool is full.
+   */
+ private
+  LDAPConnection create() throws LDAPException {
+    if (isCircuitOpen()) {
+      rejectedByBreaker.incrementAndGet();
+      throw new LDAPException("LDAP is unavailable", LDAPException.CONNECT_ERROR,
+                              CIRCUIT_OPEN);
+    }
+
+    int current;
+    do {
+      current = total.get();
+      if (current >= maxConnections) {
+        return null;
+      }
+    } while (!total.compareAndSet(current, current + 1));
+
+    LDAPConnection lc;
+    try {
+      lc = factory.create();
+    }
+    catch (LDAPException ex) {
+      total.decrementAndGet();
+      onFailure(ex);
+      throw ex;
+    }
+
+    consecutiveFailures.set(0);
+    owned.put(lc, Boolean.TRUE);
+    return lc;
+  }
+
+ private
+  void onFailure(LDAPException ex) {
+    int failures = consecutiveFailures.incrementAndGet();
+    if (failures >= failureThreshold) {
+      openUntil.set(System.nanoTime() + openNanos);
+      if (failures == failureThreshold) {
+        LOGGER.error("Opened circuit breaker of LDAP connection pool " +
+                     name + " after " + failures + " failures. Message: " +
+                     ex.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Drop idle connections which are no longer alive. Each pass checks at
+   * most VALIDATION_BATCH connections, taken from the tail of the idle
+   * deque where connections have been idle the longest. Live connections go
+   * back to the head, so successive passes work through the whole deque.
+   */
+  void validate() {
+    List<LDAPConnection> connections = new ArrayList<>(VALIDATION_BATCH);
+    LDAPConnection lc;
+    while (connections.size() < VALIDATION_BATCH &&
+           (lc = idle.pollLast()) != null) {
+      connections.add(lc);
+    }
+    for (LDAPConnection connection : connections) {
+      if (connection.isConnected() && connection.isConnectionAlive()) {
+        idle.offerFirst(connection);
+      } else {
+        LOGGER.warn("Dropping dead connection of LDAP connection pool " + name);
+        discard(connection);
+      }
+    }
+  }
+
+  /**
+   * Create connections until the pool holds its minimum number.
+   */
+  void fill() {
+    while (total.get() < minConnections) {
+      try {
+        LDAPConnection lc = create();
+        if (lc == null) {
+          return;
+        }
+        idle.offerLast(lc);
+      }
+      catch (LDAPException ex) {
+        LOGGER.error("Failed to create connection of LDAP connection pool " +
+                     name + ". Message: " + ex.getMessage());
+        return;
+      }
+    }
+  }
+
+ private
+  void discard(LDAPConnection lc) {
+    if (owned.remove(lc) == null) {
+      return;
+    }
+    total.decrementAndGet();
+    discarded.incrementAndGet();
+    try {
+      lc.disconnect();
+    }
+    catch (LDAPException ex) {
+      LOGGER.debug("Failed to disconnect LDAP connection. Message: " +
+                   ex.getMessage());
+    }
+  }
+}
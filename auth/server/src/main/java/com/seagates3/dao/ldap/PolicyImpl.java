@@ -74,7 +74,7 @@ public class PolicyImpl implements PolicyDAO {
                                                             + filter);
 
         try {
-            ldapResults = LDAPUtils.search(ldapBase,
+            ldapResults = LDAPUtils.search("PolicyImpl.find", ldapBase,
                     LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to find the policy: " + policy.getName()
@@ -152,7 +152,7 @@ public class PolicyImpl implements PolicyDAO {
         LOGGER.debug("Saving Policy dn: " + dn);
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("PolicyImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to create policy: " + policy.getName());
             throw new DataAccessException("Failed to create policy.\n" + ex);
@@ -33,6 +33,11 @@ import com.seagates3.fi.FaultPoints;
 import com.seagates3.model.AccessKey;
 import com.seagates3.model.Account;
 import com.seagates3.model.Requestor;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.RecordingHistogram;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -44,6 +49,9 @@ public class RequestorImpl implements RequestorDAO {
     private final Logger LOGGER =
             LoggerFactory.getLogger(RequestorImpl.class.getName());
 
+    private static final RecordingHistogram FIND_LATENCY =
+            MetricsRegistry.getLdapHistogram("RequestorImpl.find");
+
     @Override
     public Requestor find(AccessKey accessKey) throws DataAccessException {
         Requestor requestor = new Requestor();
@@ -55,9 +63,12 @@ public class RequestorImpl implements RequestorDAO {
             String[] attrs = {LDAPUtils.COMMON_NAME};
             LDAPSearchResults ldapResults = null;
             LDAPConnection lc = null;
+            String baseDN = String.format("%s=%s,%s",
+                    LDAPUtils.ORGANIZATIONAL_UNIT_NAME, LDAPUtils.ACCOUNT_OU,
+                    LDAPUtils.BASE_DN);
             try {
 
-              lc = LdapConnectionManager.getConnection();
+              lc = LdapConnectionManager.getReadConnection(baseDN);
 
               if (lc != null && lc.isConnected()) {
 
@@ -70,19 +81,20 @@ public class RequestorImpl implements RequestorDAO {
             filter = String.format("%s=%s", LDAPUtils.USER_ID,
                     accessKey.getUserId());
 
-            String baseDN = String.format("%s=%s,%s",
-                    LDAPUtils.ORGANIZATIONAL_UNIT_NAME, LDAPUtils.ACCOUNT_OU,
-                    LDAPUtils.BASE_DN);
-
             LOGGER.debug("Finding access key details of userID: "
                                             + accessKey.getUserId());
-            ldapResults = lc.search(baseDN, LDAPConnection.SCOPE_SUB, filter,
-                                    attrs, false);
+            long startTime = System.nanoTime();
+            try {
+              ldapResults = lc.search(baseDN, LDAPConnection.SCOPE_SUB,
+                                      filter, attrs, false);
+            }
+            finally { FIND_LATENCY.record(System.nanoTime() - startTime); }
               }
             }
             catch (LDAPException ex) {
               LOGGER.error("Failed to find access key details of userId: " +
                            accessKey.getUserId());
+              LdapConnectionManager.releaseConnection(lc);
                 throw new DataAccessException(
                         "Failed to find requestor details.\n" + ex);
             }
@@ -113,6 +125,63 @@ public class RequestorImpl implements RequestorDAO {
         return requestor;
     }
 
+    /**
+     * Find the requestor without blocking the caller. The user and its
+     * account are searched one after the other.
+     */
+    @Override public CompletableFuture<Requestor> findAsync(
+        final AccessKey accessKey) {
+      final Requestor requestor = new Requestor();
+      requestor.setAccessKey(accessKey);
+
+      if (accessKey.getUserId() == null) {
+        return CompletableFuture.completedFuture(requestor);
+      }
+
+      String[] attrs = {LDAPUtils.COMMON_NAME};
+      String filter =
+          String.format("%s=%s", LDAPUtils.USER_ID, accessKey.getUserId());
+      String baseDN = String.format("%s=%s,%s",
+                                    LDAPUtils.ORGANIZATIONAL_UNIT_NAME,
+                                    LDAPUtils.ACCOUNT_OU, LDAPUtils.BASE_DN);
+
+      LOGGER.debug("Finding access key details of userID: " +
+                   accessKey.getUserId());
+      return LdapAsyncSearcher.search("RequestorImpl.findAsync", baseDN,
+                                      LDAPConnection.SCOPE_SUB, filter, attrs)
+          .thenCompose(
+               new Function<List<LDAPEntry>, CompletableFuture<Account>>() {
+                 @Override public CompletableFuture<Account> apply(
+                     List<LDAPEntry> entries) {
+                   if (entries.isEmpty()) {
+                     LOGGER.error("Failed to find access key details of " +
+                                  "userId: " + accessKey.getUserId());
+                     return LdapAsyncSearcher.failed(new DataAccessException(
+                         "Failed to find the requestor who owns the " +
+                         "given access key.\n"));
+                   }
+
+                   LDAPEntry entry = entries.get(0);
+                   requestor.setId(accessKey.getUserId());
+                   requestor.setName(entry.getAttribute(LDAPUtils.COMMON_NAME)
+                                         .getStringValue());
+
+                   String accountName = getAccountName(entry.getDN());
+                   AccountDAO accountDao =
+                       (AccountDAO)DAODispatcher.getResourceDAO(
+                           DAOResource.ACCOUNT);
+                   LOGGER.debug("Finding account: " + accountName);
+                   return accountDao.findAsync(accountName);
+                 }
+               })
+          .thenApply(new Function<Account, Requestor>() {
+            @Override public Requestor apply(Account account) {
+              requestor.setAccount(account);
+              return requestor;
+            }
+          });
+    }
+
     /**
      * Extract the account name from user distinguished name.
      *
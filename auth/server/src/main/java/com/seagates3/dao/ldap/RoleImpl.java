@@ -73,7 +73,7 @@ public class RoleImpl implements RoleDAO {
         LOGGER.debug("Searching role dn: " + ldapBase);
 
         try {
-            ldapResults = LDAPUtils.search(ldapBase,
+            ldapResults = LDAPUtils.search("RoleImpl.find", ldapBase,
                     LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to find the role: " + role.getName());
@@ -135,7 +135,7 @@ public class RoleImpl implements RoleDAO {
 
         LDAPSearchResults ldapResults;
         try {
-            ldapResults = LDAPUtils.search(ldapBase,
+            ldapResults = LDAPUtils.search("RoleImpl.findAll", ldapBase,
                     LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to find all roles of account:"
@@ -192,7 +192,7 @@ public class RoleImpl implements RoleDAO {
         LOGGER.debug("Deleting role: " + role.getName());
 
         try {
-            LDAPUtils.delete(dn);
+            LDAPUtils.delete("RoleImpl.delete", dn);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to delete the role: " + role.getName());
             throw new DataAccessException("Failed to delete the role.\n" + ex);
@@ -226,7 +226,7 @@ public class RoleImpl implements RoleDAO {
         LOGGER.debug("Creating role: " + role.getName());
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("RoleImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to create the role: " + role.getName());
             throw new DataAccessException("Failed to create role.\n" + ex);
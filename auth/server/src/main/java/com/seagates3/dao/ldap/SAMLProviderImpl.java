@@ -60,7 +60,7 @@ public class SAMLProviderImpl implements SAMLProviderDAO {
 
         LDAPSearchResults ldapResults;
         try {
-            ldapResults = LDAPUtils.search(ldapBase,
+            ldapResults = LDAPUtils.search("SAMLProviderImpl.find", ldapBase,
                     LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
             throw new DataAccessException("Failed to find idp.\n" + ex);
@@ -125,7 +125,7 @@ public class SAMLProviderImpl implements SAMLProviderDAO {
 
         LDAPSearchResults ldapResults;
         try {
-            ldapResults = LDAPUtils.search(ldapBase,
+            ldapResults = LDAPUtils.search("SAMLProviderImpl.find", ldapBase,
                     LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
             throw new DataAccessException("Failed to find idp.\n" + ex);
@@ -183,7 +183,7 @@ public class SAMLProviderImpl implements SAMLProviderDAO {
 
         LDAPSearchResults ldapResults;
         try {
-            ldapResults = LDAPUtils.search(ldapBase,
+            ldapResults = LDAPUtils.search("SAMLProviderImpl.findAll", ldapBase,
                     LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
             throw new DataAccessException("Failed to find IDPs.\n" + ex);
@@ -236,8 +236,9 @@ public class SAMLProviderImpl implements SAMLProviderDAO {
             }
 
             LDAPSearchResults ldapResults;
-            ldapResults = LDAPUtils.search(LDAPUtils.getBaseDN(),
-                    LDAPConnection.SCOPE_SUB, filter, attrs);
+            ldapResults = LDAPUtils.search("SAMLProviderImpl.keyExists",
+                    LDAPUtils.getBaseDN(), LDAPConnection.SCOPE_SUB, filter,
+                    attrs);
 
             if (ldapResults.hasMore()) {
                 return true;
@@ -284,7 +285,8 @@ public class SAMLProviderImpl implements SAMLProviderDAO {
         );
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("SAMLProviderImpl.save",
+                    new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             throw new DataAccessException("Failed to create new idp." + ex);
         }
@@ -304,7 +306,7 @@ public class SAMLProviderImpl implements SAMLProviderDAO {
         );
 
         try {
-            LDAPUtils.delete(dn);
+            LDAPUtils.delete("SAMLProviderImpl.delete", dn);
         } catch (LDAPException ex) {
             throw new DataAccessException("Failed to delete the provider.\n" + ex);
         }
@@ -324,8 +326,8 @@ public class SAMLProviderImpl implements SAMLProviderDAO {
         );
 
         try {
-            LDAPUtils.modify(dn, new LDAPModification(
-                    LDAPModification.REPLACE, attr));
+            LDAPUtils.modify("SAMLProviderImpl.update", dn,
+                    new LDAPModification(LDAPModification.REPLACE, attr));
         } catch (LDAPException ex) {
             throw new DataAccessException("Failed to modify the user details.\n" + ex);
         }
@@ -80,7 +80,7 @@ public class UserImpl implements UserDAO {
 
         LDAPSearchResults ldapResults;
         try {
-            ldapResults = LDAPUtils.search(userBaseDN,
+            ldapResults = LDAPUtils.search("UserImpl.find", userBaseDN,
                     LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
           LOGGER.error("Failed to find details of user: " + userName +
@@ -182,8 +182,9 @@ public class UserImpl implements UserDAO {
         LOGGER.debug("Searching user base dn: " + userBaseDN);
 
         try {
-          ldapResult = LDAPUtils.search(userBaseDN, LDAPConnection.SCOPE_SUB,
-                                        filter, attrs);
+          ldapResult = LDAPUtils.search("UserImpl.findByUserId", userBaseDN,
+                                        LDAPConnection.SCOPE_SUB, filter,
+                                        attrs);
         }
         catch (LDAPException e) {
             LOGGER.error("Failed to find details of user: " + userId
@@ -256,7 +257,7 @@ public class UserImpl implements UserDAO {
         LOGGER.debug("Searching user base dn: " + userBaseDN);
 
         try {
-            ldapResults = LDAPUtils.search(userBaseDN,
+            ldapResults = LDAPUtils.search("UserImpl.findAll", userBaseDN,
                     LDAPConnection.SCOPE_SUB, filter, attrs);
         } catch (LDAPException ex) {
             LOGGER.error("Failed to find all users of path prefix: "
@@ -318,7 +319,7 @@ public class UserImpl implements UserDAO {
         LOGGER.debug("Deleting user dn: " + dn);
 
         try {
-            LDAPUtils.delete(dn);
+            LDAPUtils.delete("UserImpl.delete", dn);
         } catch (LDAPException ex) {
           LOGGER.error("Failed to delete the user: " + user.getName());
             throw new DataAccessException("Failed to delete the user.\n" + ex);
@@ -362,7 +363,7 @@ public class UserImpl implements UserDAO {
         LOGGER.debug("Saving user dn: " + dn);
 
         try {
-            LDAPUtils.add(new LDAPEntry(dn, attributeSet));
+            LDAPUtils.add("UserImpl.save", new LDAPEntry(dn, attributeSet));
         } catch (LDAPException ex) {
             LOGGER.error("Failed to save the user: " + user.getName());
             throw new DataAccessException("Failed to save the user.\n" + ex);
@@ -411,7 +412,7 @@ public class UserImpl implements UserDAO {
                      newUserName + " new path: " + newPath);
 
         try {
-            LDAPUtils.modify(dn, modList);
+            LDAPUtils.modify("UserImpl.update", dn, modList);
         } catch (LDAPException ex) {
           LOGGER.error("Failed to modify the details of user: " +
                        user.getName());
@@ -433,7 +434,7 @@ public class UserImpl implements UserDAO {
           String.format("(&(%s=%s)(%s=%s))", LDAPUtils.USER_ID, userId,
                         LDAPUtils.OBJECT_CLASS, LDAPUtils.IAMUSER_OBJECT_CLASS);
         try {
-          ldapResults = LDAPUtils.search(
+          ldapResults = LDAPUtils.search("UserImpl.findByUserId",
               LDAPUtils.BASE_DN, LDAPConnection.SCOPE_SUB, filter, attrs);
         }
         catch (LDAPException ex) {
@@ -490,7 +491,7 @@ public class UserImpl implements UserDAO {
           String.format("(&(%s=%s)(%s=%s))", LDAPUtils.ARN, arnToFind,
                         LDAPUtils.OBJECT_CLASS, LDAPUtils.IAMUSER_OBJECT_CLASS);
       try {
-        ldapResults = LDAPUtils.search(LDAPUtils.BASE_DN,
+        ldapResults = LDAPUtils.search("UserImpl.findByArn", LDAPUtils.BASE_DN,
                                        LDAPConnection.SCOPE_SUB, filter, attrs);
       }
       catch (LDAPException ex) {
@@ -74,7 +74,7 @@ class UserLoginProfileImpl implements UserLoginProfileDAO {
 
     try {
       LOGGER.info("Modifying dn " + dn);
-      LDAPUtils.modify(dn, modList);
+      LDAPUtils.modify("UserLoginProfileImpl.save", dn, modList);
     }
     catch (LDAPException ex) {
       LOGGER.error("Failed to modify the details of user: " + user.getName());
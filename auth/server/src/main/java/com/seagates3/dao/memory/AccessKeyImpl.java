@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import com.seagates3.dao.AccessKeyDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.AccessKey;
+import com.seagates3.model.AccessKey.AccessKeyStatus;
+import com.seagates3.model.User;
+
+public
+class AccessKeyImpl implements AccessKeyDAO {
+
+  @Override public AccessKey find(String accessKeyId)
+      throws DataAccessException {
+    MemoryStore.delay();
+    return lookup(accessKeyId);
+  }
+
+  @Override public CompletableFuture<AccessKey> findAsync(
+      final String accessKeyId) {
+    return MemoryStore.async(new Callable<AccessKey>() {
+      @Override public AccessKey call() { return lookup(accessKeyId); }
+    });
+  }
+
+  @Override public AccessKey findFromToken(String secretToken)
+      throws DataAccessException {
+    MemoryStore.delay();
+    for (AccessKey accessKey : MemoryStore.accessKeys.values()) {
+      if (secretToken != null && secretToken.equals(accessKey.getToken())) {
+        return MemoryStore.copy(accessKey);
+      }
+    }
+
+    AccessKey accessKey = new AccessKey();
+    accessKey.setToken(secretToken);
+    return accessKey;
+  }
+
+  /**
+   * Return the access keys of the user. Federated access keys are not
+   * included, as for LDAP.
+   */
+  @Override public AccessKey[] findAll(User user) throws DataAccessException {
+    MemoryStore.delay();
+    List<AccessKey> accessKeys = findPermanent(user.getId());
+    return accessKeys.toArray(new AccessKey[accessKeys.size()]);
+  }
+
+  @Override public AccessKey[] findAllPermanent(User user)
+      throws DataAccessException {
+    return findAll(user);
+  }
+
+  @Override public Boolean hasAccessKeys(String userId)
+      throws DataAccessException {
+    return getCount(userId) > 0;
+  }
+
+  @Override public int getCount(String userId) throws DataAccessException {
+    MemoryStore.delay();
+    return findPermanent(userId).size();
+  }
+
+  @Override public void delete(AccessKey accessKey)
+      throws DataAccessException {
+    MemoryStore.delay();
+    MemoryStore.accessKeys.remove(accessKey.getId());
+  }
+
+  @Override public void save(AccessKey accessKey) throws DataAccessException {
+    MemoryStore.delay();
+    AccessKey entry = MemoryStore.copy(accessKey);
+    if (entry.getCreateDate() == null) {
+      entry.setCreateDate(MemoryStore.now());
+    }
+    if (MemoryStore.accessKeys.putIfAbsent(entry.getId(), entry) != null) {
+      throw new DataAccessException("Failed to save access key. " +
+                                    "Access key " + entry.getId() +
+                                    " already exists.");
+    }
+  }
+
+  @Override public void update(AccessKey accessKey, String newStatus)
+      throws DataAccessException {
+    MemoryStore.delay();
+    AccessKey entry =
+        MemoryStore.get(MemoryStore.accessKeys, accessKey.getId());
+    if (entry == null) {
+      throw new DataAccessException("Failed to update the access key. " +
+                                    "No such access key.");
+    }
+
+    AccessKey updated = MemoryStore.copy(entry);
+    updated.setStatus(AccessKeyStatus.valueOf(newStatus.toUpperCase()));
+    MemoryStore.accessKeys.put(updated.getId(), updated);
+  }
+
+ private
+  static AccessKey lookup(String accessKeyId) {
+    AccessKey entry = MemoryStore.get(MemoryStore.accessKeys, accessKeyId);
+    if (entry != null) {
+      return MemoryStore.copy(entry);
+    }
+
+    AccessKey accessKey = new AccessKey();
+    accessKey.setId(accessKeyId);
+    return accessKey;
+  }
+
+ private
+  static List<AccessKey> findPermanent(String userId) {
+    List<AccessKey> accessKeys = new ArrayList<>();
+    for (AccessKey accessKey : MemoryStore.accessKeys.values()) {
+      if (accessKey.getToken() == null &&
+          Objects.equals(userId, accessKey.getUserId())) {
+        accessKeys.add(MemoryStore.copy(accessKey));
+      }
+    }
+    return accessKeys;
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import com.seagates3.dao.AccountDAO;
+import com.seagates3.dao.ldap.LDAPUtils;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.Account;
+import com.seagates3.model.User;
+
+public
+class AccountImpl implements AccountDAO {
+
+  @Override public Account findByID(String accountID)
+      throws DataAccessException {
+    MemoryStore.delay();
+    for (Account account : MemoryStore.accounts.values()) {
+      if (Objects.equals(accountID, account.getId())) {
+        return MemoryStore.copy(account);
+      }
+    }
+    return new Account();
+  }
+
+  @Override public Account findByCanonicalID(String canonicalID)
+      throws DataAccessException {
+    MemoryStore.delay();
+    for (Account account : MemoryStore.accounts.values()) {
+      if (Objects.equals(canonicalID, account.getCanonicalId())) {
+        return MemoryStore.copy(account);
+      }
+    }
+    return new Account();
+  }
+
+  @Override public Account find(String name) throws DataAccessException {
+    MemoryStore.delay();
+    return lookup(name);
+  }
+
+  @Override public CompletableFuture<Account> findAsync(final String name) {
+    return MemoryStore.async(new Callable<Account>() {
+      @Override public Account call() { return lookup(name); }
+    });
+  }
+
+  /**
+   * Save the account. The email address has to be unique, as enforced by the
+   * LDAP schema, and the same error is reported.
+   */
+  @Override public void save(Account account) throws DataAccessException {
+    MemoryStore.delay();
+    Account entry = MemoryStore.copy(account);
+    synchronized(MemoryStore.accounts) {
+      if (entry.getEmail() != null) {
+        for (Account existing : MemoryStore.accounts.values()) {
+          if (entry.getEmail().equals(existing.getEmail())) {
+            throw new DataAccessException(
+                "failed to add new account.\nsome attributes not unique");
+          }
+        }
+      }
+      if (MemoryStore.accounts.putIfAbsent(entry.getName(), entry) != null) {
+        throw new DataAccessException("failed to add new account.\n" +
+                                      "Account " + entry.getName() +
+                                      " already exists.");
+      }
+    }
+  }
+
+  @Override public Account[] findAll() throws DataAccessException {
+    MemoryStore.delay();
+    List<Account> accounts = new ArrayList<>();
+    for (Account account : MemoryStore.accounts.values()) {
+      accounts.add(MemoryStore.copy(account));
+    }
+    return accounts.toArray(new Account[accounts.size()]);
+  }
+
+  @Override public void delete(Account account) throws DataAccessException {
+    MemoryStore.delay();
+    MemoryStore.accounts.remove(account.getName());
+  }
+
+  /**
+   * Remove the users, roles, groups or policies left in the account.
+   */
+  @Override public void deleteOu(Account account, String ou)
+      throws DataAccessException {
+    MemoryStore.delay();
+    String prefix = MemoryStore.key(account.getName(), "");
+    if (LDAPUtils.USER_OU.equals(ou)) {
+      Iterator<User> users = MemoryStore.users.values().iterator();
+      while (users.hasNext()) {
+        if (account.getName().equals(users.next().getAccountName())) {
+          users.remove();
+        }
+      }
+    } else if (LDAPUtils.ROLE_OU.equals(ou)) {
+      removeByPrefix(MemoryStore.roles.keySet().iterator(), prefix);
+    } else if (LDAPUtils.GROUP_OU.equals(ou)) {
+      removeByPrefix(MemoryStore.groups.keySet().iterator(), prefix);
+    } else if (LDAPUtils.POLICY_OU.equals(ou)) {
+      removeByPrefix(MemoryStore.policies.keySet().iterator(), prefix);
+    }
+  }
+
+  @Override public Account findByEmailAddress(String emailAddress)
+      throws DataAccessException {
+    MemoryStore.delay();
+    for (Account account : MemoryStore.accounts.values()) {
+      if (emailAddress != null &&
+          emailAddress.equals(account.getEmail())) {
+        return MemoryStore.copy(account);
+      }
+    }
+
+    Account account = new Account();
+    account.setEmail(emailAddress);
+    return account;
+  }
+
+ private
+  static Account lookup(String name) {
+    Account entry = MemoryStore.get(MemoryStore.accounts, name);
+    if (entry != null) {
+      return MemoryStore.copy(entry);
+    }
+
+    Account account = new Account();
+    account.setName(name);
+    return account;
+  }
+
+ private
+  static void removeByPrefix(Iterator<String> keys, String prefix) {
+    while (keys.hasNext()) {
+      if (keys.next().startsWith(prefix)) {
+        keys.remove();
+      }
+    }
+  }
+}
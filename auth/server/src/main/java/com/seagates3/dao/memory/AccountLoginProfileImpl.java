@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import com.seagates3.dao.AccountLoginProfileDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.Account;
+
+public
+class AccountLoginProfileImpl implements AccountLoginProfileDAO {
+
+  @Override public void save(Account account) throws DataAccessException {
+    MemoryStore.delay();
+    Account entry = MemoryStore.get(MemoryStore.accounts, account.getName());
+    if (entry == null) {
+      throw new DataAccessException("Failed to modify the account details.\n" +
+                                    "No such account.");
+    }
+
+    Account updated = MemoryStore.copy(entry);
+    updated.setPassword(account.getPassword());
+    updated.setProfileCreateDate(account.getProfileCreateDate());
+    updated.setPwdResetRequired(account.getPwdResetRequired());
+    MemoryStore.accounts.put(updated.getName(), updated);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import java.util.Objects;
+
+import com.seagates3.dao.FedUserDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.User;
+
+public
+class FedUserImpl implements FedUserDAO {
+
+  @Override public User find(String accountName, String name)
+      throws DataAccessException {
+    MemoryStore.delay();
+    for (User user : MemoryStore.users.values()) {
+      if (user.getUserType() == User.UserType.IAM_FED_USER &&
+          Objects.equals(accountName, user.getAccountName()) &&
+          Objects.equals(name, user.getName())) {
+        return MemoryStore.copy(user);
+      }
+    }
+
+    User user = new User();
+    user.setAccountName(accountName);
+    user.setName(name);
+    return user;
+  }
+
+  @Override public void save(User user) throws DataAccessException {
+    MemoryStore.delay();
+    User entry = MemoryStore.copy(user);
+    entry.setUserType(User.UserType.IAM_FED_USER);
+    if (entry.getCreateDate() == null) {
+      entry.setCreateDate(MemoryStore.now());
+    }
+    if (MemoryStore.users.putIfAbsent(entry.getId(), entry) != null) {
+      throw new DataAccessException("Failed to save federated user.\nUser " +
+                                    entry.getId() + " already exists.");
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import java.util.Objects;
+
+import com.seagates3.dao.GroupDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.Account;
+import com.seagates3.model.Group;
+
+public
+class GroupImpl implements GroupDAO {
+
+  @Override public Group find(Account account, String groupName)
+      throws DataAccessException {
+    MemoryStore.delay();
+    Group entry = MemoryStore.groups.get(
+        MemoryStore.key(account.getName(), groupName));
+    if (entry != null) {
+      return MemoryStore.copy(entry);
+    }
+
+    Group group = new Group();
+    group.setAccount(account);
+    group.setName(groupName);
+    return group;
+  }
+
+  @Override public void save(Group group) throws DataAccessException {
+    MemoryStore.delay();
+    Group entry = MemoryStore.copy(group);
+    if (entry.getCreateDate() == null) {
+      entry.setCreateDate(MemoryStore.now());
+    }
+    String key = MemoryStore.key(entry.getAccount().getName(), entry.getName());
+    if (MemoryStore.groups.putIfAbsent(key, entry) != null) {
+      throw new DataAccessException("Failed to create group.\nGroup " +
+                                    entry.getName() + " already exists.");
+    }
+  }
+
+  @Override public Group findByPath(String path) throws DataAccessException {
+    MemoryStore.delay();
+    for (Group group : MemoryStore.groups.values()) {
+      if (Objects.equals(path, group.getPath())) {
+        return MemoryStore.copy(group);
+      }
+    }
+
+    Group group = new Group();
+    group.setPath(path);
+    return group;
+  }
+
+  @Override public Group findByPathAndAccount(Account account, String path)
+      throws DataAccessException {
+    MemoryStore.delay();
+    for (Group group : MemoryStore.groups.values()) {
+      if (Objects.equals(path, group.getPath()) &&
+          Objects.equals(account.getName(), group.getAccount().getName())) {
+        return MemoryStore.copy(group);
+      }
+    }
+
+    Group group = new Group();
+    group.setAccount(account);
+    group.setPath(path);
+    return group;
+  }
+
+  @Override public Group getGroup(String uri) throws DataAccessException {
+    if (Group.AllUsersURI.equals(uri) ||
+        Group.AuthenticatedUsersURI.equals(uri)) {
+      Group group = new Group();
+      group.setGroupId("staticGroupId");
+      group.setPath(uri);
+      return group;
+    }
+    return findByPath(uri);
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.model.AccessKey;
+import com.seagates3.model.AccessKey.AccessKeyStatus;
+import com.seagates3.model.Account;
+import com.seagates3.model.Group;
+import com.seagates3.model.Policy;
+import com.seagates3.model.Role;
+import com.seagates3.model.SAMLProvider;
+import com.seagates3.model.User;
+import com.seagates3.util.DateUtil;
+
+/**
+ * Entries of the in-memory data source, selected with dataSource=memory.
+ *
+ * The DAOs of com.seagates3.dao.memory keep copies of the saved models in
+ * concurrent maps and return new copies, as the LDAP DAOs return new models
+ * for every search. Nothing is persisted. Every DAO operation waits for
+ * memoryDataSourceLatency microseconds, asynchronous operations without
+ * blocking the caller, to stand in for the LDAP round trip.
+ */
+public
+class MemoryStore {
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(MemoryStore.class.getName());
+
+  /** Access keys by access key id. */
+  static final ConcurrentMap<String, AccessKey> accessKeys =
+      new ConcurrentHashMap<>();
+
+  /** Accounts by account name. */
+  static final ConcurrentMap<String, Account> accounts =
+      new ConcurrentHashMap<>();
+
+  /** Users, federated users and role users by user id. */
+  static final ConcurrentMap<String, User> users = new ConcurrentHashMap<>();
+
+  /** Groups, policies and roles by account name and name. */
+  static final ConcurrentMap<String, Group> groups = new ConcurrentHashMap<>();
+  static final ConcurrentMap<String, Policy> policies =
+      new ConcurrentHashMap<>();
+  static final ConcurrentMap<String, Role> roles = new ConcurrentHashMap<>();
+
+  /** SAML providers by issuer. */
+  static final ConcurrentMap<String, SAMLProvider> samlProviders =
+      new ConcurrentHashMap<>();
+
+ private
+  static volatile long latencyNanos;
+ private
+  static ScheduledExecutorService scheduler;
+
+ private
+  MemoryStore() {}
+
+  /**
+   * Read the injected latency and remove all entries.
+   */
+ public
+  static void init() {
+    setLatency(AuthServerConfig.getMemoryDataSourceLatency(),
+               TimeUnit.MICROSECONDS);
+    clear();
+    LOGGER.info("Created in-memory data source with latency " +
+                TimeUnit.NANOSECONDS.toMicros(latencyNanos) + " us");
+  }
+
+ public
+  static void setLatency(long latency, TimeUnit unit) {
+    latencyNanos = unit.toNanos(latency);
+  }
+
+ public
+  static void clear() {
+    accessKeys.clear();
+    accounts.clear();
+    users.clear();
+    groups.clear();
+    policies.clear();
+    roles.clear();
+    samlProviders.clear();
+  }
+
+  /**
+   * Block the caller for the injected latency.
+   */
+  static void delay() {
+    long latency = latencyNanos;
+    if (latency <= 0) {
+      return;
+    }
+
+    long deadline = System.nanoTime() + latency;
+    long remaining = latency;
+    while (remaining > 0) {
+      LockSupport.parkNanos(remaining);
+      remaining = deadline - System.nanoTime();
+    }
+  }
+
+  /**
+   * Run the operation after the injected latency without blocking the
+   * caller. The future fails with the exception thrown by the operation.
+   */
+  static<T> CompletableFuture<T> async(final Callable<T> operation) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    Runnable task = new Runnable() {
+      @Override public void run() {
+        try {
+          future.complete(operation.call());
+        }
+        catch (Exception ex) {
+          future.completeExceptionally(ex);
+        }
+      }
+    };
+
+    long latency = latencyNanos;
+    if (latency <= 0) {
+      task.run();
+    } else {
+      getScheduler().schedule(task, latency, TimeUnit.NANOSECONDS);
+    }
+    return future;
+  }
+
+ private
+  static synchronized ScheduledExecutorService getScheduler() {
+    if (scheduler == null) {
+      ScheduledThreadPoolExecutor executor =
+          new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override public Thread newThread(Runnable runnable) {
+              Thread thread = new Thread(runnable, "memory-data-source");
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+      executor.setRemoveOnCancelPolicy(true);
+      scheduler = executor;
+    }
+    return scheduler;
+  }
+
+  /**
+   * Return the entry with the key or null if there is none or the key is
+   * null.
+   */
+  static<V> V get(ConcurrentMap<String, V> entries, String key) {
+    return key == null ? null : entries.get(key);
+  }
+
+  static String key(String accountName, String name) {
+    return accountName + "/" + name;
+  }
+
+  static String now() { return DateUtil.toServerResponseFormat(new Date()); }
+
+  static AccessKey copy(AccessKey accessKey) {
+    AccessKey copy = new AccessKey();
+    copy.setUserId(accessKey.getUserId());
+    copy.setId(accessKey.getId());
+    copy.setSecretKey(accessKey.getSecretKey());
+    copy.setStatus(accessKey.isAccessKeyActive() ? AccessKeyStatus.ACTIVE
+                                                 : AccessKeyStatus.INACTIVE);
+    copy.setCreateDate(accessKey.getCreateDate());
+    copy.setToken(accessKey.getToken());
+    copy.setExpiry(accessKey.getExpiry());
+    return copy;
+  }
+
+  static Account copy(Account account) {
+    if (account == null) {
+      return null;
+    }
+
+    Account copy = new Account();
+    copy.setId(account.getId());
+    copy.setName(account.getName());
+    copy.setCanonicalId(account.getCanonicalId());
+    copy.setEmail(account.getEmail());
+    copy.setPassword(account.getPassword());
+    copy.setProfileCreateDate(account.getProfileCreateDate());
+    copy.setPwdResetRequired(account.getPwdResetRequired());
+    return copy;
+  }
+
+  static User copy(User user) {
+    User copy = new User();
+    copy.setId(user.getId());
+    copy.setName(user.getName());
+    copy.setAccountName(user.getAccountName());
+    copy.setPath(user.getPath());
+    copy.setUserType(user.getUserType());
+    copy.setRoleName(user.getRoleName());
+    copy.setArn(user.getArn());
+    copy.setCreateDate(user.getCreateDate());
+    copy.setPasswordLastUsed(user.getPasswordLastUsed());
+    copy.setPassword(user.getPassword());
+    copy.setProfileCreateDate(user.getProfileCreateDate());
+    copy.setPwdResetRequired(user.getPwdResetRequired());
+    return copy;
+  }
+
+  static Group copy(Group group) {
+    Group copy = new Group();
+    copy.setAccount(copy(group.getAccount()));
+    copy.setGroupId(group.getGroupId());
+    copy.setName(group.getName());
+    copy.setPath(group.getPath());
+    copy.setARN(group.getARN());
+    copy.setCreateDate(group.getCreateDate());
+    return copy;
+  }
+
+  static Policy copy(Policy policy) {
+    Policy copy = new Policy();
+    copy.setAccount(copy(policy.getAccount()));
+    copy.setPolicyId(policy.getPolicyId());
+    copy.setName(policy.getName());
+    copy.setPath(policy.getPath());
+    copy.setARN(policy.getARN());
+    copy.setDescription(policy.getDescription());
+    copy.setPolicyDoc(policy.getPolicyDoc());
+    copy.setDefaultVersionId(policy.getDefaultVersionid());
+    copy.setAttachmentCount(policy.getAttachmentCount());
+    copy.setCreateDate(policy.getCreateDate());
+    copy.setUpdateDate(policy.getUpdateDate());
+    return copy;
+  }
+
+  static Role copy(Role role) {
+    Role copy = new Role();
+    copy.setAccount(copy(role.getAccount()));
+    copy.setRoleId(role.getRoleId());
+    copy.setName(role.getName());
+    copy.setPath(role.getPath());
+    copy.setARN(role.getARN());
+    copy.setRolePolicyDoc(role.getRolePolicyDoc());
+    copy.setCreateDate(role.getCreateDate());
+    return copy;
+  }
+
+  static SAMLProvider copy(SAMLProvider samlProvider) {
+    SAMLProvider copy = new SAMLProvider();
+    copy.setAccount(copy(samlProvider.getAccount()));
+    copy.setName(samlProvider.getName());
+    copy.setIssuer(samlProvider.getIssuer());
+    copy.setSamlMetadata(samlProvider.getSamlMetadata());
+    copy.setSAMLMetadataTokens(samlProvider.getSAMLMetadataTokens());
+    copy.setExpiry(samlProvider.getExpiry());
+    copy.setCreateDate(samlProvider.getCreateDate());
+    return copy;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import com.seagates3.dao.PolicyDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.Account;
+import com.seagates3.model.Policy;
+
+public
+class PolicyImpl implements PolicyDAO {
+
+  @Override public Policy find(Account account, String name)
+      throws DataAccessException {
+    MemoryStore.delay();
+    Policy entry =
+        MemoryStore.policies.get(MemoryStore.key(account.getName(), name));
+    if (entry != null) {
+      return MemoryStore.copy(entry);
+    }
+
+    Policy policy = new Policy();
+    policy.setAccount(account);
+    policy.setName(name);
+    return policy;
+  }
+
+  @Override public void save(Policy policy) throws DataAccessException {
+    MemoryStore.delay();
+    Policy entry = MemoryStore.copy(policy);
+    if (entry.getCreateDate() == null) {
+      entry.setCreateDate(MemoryStore.now());
+      entry.setUpdateDate(entry.getCreateDate());
+    }
+    String key =
+        MemoryStore.key(entry.getAccount().getName(), entry.getName());
+    if (MemoryStore.policies.putIfAbsent(key, entry) != null) {
+      throw new DataAccessException("Failed to create policy.\nPolicy " +
+                                    entry.getName() + " already exists.");
+    }
+  }
+}
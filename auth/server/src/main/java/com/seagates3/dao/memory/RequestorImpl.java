@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.seagates3.dao.AccountDAO;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
+import com.seagates3.dao.RequestorDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.AccessKey;
+import com.seagates3.model.Account;
+import com.seagates3.model.Requestor;
+import com.seagates3.model.User;
+
+/**
+ * Find the user who owns an access key and then its account through the
+ * account DAO, one lookup after the other as with LDAP.
+ */
+public
+class RequestorImpl implements RequestorDAO {
+
+  @Override public Requestor find(AccessKey accessKey)
+      throws DataAccessException {
+    Requestor requestor = new Requestor();
+    requestor.setAccessKey(accessKey);
+    if (accessKey.getUserId() == null) {
+      return requestor;
+    }
+
+    MemoryStore.delay();
+    User user = findUser(accessKey);
+    requestor.setId(user.getId());
+    requestor.setName(user.getName());
+    requestor.setAccount(getAccountDAO().find(user.getAccountName()));
+    return requestor;
+  }
+
+  @Override public CompletableFuture<Requestor> findAsync(
+      final AccessKey accessKey) {
+    final Requestor requestor = new Requestor();
+    requestor.setAccessKey(accessKey);
+    if (accessKey.getUserId() == null) {
+      return CompletableFuture.completedFuture(requestor);
+    }
+
+    Callable<User> findUser = new Callable<User>() {
+      @Override public User call() throws DataAccessException {
+        return findUser(accessKey);
+      }
+    };
+    return MemoryStore.async(findUser)
+        .thenCompose(new Function<User, CompletableFuture<Account>>() {
+          @Override public CompletableFuture<Account> apply(User user) {
+            requestor.setId(user.getId());
+            requestor.setName(user.getName());
+            return getAccountDAO().findAsync(user.getAccountName());
+          }
+        })
+        .thenApply(new Function<Account, Requestor>() {
+          @Override public Requestor apply(Account account) {
+            requestor.setAccount(account);
+            return requestor;
+          }
+        });
+  }
+
+ private
+  static User findUser(AccessKey accessKey) throws DataAccessException {
+    User user = MemoryStore.get(MemoryStore.users, accessKey.getUserId());
+    if (user == null) {
+      throw new DataAccessException(
+          "Failed to find the requestor who owns the given access key.\n");
+    }
+    return user;
+  }
+
+ private
+  static AccountDAO getAccountDAO() {
+    return (AccountDAO)DAODispatcher.getResourceDAO(DAOResource.ACCOUNT);
+  }
+}
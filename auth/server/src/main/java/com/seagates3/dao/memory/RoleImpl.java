@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.seagates3.dao.RoleDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.Account;
+import com.seagates3.model.Role;
+
+public
+class RoleImpl implements RoleDAO {
+
+  @Override public Role find(Account account, String roleName)
+      throws DataAccessException {
+    MemoryStore.delay();
+    Role entry =
+        MemoryStore.roles.get(MemoryStore.key(account.getName(), roleName));
+    if (entry != null) {
+      return MemoryStore.copy(entry);
+    }
+
+    Role role = new Role();
+    role.setAccount(account);
+    role.setName(roleName);
+    return role;
+  }
+
+  @Override public Role[] findAll(Account account, String pathPrefix)
+      throws DataAccessException {
+    MemoryStore.delay();
+    List<Role> roles = new ArrayList<>();
+    for (Role role : MemoryStore.roles.values()) {
+      if (Objects.equals(account.getName(), role.getAccount().getName()) &&
+          role.getPath() != null && role.getPath().startsWith(pathPrefix)) {
+        roles.add(MemoryStore.copy(role));
+      }
+    }
+    return roles.toArray(new Role[roles.size()]);
+  }
+
+  @Override public void delete(Role role) throws DataAccessException {
+    MemoryStore.delay();
+    MemoryStore.roles.remove(
+        MemoryStore.key(role.getAccount().getName(), role.getName()));
+  }
+
+  @Override public void save(Role role) throws DataAccessException {
+    MemoryStore.delay();
+    Role entry = MemoryStore.copy(role);
+    if (entry.getCreateDate() == null) {
+      entry.setCreateDate(MemoryStore.now());
+    }
+    String key =
+        MemoryStore.key(entry.getAccount().getName(), entry.getName());
+    if (MemoryStore.roles.putIfAbsent(key, entry) != null) {
+      throw new DataAccessException("Failed to create role.\nRole " +
+                                    entry.getName() + " already exists.");
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.seagates3.dao.SAMLProviderDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.Account;
+import com.seagates3.model.SAMLProvider;
+
+public
+class SAMLProviderImpl implements SAMLProviderDAO {
+
+  @Override public SAMLProvider find(String issuer)
+      throws DataAccessException {
+    MemoryStore.delay();
+    SAMLProvider entry = MemoryStore.get(MemoryStore.samlProviders, issuer);
+    return entry == null ? new SAMLProvider() : MemoryStore.copy(entry);
+  }
+
+  @Override public SAMLProvider find(Account account, String name)
+      throws DataAccessException {
+    MemoryStore.delay();
+    for (SAMLProvider samlProvider : MemoryStore.samlProviders.values()) {
+      if (isOwnedBy(samlProvider, account) &&
+          Objects.equals(name, samlProvider.getName())) {
+        return MemoryStore.copy(samlProvider);
+      }
+    }
+
+    SAMLProvider samlProvider = new SAMLProvider();
+    samlProvider.setAccount(account);
+    samlProvider.setName(name);
+    return samlProvider;
+  }
+
+  @Override public SAMLProvider[] findAll(Account account)
+      throws DataAccessException {
+    MemoryStore.delay();
+    List<SAMLProvider> samlProviders = new ArrayList<>();
+    for (SAMLProvider samlProvider : MemoryStore.samlProviders.values()) {
+      if (isOwnedBy(samlProvider, account)) {
+        samlProviders.add(MemoryStore.copy(samlProvider));
+      }
+    }
+    return samlProviders.toArray(new SAMLProvider[samlProviders.size()]);
+  }
+
+  /**
+   * Signing certificates of identity providers are not kept.
+   */
+  @Override public Boolean keyExists(String accountId, String name,
+                                     Certificate cert)
+      throws DataAccessException {
+    MemoryStore.delay();
+    return false;
+  }
+
+  @Override public void save(SAMLProvider samlProvider)
+      throws DataAccessException {
+    MemoryStore.delay();
+    SAMLProvider entry = MemoryStore.copy(samlProvider);
+    if (entry.getCreateDate() == null) {
+      entry.setCreateDate(MemoryStore.now());
+    }
+    if (MemoryStore.samlProviders.putIfAbsent(entry.getIssuer(), entry) !=
+        null) {
+      throw new DataAccessException("Failed to create new idp.\nIssuer " +
+                                    entry.getIssuer() + " already exists.");
+    }
+  }
+
+  @Override public void delete(SAMLProvider samlProvider)
+      throws DataAccessException {
+    MemoryStore.delay();
+    MemoryStore.samlProviders.remove(samlProvider.getIssuer());
+  }
+
+  @Override public void update(SAMLProvider samlProvider,
+                               String newSamlMetadata)
+      throws DataAccessException {
+    MemoryStore.delay();
+    SAMLProvider entry =
+        MemoryStore.get(MemoryStore.samlProviders, samlProvider.getIssuer());
+    if (entry == null) {
+      throw new DataAccessException("Failed to modify the provider.\n" +
+                                    "No such provider.");
+    }
+
+    SAMLProvider updated = MemoryStore.copy(entry);
+    updated.setSamlMetadata(newSamlMetadata);
+    MemoryStore.samlProviders.put(updated.getIssuer(), updated);
+  }
+
+ private
+  static boolean isOwnedBy(SAMLProvider samlProvider, Account account) {
+    return samlProvider.getAccount() != null &&
+        Objects.equals(account.getId(), samlProvider.getAccount().getId());
+  }
+}
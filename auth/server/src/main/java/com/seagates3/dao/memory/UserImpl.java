@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.seagates3.dao.UserDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.User;
+
+public
+class UserImpl implements UserDAO {
+
+  @Override public User find(String accountName, String userName)
+      throws DataAccessException {
+    MemoryStore.delay();
+    for (User user : MemoryStore.users.values()) {
+      if (Objects.equals(accountName, user.getAccountName()) &&
+          Objects.equals(userName, user.getName())) {
+        return MemoryStore.copy(user);
+      }
+    }
+
+    User user = new User();
+    user.setAccountName(accountName);
+    user.setName(userName);
+    return user;
+  }
+
+  @Override public User findByUserId(String accountName, String userId)
+      throws DataAccessException {
+    MemoryStore.delay();
+    User entry = MemoryStore.get(MemoryStore.users, userId);
+    if (entry != null &&
+        Objects.equals(accountName, entry.getAccountName())) {
+      return MemoryStore.copy(entry);
+    }
+
+    User user = new User();
+    user.setAccountName(accountName);
+    return user;
+  }
+
+  /**
+   * Return the IAM users of the account whose path starts with the prefix.
+   */
+  @Override public User[] findAll(String accountName, String pathPrefix)
+      throws DataAccessException {
+    MemoryStore.delay();
+    List<User> users = new ArrayList<>();
+    for (User user : MemoryStore.users.values()) {
+      if (user.getUserType() == User.UserType.IAM_USER &&
+          Objects.equals(accountName, user.getAccountName()) &&
+          user.getPath() != null && user.getPath().startsWith(pathPrefix)) {
+        users.add(MemoryStore.copy(user));
+      }
+    }
+    return users.toArray(new User[users.size()]);
+  }
+
+  @Override public void delete(User user) throws DataAccessException {
+    MemoryStore.delay();
+    MemoryStore.users.remove(user.getId());
+  }
+
+  @Override public void save(User user) throws DataAccessException {
+    MemoryStore.delay();
+    User entry = MemoryStore.copy(user);
+    if (entry.getCreateDate() == null) {
+      entry.setCreateDate(MemoryStore.now());
+    }
+    if (MemoryStore.users.putIfAbsent(entry.getId(), entry) != null) {
+      throw new DataAccessException("Failed to save the user.\nUser " +
+                                    entry.getId() + " already exists.");
+    }
+  }
+
+  /**
+   * Rename the user or change its path. The ARN follows the new name.
+   */
+  @Override public void update(User user, String newUserName, String newPath)
+      throws DataAccessException {
+    MemoryStore.delay();
+    User entry = MemoryStore.get(MemoryStore.users, user.getId());
+    if (entry == null) {
+      throw new DataAccessException("Failed to modify the user details.\n" +
+                                    "No such user.");
+    }
+
+    User updated = MemoryStore.copy(entry);
+    if (newUserName != null) {
+      updated.setName(newUserName);
+      if (updated.getArn() != null) {
+        updated.setArn(
+            updated.getArn().substring(0, updated.getArn().indexOf("/") + 1) +
+            newUserName);
+      }
+    }
+    if (newPath != null) {
+      updated.setPath(newPath);
+    }
+    MemoryStore.users.put(updated.getId(), updated);
+  }
+
+  @Override public User findByUserId(String userId)
+      throws DataAccessException {
+    MemoryStore.delay();
+    User entry = MemoryStore.get(MemoryStore.users, userId);
+    return entry == null ? new User() : MemoryStore.copy(entry);
+  }
+
+  @Override public User findByArn(String arn) throws DataAccessException {
+    MemoryStore.delay();
+    for (User user : MemoryStore.users.values()) {
+      if (arn != null && arn.equals(user.getArn())) {
+        return MemoryStore.copy(user);
+      }
+    }
+
+    User user = new User();
+    user.setArn(arn);
+    return user;
+  }
+}
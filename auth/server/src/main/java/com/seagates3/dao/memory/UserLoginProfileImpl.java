@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import com.seagates3.dao.UserLoginProfileDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.User;
+
+public
+class UserLoginProfileImpl implements UserLoginProfileDAO {
+
+  @Override public void save(User user) throws DataAccessException {
+    MemoryStore.delay();
+    User entry = MemoryStore.get(MemoryStore.users, user.getId());
+    if (entry == null) {
+      throw new DataAccessException("Failed to modify the user details.\n" +
+                                    "No such user.");
+    }
+
+    User updated = MemoryStore.copy(entry);
+    updated.setPassword(user.getPassword());
+    updated.setProfileCreateDate(user.getProfileCreateDate());
+    updated.setPwdResetRequired(user.getPwdResetRequired());
+    MemoryStore.users.put(updated.getId(), updated);
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.perf;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Metrics of the auth server, rendered in the Prometheus text format.
+ *
+ * Requests, responses and LDAP operations are recorded here. Stage latencies
+ * come from PerfRegistry, and collectors registered at startup add the
+ * state of other components such as executors, LDAP pools and caches.
+ * Rendering reads lock-free snapshots, so it never blocks the threads which
+ * record.
+ */
+public
+final class MetricsRegistry {
+
+  /**
+   * Write metrics of a component when the metrics are rendered.
+   */
+ public
+  interface Collector {
+    void collect(PrometheusWriter writer);
+  }
+
+ private
+  static final ConcurrentMap<String, RecordingHistogram> requestLatencies =
+      new ConcurrentSkipListMap<>();
+
+ private
+  static final ConcurrentMap<String, RecordingHistogram> ldapLatencies =
+      new ConcurrentSkipListMap<>();
+
+ private
+  static final AtomicLongArray responses = new AtomicLongArray(600);
+
+ private
+  static final CopyOnWriteArrayList<Collector> collectors =
+      new CopyOnWriteArrayList<>();
+
+  /**
+   * Thread rendering the metrics for renderAsync. It is created on first use.
+   */
+ private
+  static ExecutorService renderer;
+
+ private
+  MetricsRegistry() {}
+
+  /**
+   * Record a response sent to a client.
+   *
+   * @param action Action of the request, "unknown" if the server does not
+   *        know it, or null if it had none.
+   * @param status HTTP status code of the response.
+   * @param nanos Time from reading the request to sending the response.
+   */
+ public
+  static void recordResponse(String action, int status, long nanos) {
+    if (status >= 0 && status < responses.length()) {
+      responses.incrementAndGet(status);
+    }
+    if (action != null) {
+      getHistogram(requestLatencies, action).record(nanos);
+    }
+  }
+
+  /**
+   * Return the LDAP latency histogram of a DAO method, e.g.
+   * "AccessKeyImpl.find".
+   */
+ public
+  static RecordingHistogram getLdapHistogram(String method) {
+    return getHistogram(ldapLatencies, method);
+  }
+
+ public
+  static void register(Collector collector) { collectors.add(collector); }
+
+ public
+  static void unregister(Collector collector) { collectors.remove(collector); }
+
+  /**
+   * Render all metrics on a thread of the registry, so that serving a scrape
+   * does not hold up the requests of the thread which received it.
+   */
+ public
+  static CompletableFuture<String> renderAsync() {
+    return CompletableFuture.supplyAsync(new Supplier<String>() {
+      @Override public String get() { return render(); }
+    }, getRenderer());
+  }
+
+  /**
+   * Render all metrics.
+   */
+ public
+  static String render() {
+    StringBuilder out = new StringBuilder(16384);
+    PrometheusWriter writer = new PrometheusWriter(out);
+
+    writer.family("auth_request_duration_seconds", "histogram",
+                  "Time to serve requests by action.");
+    writeHistograms(writer, "auth_request_duration_seconds", "action",
+                    requestLatencies);
+
+    writer.family("auth_responses_total", "counter",
+                  "Responses sent by HTTP status code.");
+    for (int status = 0; status < responses.length(); status++) {
+      long count = responses.get(status);
+      if (count > 0) {
+        writer.sample("auth_responses_total",
+                      PrometheusWriter.label("code", String.valueOf(status)),
+                      count);
+      }
+    }
+
+    writer.family("auth_stage_duration_seconds", "histogram",
+                  "Time spent in request processing stages.");
+    writeHistograms(writer, "auth_stage_duration_seconds", "stage",
+                    PerfRegistry.getHistograms());
+
+    writer.family("auth_ldap_operation_duration_seconds", "histogram",
+                  "Time of LDAP operations by DAO method.");
+    writeHistograms(writer, "auth_ldap_operation_duration_seconds",
+                    "method", ldapLatencies);
+
+    for (Collector collector : collectors) {
+      collector.collect(writer);
+    }
+    return out.toString();
+  }
+
+ private
+  static synchronized ExecutorService getRenderer() {
+    if (renderer == null) {
+      renderer = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "metrics-render");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+    return renderer;
+  }
+
+ private
+  static RecordingHistogram getHistogram(
+      ConcurrentMap<String, RecordingHistogram> histograms, String name) {
+    RecordingHistogram histogram = histograms.get(name);
+    if (histogram == null) {
+      RecordingHistogram newHistogram = new RecordingHistogram();
+      histogram = histograms.putIfAbsent(name, newHistogram);
+      if (histogram == null) {
+        histogram = newHistogram;
+      }
+    }
+    return histogram;
+  }
+
+ private
+  static void writeHistograms(PrometheusWriter writer, String name,
+                              String labelName,
+                              Map<String, RecordingHistogram> histograms) {
+    for (Map.Entry<String, RecordingHistogram> entry : histograms.entrySet()) {
+      writer.histogram(name,
+                       PrometheusWriter.label(labelName, entry.getKey()),
+                       entry.getValue().snapshot());
+    }
+  }
+}
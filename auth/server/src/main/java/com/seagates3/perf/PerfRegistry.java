@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.perf;
+
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.exception.ServerInitialisationException;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Latency histograms of the auth server stages.
+ *
+ * Stages record into their histogram on every request. If perf logging is
+ * enabled, a background thread appends the latencies recorded by every stage
+ * since its previous export to the perf log, so request threads never wait
+ * for the log file.
+ */
+public
+final class PerfRegistry {
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(PerfRegistry.class.getName());
+
+ private
+  static final ConcurrentMap<String, RecordingHistogram> HISTOGRAMS =
+      new ConcurrentSkipListMap<>();
+
+ private
+  static final Map<String, RecordingHistogram.Snapshot> lastSnapshots =
+      new HashMap<>();
+
+ private
+  static ScheduledThreadPoolExecutor exporter;
+
+ private
+  static BufferedWriter writer;
+
+ private
+  PerfRegistry() {}
+
+  /**
+   * Return the histogram of a stage, creating it on first use.
+   */
+ public
+  static RecordingHistogram getHistogram(String stage) {
+    RecordingHistogram histogram = HISTOGRAMS.get(stage);
+    if (histogram == null) {
+      RecordingHistogram newHistogram = new RecordingHistogram();
+      histogram = HISTOGRAMS.putIfAbsent(stage, newHistogram);
+      if (histogram == null) {
+        histogram = newHistogram;
+      }
+    }
+    return histogram;
+  }
+
+  /**
+   * Return the histograms of all stages by stage name.
+   */
+ public
+  static Map<String, RecordingHistogram> getHistograms() {
+    return Collections.unmodifiableMap(HISTOGRAMS);
+  }
+
+  /**
+   * Open the perf log and start exporting if perf logging is enabled.
+   */
+ public
+  static synchronized void init() throws ServerInitialisationException {
+    if (!AuthServerConfig.isPerfEnabled() || exporter != null) {
+      return;
+    }
+
+    try {
+      writer = new BufferedWriter(
+          new FileWriter(AuthServerConfig.getPerfLogFile(), true));
+    }
+    catch (IOException ex) {
+      throw new ServerInitialisationException(ex.getMessage());
+    }
+
+    int interval = AuthServerConfig.getPerfExportInterval();
+    exporter = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+      @Override public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "perf-export");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    exporter.scheduleAtFixedRate(new Runnable() {
+      @Override public void run() { exportToLog(); }
+    }, interval, interval, TimeUnit.SECONDS);
+    LOGGER.info("Exporting stage latencies every " + interval + " seconds");
+  }
+
+  /**
+   * Stop exporting, write the latencies recorded since the last export and
+   * close the perf log.
+   */
+ public
+  static synchronized void clean() {
+    if (exporter == null) {
+      return;
+    }
+
+    exporter.shutdown();
+    try {
+      exporter.awaitTermination(1, TimeUnit.SECONDS);
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    exportToLog();
+    try {
+      writer.close();
+    }
+    catch (IOException ex) {
+      LOGGER.error("Failed to close perf log. " + ex.getMessage());
+    }
+    exporter = null;
+    writer = null;
+  }
+
+ private
+  static synchronized void exportToLog() {
+    if (writer == null) {
+      return;
+    }
+    try {
+      export(writer);
+      writer.flush();
+    }
+    catch (IOException ex) {
+      LOGGER.error("Failed to write perf log. " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Write one line per stage with the latencies recorded since the previous
+   * export, skipping stages without new latencies. Latencies are in
+   * microseconds.
+   */
+  static synchronized void export(Appendable out) throws IOException {
+    String time = String.format(Locale.ROOT, "%tFT%<tT%<tz", new Date());
+    for (Map.Entry<String, RecordingHistogram> entry : HISTOGRAMS.entrySet()) {
+      RecordingHistogram.Snapshot snapshot = entry.getValue().snapshot();
+      RecordingHistogram.Snapshot last = lastSnapshots.put(entry.getKey(),
+                                                           snapshot);
+      RecordingHistogram.Snapshot interval =
+          last == null ? snapshot : snapshot.since(last);
+      if (interval.getCount() == 0) {
+        continue;
+      }
+
+      out.append(String.format(
+          Locale.ROOT,
+          "%s,%s,count=%d,mean=%.1f,p50=%.1f,p90=%.1f,p99=%.1f," +
+              "p99.9=%.1f,max=%.1f us\n",
+          time, entry.getKey(), interval.getCount(),
+          interval.getMeanNanos() / 1000,
+          interval.getPercentileNanos(50) / 1000.0,
+          interval.getPercentileNanos(90) / 1000.0,
+          interval.getPercentileNanos(99) / 1000.0,
+          interval.getPercentileNanos(99.9) / 1000.0,
+          interval.getMaxNanos() / 1000.0));
+    }
+  }
+}
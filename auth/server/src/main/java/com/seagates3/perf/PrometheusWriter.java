@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.perf;
+
+import java.math.BigDecimal;
+
+/**
+ * Write metrics in the Prometheus text exposition format.
+ *
+ * Every metric family starts with family(), followed by its samples.
+ * Latency histograms are written in seconds with buckets following a 1-2-5
+ * series from 10 microseconds to 10 seconds.
+ */
+public
+final class PrometheusWriter {
+
+ public
+  static final String CONTENT_TYPE = "text/plain; version=0.0.4";
+
+ private
+  static final String[] BUCKET_LABELS;
+ private
+  static final long[] BUCKET_BOUNDS_NANOS;
+
+  static {
+    BUCKET_LABELS = new String[19];
+    BUCKET_BOUNDS_NANOS = new long[19];
+    int[] mantissas = {1, 2, 5};
+    for (int i = 0; i < BUCKET_LABELS.length; i++) {
+      BigDecimal seconds = BigDecimal.valueOf(mantissas[i % 3])
+                               .scaleByPowerOfTen(i / 3 - 5);
+      BUCKET_LABELS[i] = seconds.stripTrailingZeros().toPlainString();
+      BUCKET_BOUNDS_NANOS[i] =
+          seconds.scaleByPowerOfTen(9).longValueExact();
+    }
+  }
+
+ private
+  final StringBuilder out;
+
+ public
+  PrometheusWriter(StringBuilder out) { this.out = out; }
+
+  /**
+   * Start a metric family.
+   *
+   * @param type counter, gauge or histogram.
+   */
+ public
+  PrometheusWriter family(String name, String type, String help) {
+    out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    return this;
+  }
+
+  /**
+   * Write a sample.
+   *
+   * @param labels Labels built with label(), or null.
+   */
+ public
+  PrometheusWriter sample(String name, String labels, long value) {
+    appendName(name, labels);
+    out.append(value).append('\n');
+    return this;
+  }
+
+ public
+  PrometheusWriter sample(String name, String labels, double value) {
+    appendName(name, labels);
+    out.append(value).append('\n');
+    return this;
+  }
+
+  /**
+   * Write the buckets, sum and count of a latency histogram. A bucket counts
+   * the histogram buckets whose largest latency is at most its bound, so
+   * latencies just above the bound are never counted as below it.
+   */
+ public
+  PrometheusWriter histogram(String name, String labels,
+                             RecordingHistogram.Snapshot snapshot) {
+    long cumulative = 0;
+    int bucket = 0;
+    for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+      for (; bucket < RecordingHistogram.getBucketCount() &&
+                 RecordingHistogram.getBucketUpperBoundNanos(bucket) <=
+                     BUCKET_BOUNDS_NANOS[i];
+           bucket++) {
+        cumulative += snapshot.getBucketCount(bucket);
+      }
+      bucketSample(name, labels, BUCKET_LABELS[i], cumulative);
+    }
+    bucketSample(name, labels, "+Inf", snapshot.getCount());
+    sample(name + "_sum", labels, snapshot.getSumNanos() / 1e9);
+    sample(name + "_count", labels, snapshot.getCount());
+    return this;
+  }
+
+  /**
+   * Return a label with its value escaped.
+   */
+ public
+  static String label(String name, String value) {
+    StringBuilder label = new StringBuilder(name).append("=\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\' || c == '"') {
+        label.append('\\').append(c);
+      } else if (c == '\n') {
+        label.append("\\n");
+      } else {
+        label.append(c);
+      }
+    }
+    return label.append('"').toString();
+  }
+
+ private
+  void bucketSample(String name, String labels, String le, long count) {
+    out.append(name).append("_bucket{");
+    if (labels != null) {
+      out.append(labels).append(',');
+    }
+    out.append("le=\"").append(le).append("\"} ").append(count).append('\n');
+  }
+
+ private
+  void appendName(String name, String labels) {
+    out.append(name);
+    if (labels != null) {
+      out.append('{').append(labels).append('}');
+    }
+    out.append(' ');
+  }
+}
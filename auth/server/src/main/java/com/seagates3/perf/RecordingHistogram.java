@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.perf;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies recorded from many threads without locks.
+ *
+ * Every recording thread counts into its own buckets, so recording is a few
+ * ordered stores which never contend with other threads. Buckets are
+ * log-linear like those of HdrHistogram: latencies below 64 ns are counted
+ * exactly and every power of two above is split in 32 buckets, so a
+ * reported latency is at most 3.2% above the recorded one. Latencies above
+ * MAX_TRACKABLE_NANOS, about 68 seconds, are counted in the last bucket.
+ *
+ * Snapshots add up the buckets of all threads while they keep recording.
+ */
+public
+class RecordingHistogram {
+
+ public
+  static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+ private
+  static final int SUB_BUCKET_BITS = 5;
+ private
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+ private
+  static final int EXACT_BUCKET_COUNT = 2 * SUB_BUCKET_COUNT;
+ private
+  static final int BUCKET_COUNT =
+      EXACT_BUCKET_COUNT + (36 - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT;
+
+ private
+  final ConcurrentLinkedQueue<Recorder> recorders =
+      new ConcurrentLinkedQueue<>();
+
+ private
+  final ThreadLocal<Recorder> recorder = new ThreadLocal<Recorder>() {
+    @Override protected Recorder initialValue() {
+      Recorder threadRecorder = new Recorder();
+      recorders.add(threadRecorder);
+      return threadRecorder;
+    }
+  };
+
+  /**
+   * Record a latency.
+   *
+   * @param nanos Latency in nanoseconds.
+   */
+ public
+  void record(long nanos) {
+    if (nanos < 0) {
+      nanos = 0;
+    } else if (nanos > MAX_TRACKABLE_NANOS) {
+      nanos = MAX_TRACKABLE_NANOS;
+    }
+    recorder.get().record(nanos);
+  }
+
+  /**
+   * Return the latencies recorded so far by all threads.
+   */
+ public
+  Snapshot snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    long sumNanos = 0;
+    long maxNanos = 0;
+    for (Recorder threadRecorder : recorders) {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        counts[i] += threadRecorder.counts.get(i);
+      }
+      sumNanos += threadRecorder.sumNanos.get();
+      maxNanos = Math.max(maxNanos, threadRecorder.maxNanos.get());
+    }
+    return new Snapshot(counts, sumNanos, maxNanos);
+  }
+
+  /**
+   * Return the number of buckets of every snapshot.
+   */
+ public
+  static int getBucketCount() { return BUCKET_COUNT; }
+
+  /**
+   * Return the largest latency, in nanoseconds, counted in a bucket.
+   */
+ public
+  static long getBucketUpperBoundNanos(int bucket) {
+    if (bucket < EXACT_BUCKET_COUNT) {
+      return bucket;
+    }
+    int shift = (bucket - EXACT_BUCKET_COUNT) / SUB_BUCKET_COUNT + 1;
+    long subBucket = (bucket - EXACT_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+    return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+  }
+
+  static int getBucket(long nanos) {
+    if (nanos < EXACT_BUCKET_COUNT) {
+      return (int)nanos;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+    int subBucket = (int)(nanos >>> shift) - SUB_BUCKET_COUNT;
+    return EXACT_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * Buckets of one thread. Only the owning thread writes them, so counts are
+   * updated with lazySet instead of atomic increments.
+   */
+ private
+  static final class Recorder {
+
+    final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    final AtomicLong sumNanos = new AtomicLong();
+    final AtomicLong maxNanos = new AtomicLong();
+
+    void record(long nanos) {
+      int bucket = getBucket(nanos);
+      counts.lazySet(bucket, counts.get(bucket) + 1);
+      sumNanos.lazySet(sumNanos.get() + nanos);
+      if (nanos > maxNanos.get()) {
+        maxNanos.lazySet(nanos);
+      }
+    }
+  }
+
+  /**
+   * Immutable copy of the buckets of a histogram.
+   */
+ public
+  static final class Snapshot {
+
+   private
+    final long[] counts;
+   private
+    final long count;
+   private
+    final long sumNanos;
+   private
+    final long maxNanos;
+
+    Snapshot(long[] counts, long sumNanos, long maxNanos) {
+      long total = 0;
+      for (long bucketCount : counts) {
+        total += bucketCount;
+      }
+      this.counts = counts;
+      this.count = total;
+      this.sumNanos = sumNanos;
+      this.maxNanos = maxNanos;
+    }
+
+   public
+    long getCount() { return count; }
+
+   public
+    long getSumNanos() { return sumNanos; }
+
+   public
+    long getMaxNanos() { return maxNanos; }
+
+   public
+    double getMeanNanos() { return count == 0 ? 0 : (double)sumNanos / count; }
+
+    /**
+     * Return the number of latencies in a bucket.
+     */
+   public
+    long getBucketCount(int bucket) { return counts[bucket]; }
+
+    /**
+     * Return the upper bound, in nanoseconds, of the bucket which holds the
+     * percentile. It is never above the maximum latency.
+     *
+     * @param percentile Percentile between 0 and 100.
+     */
+   public
+    long getPercentileNanos(double percentile) {
+      if (count == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long)Math.ceil(count * percentile / 100.0));
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return Math.min(getBucketUpperBoundNanos(i), maxNanos);
+        }
+      }
+      return maxNanos;
+    }
+
+    /**
+     * Return the latencies recorded since an earlier snapshot of the same
+     * histogram. The maximum is that of the highest bucket recorded since.
+     */
+   public
+    Snapshot since(Snapshot earlier) {
+      long[] diff = new long[counts.length];
+      long max = 0;
+      for (int i = 0; i < counts.length; i++) {
+        diff[i] = counts[i] - earlier.counts[i];
+        if (diff[i] > 0) {
+          max = Math.min(getBucketUpperBoundNanos(i), maxNanos);
+        }
+      }
+      return new Snapshot(diff, sumNanos - earlier.sumNanos, max);
+    }
+  }
+}
@@ -20,22 +20,17 @@
 
 package com.seagates3.policy;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
-import com.amazonaws.auth.policy.Action;
-import com.amazonaws.auth.policy.Condition;
-import com.amazonaws.auth.policy.Policy;
-import com.amazonaws.auth.policy.Principal;
-import com.amazonaws.auth.policy.Statement;
 import com.amazonaws.auth.policy.Statement.Effect;
 import com.amazonaws.util.json.JSONException;
-import com.amazonaws.util.json.JSONObject;
 import com.seagates3.acl.AccessControlList;
 import com.seagates3.authorization.Authorizer;
-import com.seagates3.dao.ldap.AccountImpl;
-import com.seagates3.dao.ldap.UserImpl;
+import com.seagates3.cache.PrincipalCache;
+import com.seagates3.dao.AccountDAO;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
+import com.seagates3.dao.UserDAO;
 import com.seagates3.exception.DataAccessException;
 import com.seagates3.model.Account;
 import com.seagates3.model.Requestor;
@@ -119,37 +114,19 @@ class BucketPolicyAuthorizer extends PolicyAuthorizer {
     AuthorizationResponseGenerator responseGenerator =
         new AuthorizationResponseGenerator();
 
-    JSONObject obj = new JSONObject(requestBody.get("Policy"));
-    String policyString = obj.toString();
-    policyString = policyString.replace(
-        "CanonicalUser",
-        "Service");  // TODO:temporary solution till we implement parser
-    Policy existingPolicy = Policy.fromJson(policyString);
+    CompiledBucketPolicy existingPolicy =
+        BucketPolicyCache.get(requestBody.get("Policy"));
     String requestedResource =
         PolicyUtil.getResourceFromUri(requestBody.get("ClientAbsoluteUri"));
     String resourceOwner = new AccessControlList().getOwner(requestBody);
 
-    List<Statement> statementList =
-        new ArrayList<Statement>(existingPolicy.getStatements());
-    for (Statement stmt : statementList) {
-      List<Principal> principalList = stmt.getPrincipals();
-      List<Condition> conditions = stmt.getConditions();
-      if (isPrincipalMatching(principalList, requestor)) {
-        List<String> resourceList =
-            PolicyUtil.convertCommaSeparatedStringToList(
-                stmt.getResources().get(0).getId());
-        if (isResourceMatching(resourceList, requestedResource)) {
-          List<Action> actionsList = stmt.getActions();
-          if (isActionMatching(actionsList, requestedOperation)) {
-            if (isConditionMatching(conditions, requestBody)) {
-              if (stmt.getEffect().equals(Effect.Allow)) {
-                response = responseGenerator.ok();
-              } else {
-                response = responseGenerator.AccessDenied();
-              }
-            }
-          }
-        }
+    Effect effect = existingPolicy.evaluate(requestor, requestedOperation,
+                                            requestedResource, requestBody);
+    if (effect != null) {
+      if (effect.equals(Effect.Allow)) {
+        response = responseGenerator.ok();
+      } else {
+        response = responseGenerator.AccessDenied();
       }
     }
       // Below will handle Get/Put/Delete Bucket Policy
@@ -159,15 +136,13 @@ class BucketPolicyAuthorizer extends PolicyAuthorizer {
         }
       if (response != null &&
           response.getResponseStatus() == HttpResponseStatus.OK) {
-        Account ownerAccount =
-            new AccountImpl().findByCanonicalID(resourceOwner);
+        Account ownerAccount = findAccountByCanonicalId(resourceOwner);
         if (!ownerAccount.getName().equals(requestor.getAccount().getName())) {
           response = responseGenerator.methodNotAllowed(
               "The specified method is not allowed against this resource.");
         }
       } else {
-        boolean isRootUser = Authorizer.isRootUser(
-            new UserImpl().findByUserId(requestor.getId()));
+        boolean isRootUser = isRootUser(requestor.getId());
         if (isRootUser &&
             requestor.getAccount().getCanonicalId().equals(resourceOwner)) {
           response = responseGenerator.ok();
@@ -181,8 +156,7 @@ class BucketPolicyAuthorizer extends PolicyAuthorizer {
         }
         if (response != null &&
             response.getResponseStatus() == HttpResponseStatus.OK) {
-          boolean isRootUser = Authorizer.isRootUser(
-              new UserImpl().findByUserId(requestor.getId()));
+          boolean isRootUser = isRootUser(requestor.getId());
           if (isRootUser ||
               requestor.getAccount().getCanonicalId().equals(resourceOwner)) {
             response = responseGenerator.ok();
@@ -195,145 +169,36 @@ class BucketPolicyAuthorizer extends PolicyAuthorizer {
   }
 
   /**
-   * Below method will validate requested account against principal inside
-   *policy
-   *
-   * @param principalList
-   * @param requestor
-   * @return
-   * @throws DataAccessException
-   */
- private
-  boolean isPrincipalMatching(List<Principal> principalList,
-                              Requestor requestor) throws DataAccessException {
-    boolean isMatching = false;
-    for (Principal principal : principalList) {
-      String provider = principal.getProvider();
-      String principalId = principal.getId();
-      if ("*".equals(principalId)) {
-        return true;
-      }
-      if (requestor == null) {
-        return false;
-      }
-      switch (provider) {
-        case "AWS":
-          if (new PrincipalArnParser().isArnFormatValid(principalId)) {
-            User user = new UserImpl().findByArn(principalId);
-            if (user != null && user.exists() &&
-                user.getId().equals(requestor.getId())) {
-              isMatching = true;
-            }
-          } else {
-            if (principalId.equals(requestor.getAccount().getId())) {
-              isMatching = true;
-            } else if (principalId.equals(requestor.getId())) {
-              isMatching = true;
-            }
-          }
-          break;
-        case "Service":
-          if (principalId.equals(requestor.getAccount().getCanonicalId())) {
-            isMatching = true;
-          }
-          break;
-      }
-      if (isMatching) {
-        break;
-      }
-    }
-    LOGGER.debug("isPrincipalMatching:: result - " +
-                 String.valueOf(isMatching));
-    return isMatching;
-  }
-
-  /**
-   * Below will validate requested resource against resource inside policy
-   *
-   * @param resourceList
-   * @param requestedResource
-   * @return
+   * Return true if the user is the root user of its account. The result is
+   * kept in PrincipalCache.
    */
  private
-  boolean isResourceMatching(List<String> resourceList,
-                             String requestedResource) {
-    boolean isMatching = false;
-    for (String resourceArn : resourceList) {
-      String resource = PolicyUtil.getResourceFromResourceArn(resourceArn);
-      if (PolicyUtil.isPatternMatching(requestedResource, resource)) {
-        isMatching = true;
-        break;
-      }
+  boolean isRootUser(String userId) throws DataAccessException {
+    Boolean isRootUser = PrincipalCache.isRootUser(userId);
+    if (isRootUser == null) {
+      User user = ((UserDAO)DAODispatcher.getResourceDAO(DAOResource.USER))
+                      .findByUserId(userId);
+      PrincipalCache.putRootUser(userId, user);
+      isRootUser = Authorizer.isRootUser(user);
     }
-    LOGGER.debug("isResourceMatching:: result - " + String.valueOf(isMatching));
-    return isMatching;
+    return isRootUser;
   }
 
   /**
-   * Below will validate requested operation against the actions inside policy
-   * including wildcard-chars
-   *
-   * @param actionsList
-   * @param requestedOperation
-   * @return
+   * Return the account with the canonical id. The account is kept in
+   * PrincipalCache.
    */
  private
-  boolean isActionMatching(List<Action> actionsList,
-                           String requestedOperation) {
-    boolean isMatching = false;
-    for (Action action : actionsList) {
-      List<String> matchingActionsList =
-          PolicyUtil.getAllMatchingActions(action.getActionName());
-      for (String matchingAction : matchingActionsList) {
-        if (matchingAction.equals(requestedOperation)) {
-          isMatching = true;
-          break;
-        }
-      }
-      if (isMatching) {
-        break;
-      }
-    }
-    LOGGER.debug("isActionMatching:: result - " + String.valueOf(isMatching));
-    return isMatching;
-  }
-
-  /**
-   * Checks if the Conditions from policy are satisfied in the request.
-   * Returns true if there are no conditions in policy.
-   * @param conditions
-   * @param requestBody
-   * @return - true if policy conditions are satisfied
-   */
- private
-  boolean isConditionMatching(List<Condition> conditions,
-                              Map<String, String> requestBody) {
-    if (conditions.isEmpty()) return true;
-
-    /**
-     * Check if the headers from requestBody satisfy the policy conditions
-     * Sample Condition -
-     * "Condition": {
-     *   "StringEquals": {
-     *     "s3:x-amz-acl": ["bucket-owner-read", "bucket-owner-full-control"]
-     *   }
-     * }
-     */
-    boolean result = false;
-    for (Condition condition : conditions) {
-      PolicyCondition pc = ConditionFactory.getCondition(
-          condition.getType(),
-          ConditionUtil.removeKeyPrefix(condition.getConditionKey()),
-          condition.getValues());
-      if (pc != null)
-        result = pc.isSatisfied(requestBody);
-      else
-        result = false;
-
-      if (!result) break;
+  Account findAccountByCanonicalId(String canonicalId)
+      throws DataAccessException {
+    Account account = PrincipalCache.getAccount(canonicalId);
+    if (account == null) {
+      account =
+          ((AccountDAO)DAODispatcher.getResourceDAO(DAOResource.ACCOUNT))
+              .findByCanonicalID(canonicalId);
+      PrincipalCache.putAccount(canonicalId, account);
     }
-    LOGGER.debug("isConditionMatching:: result - " + String.valueOf(result));
-    return result;
+    return account;
   }
 }
 
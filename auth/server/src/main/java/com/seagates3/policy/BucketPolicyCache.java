@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.policy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.amazonaws.util.json.JSONException;
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.cache.ExpiringCache;
+import com.seagates3.util.BinaryUtil;
+
+/**
+ * Cache of compiled bucket policies, keyed by the SHA-256 hash of the policy
+ * JSON sent by S3 server.
+ *
+ * The policy JSON never changes for a given key. Entries expire after
+ * bucketPolicyCacheTTL seconds so that policies of deleted buckets do not
+ * linger until evicted.
+ *
+ * The cache is created during startup in main method. Until then, or when it
+ * is disabled, every call compiles the policy.
+ */
+public
+class BucketPolicyCache {
+
+ private
+  static final Logger LOGGER =
+      LoggerFactory.getLogger(BucketPolicyCache.class.getName());
+
+ private
+  static ExpiringCache<String, CompiledBucketPolicy> cache;
+
+ private
+  BucketPolicyCache() {}
+
+ public
+  static void init() {
+    if (!AuthServerConfig.isBucketPolicyCacheEnabled()) {
+      cache = null;
+      LOGGER.info("Bucket policy cache is disabled");
+      return;
+    }
+
+    cache = new ExpiringCache<>(AuthServerConfig.getBucketPolicyCacheSize(),
+                                AuthServerConfig.getBucketPolicyCacheTTL(),
+                                TimeUnit.SECONDS);
+    LOGGER.info("Created bucket policy cache of size " +
+                AuthServerConfig.getBucketPolicyCacheSize());
+  }
+
+ public
+  static boolean isEnabled() { return cache != null; }
+
+  /**
+   * Return the compiled policy, compiling it only if it is not cached.
+   *
+   * @throws JSONException If the policy is not valid JSON.
+   */
+  static CompiledBucketPolicy get(String policyJson) throws JSONException {
+    if (cache == null) {
+      return CompiledBucketPolicy.compile(policyJson);
+    }
+
+    String key = BinaryUtil.base64EncodedHash(policyJson);
+    CompiledBucketPolicy policy = cache.get(key);
+    if (policy == null) {
+      policy = CompiledBucketPolicy.compile(policyJson);
+      cache.put(key, policy);
+    }
+    return policy;
+  }
+
+ public
+  static void invalidateAll() {
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+ public
+  static long getHitCount() { return cache == null ? 0 : cache.getHitCount(); }
+
+ public
+  static long getMissCount() {
+    return cache == null ? 0 : cache.getMissCount();
+  }
+
+ public
+  static long getEvictionCount() {
+    return cache == null ? 0 : cache.getEvictionCount();
+  }
+
+ public
+  static int size() { return cache == null ? 0 : cache.size(); }
+}
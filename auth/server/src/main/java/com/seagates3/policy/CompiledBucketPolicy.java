@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.policy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.amazonaws.auth.policy.Action;
+import com.amazonaws.auth.policy.Condition;
+import com.amazonaws.auth.policy.Policy;
+import com.amazonaws.auth.policy.Principal;
+import com.amazonaws.auth.policy.Statement;
+import com.amazonaws.auth.policy.Statement.Effect;
+import com.amazonaws.util.json.JSONArray;
+import com.amazonaws.util.json.JSONException;
+import com.amazonaws.util.json.JSONObject;
+import com.seagates3.cache.PrincipalCache;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
+import com.seagates3.dao.UserDAO;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.Requestor;
+import com.seagates3.model.User;
+
+/**
+ * Bucket policy compiled for evaluation.
+ *
+ * Statements are indexed by every S3 action their actions match, resource
+ * ARNs are compiled to pattern matchers and conditions are created once.
+ * Principal ARNs are resolved to user ids through PrincipalCache.
+ *
+ * A compiled policy is immutable and is shared by concurrent requests.
+ */
+class CompiledBucketPolicy {
+
+ private
+  static final String CANONICAL_USER = "CanonicalUser";
+
+ private
+  static final CompiledStatement[] NO_STATEMENTS = new CompiledStatement[0];
+
+  // Statements in policy order, by lower case S3 action.
+ private
+  final Map<String, CompiledStatement[]> statementsByAction;
+
+ private
+  CompiledBucketPolicy(Map<String, CompiledStatement[]> statementsByAction) {
+    this.statementsByAction = statementsByAction;
+  }
+
+  /**
+   * Compile the bucket policy JSON.
+   *
+   * @throws JSONException If the policy is not valid JSON.
+   */
+  static CompiledBucketPolicy compile(String policyJson) throws JSONException {
+    JSONObject policyObject = new JSONObject(policyJson);
+    List<List<String>> canonicalIds = removeCanonicalUsers(policyObject);
+    Policy policy = Policy.fromJson(policyObject.toString());
+
+    Map<String, List<CompiledStatement>> statements = new HashMap<>();
+    int index = 0;
+    for (Statement statement : policy.getStatements()) {
+      CompiledStatement compiled =
+          new CompiledStatement(statement, canonicalIds.get(index++));
+      for (String action : compiled.actions) {
+        List<CompiledStatement> list = statements.get(action);
+        if (list == null) {
+          list = new ArrayList<>();
+          statements.put(action, list);
+        }
+        list.add(compiled);
+      }
+    }
+
+    Map<String, CompiledStatement[]> statementsByAction = new HashMap<>();
+    for (Map.Entry<String, List<CompiledStatement>> entry :
+         statements.entrySet()) {
+      statementsByAction.put(entry.getKey(), entry.getValue().toArray(
+                                                 NO_STATEMENTS));
+    }
+    return new CompiledBucketPolicy(
+        Collections.unmodifiableMap(statementsByAction));
+  }
+
+  /**
+   * Remove the CanonicalUser principals, which the SDK policy reader does not
+   * accept, from the statements and return their ids in statement order.
+   */
+ private
+  static List<List<String>> removeCanonicalUsers(JSONObject policy)
+      throws JSONException {
+    List<JSONObject> statements = new ArrayList<>();
+    JSONArray statementArray = policy.optJSONArray("Statement");
+    if (statementArray != null) {
+      for (int i = 0; i < statementArray.length(); i++) {
+        statements.add(statementArray.getJSONObject(i));
+      }
+    } else if (policy.optJSONObject("Statement") != null) {
+      statements.add(policy.getJSONObject("Statement"));
+    }
+
+    List<List<String>> canonicalIds = new ArrayList<>();
+    for (JSONObject statement : statements) {
+      List<String> ids = new ArrayList<>();
+      JSONObject principal = statement.optJSONObject("Principal");
+      Object value =
+          principal == null ? null : principal.remove(CANONICAL_USER);
+      if (value instanceof JSONArray) {
+        JSONArray values = (JSONArray)value;
+        for (int i = 0; i < values.length(); i++) {
+          ids.add(values.getString(i));
+        }
+      } else if (value != null) {
+        ids.add(value.toString());
+      }
+      canonicalIds.add(ids);
+    }
+    return canonicalIds;
+  }
+
+  /**
+   * Return the effect of the last statement of the policy which matches the
+   * request, or null if no statement matches.
+   *
+   * @param requestor Requestor, null for anonymous requests.
+   * @param requestedOperation Lower case S3 action, e.g. s3:getobject.
+   * @param requestedResource Bucket or bucket/object being accessed.
+   * @param requestBody Request, for the conditions of the statements.
+   * @throws DataAccessException If a principal ARN can not be resolved.
+   */
+  Effect evaluate(Requestor requestor, String requestedOperation,
+                  String requestedResource, Map<String, String> requestBody)
+      throws DataAccessException {
+    CompiledStatement[] statements = statementsByAction.get(requestedOperation);
+    if (statements == null) {
+      return null;
+    }
+
+    // A later matching statement overrides earlier ones.
+    for (int i = statements.length - 1; i >= 0; i--) {
+      CompiledStatement statement = statements[i];
+      if (statement.isResourceMatching(requestedResource) &&
+          statement.isPrincipalMatching(requestor) &&
+          isConditionMatching(statement.conditions, requestBody)) {
+        return statement.effect;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Create the policy conditions of the statement conditions. A condition of
+   * an unknown type is null and is never satisfied.
+   */
+  static List<PolicyCondition> compileConditions(List<Condition> conditions) {
+    List<PolicyCondition> policyConditions = new ArrayList<>();
+    for (Condition condition : conditions) {
+      policyConditions.add(ConditionFactory.getCondition(
+          condition.getType(),
+          ConditionUtil.removeKeyPrefix(condition.getConditionKey()),
+          condition.getValues()));
+    }
+    return policyConditions;
+  }
+
+  /**
+   * Return true if all the conditions are satisfied by the request or there
+   * are no conditions.
+   */
+  static boolean isConditionMatching(List<PolicyCondition> conditions,
+                                     Map<String, String> requestBody) {
+    for (int i = 0; i < conditions.size(); i++) {
+      PolicyCondition condition = conditions.get(i);
+      if (condition == null || !condition.isSatisfied(requestBody)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+ private
+  static class CompiledStatement {
+
+    final Effect effect;
+    final Set<String> actions = new LinkedHashSet<>();
+    final PatternMatcher[] resources;
+    final CompiledPrincipal[] principals;
+    final List<PolicyCondition> conditions;
+
+    CompiledStatement(Statement statement, List<String> canonicalIds) {
+      effect = statement.getEffect();
+
+      for (Action action : statement.getActions()) {
+        actions.addAll(
+            PolicyUtil.getAllMatchingActions(action.getActionName()));
+      }
+
+      List<String> resourceArns = PolicyUtil.convertCommaSeparatedStringToList(
+          statement.getResources().get(0).getId());
+      resources = new PatternMatcher[resourceArns.size()];
+      for (int i = 0; i < resources.length; i++) {
+        resources[i] = PatternMatcher.compile(
+            PolicyUtil.getResourceFromResourceArn(resourceArns.get(i)));
+      }
+
+      List<Principal> principalList = statement.getPrincipals();
+      principals =
+          new CompiledPrincipal[principalList.size() + canonicalIds.size()];
+      int i = 0;
+      for (Principal principal : principalList) {
+        principals[i++] = new CompiledPrincipal(principal.getProvider(),
+                                                principal.getId());
+      }
+      for (String canonicalId : canonicalIds) {
+        principals[i++] = new CompiledPrincipal(CANONICAL_USER, canonicalId);
+      }
+
+      conditions = compileConditions(statement.getConditions());
+    }
+
+    boolean isResourceMatching(String requestedResource) {
+      for (PatternMatcher resource : resources) {
+        if (resource.matches(requestedResource)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * A wildcard principal matches any requestor, other principals never
+     * match an anonymous requestor.
+     */
+    boolean isPrincipalMatching(Requestor requestor)
+        throws DataAccessException {
+      for (CompiledPrincipal principal : principals) {
+        if (principal.isWildcard) {
+          return true;
+        }
+        if (requestor != null && principal.matches(requestor)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+ private
+  static class CompiledPrincipal {
+
+    final String provider;
+    final String id;
+    final boolean isWildcard;
+    final boolean isArn;
+
+    CompiledPrincipal(String provider, String id) {
+      this.provider = provider;
+      this.id = id;
+      isWildcard = "*".equals(id);
+      isArn = "AWS".equals(provider) &&
+              new PrincipalArnParser().isArnFormatValid(id);
+    }
+
+    boolean matches(Requestor requestor) throws DataAccessException {
+      switch (provider) {
+        case "AWS":
+          if (isArn) {
+            return getUserId().equals(requestor.getId());
+          }
+          return id.equals(requestor.getAccount().getId()) ||
+              id.equals(requestor.getId());
+        case CANONICAL_USER:
+        case "Service":
+          return id.equals(requestor.getAccount().getCanonicalId());
+        default:
+          return false;
+      }
+    }
+
+   private
+    String getUserId() throws DataAccessException {
+      String userId = PrincipalCache.getUserId(id);
+      if (userId == null) {
+        User user = ((UserDAO)DAODispatcher.getResourceDAO(DAOResource.USER))
+                        .findByArn(id);
+        PrincipalCache.putUserId(id, user);
+        userId = (user != null && user.exists()) ? user.getId()
+                                                 : PrincipalCache.NO_USER_ID;
+      }
+      return userId;
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.policy;
+
+/**
+ * Wildcard pattern compiled once for repeated matching. '*' matches any
+ * sequence of characters, including an empty one, and '?' matches any single
+ * character.
+ *
+ * Patterns without wildcards and patterns whose only wildcard is a trailing
+ * '*' are matched without walking the pattern. Other patterns check the fixed
+ * length head before the first '*' and tail after the last '*' first, then
+ * match the rest greedily. Matching does not allocate.
+ */
+public
+class PatternMatcher {
+
+ private
+  enum Kind {
+    ANY,
+    EXACT,
+    PREFIX,
+    WILDCARD
+  }
+
+ private
+  final String pattern;
+ private
+  final Kind kind;
+ private
+  final String literal;
+
+  // Index of the first and last '*' of a wildcard pattern, -1 if none.
+ private
+  final int firstStar;
+ private
+  final int lastStar;
+
+ private
+  PatternMatcher(String pattern, Kind kind, String literal) {
+    this.pattern = pattern;
+    this.kind = kind;
+    this.literal = literal;
+    this.firstStar = pattern.indexOf('*');
+    this.lastStar = pattern.lastIndexOf('*');
+  }
+
+ public
+  static PatternMatcher compile(String pattern) {
+    int star = pattern.indexOf('*');
+    boolean hasQuestionMark = pattern.indexOf('?') >= 0;
+
+    if (star < 0 && !hasQuestionMark) {
+      return new PatternMatcher(pattern, Kind.EXACT, pattern);
+    }
+    if (!hasQuestionMark && star == pattern.length() - 1) {
+      if (star == 0) {
+        return new PatternMatcher(pattern, Kind.ANY, null);
+      }
+      return new PatternMatcher(pattern, Kind.PREFIX,
+                                pattern.substring(0, star));
+    }
+    return new PatternMatcher(pattern, Kind.WILDCARD, null);
+  }
+
+ public
+  boolean matches(String input) {
+    switch (kind) {
+      case ANY:
+        return true;
+      case EXACT:
+        return literal.equals(input);
+      case PREFIX:
+        return input.startsWith(literal);
+      default:
+        return matchesWildcard(input);
+    }
+  }
+
+ public
+  String getPattern() { return pattern; }
+
+  /**
+   * Match the input against a pattern which is not compiled.
+   */
+ public
+  static boolean matches(String input, String pattern) {
+    return matches(input, 0, input.length(), pattern, 0, pattern.length());
+  }
+
+ private
+  boolean matchesWildcard(String input) {
+    int inputLength = input.length();
+    int patternLength = pattern.length();
+    if (firstStar < 0) {
+      return inputLength == patternLength &&
+          matchesFixed(input, 0, pattern, 0, patternLength);
+    }
+
+    int tailLength = patternLength - lastStar - 1;
+    if (inputLength < firstStar + tailLength ||
+        !matchesFixed(input, 0, pattern, 0, firstStar) ||
+        !matchesFixed(input, inputLength - tailLength, pattern, lastStar + 1,
+                      tailLength)) {
+      return false;
+    }
+    return matches(input, firstStar, inputLength - tailLength, pattern,
+                   firstStar, lastStar + 1);
+  }
+
+ private
+  static boolean matchesFixed(String input, int inputStart, String pattern,
+                              int patternStart, int length) {
+    for (int i = 0; i < length; i++) {
+      char p = pattern.charAt(patternStart + i);
+      if (p != '?' && p != input.charAt(inputStart + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Greedy glob match of input[inputStart, inputEnd) against
+   * pattern[patternStart, patternEnd). On a mismatch the last '*' seen
+   * absorbs one more input character and matching resumes after it. Earlier
+   * '*' never need to be revisited, since whatever the later '*' can match
+   * they could match as well.
+   */
+ private
+  static boolean matches(String input, int inputStart, int inputEnd,
+                         String pattern, int patternStart, int patternEnd) {
+    int i = inputStart;
+    int p = patternStart;
+    int starPattern = -1;
+    int starInput = 0;
+
+    while (i < inputEnd) {
+      if (p < patternEnd) {
+        char c = pattern.charAt(p);
+        if (c == '*') {
+          starPattern = p++;
+          starInput = i;
+          continue;
+        }
+        if (c == '?' || c == input.charAt(i)) {
+          i++;
+          p++;
+          continue;
+        }
+      }
+      if (starPattern < 0) {
+        return false;
+      }
+      p = starPattern + 1;
+      i = ++starInput;
+    }
+
+    while (p < patternEnd && pattern.charAt(p) == '*') {
+      p++;
+    }
+    return p == patternEnd;
+  }
+}
@@ -121,28 +121,7 @@ class PolicyUtil {
    */
  public
   static boolean isPatternMatching(String input, String pattern) {
-    int inputLength = input.length();
-    int patternLength = pattern.length();
-    if (patternLength == 0) return (inputLength == 0);
-    boolean[][] data = new boolean[inputLength + 1][patternLength + 1];
-    for (int count = 0; count < inputLength + 1; count++)
-      Arrays.fill(data[count], false);
-    data[0][0] = true;
-    // Only '*' can match with empty string
-    for (int count = 1; count <= patternLength; count++)
-      if (pattern.charAt(count - 1) == '*') data[0][count] = data[0][count - 1];
-    for (int i = 1; i <= inputLength; i++) {
-      for (int j = 1; j <= patternLength; j++) {
-        if (pattern.charAt(j - 1) == '*')
-          data[i][j] = data[i][j - 1] || data[i - 1][j];
-        else if (pattern.charAt(j - 1) == '?' ||
-                 input.charAt(i - 1) == pattern.charAt(j - 1))
-          data[i][j] = data[i - 1][j - 1];
-        else
-          data[i][j] = false;
-      }
-    }
-    return data[inputLength][patternLength];
+    return PatternMatcher.matches(input, pattern);
   }
 
  public
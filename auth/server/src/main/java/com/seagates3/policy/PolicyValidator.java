@@ -31,8 +31,10 @@ import com.amazonaws.auth.policy.Principal;
 import com.amazonaws.auth.policy.Resource;
 import com.amazonaws.auth.policy.Statement;
 import com.amazonaws.auth.policy.Statement.Effect;
-import com.seagates3.dao.ldap.AccountImpl;
-import com.seagates3.dao.ldap.UserImpl;
+import com.seagates3.dao.AccountDAO;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
+import com.seagates3.dao.UserDAO;
 import com.seagates3.exception.DataAccessException;
 import com.seagates3.model.Account;
 import com.seagates3.model.User;
@@ -168,8 +170,9 @@ abstract class PolicyValidator {
     boolean isValid = true;
     String provider = principal.getProvider();
     String id = principal.getId();
-    AccountImpl accountImpl = new AccountImpl();
-    UserImpl userImpl = new UserImpl();
+    AccountDAO accountDAO =
+        (AccountDAO)DAODispatcher.getResourceDAO(DAOResource.ACCOUNT);
+    UserDAO userDAO = (UserDAO)DAODispatcher.getResourceDAO(DAOResource.USER);
     Account account = null;
     switch (provider) {
       case "AWS":
@@ -177,14 +180,14 @@ abstract class PolicyValidator {
         User user = null;
         try {
           if (new PrincipalArnParser().isArnFormatValid(id)) {
-            user = userImpl.findByArn(id);
+            user = userDAO.findByArn(id);
             if (user == null || !user.exists()) {
               isValid = false;
             }
           } else {
-            account = accountImpl.findByID(id);
+            account = accountDAO.findByID(id);
             if (account == null || !account.exists()) {
-              user = userImpl.findByUserId(id);
+              user = userDAO.findByUserId(id);
               if (user == null || !user.exists()) {
                 isValid = false;
               }
@@ -199,7 +202,7 @@ abstract class PolicyValidator {
       case "Service":
         account = null;
         try {
-          account = accountImpl.findByCanonicalID(id);
+          account = accountDAO.findByCanonicalID(id);
         }
         catch (DataAccessException e) {
           LOGGER.error(
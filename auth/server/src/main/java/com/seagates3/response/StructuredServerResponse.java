@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.response;
+
+import java.util.Map;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+
+/**
+ * Response which keeps the elements it is made of and writes its body only
+ * when the body is first read.
+ *
+ * The elements of a successful response are the elements of its result. The
+ * elements of an error are the details written next to the code and message.
+ * Clients of the binary protocol receive the elements directly, so no XML is
+ * written for them.
+ */
+public
+abstract class StructuredServerResponse extends ServerResponse {
+
+ private
+  final String requestId;
+ private
+  final Map<String, String> elements;
+ private
+  final String errorCode;
+ private
+  final String errorMessage;
+ private
+  boolean formatted;
+
+  /**
+   * Successful response.
+   */
+ protected
+  StructuredServerResponse(HttpResponseStatus status, String requestId,
+                           Map<String, String> elements) {
+    this(status, requestId, elements, null, null);
+  }
+
+ protected
+  StructuredServerResponse(HttpResponseStatus status, String requestId,
+                           Map<String, String> elements, String errorCode,
+                           String errorMessage) {
+    this.responseStatus = status;
+    this.requestId = requestId;
+    this.elements = elements;
+    this.errorCode = errorCode;
+    this.errorMessage = errorMessage;
+  }
+
+  /**
+   * Write the body of the response, or return null if it cannot be written.
+   */
+ protected
+  abstract String formatBody();
+
+  @Override public String getResponseBody() {
+    if (!formatted) {
+      responseBody = formatBody();
+      formatted = true;
+    }
+    return responseBody;
+  }
+
+  @Override public void setResponseBody(String body) {
+    responseBody = body;
+    formatted = true;
+  }
+
+ public
+  String getRequestId() {
+    return requestId;
+  }
+
+ public
+  Map<String, String> getElements() {
+    return elements;
+  }
+
+ public
+  boolean isError() {
+    return errorCode != null;
+  }
+
+ public
+  String getErrorCode() {
+    return errorCode;
+  }
+
+ public
+  String getErrorMessage() {
+    return errorMessage;
+  }
+}
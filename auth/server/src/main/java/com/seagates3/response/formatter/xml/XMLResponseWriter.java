@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.response.formatter.xml;
+
+import java.util.Map;
+
+/**
+ * Writes an XML response document directly to a character buffer.
+ *
+ * The output is the same as serializing the equivalent DOM document with the
+ * default Transformer: a standalone="no" declaration, no indentation, empty
+ * elements written as <Name/> and the same character escapes. The fixed
+ * fragments of every response (declaration, ResponseMetadata) are constants.
+ *
+ * Elements are closed in the reverse order they were started. Writing a null
+ * value fails the document, and toXML returns null, as the Transformer does.
+ */
+public
+class XMLResponseWriter {
+
+ private
+  static final String XML_DECLARATION =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>";
+ private
+  static final String RESPONSE_METADATA_START = "<ResponseMetadata>";
+ private
+  static final String RESPONSE_METADATA_END = "</ResponseMetadata>";
+
+ private
+  static final int INITIAL_CAPACITY = 512;
+ private
+  static final int MAX_DEPTH = 8;
+
+ private
+  final StringBuilder out;
+
+  /**
+   * Names of the started elements which are not closed yet.
+   */
+ private
+  String[] open = new String[MAX_DEPTH];
+ private
+  int depth;
+
+  /**
+   * True when the start tag of the innermost element is missing its '>'.
+   */
+ private
+  boolean startTagOpen;
+ private
+  boolean failed;
+
+  /**
+   * Start a document whose root element has the given name and namespace.
+   */
+ public
+  XMLResponseWriter(String root, String namespace) {
+    out = new StringBuilder(INITIAL_CAPACITY);
+    out.append(XML_DECLARATION);
+    startElement(root);
+    out.append(" xmlns=\"");
+    appendEscaped(namespace, true);
+    out.append('"');
+  }
+
+ public
+  XMLResponseWriter startElement(String name) {
+    closeStartTag();
+    if (depth == open.length) {
+      String[] names = new String[depth * 2];
+      System.arraycopy(open, 0, names, 0, depth);
+      open = names;
+    }
+    open[depth++] = name;
+    out.append('<').append(name);
+    startTagOpen = true;
+    return this;
+  }
+
+ public
+  XMLResponseWriter endElement() {
+    String name = open[--depth];
+    open[depth] = null;
+    if (startTagOpen) {
+      out.append("/>");
+      startTagOpen = false;
+    } else {
+      out.append("</").append(name).append('>');
+    }
+    return this;
+  }
+
+  /**
+   * Write an element with a text value.
+   */
+ public
+  XMLResponseWriter element(String name, String value) {
+    startElement(name);
+    text(value);
+    return endElement();
+  }
+
+  /**
+   * Write an element for every entry of the map, in iteration order.
+   */
+ public
+  XMLResponseWriter elements(Map<String, String> entries) {
+    for (Map.Entry<String, String> entry : entries.entrySet()) {
+      element(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+ public
+  XMLResponseWriter text(String value) {
+    if (value == null) {
+      failed = true;
+      return this;
+    }
+    if (value.isEmpty()) {
+      return this;
+    }
+    closeStartTag();
+    appendEscaped(value, false);
+    return this;
+  }
+
+  /**
+   * Write the ResponseMetadata element with the request id.
+   */
+ public
+  XMLResponseWriter responseMetadata(String requestId) {
+    closeStartTag();
+    out.append(RESPONSE_METADATA_START);
+    element("RequestId", requestId);
+    out.append(RESPONSE_METADATA_END);
+    return this;
+  }
+
+  /**
+   * Close the open elements and return the document, or null if a null value
+   * was written.
+   */
+ public
+  String toXML() {
+    while (depth > 0) {
+      endElement();
+    }
+    if (failed) {
+      return null;
+    }
+    return out.toString();
+  }
+
+ private
+  void closeStartTag() {
+    if (startTagOpen) {
+      out.append('>');
+      startTagOpen = false;
+    }
+  }
+
+  /**
+   * Escape markup characters, and write control and supplementary characters
+   * as character references. A high surrogate followed by anything but a low
+   * surrogate fails the document, one at the end of the value is dropped.
+   */
+ private
+  void appendEscaped(String value, boolean attribute) {
+    int length = value.length();
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= 0x20 && c < 0x7f && c != '&' && c != '<' && c != '>' &&
+          (c != '"' || !attribute)) {
+        continue;
+      }
+      if (c >= 0xa0 && !Character.isSurrogate(c)) {
+        continue;
+      }
+      if ((c == '\n' || c == '\t') && !attribute) {
+        continue;
+      }
+
+      out.append(value, start, i);
+      start = i + 1;
+      if (c == '&') {
+        out.append("&amp;");
+      } else if (c == '<') {
+        out.append("&lt;");
+      } else if (c == '>') {
+        out.append("&gt;");
+      } else if (c == '"') {
+        out.append("&quot;");
+      } else if (Character.isHighSurrogate(c)) {
+        if (i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+          int codePoint = Character.toCodePoint(c, value.charAt(i + 1));
+          out.append("&#").append(codePoint).append(';');
+          start = ++i + 1;
+        } else if (i + 1 < length) {
+          failed = true;
+        }
+      } else {
+        out.append("&#").append((int) c).append(';');
+      }
+    }
+    out.append(value, start, length);
+  }
+}
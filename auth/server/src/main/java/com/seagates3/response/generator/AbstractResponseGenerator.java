@@ -20,8 +20,11 @@
 
 package com.seagates3.response.generator;
 
+import java.util.Collections;
+
 import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.response.ServerResponse;
+import com.seagates3.response.StructuredServerResponse;
 import com.seagates3.response.formatter.xml.XMLResponseFormatter;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -283,10 +286,20 @@ public abstract class AbstractResponseGenerator {
      * @return
      */
    protected
-    ServerResponse formatResponse(HttpResponseStatus httpResponseStatus,
-                                  String responseCode, String responseBody) {
-      return new XMLResponseFormatter().formatErrorResponse(
-          httpResponseStatus, responseCode, responseBody);
+    ServerResponse formatResponse(final HttpResponseStatus httpResponseStatus,
+                                  final String responseCode,
+                                  final String responseBody) {
+      final String requestId = AuthServerConfig.getReqId();
+      return new StructuredServerResponse(
+          httpResponseStatus, requestId,
+          Collections.<String, String>emptyMap(), responseCode, responseBody) {
+        @Override protected String formatBody() {
+          ServerResponse response = new XMLResponseFormatter()
+              .formatErrorResponse(httpResponseStatus, responseCode,
+                                   responseBody, requestId);
+          return response == null ? null : response.getResponseBody();
+        }
+      };
     }
 
    public
@@ -24,6 +24,7 @@ import com.seagates3.authentication.ClientRequestToken;
 import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.model.Requestor;
 import com.seagates3.response.ServerResponse;
+import com.seagates3.response.StructuredServerResponse;
 import com.seagates3.response.formatter.xml.AuthenticationResponseFormatter;
 import java.util.LinkedHashMap;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -32,7 +33,48 @@ public class AuthenticationResponseGenerator extends AbstractResponseGenerator {
 
     public ServerResponse generateAuthenticatedResponse(Requestor requestor,
             ClientRequestToken requestToken) {
-        LinkedHashMap responseElements = new LinkedHashMap();
+        return generateAuthenticatedResponse("AuthenticateUser",
+                authenticatedElements(requestor, requestToken));
+    }
+
+    /**
+     * Generate the response of AuthenticateAndAuthorize. It carries the
+     * identity of the requestor followed by the ACL of the resource, if the
+     * authorization returned one.
+     */
+    public ServerResponse generateAuthenticatedAndAuthorizedResponse(
+            Requestor requestor, ClientRequestToken requestToken,
+            String acl) {
+        LinkedHashMap<String, String> responseElements =
+                authenticatedElements(requestor, requestToken);
+        if (acl != null) {
+            responseElements.put("ACL", acl);
+        }
+        return generateAuthenticatedResponse("AuthenticateAndAuthorize",
+                                             responseElements);
+    }
+
+    private ServerResponse generateAuthenticatedResponse(
+            final String operation,
+            final LinkedHashMap<String, String> responseElements) {
+        final String requestId = AuthServerConfig.getReqId();
+        return new StructuredServerResponse(HttpResponseStatus.OK, requestId,
+                responseElements) {
+            @Override
+            protected String formatBody() {
+                ServerResponse response = new AuthenticationResponseFormatter()
+                        .formatAuthenticatedResponse(operation,
+                                                     responseElements,
+                                                     requestId);
+                return response == null ? null : response.getResponseBody();
+            }
+        };
+    }
+
+    private LinkedHashMap<String, String> authenticatedElements(
+            Requestor requestor, ClientRequestToken requestToken) {
+        LinkedHashMap<String, String> responseElements =
+                new LinkedHashMap<>();
         responseElements.put("UserId", requestor.getId());
         responseElements.put("UserName", requestor.getName());
         responseElements.put("AccountId", requestor.getAccount().getId());
@@ -41,21 +83,35 @@ public class AuthenticationResponseGenerator extends AbstractResponseGenerator {
         responseElements.put("CanonicalId",
                              requestor.getAccount().getCanonicalId());
         responseElements.put("Email", requestor.getAccount().getEmail());
-
-        return (ServerResponse) new AuthenticationResponseFormatter()
-            .formatAuthenticatedResponse(responseElements,
-                                         AuthServerConfig.getReqId());
+        return responseElements;
     }
 
    public
-    ServerResponse requestTimeTooSkewed(String requestTime, String serverTime) {
-      String errorMessage =
+    ServerResponse requestTimeTooSkewed(final String requestTime,
+                                        final String serverTime) {
+      final String errorMessage =
           "The difference between request time and current time is too large";
+      final String maxAllowedSkew = "900000";
+
+      LinkedHashMap<String, String> details = new LinkedHashMap<>();
+      details.put("RequestTime", requestTime);
+      details.put("ServerTime", serverTime);
+      details.put("MaxAllowedSkewMilliseconds", maxAllowedSkew);
 
-      return (ServerResponse) new AuthenticationResponseFormatter()
-          .formatSignatureErrorResponse(HttpResponseStatus.FORBIDDEN,
-                                        "RequestTimeTooSkewed", errorMessage,
-                                        requestTime, serverTime, "900000",
-                                        AuthServerConfig.getReqId());
+      final String requestId = AuthServerConfig.getReqId();
+      return new StructuredServerResponse(HttpResponseStatus.FORBIDDEN,
+                                          requestId, details,
+                                          "RequestTimeTooSkewed",
+                                          errorMessage) {
+        @Override protected String formatBody() {
+          ServerResponse response =
+              new AuthenticationResponseFormatter()
+                  .formatSignatureErrorResponse(
+                       HttpResponseStatus.FORBIDDEN, "RequestTimeTooSkewed",
+                       errorMessage, requestTime, serverTime, maxAllowedSkew,
+                       requestId);
+          return response == null ? null : response.getResponseBody();
+        }
+      };
     }
 }
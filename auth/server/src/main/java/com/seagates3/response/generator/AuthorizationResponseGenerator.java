@@ -23,7 +23,10 @@ package com.seagates3.response.generator;
 import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.model.Requestor;
 import com.seagates3.response.ServerResponse;
+import com.seagates3.response.StructuredServerResponse;
 import com.seagates3.response.formatter.xml.AuthorizationResponseFormatter;
+import com.seagates3.util.BinaryUtil;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import java.util.LinkedHashMap;
 
 public class AuthorizationResponseGenerator extends AbstractResponseGenerator {
@@ -31,7 +34,8 @@ public class AuthorizationResponseGenerator extends AbstractResponseGenerator {
   public
    ServerResponse generateAuthorizationResponse(Requestor requestor,
                                                 String acpXml) {
-        LinkedHashMap responseElements = new LinkedHashMap();
+        final LinkedHashMap<String, String> responseElements =
+            new LinkedHashMap<>();
         if (requestor != null) {
           responseElements.put("UserId", requestor.getId());
           responseElements.put("UserName", requestor.getName());
@@ -42,8 +46,18 @@ public class AuthorizationResponseGenerator extends AbstractResponseGenerator {
         } else {
           responseElements.put("AllUserRequest", "true");
         }
+        if (acpXml != null) {
+          responseElements.put("ACL", BinaryUtil.encodeToBase64String(acpXml));
+        }
 
-        return (ServerResponse) new AuthorizationResponseFormatter().authorized(
-            responseElements, AuthServerConfig.getReqId(), acpXml);
+        final String requestId = AuthServerConfig.getReqId();
+        return new StructuredServerResponse(HttpResponseStatus.OK, requestId,
+                                            responseElements) {
+          @Override protected String formatBody() {
+            ServerResponse response = new AuthorizationResponseFormatter()
+                .authorized(responseElements, requestId, null);
+            return response == null ? null : response.getResponseBody();
+          }
+        };
     }
 }
@@ -20,6 +20,8 @@
 
 package com.seagates3.service;
 
+import com.seagates3.cache.AccessKeyCache;
+import com.seagates3.cache.RequestorCache;
 import com.seagates3.dao.AccessKeyDAO;
 import com.seagates3.dao.DAODispatcher;
 import com.seagates3.dao.DAOResource;
@@ -31,10 +33,15 @@ import com.seagates3.exception.InvalidRequestorException;
 import com.seagates3.model.AccessKey;
 import com.seagates3.authentication.ClientRequestToken;
 import com.seagates3.model.Requestor;
-import com.seagates3.perf.S3Perf;
+import com.seagates3.perf.PerfRegistry;
+import com.seagates3.perf.RecordingHistogram;
 import com.seagates3.response.ServerResponse;
 import com.seagates3.response.generator.ResponseGenerator;
 import com.seagates3.util.DateUtil;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +51,11 @@ public class RequestorService {
     private static final Logger LOGGER = LoggerFactory.getLogger(
             RequestorService.class.getName());
 
-    private static final S3Perf perf = new S3Perf();
+    private static final RecordingHistogram accessKeyLatency =
+            PerfRegistry.getHistogram("Fetch access key");
+
+    private static final RecordingHistogram requestorLatency =
+            PerfRegistry.getHistogram("Fetch requestor");
 
     private static final ResponseGenerator responseGenerator
             = new ResponseGenerator();
@@ -61,12 +72,16 @@ public class RequestorService {
                 .getResourceDAO(DAOResource.ACCESS_KEY);
 
         try {
-            perf.startClock();
+            long startTime = System.nanoTime();
 
-            accessKey = accessKeyDAO.find(clientRequestToken.getAccessKeyId());
+            accessKey = AccessKeyCache.get(clientRequestToken.getAccessKeyId());
+            if (accessKey == null) {
+                accessKey = accessKeyDAO.find(
+                        clientRequestToken.getAccessKeyId());
+                AccessKeyCache.put(accessKey);
+            }
 
-            perf.endClock();
-            perf.printTime("Fetch access key");
+            accessKeyLatency.record(System.nanoTime() - startTime);
         } catch (DataAccessException ex) {
             LOGGER.error("Error occured while searching for requestor's "
                     + "access key id.\n" + ex.getMessage());
@@ -82,12 +97,15 @@ public class RequestorService {
 
         Requestor requestor;
         try {
-            perf.startClock();
+            long startTime = System.nanoTime();
 
-            requestor = requestorDAO.find(accessKey);
+            requestor = RequestorCache.get(accessKey);
+            if (requestor == null) {
+                requestor = requestorDAO.find(accessKey);
+                RequestorCache.put(requestor);
+            }
 
-            perf.endClock();
-            perf.printTime("Fetch requestor");
+            requestorLatency.record(System.nanoTime() - startTime);
         } catch (DataAccessException ex) {
             serverResponse = responseGenerator.internalServerError();
             throw new InternalServerException(serverResponse);
@@ -97,6 +115,99 @@ public class RequestorService {
         return requestor;
     }
 
+    /**
+     * Find and validate the requestor without blocking the caller.
+     *
+     * The returned future fails with a CompletionException caused by
+     * InvalidAccessKeyException, InternalServerException or
+     * InvalidRequestorException, as thrown by getRequestor.
+     */
+    public static CompletableFuture<Requestor> getRequestorAsync(
+            final ClientRequestToken clientRequestToken) {
+        final RequestorDAO requestorDAO = (RequestorDAO) DAODispatcher
+                .getResourceDAO(DAOResource.REQUESTOR);
+
+        CompletableFuture<AccessKey> accessKeyFuture;
+        final long accessKeyStartTime = System.nanoTime();
+        AccessKey cachedAccessKey = AccessKeyCache.get(
+                clientRequestToken.getAccessKeyId());
+        if (cachedAccessKey != null) {
+            accessKeyLatency.record(System.nanoTime() - accessKeyStartTime);
+            accessKeyFuture = CompletableFuture.completedFuture(
+                    cachedAccessKey);
+        } else {
+            AccessKeyDAO accessKeyDAO = (AccessKeyDAO) DAODispatcher
+                    .getResourceDAO(DAOResource.ACCESS_KEY);
+            accessKeyFuture = accessKeyDAO.findAsync(
+                    clientRequestToken.getAccessKeyId())
+                    .thenApply(new Function<AccessKey, AccessKey>() {
+                        @Override
+                        public AccessKey apply(AccessKey accessKey) {
+                            AccessKeyCache.put(accessKey);
+                            accessKeyLatency.record(
+                                    System.nanoTime() - accessKeyStartTime);
+                            return accessKey;
+                        }
+                    });
+        }
+
+        return accessKeyFuture.thenCompose(
+                new Function<AccessKey, CompletableFuture<Requestor>>() {
+            @Override
+            public CompletableFuture<Requestor> apply(AccessKey accessKey) {
+                try {
+                    validateAccessKey(accessKey);
+                } catch (InvalidAccessKeyException ex) {
+                    throw new CompletionException(ex);
+                }
+                LOGGER.debug("Access key is valid.\n");
+
+                final long requestorStartTime = System.nanoTime();
+                Requestor requestor = RequestorCache.get(accessKey);
+                if (requestor != null) {
+                    requestorLatency.record(
+                            System.nanoTime() - requestorStartTime);
+                    return CompletableFuture.completedFuture(requestor);
+                }
+                return requestorDAO.findAsync(accessKey).thenApply(
+                        new Function<Requestor, Requestor>() {
+                    @Override
+                    public Requestor apply(Requestor requestor) {
+                        RequestorCache.put(requestor);
+                        requestorLatency.record(
+                                System.nanoTime() - requestorStartTime);
+                        return requestor;
+                    }
+                });
+            }
+        }).handle(new BiFunction<Requestor, Throwable, Requestor>() {
+            @Override
+            public Requestor apply(Requestor requestor, Throwable ex) {
+                if (ex != null) {
+                    Throwable cause = ex instanceof CompletionException
+                            && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof DataAccessException) {
+                        LOGGER.error("Error occured while searching for "
+                                + "requestor.\n" + cause.getMessage());
+                        throw new CompletionException(
+                                new InternalServerException(
+                                responseGenerator.internalServerError()));
+                    }
+                    throw ex instanceof CompletionException
+                            ? (CompletionException) ex
+                            : new CompletionException(cause);
+                }
+
+                try {
+                    validateRequestor(requestor, clientRequestToken);
+                } catch (InvalidRequestorException e) {
+                    throw new CompletionException(e);
+                }
+                return requestor;
+            }
+        });
+    }
+
     /**
      * Validate access Key.
      *
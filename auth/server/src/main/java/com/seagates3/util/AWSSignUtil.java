@@ -46,4 +46,36 @@ public class AWSSignUtil {
         return null;
     }
 
+    /**
+     * Calculates signature using AWS V4 Sign method
+     * @param stringToSign
+     * @param secretKey
+     * @param date Date of the credential scope, in yyyyMMdd format
+     * @param region
+     * @param service
+     * @return String, null in case of error
+     */
+    public static String calculateSignatureAWSV4(String stringToSign,
+                                                  String secretKey,
+                                                  String date, String region,
+                                                  String service) {
+
+        try {
+            byte[] kSigning = ("AWS4" + secretKey).getBytes("UTF-8");
+            kSigning = BinaryUtil.hmacSHA256(kSigning, date.getBytes("UTF-8"));
+            kSigning = BinaryUtil.hmacSHA256(kSigning,
+                    region.getBytes("UTF-8"));
+            kSigning = BinaryUtil.hmacSHA256(kSigning,
+                    service.getBytes("UTF-8"));
+            kSigning = BinaryUtil.hmacSHA256(kSigning,
+                    "aws4_request".getBytes("UTF-8"));
+            return BinaryUtil.toHex(BinaryUtil.hmacSHA256(kSigning,
+                    stringToSign.getBytes("UTF-8")));
+        } catch (UnsupportedEncodingException ex) {
+            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.UTF8_UNAVAILABLE,
+                    "UTF-8 encoding is not supported", null);
+        }
+        return null;
+    }
+
 }
@@ -22,14 +22,19 @@ package com.seagates3.util;
 
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.security.DigestException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.UUID;
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.codec.binary.Base64;
 
+import io.netty.util.concurrent.FastThreadLocal;
+
 public class BinaryUtil {
     /*
      * Calculate the hash of the string and encode it to hexadecimal characters.
@@ -40,6 +45,61 @@ public class BinaryUtil {
 
     private static final byte[] hexChars = "0123456789abcdef".getBytes();
 
+    public static final int SHA256_LENGTH = 32;
+
+    public static final int SHA1_LENGTH = 20;
+
+    /*
+     * Mac and MessageDigest instances are not thread safe and looking them up
+     * through the security providers is expensive. Keep one instance of each
+     * per thread. Netty executor threads are FastThreadLocalThreads, for which
+     * the lookup is an array access.
+     */
+    private static final FastThreadLocal<KeyedMac> HMAC_SHA256 =
+            new FastThreadLocal<KeyedMac>() {
+                @Override
+                protected KeyedMac initialValue() {
+                    try {
+                        return new KeyedMac(Mac.getInstance("HmacSHA256"));
+                    } catch (NoSuchAlgorithmException ex) {
+                        IEMUtil.log(IEMUtil.Level.ERROR,
+                                IEMUtil.HMACSHA256_UNAVAILABLE,
+                                "Algorithm HmacSHA256 not available", null);
+                    }
+                    return null;
+                }
+            };
+
+    private static final FastThreadLocal<KeyedMac> HMAC_SHA1 =
+            new FastThreadLocal<KeyedMac>() {
+                @Override
+                protected KeyedMac initialValue() {
+                    try {
+                        return new KeyedMac(Mac.getInstance("HmacSHA1"));
+                    } catch (NoSuchAlgorithmException ex) {
+                        IEMUtil.log(IEMUtil.Level.ERROR,
+                                IEMUtil.HMACSHA1_UNAVAILABLE,
+                                "Algorithm HmacSHA1 not available", null);
+                    }
+                    return null;
+                }
+            };
+
+    private static final FastThreadLocal<MessageDigest> SHA256 =
+            new FastThreadLocal<MessageDigest>() {
+                @Override
+                protected MessageDigest initialValue() {
+                    try {
+                        return MessageDigest.getInstance("SHA-256");
+                    } catch (NoSuchAlgorithmException ex) {
+                        IEMUtil.log(IEMUtil.Level.ERROR,
+                                IEMUtil.SHA256_UNAVAILABLE,
+                                "Algorithm SHA-256 not available", null);
+                    }
+                    return null;
+                }
+            };
+
     /*
      * <IEM_INLINE_DOCUMENTATION>
      *     <event_code>048002001</event_code>
@@ -130,19 +190,32 @@ public class BinaryUtil {
      * Calculate the HMAC using SHA-256.
      */
     public static byte[] hmacSHA256(byte[] key, byte[] data) {
-        Mac mac;
-        try {
-            mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(key, "HmacSHA256"));
-
-            return mac.doFinal(data);
-        } catch (NoSuchAlgorithmException ex) {
-            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.HMACSHA256_UNAVAILABLE,
-                    "Algorithm HmacSHA256 not available", null);
-        } catch (InvalidKeyException ex) {
+        Mac mac = initMac(HMAC_SHA256, key);
+        return (mac != null) ? mac.doFinal(data) : null;
+    }
+
+    /*
+     * Calculate the HMAC of data[offset, offset + length) using SHA-256 and
+     * write it to out[outOffset, outOffset + SHA256_LENGTH).
+     *
+     * Return false if HmacSHA256 is not available.
+     */
+    public static boolean hmacSHA256(byte[] key, byte[] data, int offset,
+            int length, byte[] out, int outOffset) {
+        Mac mac = initMac(HMAC_SHA256, key);
+        if (mac == null) {
+            return false;
         }
 
-        return null;
+        mac.update(data, offset, length);
+        try {
+            mac.doFinal(out, outOffset);
+        } catch (ShortBufferException ex) {
+            mac.reset();
+            throw new IllegalArgumentException(
+                    "Output buffer is too short for HmacSHA256", ex);
+        }
+        return true;
     }
 
     /*
@@ -172,19 +245,8 @@ public class BinaryUtil {
      * Calculate the HMAC using SHA-1.
      */
     public static byte[] hmacSHA1(byte[] key, byte[] data) {
-        Mac mac;
-        try {
-            mac = Mac.getInstance("HmacSHA1");
-            mac.init(new SecretKeySpec(key, "HmacSHA1"));
-
-            return mac.doFinal(data);
-        } catch (NoSuchAlgorithmException ex) {
-            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.HMACSHA1_UNAVAILABLE,
-                    "Algorithm HmacSHA1 not available", null);
-        } catch (InvalidKeyException ex) {
-        }
-
-        return null;
+        Mac mac = initMac(HMAC_SHA1, key);
+        return (mac != null) ? mac.doFinal(data) : null;
     }
 
     /*
@@ -214,36 +276,95 @@ public class BinaryUtil {
      * Hash the text using SHA-256 algorithm.
      */
     public static byte[] hashSHA256(String text) {
-        MessageDigest md;
+        return hashSHA256(text.getBytes());
+    }
+
+    /*
+     * Hash the text using SHA-256 algorithm.
+     */
+    public static byte[] hashSHA256(byte[] text) {
+        MessageDigest md = getSHA256Digest();
+        return (md != null) ? md.digest(text) : null;
+    }
+
+    /*
+     * Hash text[offset, offset + length) using SHA-256 algorithm and write the
+     * hash to out[outOffset, outOffset + SHA256_LENGTH).
+     *
+     * Return false if SHA-256 is not available.
+     */
+    public static boolean hashSHA256(byte[] text, int offset, int length,
+            byte[] out, int outOffset) {
+        MessageDigest md = getSHA256Digest();
+        if (md == null) {
+            return false;
+        }
+
+        md.update(text, offset, length);
         try {
-            md = MessageDigest.getInstance("SHA-256");
-            md.update(text.getBytes());
+            md.digest(out, outOffset, SHA256_LENGTH);
+        } catch (DigestException ex) {
+            md.reset();
+            throw new IllegalArgumentException(
+                    "Output buffer is too short for SHA-256", ex);
+        }
+        return true;
+    }
 
-            return md.digest();
-        } catch (NoSuchAlgorithmException ex) {
-            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.SHA256_UNAVAILABLE,
-                    "Algorithm SHA-256 not available", null);
+    /*
+     * Return the SHA-256 digest of the calling thread after resetting it, or
+     * null if SHA-256 is not available.
+     *
+     * The digest is shared by all the callers on the thread. It must not be
+     * held across calls to other BinaryUtil methods.
+     */
+    public static MessageDigest getSHA256Digest() {
+        MessageDigest md = SHA256.get();
+        if (md != null) {
+            md.reset();
         }
+        return md;
+    }
 
-        return null;
+    /*
+     * Initialise the Mac of the calling thread with the key.
+     * Return null if the algorithm is not available or the key is invalid.
+     */
+    private static Mac initMac(FastThreadLocal<KeyedMac> threadMac,
+            byte[] key) {
+        KeyedMac keyedMac = threadMac.get();
+        return (keyedMac != null) ? keyedMac.init(key) : null;
     }
 
     /*
-     * Hash the text using SHA-256 algorithm.
+     * Mac of a thread together with the key it was last initialised with.
+     * Consecutive HMACs with the same key, such as a cached signing key,
+     * reuse the key instead of creating and initialising a new one.
      */
-    public static byte[] hashSHA256(byte[] text) {
-        MessageDigest md;
-        try {
-            md = MessageDigest.getInstance("SHA-256");
-            md.update(text);
+    private static final class KeyedMac {
+
+        private final Mac mac;
+        private byte[] key;
 
-            return md.digest();
-        } catch (NoSuchAlgorithmException ex) {
-            IEMUtil.log(IEMUtil.Level.ERROR, IEMUtil.SHA256_UNAVAILABLE,
-                    "Algorithm SHA-256 not available", null);
+        KeyedMac(Mac mac) {
+            this.mac = mac;
         }
 
-        return null;
+        Mac init(byte[] newKey) {
+            if (key != null && Arrays.equals(key, newKey)) {
+                mac.reset();
+                return mac;
+            }
+
+            key = null;
+            try {
+                mac.init(new SecretKeySpec(newKey, mac.getAlgorithm()));
+            } catch (InvalidKeyException ex) {
+                return null;
+            }
+            key = newKey.clone();
+            return mac;
+        }
     }
 
     /*
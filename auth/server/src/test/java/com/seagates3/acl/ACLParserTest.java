@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.acl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+import com.seagates3.exception.GrantListFullException;
+
+public
+class ACLParserTest {
+
+ private
+  static final String GRANTEE =
+      "<Grantee xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" " +
+      "xsi:type=\"%s\">%s</Grantee>";
+
+  @Test public void parseTest_AllGranteeTypes() throws Exception {
+    AccessControlPolicy acp = new AccessControlPolicy(createAcl(
+        grant("CanonicalUser", "<ID>id1</ID>", "READ") +
+        grant("Group",
+              "<URI>http://acs.amazonaws.com/groups/global/AllUsers</URI>",
+              "WRITE") +
+        grant("AmazonCustomerByEmail",
+              "<EmailAddress>xyz@seagate.com</EmailAddress>",
+              "FULL_CONTROL")));
+
+    List<Grant> grants = acp.getAccessControlList().getGrantList();
+    assertEquals(3, grants.size());
+    assertEquals("id1", grants.get(0).grantee.canonicalId);
+    assertNull(grants.get(0).grantee.displayName);
+    assertEquals("READ", grants.get(0).permission);
+    assertEquals(Grantee.Types.Group, grants.get(1).grantee.type);
+    assertEquals("http://acs.amazonaws.com/groups/global/AllUsers",
+                 grants.get(1).grantee.uri);
+    assertEquals(Grantee.Types.AmazonCustomerByEmail,
+                 grants.get(2).grantee.type);
+    assertEquals("xyz@seagate.com", grants.get(2).grantee.emailAddress);
+    assertEquals("FULL_CONTROL", grants.get(2).permission);
+  }
+
+  @Test public void parseTest_TextContent() throws Exception {
+    AccessControlPolicy acp = new AccessControlPolicy(
+        "<AccessControlPolicy><Owner><ID><![CDATA[owner]]>1<!-- c --></ID>" +
+        "<DisplayName>a &amp; b</DisplayName></Owner>" +
+        "<AccessControlList/></AccessControlPolicy>");
+
+    assertEquals("owner1", acp.getOwner().getCanonicalId());
+    assertEquals("a & b", acp.getOwner().getDisplayName());
+    assertEquals(0, acp.getAccessControlList().getGrantList().size());
+  }
+
+  @Test public void parseTest_FirstOwnerOnly() throws Exception {
+    AccessControlPolicy acp = new AccessControlPolicy(
+        "<AccessControlPolicy><Owner><ID>owner1</ID></Owner>" +
+        "<Owner><ID>owner2</ID><DisplayName>name2</DisplayName></Owner>" +
+        "<AccessControlList/></AccessControlPolicy>");
+
+    assertEquals("owner1", acp.getOwner().getCanonicalId());
+    assertNull(acp.getOwner().getDisplayName());
+  }
+
+  @Test(expected = GrantListFullException.class) public void
+  parseTest_TooManyGrants_ShouldThrowGrantListFullException()
+      throws Exception {
+    StringBuilder grants = new StringBuilder();
+    for (int i = 0; i <= 100; i++) {
+      grants.append(grant("CanonicalUser", "<ID>id" + i + "</ID>", "READ"));
+    }
+
+    new AccessControlPolicy(createAcl(grants.toString()));
+  }
+
+  @Test(expected = SAXException.class) public void
+  parseTest_MissingOwner_ShouldThrowSAXException() throws Exception {
+    new AccessControlPolicy(
+        "<AccessControlPolicy><AccessControlList/></AccessControlPolicy>");
+  }
+
+  @Test(expected = SAXException.class) public void
+  parseTest_MissingPermission_ShouldThrowSAXException() throws Exception {
+    new AccessControlPolicy(createAcl(
+        "<Grant>" + String.format(GRANTEE, "CanonicalUser", "<ID>id</ID>") +
+        "</Grant>"));
+  }
+
+  @Test(expected = SAXException.class) public void
+  parseTest_MalformedXml_ShouldThrowSAXException() throws Exception {
+    new AccessControlPolicy("<AccessControlPolicy><Owner>");
+  }
+
+ private
+  static String createAcl(String grants) {
+    return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" +
+           "<AccessControlPolicy " +
+           "xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">" +
+           "<Owner><ID>owner</ID><DisplayName>s3test</DisplayName></Owner>" +
+           "<AccessControlList>" + grants + "</AccessControlList>" +
+           "</AccessControlPolicy>";
+  }
+
+ private
+  static String grant(String type, String grantee, String permission) {
+    return "<Grant>" + String.format(GRANTEE, type, grantee) + "<Permission>" +
+           permission + "</Permission></Grant>";
+  }
+}
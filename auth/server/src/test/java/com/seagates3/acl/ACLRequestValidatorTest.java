@@ -37,6 +37,8 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.internal.WhiteboxImpl;
 
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
 import com.seagates3.dao.ldap.AccountImpl;
 import com.seagates3.dao.ldap.GroupImpl;
 import com.seagates3.exception.DataAccessException;
@@ -48,8 +50,8 @@ import com.seagates3.response.generator.AuthorizationResponseGenerator;
 import io.netty.handler.codec.http.HttpResponseStatus;
 
 @RunWith(PowerMockRunner.class) @PowerMockIgnore({"javax.management.*"})
-    @PrepareForTest(
-        ACLRequestValidator.class) public class ACLRequestValidatorTest {
+    @PrepareForTest({ACLRequestValidator.class,
+                     DAODispatcher.class}) public class ACLRequestValidatorTest {
  private
   Map<String, String> requestBody;
  private
@@ -79,6 +81,11 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     groupPermissionMap = new HashMap<>();
     mockGroupImpl = Mockito.mock(GroupImpl.class);
     mockGroup = Mockito.mock(Group.class);
+    PowerMockito.mockStatic(DAODispatcher.class);
+    Mockito.when(DAODispatcher.getResourceDAO(DAOResource.ACCOUNT))
+        .thenReturn(mockAccountImpl);
+    Mockito.when(DAODispatcher.getResourceDAO(DAOResource.GROUP))
+        .thenReturn(mockGroupImpl);
   }
 
   /**
@@ -151,8 +158,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_emailAddress_check_positiveTest()
       throws Exception {
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByEmailAddress("xyz@seagate.com"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(true);
@@ -168,8 +173,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_repetitive_emailAddress_check()
       throws Exception {
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByEmailAddress("xyz@seagate.com"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(true);
@@ -190,8 +193,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_multiple_permissions_same_account_check()
       throws Exception {
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByEmailAddress("xyz@seagate.com"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(true);
@@ -212,8 +213,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_emailAddress_check_negativeTest()
       throws Exception {
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByEmailAddress("xyz@seagate.com"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(false);
@@ -229,8 +228,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_cannonicalId_check_positiveTest()
       throws Exception {
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByCanonicalID("C123453"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(true);
@@ -246,8 +243,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_cannonicalId_check_negativeTest()
       throws Exception {
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByCanonicalID("C123453"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(false);
@@ -263,8 +258,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_exception_scenario_Test()
       throws Exception {
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByCanonicalID("C123453")).thenThrow(
         new DataAccessException("failed to search given cannocal id"));
     Assert.assertFalse(
@@ -279,8 +272,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_empty_cannonicalId_check_negativeTest()
       throws Exception {
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByCanonicalID("")).thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(false);
     Assert.assertFalse(spyValidator.isGranteeValid(
@@ -295,8 +286,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_invalid_argument_check()
       throws Exception {
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByCanonicalID("C123453"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(true);
@@ -311,8 +300,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
    */
   @Test public void testIsGranteeValid_group_check_positiveTest()
       throws Exception {
-    PowerMockito.whenNew(GroupImpl.class).withNoArguments().thenReturn(
-        mockGroupImpl);
     Mockito
         .when(mockGroupImpl.getGroup(
              "http://acs.amazonaws.com/groups/global/AuthenticatedUsers"))
@@ -329,8 +316,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
   * @throws Exception
   */
   @Test public void testIsGranteeValid_invalid_group_check() throws Exception {
-    PowerMockito.whenNew(GroupImpl.class).withNoArguments().thenReturn(
-        mockGroupImpl);
     Mockito.when(mockGroupImpl.getGroup(
                      "http://s3.seagate.com/groups/global/InvalidGroup"))
         .thenReturn(mockGroup);
@@ -33,13 +33,15 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
 import com.seagates3.dao.ldap.AccountImpl;
 import com.seagates3.model.Account;
 import com.seagates3.response.ServerResponse;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 
-@RunWith(PowerMockRunner.class) @PrepareForTest({ACLValidation.class})
+@RunWith(PowerMockRunner.class) @PrepareForTest({ACLValidation.class, DAODispatcher.class})
     @PowerMockIgnore({"javax.management.*"}) public class ACLValidationTest {
 
  private
@@ -190,6 +192,9 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 
   @Before public void setup() {
     mockAccountImpl = Mockito.mock(AccountImpl.class);
+    PowerMockito.mockStatic(DAODispatcher.class);
+    Mockito.when(DAODispatcher.getResourceDAO(DAOResource.ACCOUNT))
+        .thenReturn(mockAccountImpl);
     mockAccount = Mockito.mock(Account.class);
   }
 
@@ -211,8 +216,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     PowerMockito.mockStatic(ACLValidation.class);
     PowerMockito.when(ACLValidation.class, "checkIdExists", "id", "owner")
         .thenReturn(true);
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByEmailAddress("xyz@seagate.com"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(true);
@@ -229,8 +232,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     PowerMockito.mockStatic(ACLValidation.class);
     PowerMockito.when(ACLValidation.class, "checkIdExists", "id", "owner")
         .thenReturn(true);
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByEmailAddress("xyz@seagate.com"))
         .thenReturn(mockAccount);
     // if account does not exists...
@@ -246,8 +247,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     PowerMockito.mockStatic(ACLValidation.class);
     PowerMockito.when(ACLValidation.class, "checkIdExists", "id", "owner")
         .thenReturn(true);
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByEmailAddress("xyz@seagate.com"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.exists()).thenReturn(true);
@@ -28,7 +28,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.exception.DataAccessException;
 import com.seagates3.exception.GrantListFullException;
+import com.seagates3.model.Account;
 
 public
 class AccessControlListTest {
@@ -36,10 +38,14 @@ class AccessControlListTest {
   AccessControlList acl = new AccessControlList();
   ArrayList<Grant> grantList;
   Grant defaultGrant;
+  Account account;
 
   @Before public void setUp() throws Exception {
     grantList = new ArrayList<>();
     defaultGrant = new Grant(new Grantee("id1", "name1"), "FULL_CONTROL");
+    account = new Account();
+    account.setCanonicalId("id2");
+    account.setEmail("user2@seagate.com");
   }
 
   // Adds grant to grant list
@@ -74,4 +80,77 @@ class AccessControlListTest {
     acl.addGrant(defaultGrant);
     assertEquals(null, acl.getGrant(null));
   }
+
+  // Permission granted to the canonical id of the account
+  @Test public void testIsPermissionAvailable_CanonicalId()
+      throws GrantListFullException, DataAccessException {
+    acl.addGrant(new Grant(new Grantee("id2", "name2"), "READ"));
+    assertTrue(acl.isPermissionAvailable(account, "READ", "id1", true, ""));
+    assertFalse(acl.isPermissionAvailable(account, "WRITE", "id1", true, ""));
+  }
+
+  // Permission granted to the email address of the account
+  @Test public void testIsPermissionAvailable_Email()
+      throws GrantListFullException, DataAccessException {
+    acl.addGrant(new Grant(
+        new Grantee(null, null, null, "user2@seagate.com",
+                    Grantee.Types.AmazonCustomerByEmail),
+        "WRITE"));
+    assertTrue(acl.isPermissionAvailable(account, "WRITE", "id1", true, ""));
+  }
+
+  // FULL_CONTROL grants every permission
+  @Test public void testIsPermissionAvailable_FullControl()
+      throws GrantListFullException, DataAccessException {
+    acl.addGrant(defaultGrant);
+    account.setCanonicalId("id1");
+    assertTrue(acl.isPermissionAvailable(account, "WRITE", "id3", true, ""));
+    assertTrue(
+        acl.isPermissionAvailable(account, "READ_ACP", "id3", true, ""));
+  }
+
+  // AllUsers grants are available to anonymous requests without a lookup
+  @Test public void testIsPermissionAvailable_AllUsers()
+      throws GrantListFullException, DataAccessException {
+    acl.addGrant(new Grant(
+        new Grantee(null, null, GrantIndex.ALL_USERS_GROUP_URI, null,
+                    Grantee.Types.Group),
+        "READ"));
+    assertTrue(acl.isPermissionAvailable(null, "READ", "id1", false, ""));
+    assertTrue(acl.isPermissionAvailable(account, "READ", "id1", true, ""));
+    assertFalse(acl.isPermissionAvailable(null, "WRITE", "id1", false, ""));
+  }
+
+  // AuthenticatedUsers grants need an authenticated requestor
+  @Test public void testIsPermissionAvailable_AuthenticatedUsers()
+      throws GrantListFullException, DataAccessException {
+    acl.addGrant(new Grant(
+        new Grantee(null, null, GrantIndex.AUTHENTICATED_USERS_GROUP_URI,
+                    null, Grantee.Types.Group),
+        "READ"));
+    assertTrue(acl.isPermissionAvailable(account, "READ", "id1", true, ""));
+    assertFalse(acl.isPermissionAvailable(account, "READ", "id1", false, ""));
+    assertFalse(acl.isPermissionAvailable(null, "READ", "id1", false, ""));
+  }
+
+  // Grants added after a permission check are taken into account
+  @Test public void testIsPermissionAvailable_GrantAdded()
+      throws GrantListFullException, DataAccessException {
+    acl.addGrant(defaultGrant);
+    assertFalse(acl.isPermissionAvailable(account, "READ", "id1", true, ""));
+
+    acl.addGrant(new Grant(new Grantee("id2", "name2"), "READ"));
+    assertTrue(acl.isPermissionAvailable(account, "READ", "id1", true, ""));
+
+    acl.clearGrantList();
+    assertFalse(acl.isPermissionAvailable(account, "READ", "id1", true, ""));
+  }
+
+  // Owner always has READ_ACP and WRITE_ACP
+  @Test public void testIsPermissionAvailable_Owner()
+      throws DataAccessException {
+    assertTrue(
+        acl.isPermissionAvailable(account, "WRITE_ACP", "id2", true, ""));
+    assertFalse(acl.isPermissionAvailable(account, "WRITE", "id2", true, ""));
+  }
 }
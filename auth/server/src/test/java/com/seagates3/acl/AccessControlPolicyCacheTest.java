@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.acl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.util.BinaryUtil;
+
+public
+class AccessControlPolicyCacheTest {
+
+ private
+  static final String ACL_XML =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>" +
+      "<AccessControlPolicy " +
+      "xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">" + " <Owner>" +
+      "  <ID>123er45678</ID>" + "  <DisplayName>S3test</DisplayName>" +
+      " </Owner>" + " <AccessControlList>" + "  <Grant>" +
+      "   <Grantee xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" +
+      " xsi:type=\"CanonicalUser\">" + "    <ID>123er45678</ID>" +
+      "    <DisplayName>S3test</DisplayName>" + "   </Grantee>" +
+      "   <Permission>FULL_CONTROL</Permission>" + "  </Grant>" +
+      " </AccessControlList>" + "</AccessControlPolicy>";
+
+ private
+  final String encodedACL = BinaryUtil.encodeToBase64String(ACL_XML);
+
+  @Before public void setUp() throws Exception {
+    AuthServerConfig.init(getAuthProperties("true"));
+    AccessControlPolicyCache.init();
+  }
+
+  @Test public void getTest_ParsedOnce() throws Exception {
+    AccessControlPolicy acp = AccessControlPolicyCache.get(encodedACL);
+
+    assertSame(acp, AccessControlPolicyCache.get(encodedACL));
+    assertEquals("123er45678", acp.getOwner().getCanonicalId());
+    assertEquals(1, acp.getAccessControlList().getGrantList().size());
+    assertEquals(1, AccessControlPolicyCache.getHitCount());
+    assertEquals(1, AccessControlPolicyCache.size());
+  }
+
+  @Test public void getTest_DifferentACL() throws Exception {
+    String otherACL = BinaryUtil.encodeToBase64String(
+        ACL_XML.replace("FULL_CONTROL", "READ"));
+
+    AccessControlPolicy acp = AccessControlPolicyCache.get(encodedACL);
+    AccessControlPolicy otherAcp = AccessControlPolicyCache.get(otherACL);
+
+    assertNotSame(acp, otherAcp);
+    assertEquals("READ", otherAcp.getAccessControlList()
+                             .getGrantList()
+                             .get(0)
+                             .getPermission());
+  }
+
+  @Test(expected = UnsupportedOperationException.class) public void
+  getTest_CachedPolicyIsReadOnly() throws Exception {
+    AccessControlPolicyCache.get(encodedACL).getXml();
+  }
+
+  @Test(expected = SAXException.class) public void
+  getTest_InvalidACL_ShouldThrowSAXException() throws Exception {
+    AccessControlPolicyCache.get(
+        BinaryUtil.encodeToBase64String("<AccessControlPolicy>"));
+  }
+
+  @Test public void initTest_Disabled() throws Exception {
+    AuthServerConfig.init(getAuthProperties("false"));
+    AccessControlPolicyCache.init();
+
+    AccessControlPolicy acp = AccessControlPolicyCache.get(encodedACL);
+
+    assertFalse(AccessControlPolicyCache.isEnabled());
+    assertNotSame(acp, AccessControlPolicyCache.get(encodedACL));
+    acp.getXml();
+  }
+
+ private
+  Properties getAuthProperties(String enabled) {
+    Properties authServerConfig = new Properties();
+    authServerConfig.setProperty("samlMetadataFileName", "saml-metadata.xml");
+    authServerConfig.setProperty("enableAclCache", enabled);
+    return authServerConfig;
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authentication;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.seagates3.exception.InvalidTokenException;
+import com.seagates3.util.BinaryUtil;
+
+public
+class CanonicalRequestDigestTest {
+
+ private
+  static final String HASHED_PAYLOAD =
+      "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
+ private
+  ClientRequestToken clientRequestToken;
+
+  @Before public void setUp() {
+    Map<String, String> requestHeaders =
+        new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    requestHeaders.put("Host", "s3.seagate.com");
+    requestHeaders.put("x-amz-date", "20160321T120000Z");
+    requestHeaders.put("x-amz-meta-name", "  café 😀  ");
+    requestHeaders.put("Content-Type", " ");
+
+    clientRequestToken = new ClientRequestToken();
+    clientRequestToken.setHttpMethod("GET");
+    clientRequestToken.setUri("/seagatebucket/obj");
+    clientRequestToken.setRequestHeaders(requestHeaders);
+    clientRequestToken.setSignedHeaders(
+        "content-type;host;x-amz-date;x-amz-meta-name");
+  }
+
+  @Test public void hexEncodedHashTest() throws Exception {
+    clientRequestToken.setQuery("prefix=a%2Fb&delimiter=%2F&max-keys=10");
+    StringBuilder canonicalRequest = new StringBuilder();
+
+    String hash = CanonicalRequestDigest.hexEncodedHash(
+        clientRequestToken, HASHED_PAYLOAD, canonicalRequest);
+
+    String expected = "GET\n/seagatebucket/obj\n" +
+                      "delimiter=%2F&max-keys=10&prefix=a%2Fb\n" +
+                      "content-type:\nhost:s3.seagate.com\n" +
+                      "x-amz-date:20160321T120000Z\n" +
+                      "x-amz-meta-name:café 😀\n\n" +
+                      "content-type;host;x-amz-date;x-amz-meta-name\n" +
+                      HASHED_PAYLOAD;
+    assertEquals(expected, canonicalRequest.toString());
+    assertEquals(BinaryUtil.hexEncodedHash(expected.getBytes("UTF-8")), hash);
+  }
+
+  @Test public void hexEncodedHashTest_SameAsStringCanonicalRequest()
+      throws Exception {
+    String[] queries = {null,         "",           "acl",
+                        "acl=",       "a=1&a=2",    "b=2&a=1&B=3",
+                        "a=b=c",      "a=b=",       "=b",
+                        "a&&b",       "&a",         "a=1&",
+                        "a=1&&",      "&&",         "uploads&prefix=x",
+                        "a1=x&a=y",   "a==b",       "list-type=2&start-after="};
+    for (String query : queries) {
+      clientRequestToken.setQuery(query);
+
+      assertEquals(query,
+                   BinaryUtil.hexEncodedHash(
+                       createCanonicalRequest(clientRequestToken)),
+                   CanonicalRequestDigest.hexEncodedHash(
+                       clientRequestToken, HASHED_PAYLOAD, null));
+    }
+  }
+
+  @Test public void hexEncodedHashTest_TrailingSeparator() throws Exception {
+    clientRequestToken.setSignedHeaders("host;x-amz-date;");
+
+    assertEquals(BinaryUtil.hexEncodedHash(
+                     createCanonicalRequest(clientRequestToken)),
+                 CanonicalRequestDigest.hexEncodedHash(clientRequestToken,
+                                                       HASHED_PAYLOAD, null));
+  }
+
+  @Test public void hexEncodedHashTest_LongRequest() throws Exception {
+    StringBuilder query = new StringBuilder();
+    for (int i = 40; i > 0; i--) {
+      query.append("param").append(i).append("=value").append(i).append('&');
+    }
+    clientRequestToken.setQuery(query.toString());
+    clientRequestToken.setUri("/seagatebucket/" + query.toString());
+
+    assertEquals(BinaryUtil.hexEncodedHash(
+                     createCanonicalRequest(clientRequestToken)),
+                 CanonicalRequestDigest.hexEncodedHash(clientRequestToken,
+                                                       HASHED_PAYLOAD, null));
+  }
+
+  @Test public void hexEncodedHashTest_MissingConnectionHeader()
+      throws Exception {
+    clientRequestToken.setSignedHeaders("connection;host");
+    StringBuilder canonicalRequest = new StringBuilder();
+
+    CanonicalRequestDigest.hexEncodedHash(clientRequestToken, HASHED_PAYLOAD,
+                                          canonicalRequest);
+
+    assertEquals("GET\n/seagatebucket/obj\n\n" +
+                     "connection:Keep-Alive\nhost:s3.seagate.com\n\n" +
+                     "connection;host\n" + HASHED_PAYLOAD,
+                 canonicalRequest.toString());
+  }
+
+  @Test(expected = InvalidTokenException.class) public void
+  hexEncodedHashTest_MissingSignedHeader_ShouldThrowInvalidTokenException()
+      throws Exception {
+    clientRequestToken.setSignedHeaders("host;x-amz-security-token");
+
+    CanonicalRequestDigest.hexEncodedHash(clientRequestToken, HASHED_PAYLOAD,
+                                          null);
+  }
+
+  /**
+   * Canonical request built with string operations, as AWSV4Sign used to
+   * build it.
+   */
+ private
+  static String createCanonicalRequest(ClientRequestToken token) {
+    String canonicalHeader = "";
+    Map<String, String> requestHeaders = token.getRequestHeaders();
+    for (String s : token.getSignedHeaders().split(";")) {
+      String headerValue = requestHeaders.get(s).trim();
+      if (s.equalsIgnoreCase("content-type") && headerValue.isEmpty()) {
+        canonicalHeader += "content-type:\n";
+      } else {
+        canonicalHeader += String.format("%s:%s\n", s, headerValue);
+      }
+    }
+
+    String canonicalQuery = "";
+    String query = token.getQuery();
+    if (query != null && !query.isEmpty()) {
+      Map<String, String> queryParams = new TreeMap<>();
+      for (String param : query.split("&")) {
+        String[] subTokens = param.split("=");
+        if (subTokens.length == 2) {
+          queryParams.put(subTokens[0], subTokens[1]);
+        } else {
+          queryParams.put(subTokens[0], "");
+        }
+      }
+      Iterator<Map.Entry<String, String>> entries =
+          queryParams.entrySet().iterator();
+      while (entries.hasNext()) {
+        Map.Entry<String, String> entry = entries.next();
+        canonicalQuery += entry.getKey() + "=" + entry.getValue();
+        if (entries.hasNext()) {
+          canonicalQuery += "&";
+        }
+      }
+    }
+
+    return String.format("%s\n%s\n%s\n%s\n%s\n%s", token.getHttpMethod(),
+                         token.getUri(), canonicalQuery, canonicalHeader,
+                         token.getSignedHeaders(), HASHED_PAYLOAD);
+  }
+}
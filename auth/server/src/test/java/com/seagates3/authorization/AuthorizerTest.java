@@ -39,13 +39,14 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.seagates3.acl.ACLValidation;
 import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
 import com.seagates3.dao.ldap.AccountImpl;
 import com.seagates3.dao.ldap.LDAPUtils;
 import com.seagates3.dao.ldap.UserImpl;
 import com.seagates3.model.Account;
 import com.seagates3.model.Requestor;
 import com.seagates3.model.User;
-import com.seagates3.policy.BucketPolicyAuthorizer;
 import com.seagates3.response.ServerResponse;
 import com.seagates3.response.generator.AuthorizationResponseGenerator;
 import com.seagates3.util.BinaryUtil;
@@ -54,7 +55,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 
 @RunWith(PowerMockRunner.class)
     @PrepareForTest({LDAPUtils.class, ACLValidation.class,
-                     BucketPolicyAuthorizer.class})
+                     DAODispatcher.class})
     @PowerMockIgnore({"javax.management.*"}) public class AuthorizerTest {
 
  private
@@ -115,6 +116,11 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     mockAccountImpl = Mockito.mock(AccountImpl.class);
     mockAccount = Mockito.mock(Account.class);
     mockUserImpl = Mockito.mock(UserImpl.class);
+    PowerMockito.mockStatic(DAODispatcher.class);
+    Mockito.when(DAODispatcher.getResourceDAO(DAOResource.ACCOUNT))
+        .thenReturn(mockAccountImpl);
+    Mockito.when(DAODispatcher.getResourceDAO(DAOResource.USER))
+        .thenReturn(mockUserImpl);
     user = new User();
     user.setName("root");
 
@@ -427,10 +433,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "PUT");
     requestBody.put("ClientAbsoluteUri", "/try1");
     requestBody.put("S3Action", "PutBucketPolicy");
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
@@ -481,8 +483,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "PUT");
     requestBody.put("ClientAbsoluteUri", "/try1");
     requestBody.put("S3Action", "PutBucketPolicy");
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
     Mockito.when(mockAccount.getName()).thenReturn("testAccount");
     actualServerResponse = authorizer.authorize(requestor, requestBody);
@@ -530,8 +530,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "DELETE");
     requestBody.put("ClientAbsoluteUri", "/try1");
     requestBody.put("S3Action", "DeleteBucketPolicy");
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
     Mockito.when(mockAccount.getName()).thenReturn("testAccount");
     actualServerResponse = authorizer.authorize(requestor, requestBody);
@@ -579,11 +577,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "PUT");
     requestBody.put("ClientAbsoluteUri", "/try1");
     requestBody.put("S3Action", "PutBucketPolicy");
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.getName()).thenReturn("abcd");
@@ -635,12 +629,8 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "PUT");
     requestBody.put("ClientAbsoluteUri", "/try1");
     requestBody.put("S3Action", "PutBucketPolicy");
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(iamUser2);
     requestor.getAccount().setId("userid2");
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.getName()).thenReturn("testAccount");
@@ -694,10 +684,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "GET");
     requestBody.put("ClientAbsoluteUri", "/try1/a.txt");
     requestBody.put("S3Action", "GetObjectAcl");
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
@@ -750,10 +736,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "PUT");
     requestBody.put("ClientAbsoluteUri", "/try1/a.txt");
     requestBody.put("S3Action", "PutObject");
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
@@ -809,10 +791,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "GET");
     requestBody.put("ClientAbsoluteUri", "/try1/a.txt");
     requestBody.put("S3Action", "getObjectacl");
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
@@ -872,10 +850,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "PUT");
     requestBody.put("ClientAbsoluteUri", "/try1/a.txt");
     requestBody.put("S3Action", "PutObjectAcl");
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
@@ -931,10 +905,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "GET");
     requestBody.put("ClientAbsoluteUri", "/try1/a.txt");
     requestBody.put("S3Action", "GetObjectAcl");
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
@@ -990,13 +960,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "PUT");
     requestBody.put("ClientAbsoluteUri", "/try1/a.txt");
     requestBody.put("S3Action", "PutObject");
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockUserImpl.findByUserId("456")).thenReturn(user);
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.getName()).thenReturn("testAccount");
@@ -1051,10 +1015,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Method", "PUT");
     requestBody.put("ClientAbsoluteUri", "/try1/a.txt");
     requestBody.put("S3Action", "PutObject");
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockAccountImpl);
-    PowerMockito.whenNew(UserImpl.class).withNoArguments().thenReturn(
-        mockUserImpl);
     Mockito.when(mockAccountImpl.findByCanonicalID("qWwZGnGYTga8gbpcuY79SA"))
         .thenReturn(mockAccount);
     Mockito.when(mockAccount.getName()).thenReturn("testAccount");
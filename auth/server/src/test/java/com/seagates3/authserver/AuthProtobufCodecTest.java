@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authserver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.seagates3.response.ServerResponse;
+import com.seagates3.response.StructuredServerResponse;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpResponseStatus;
+
+public
+class AuthProtobufCodecTest {
+
+  @Test public void decodeRequestTest() {
+    ByteBuf content = Unpooled.buffer();
+    writeParameter(content, "Action", "AuthenticateUser");
+    writeParameter(content, "x-amz-meta-ics.meta-version", "1");
+    writeParameter(content, "X-Amz-Meta-Ics.Meta-Version", "2");
+    writeParameter(content, "ClientAbsoluteUri", "/bucket");
+    writeParameter(content, "clientabsoluteuri", "/bucket/caf\u00e9");
+
+    Map<String, String> result = AuthProtobufCodec.decodeRequest(content);
+
+    assertEquals(3, result.size());
+    assertEquals("AuthenticateUser", result.get("action"));
+    assertEquals("1,2", result.get("x-amz-meta-ics.meta-version"));
+    assertEquals("/bucket/caf\u00e9", result.get("ClientAbsoluteUri"));
+    assertEquals(0, content.readerIndex());
+  }
+
+  @Test public void decodeRequestTest_SkipsUnknownFields() {
+    ByteBuf parameter = Unpooled.buffer();
+    writeString(parameter, 1, "Action");
+    parameter.writeByte((3 << 3) | 0).writeByte(0x96).writeByte(0x01);
+    writeString(parameter, 2, "AuthorizeUser");
+
+    ByteBuf content = Unpooled.buffer();
+    content.writeByte((7 << 3) | 5).writeInt(1);
+    content.writeByte((8 << 3) | 1).writeLong(1);
+    writeString(content, 9, "ignored");
+    content.writeByte((1 << 3) | 2).writeByte(parameter.readableBytes());
+    content.writeBytes(parameter);
+
+    Map<String, String> result = AuthProtobufCodec.decodeRequest(content);
+
+    assertEquals(1, result.size());
+    assertEquals("AuthorizeUser", result.get("Action"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decodeRequestTest_Truncated() {
+    ByteBuf content = Unpooled.buffer();
+    writeParameter(content, "Action", "AuthenticateUser");
+    content.writerIndex(content.writerIndex() - 1);
+
+    AuthProtobufCodec.decodeRequest(content);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decodeRequestTest_InvalidWireType() {
+    ByteBuf content = Unpooled.buffer();
+    content.writeByte((1 << 3) | 7);
+
+    AuthProtobufCodec.decodeRequest(content);
+  }
+
+  @Test public void encodeResponseTest_Result() {
+    Map<String, String> elements = new LinkedHashMap<>();
+    elements.put("UserId", "123");
+    elements.put("Email", "\u00e9");
+    ServerResponse response = new StructuredServerResponse(
+        HttpResponseStatus.OK, "0000", elements) {
+      @Override protected String formatBody() {
+        throw new AssertionError("XML body should not be written");
+      }
+    };
+
+    ByteBuf expected = Unpooled.buffer();
+    expected.writeByte((1 << 3) | 0).writeByte(200).writeByte(1);
+    writeString(expected, 2, "0000");
+    writeParameter(expected, 3, "UserId", "123");
+    writeParameter(expected, 3, "Email", "\u00e9");
+
+    assertEncoded(expected, response);
+  }
+
+  @Test public void encodeResponseTest_Error() {
+    Map<String, String> details = new LinkedHashMap<>();
+    details.put("ServerTime", "20160321T120000Z");
+    ServerResponse response = new StructuredServerResponse(
+        HttpResponseStatus.FORBIDDEN, "0000", details, "RequestTimeTooSkewed",
+        "Skewed") {
+      @Override protected String formatBody() {
+        throw new AssertionError("XML body should not be written");
+      }
+    };
+
+    ByteBuf expected = Unpooled.buffer();
+    expected.writeByte((1 << 3) | 0).writeByte(0x93).writeByte(3);
+    writeString(expected, 2, "0000");
+    writeParameter(expected, 3, "ServerTime", "20160321T120000Z");
+    writeString(expected, 4, "RequestTimeTooSkewed");
+    writeString(expected, 5, "Skewed");
+
+    assertEncoded(expected, response);
+  }
+
+  @Test public void encodeResponseTest_Body() {
+    ServerResponse response =
+        new ServerResponse(HttpResponseStatus.OK, "Action successful");
+
+    ByteBuf expected = Unpooled.buffer();
+    expected.writeByte((1 << 3) | 0).writeByte(200).writeByte(1);
+    writeString(expected, 6, "Action successful");
+
+    assertEncoded(expected, response);
+  }
+
+ private
+  static void assertEncoded(ByteBuf expected, ServerResponse response) {
+    ByteBuf out = Unpooled.buffer();
+    AuthProtobufCodec.encodeResponse(response, out);
+
+    assertArrayEquals(toArray(expected), toArray(out));
+  }
+
+ private
+  static byte[] toArray(ByteBuf buf) {
+    byte[] bytes = new byte[buf.readableBytes()];
+    buf.getBytes(buf.readerIndex(), bytes);
+    return bytes;
+  }
+
+ private
+  static void writeParameter(ByteBuf out, String name, String value) {
+    writeParameter(out, 1, name, value);
+  }
+
+ private
+  static void writeParameter(ByteBuf out, int field, String name,
+                             String value) {
+    ByteBuf parameter = Unpooled.buffer();
+    writeString(parameter, 1, name);
+    writeString(parameter, 2, value);
+    out.writeByte((field << 3) | 2).writeByte(parameter.readableBytes());
+    out.writeBytes(parameter);
+  }
+
+ private
+  static void writeString(ByteBuf out, int field, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeByte((field << 3) | 2).writeByte(bytes.length).writeBytes(bytes);
+  }
+}
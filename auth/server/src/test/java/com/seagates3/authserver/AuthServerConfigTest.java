@@ -73,8 +73,6 @@ public class AuthServerConfigTest {
 
         assertEquals(5, AuthServerConfig.getLdapMaxConnections());
 
-        assertEquals(1, AuthServerConfig.getLdapMaxSharedConnections());
-
         assertEquals("cn=admin,dc=seagate,dc=com", AuthServerConfig.getLdapLoginDN());
 
         assertEquals("https://console.s3.seagate.com:9292/sso", AuthServerConfig.getConsoleURL());
@@ -91,6 +89,8 @@ public class AuthServerConfigTest {
 
         assertEquals("/var/log/seagate/auth/perf.log", AuthServerConfig.getPerfLogFile());
 
+        assertEquals(10, AuthServerConfig.getPerfExportInterval());
+
         assertEquals(4, AuthServerConfig.getEventExecutorThreads());
 
         assertFalse(AuthServerConfig.isFaultInjectionEnabled());
@@ -173,7 +173,6 @@ public class AuthServerConfigTest {
         authServerConfig.setProperty("ldapSSLPort", "636");
         authServerConfig.setProperty("enableSSLToLdap", "true");
         authServerConfig.setProperty("ldapMaxCons", "5");
-        authServerConfig.setProperty("ldapMaxSharedCons", "1");
         authServerConfig.setProperty("ldapLoginDN", "cn=admin,dc=seagate,dc=com");
         authServerConfig.setProperty("ldapLoginPW",
         "Rofaa+mJRYLVbuA2kF+CyVUJBjPx5IIFDBQfajmrn23o5aEZHonQj1ikUU9iMBoC6p/dZtVXMO1KFGzHXX3y1A==");
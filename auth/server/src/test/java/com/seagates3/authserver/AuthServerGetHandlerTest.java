@@ -21,6 +21,8 @@
 package com.seagates3.authserver;
 
 import com.seagates3.controller.SAMLWebSSOController;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.PrometheusWriter;
 import com.seagates3.response.ServerResponse;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -33,6 +35,7 @@ import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
@@ -40,11 +43,14 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.util.CharsetUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.buffer.ByteBufUtil;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.powermock.api.mockito.mockpolicies.Slf4jMockPolicy;
 import org.powermock.core.classloader.annotations.MockPolicy;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -56,8 +62,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.doNothing;
@@ -113,6 +122,52 @@ public class AuthServerGetHandlerTest {
         verify(channelFuture).addListener(ChannelFutureListener.CLOSE);
     }
 
+    @Test
+    public void runTest_Metrics() {
+        when(HttpHeaders.isKeepAlive(fullHttpRequest)).thenReturn(Boolean.TRUE);
+        when(ctx.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        fullHttpRequest.setUri("/auth/metrics");
+        handler = new AuthServerGetHandler(ctx, fullHttpRequest);
+
+        handler.run();
+
+        ArgumentCaptor<FullHttpResponse> response =
+                ArgumentCaptor.forClass(FullHttpResponse.class);
+        verify(ctx, timeout(5000)).flush();
+        verify(ctx).writeAndFlush(response.capture());
+        assertEquals(HttpResponseStatus.OK, response.getValue().getStatus());
+        assertTrue(response.getValue().content().toString(CharsetUtil.UTF_8)
+                .contains("# TYPE auth_request_duration_seconds histogram"));
+    }
+
+    @Test
+    public void runTest_MetricsRenderFails() {
+        MetricsRegistry.Collector failing = new MetricsRegistry.Collector() {
+            @Override
+            public void collect(PrometheusWriter writer) {
+                throw new IllegalStateException("collector failed");
+            }
+        };
+        MetricsRegistry.register(failing);
+        try {
+            when(HttpHeaders.isKeepAlive(fullHttpRequest))
+                    .thenReturn(Boolean.TRUE);
+            fullHttpRequest.setUri("/auth/metrics");
+            handler = new AuthServerGetHandler(ctx, fullHttpRequest);
+
+            handler.run();
+
+            ArgumentCaptor<FullHttpResponse> response =
+                    ArgumentCaptor.forClass(FullHttpResponse.class);
+            verify(ctx, timeout(5000)).flush();
+            verify(ctx).writeAndFlush(response.capture());
+            assertEquals(HttpResponseStatus.INTERNAL_SERVER_ERROR,
+                         response.getValue().getStatus());
+        } finally {
+            MetricsRegistry.unregister(failing);
+        }
+    }
+
     @Test
     public void runTest_Static() throws Exception {
         RandomAccessFile rf = mock(RandomAccessFile.class);
@@ -66,6 +66,7 @@ public class AuthServerHandlerTest {
     public void setUp() {
         ctx = Mockito.mock(ChannelHandlerContext.class);
         httpRequest = mock(FullHttpRequest.class);
+        when(httpRequest.getUri()).thenReturn("/");
         testHandler = new AuthServerHandler();
     }
 
@@ -80,6 +81,18 @@ public class AuthServerHandlerTest {
         Mockito.verify(postHandler).run();
     }
 
+    @Test
+    public void channelReadTest_V2Request() throws Exception {
+        AuthServerV2Handler v2Handler = mock(AuthServerV2Handler.class);
+        when(httpRequest.getMethod()).thenReturn(HttpMethod.POST);
+        when(httpRequest.getUri()).thenReturn("/v2/auth");
+        whenNew(AuthServerV2Handler.class).withArguments(
+                ctx, httpRequest).thenReturn(v2Handler);
+
+        testHandler.channelRead(ctx, httpRequest);
+        Mockito.verify(v2Handler).run();
+    }
+
     @Test
     public void channelReadTest_GetRequest() throws Exception {
         AuthServerGetHandler getHandler = mock(AuthServerGetHandler.class);
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authserver;
+
+import static org.junit.Assert.assertTrue;
+
+import com.seagates3.perf.PrometheusWriter;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
+import java.util.Collections;
+import org.junit.Test;
+
+public
+class AuthServerMetricsTest {
+
+  @Test public void collectTest() {
+    EventExecutorGroup executorGroup = new DefaultEventExecutorGroup(2);
+    try {
+      StringBuilder out = new StringBuilder();
+
+      new AuthServerMetrics(Collections.singletonMap("event_executor",
+                                                     executorGroup))
+          .collect(new PrometheusWriter(out));
+
+      String metrics = out.toString();
+      assertTrue(metrics.contains(
+          "auth_executor_pending_tasks{executor=\"event_executor\"} 0\n"));
+      assertTrue(metrics.contains("# TYPE auth_ldap_pool_connections gauge\n"));
+      assertTrue(
+          metrics.contains("auth_cache_hits_total{cache=\"access_key\"} "));
+      assertTrue(
+          metrics.contains("auth_cache_misses_total{cache=\"principal\"} "));
+    }
+    finally {
+      executorGroup.shutdownGracefully();
+    }
+  }
+}
@@ -27,6 +27,7 @@ import com.seagates3.response.ServerResponse;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
@@ -74,6 +75,7 @@ public class AuthServerPostHandlerTest {
     public void setUp() throws Exception {
         mockStatic(AuthServerConfig.class);
         ctx = mock(ChannelHandlerContext.class);
+        when(ctx.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
         when(AuthServerConfig.getReqId()).thenReturn("0000");
         fullHttpRequest = new DefaultFullHttpRequest(
                 HttpVersion.HTTP_1_1, HttpMethod.POST, "/", getRequestBodyAsByteBuf());
@@ -104,6 +106,7 @@ public class AuthServerPostHandlerTest {
         whenNew(SAMLWebSSOController.class).withArguments(requestBody).thenReturn(controller);
         when(controller.samlSignIn()).thenReturn(response);
         when(response.headers()).thenReturn(httpHeaders);
+        when(response.getStatus()).thenReturn(HttpResponseStatus.OK);
         fullHttpRequest.setUri("/saml");
 
         handler = new AuthServerPostHandler(ctx, fullHttpRequest);
@@ -247,6 +250,19 @@ public class AuthServerPostHandlerTest {
         verify(iamController).serve(fullHttpRequest, requestMap);
     }
 
+    @Test
+    public void getMetricsActionTest() throws Exception {
+        IAMResourceMapper.init();
+
+        assertEquals("CreateAccount",
+                AuthServerPostHandler.getMetricsAction("CreateAccount"));
+        assertEquals("AuthenticateUser",
+                AuthServerPostHandler.getMetricsAction("AuthenticateUser"));
+        assertEquals("unknown",
+                AuthServerPostHandler.getMetricsAction("RandomAction"));
+        assertNull(AuthServerPostHandler.getMetricsAction(null));
+    }
+
     private ByteBuf getRequestBodyAsByteBuf() {
         String params = "Action=AuthenticateUser&" +
                 "x-amz-meta-ics.meta-version=1&" +
@@ -23,12 +23,17 @@ package com.seagates3.authserver;
 import com.seagates3.dao.DAODispatcher;
 import com.seagates3.exception.ServerInitialisationException;
 import com.seagates3.fi.FaultPoints;
-import com.seagates3.perf.S3Perf;
+import com.seagates3.perf.PerfRegistry;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
@@ -37,6 +42,7 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.ConfigurationSource;
 import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.Rule;
@@ -58,14 +64,18 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -80,7 +90,7 @@ import static org.powermock.api.mockito.PowerMockito.whenNew;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({SSLContextProvider.class, IAMResourceMapper.class, DAODispatcher.class,
-        S3Perf.class, AuthServerConfig.class, LoggerFactory.class, AuthServer.class,
+        PerfRegistry.class, AuthServerConfig.class, LoggerFactory.class, AuthServer.class,
         Paths.class, Configurator.class, FaultPoints.class})
 @MockPolicy(Slf4jMockPolicy.class)
 @PowerMockIgnore({"javax.management.*"})
@@ -140,7 +150,7 @@ public class AuthServerTest {
         verifyStatic();
         DAODispatcher.init();
         verifyStatic();
-        S3Perf.init();
+        PerfRegistry.init();
         verifyStatic();
         AuthServerConfig.readConfig(AuthServerConstants.RESOURCE_DIR);
 
@@ -170,7 +180,7 @@ public class AuthServerTest {
         verifyStatic();
         DAODispatcher.init();
         verifyStatic();
-        S3Perf.init();
+        PerfRegistry.init();
         verifyStatic();
         AuthServerConfig.readConfig(AuthServerConstants.RESOURCE_DIR);
 
@@ -200,7 +210,7 @@ public class AuthServerTest {
         verifyStatic();
         DAODispatcher.init();
         verifyStatic();
-        S3Perf.init();
+        PerfRegistry.init();
         verifyStatic();
         AuthServerConfig.readConfig(AuthServerConstants.RESOURCE_DIR);
 
@@ -233,7 +243,7 @@ public class AuthServerTest {
         verifyStatic();
         DAODispatcher.init();
         verifyStatic();
-        S3Perf.init();
+        PerfRegistry.init();
 
         verifyPrivate(AuthServer.class).invoke("logInit");
         AuthServerConfig.loadCredentials();
@@ -277,7 +287,7 @@ public class AuthServerTest {
         verifyStatic();
         DAODispatcher.init();
         verifyStatic();
-        S3Perf.init();
+        PerfRegistry.init();
 
         verifyPrivate(AuthServer.class).invoke("logInit");
         AuthServerConfig.loadCredentials();
@@ -310,7 +320,7 @@ public class AuthServerTest {
         verifyStatic();
         DAODispatcher.init();
         verifyStatic();
-        S3Perf.init();
+        PerfRegistry.init();
 
         verifyPrivate(AuthServer.class).invoke("logInit");
         AuthServerConfig.loadCredentials();
@@ -341,7 +351,7 @@ public class AuthServerTest {
         verifyStatic();
         DAODispatcher.init();
         verifyStatic();
-        S3Perf.init();
+        PerfRegistry.init();
         verifyStatic();
         AuthServerConfig.readConfig(AuthServerConstants.RESOURCE_DIR);
 
@@ -366,6 +376,43 @@ public class AuthServerTest {
 
     }
 
+    @Test
+    public void mainTest_EpollTransport() throws Exception {
+        Assume.assumeTrue(Epoll.isAvailable());
+        mainTestHelper();
+        doReturn("epoll").when(AuthServerConfig.class, "getNettyTransport");
+        doReturn(Arrays.asList(serverChannel)).when(AuthServer.class,
+                "epollServerBootstrap", any(EventLoopGroup.class), anyInt(),
+                any(ChannelHandler.class), any(String.class), anyInt());
+
+        try {
+            AuthServer.main(new String[]{});
+        } finally {
+            WhiteboxImpl.<EventLoopGroup>getInternalState(AuthServer.class,
+                    "workerGroup").shutdownGracefully();
+            WhiteboxImpl.<EventExecutorGroup>getInternalState(
+                    AuthServer.class, "executorGroup").shutdownGracefully();
+        }
+
+        verifyPrivate(AuthServer.class).invoke("epollServerBootstrap",
+                any(EventLoopGroup.class), anyInt(), any(ChannelHandler.class),
+                any(String.class), anyInt());
+        verifyPrivate(AuthServer.class, never()).invoke("httpServerBootstrap",
+                any(EventLoopGroup.class), any(EventLoopGroup.class),
+                any(EventExecutorGroup.class), any(String.class), anyInt());
+        verify(serverChannel).closeFuture();
+    }
+
+    @Test
+    public void isEpollTransportTest_Nio() throws Exception {
+        doReturn("nio").when(AuthServerConfig.class, "getNettyTransport");
+
+        Boolean result = WhiteboxImpl.invokeMethod(AuthServer.class,
+                "isEpollTransport");
+
+        assertFalse(result);
+    }
+
     private  void mainTestHelper() throws Exception {
         spy(AuthServer.class);
 
@@ -375,12 +422,12 @@ public class AuthServerTest {
         mockStatic(SSLContextProvider.class);
         mockStatic(IAMResourceMapper.class);
         mockStatic(DAODispatcher.class);
-        mockStatic(S3Perf.class);
+        mockStatic(PerfRegistry.class);
         mockStatic(FaultPoints.class);
         doNothing().when(SSLContextProvider.class, "init");
         doNothing().when(IAMResourceMapper.class, "init");
         doNothing().when(DAODispatcher.class, "init");
-        doNothing().when(S3Perf.class, "init");
+        doNothing().when(PerfRegistry.class, "init");
         doNothing().when(FaultPoints.class, "init");
 
         serverChannel = mock(Channel.class);
@@ -521,6 +568,39 @@ public class AuthServerTest {
         verify(channelFuture).channel();
     }
 
+    @Test
+    public void epollServerBootstrapTest() throws Exception {
+        int port = 80;
+        String defaultHost = "0.0.0.0";
+        ChannelHandler initializer = mock(ChannelHandler.class);
+
+        ServerBootstrap serverBootstrap = mock(ServerBootstrap.class);
+        whenNew(ServerBootstrap.class).withNoArguments().thenReturn(serverBootstrap);
+
+        LoggingHandler handler = mock(LoggingHandler.class);
+        whenNew(LoggingHandler.class).withArguments(LogLevel.INFO).thenReturn(handler);
+
+        when(serverBootstrap.group(workerGroup)).thenReturn(serverBootstrap);
+        when(serverBootstrap.channel(EpollServerSocketChannel.class)).thenReturn(serverBootstrap);
+        when(serverBootstrap.handler(handler)).thenReturn(serverBootstrap);
+        when(serverBootstrap.childHandler(initializer)).thenReturn(serverBootstrap);
+
+        Channel serverChannel = mock(Channel.class);
+        ChannelFuture channelFuture = mock(ChannelFuture.class);
+        when(serverBootstrap.bind(defaultHost, port)).thenReturn(channelFuture);
+        when(channelFuture.sync()).thenReturn(channelFuture);
+        when(channelFuture.channel()).thenReturn(serverChannel);
+
+        List<Channel> channels = WhiteboxImpl.invokeMethod(AuthServer.class,
+                "epollServerBootstrap", workerGroup, 2, initializer, defaultHost, port);
+
+        assertEquals(2, channels.size());
+        verify(serverBootstrap).option(EpollChannelOption.SO_REUSEPORT, true);
+        verify(serverBootstrap).childOption(ChannelOption.ALLOCATOR,
+                PooledByteBufAllocator.DEFAULT);
+        verify(serverBootstrap, times(2)).bind(defaultHost, port);
+    }
+
     @Test
     public void httpsServerBootstrapTest() throws Exception {
         int port = 443;
@@ -560,8 +640,8 @@ public class AuthServerTest {
 
     @Test
     public void attachShutDownHookTest() throws Exception {
-        mockStatic(S3Perf.class);
-        doNothing().when(S3Perf.class, "clean");
+        mockStatic(PerfRegistry.class);
+        doNothing().when(PerfRegistry.class, "clean");
 
         EventLoopGroup bossGroup = mock(EventLoopGroup.class);
         EventLoopGroup workerGroup = mock(EventLoopGroup.class);
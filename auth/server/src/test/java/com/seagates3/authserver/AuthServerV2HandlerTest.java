@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+import static org.powermock.api.mockito.PowerMockito.whenNew;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.powermock.api.mockito.mockpolicies.Slf4jMockPolicy;
+import org.powermock.core.classloader.annotations.MockPolicy;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import com.seagates3.controller.IAMController;
+import com.seagates3.response.ServerResponse;
+import com.seagates3.response.StructuredServerResponse;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({AuthServerPostHandler.class, AuthServerConfig.class})
+@MockPolicy(Slf4jMockPolicy.class)
+public
+class AuthServerV2HandlerTest {
+
+ private
+  ChannelHandlerContext ctx;
+
+  @Before public void setUp() throws Exception {
+    mockStatic(AuthServerConfig.class);
+    when(AuthServerConfig.getReqId()).thenReturn("0000");
+    ctx = mock(ChannelHandlerContext.class);
+    when(ctx.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+  }
+
+  @Test public void acceptsTest() {
+    assertTrue(AuthServerV2Handler.accepts(newRequest("/v2/auth")));
+    assertTrue(AuthServerV2Handler.accepts(newRequest("/v2/auth?x=1")));
+    assertFalse(AuthServerV2Handler.accepts(newRequest("/")));
+    assertFalse(AuthServerV2Handler.accepts(newRequest("/v2/authx")));
+  }
+
+  @Test public void runTest_AuthenticateUser() throws Exception {
+    FullHttpRequest request = newRequest("/v2/auth");
+    writeParameter(request.content(), "Action", "AuthenticateUser");
+    writeParameter(request.content(), "Request_id", "1234");
+
+    Map<String, String> elements = new LinkedHashMap<>();
+    elements.put("UserId", "123");
+    ServerResponse serverResponse = new StructuredServerResponse(
+        HttpResponseStatus.OK, "1234", elements) {
+      @Override protected String formatBody() {
+        throw new AssertionError("XML body should not be written");
+      }
+    };
+    IAMController iamController = mock(IAMController.class);
+    whenNew(IAMController.class).withNoArguments().thenReturn(iamController);
+    when(iamController.serve(any(FullHttpRequest.class), any(Map.class)))
+        .thenReturn(serverResponse);
+
+    new AuthServerV2Handler(ctx, request).run();
+
+    FullHttpResponse response = getResponse();
+    assertEquals(HttpResponseStatus.OK, response.getStatus());
+    assertEquals(AuthProtobufCodec.CONTENT_TYPE,
+                 response.headers().get(HttpHeaders.Names.CONTENT_TYPE));
+    ByteBuf expected = Unpooled.buffer();
+    AuthProtobufCodec.encodeResponse(serverResponse, expected);
+    assertEquals(expected, response.content());
+    ArgumentCaptor<Map> requestBody = ArgumentCaptor.forClass(Map.class);
+    verify(iamController).serve(any(FullHttpRequest.class),
+                                requestBody.capture());
+    assertEquals("AuthenticateUser", requestBody.getValue().get("action"));
+  }
+
+  @Test public void runTest_UnsupportedAction() throws Exception {
+    FullHttpRequest request = newRequest("/v2/auth");
+    writeParameter(request.content(), "Action", "CreateAccount");
+
+    new AuthServerV2Handler(ctx, request).run();
+
+    assertEquals(HttpResponseStatus.BAD_REQUEST, getResponse().getStatus());
+  }
+
+  @Test public void runTest_MalformedRequest() throws Exception {
+    FullHttpRequest request = newRequest("/v2/auth");
+    request.content().writeByte((1 << 3) | 2).writeByte(100);
+
+    new AuthServerV2Handler(ctx, request).run();
+
+    assertEquals(HttpResponseStatus.BAD_REQUEST, getResponse().getStatus());
+  }
+
+ private
+  FullHttpResponse getResponse() {
+    ArgumentCaptor<Object> response = ArgumentCaptor.forClass(Object.class);
+    verify(ctx).writeAndFlush(response.capture());
+    return (FullHttpResponse)response.getValue();
+  }
+
+ private
+  static FullHttpRequest newRequest(String uri) {
+    return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST,
+                                      uri, Unpooled.buffer());
+  }
+
+ private
+  static void writeParameter(ByteBuf out, String name, String value) {
+    out.writeByte((1 << 3) | 2).writeByte(4 + name.length() + value.length());
+    out.writeByte((1 << 3) | 2).writeByte(name.length());
+    out.writeBytes(name.getBytes());
+    out.writeByte((2 << 3) | 2).writeByte(value.length());
+    out.writeBytes(value.getBytes());
+  }
+}
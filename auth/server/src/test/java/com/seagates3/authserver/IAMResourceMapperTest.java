@@ -57,4 +57,18 @@ public class IAMResourceMapperTest {
     public void getResourceMapTest_InvalidAction() throws AuthResourceNotFoundException {
         IAMResourceMapper.getResourceMap("RandomAction");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getResourceMapTest_ResolvedOnce()
+            throws AuthResourceNotFoundException {
+        assertSame(IAMResourceMapper.getResourceMap("ListAccounts"),
+                IAMResourceMapper.getResourceMap("ListAccounts"));
+    }
+
+    @Test
+    public void isMappedTest() {
+        assertTrue(IAMResourceMapper.isMapped("CreateAccount"));
+        assertFalse(IAMResourceMapper.isMapped("RandomAction"));
+        assertFalse(IAMResourceMapper.isMapped(null));
+    }
+}
@@ -23,7 +23,13 @@ package com.seagates3.authserver;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class ResourceMapTest {
 
@@ -55,4 +61,27 @@ public class ResourceMapTest {
     public void getParamValidatorMethodTest() {
         assertEquals("isValidCreateParams", resourceMap.getParamValidatorMethod());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void validateTest() {
+        Map<String, String> requestBody = new HashMap<>();
+        requestBody.put("Email", "xyz@email.com");
+        requestBody.put("AccountName", "valid-name");
+
+        assertTrue(resourceMap.validate(requestBody));
+    }
+
+    @Test
+    public void validateTest_UnknownValidator() {
+        resourceMap = new ResourceMap("Unknown", "create");
+
+        assertFalse(resourceMap.validate(new HashMap<String, String>()));
+    }
+
+    @Test
+    public void performTest_UnknownAction() {
+        resourceMap = new ResourceMap("Account", "unknown");
+
+        assertNull(resourceMap.perform(null, new HashMap<String, String>()));
+    }
+}
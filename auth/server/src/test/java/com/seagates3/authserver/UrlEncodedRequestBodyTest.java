@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.authserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+
+public
+class UrlEncodedRequestBodyTest {
+
+  @Test public void decodeTest_SameAsAuthRequestDecoder() {
+    String params =
+        "Action=AuthenticateUser&" +
+        "x-amz-meta-ics.simpleencryption.keyinfo=" +
+        "Wrapped%3AAES%3A256%3Ax%2B7OEfeP0NgG1yG96%2FiD9F5hsyU060FWyjSqo1LjzBY" +
+        "%3D&" + "x-amz-meta-ics.etagintegrity=S3%3Anone&" +
+        "x-amz-meta-ics.meta-version=1&" + "X-Amz-Meta-Ics.Meta-Version=2&" +
+        "Version=1&" + "version=2&" + "Empty&" + "samlAssertion=a+b%20c";
+
+    Map<String, String> expected =
+        new AuthRequestDecoder(new DefaultFullHttpRequest(
+            HttpVersion.HTTP_1_1, HttpMethod.POST, "/", toByteBuf(params)))
+            .getRequestBodyAsMap();
+    Map<String, String> result =
+        UrlEncodedRequestBody.decode(toByteBuf(params));
+
+    assertEquals(expected, result);
+    assertEquals("1,2", result.get("x-amz-meta-ics.meta-version"));
+    assertEquals("2", result.get("VERSION"));
+    assertEquals("", result.get("Empty"));
+    assertEquals("a b c", result.get("samlAssertion"));
+  }
+
+  @Test public void getTest_CaseInsensitive() {
+    Map<String, String> result =
+        UrlEncodedRequestBody.decode(toByteBuf("AccessKeyId=AKIA&Action=x"));
+
+    assertEquals("AKIA", result.get("accesskeyid"));
+    assertEquals("AKIA", result.get("ACCESSKEYID"));
+    assertTrue(result.containsKey("action"));
+    assertFalse(result.containsKey("Actio"));
+    assertNull(result.get("Unknown"));
+    assertEquals(2, result.size());
+  }
+
+  @Test public void decodeTest_NonAsciiName() {
+    Map<String, String> result = UrlEncodedRequestBody.decode(
+        toByteBuf("x-amz-meta-%C3%A9t%C3%A9=1&X-AMZ-META-%C3%89T%C3%89=2"));
+
+    assertEquals(1, result.size());
+    assertEquals("1,2", result.get("x-amz-meta-été"));
+  }
+
+  @Test public void decodeTest_TrailingNameIsIgnored() {
+    Map<String, String> result =
+        UrlEncodedRequestBody.decode(toByteBuf("Action=List&Trailing"));
+
+    assertEquals(1, result.size());
+    assertFalse(result.containsKey("Trailing"));
+  }
+
+  @Test public void decodeTest_ReaderIndexIsNotChanged() {
+    ByteBuf content = toByteBuf("Action=List");
+    content.readByte();
+
+    Map<String, String> result = UrlEncodedRequestBody.decode(content);
+
+    assertEquals(1, content.readerIndex());
+    assertEquals("List", result.get("ction"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decodeTest_InvalidEscape_ShouldThrowIllegalArgumentException() {
+    UrlEncodedRequestBody.decode(toByteBuf("Action=%4"));
+  }
+
+  @Test public void putTest() {
+    Map<String, String> result =
+        UrlEncodedRequestBody.decode(toByteBuf("Action=List&Version=1"));
+
+    result.put("VERSION", "2");
+    result.remove("action");
+
+    assertEquals(1, result.size());
+    assertEquals("2", result.get("Version"));
+    assertEquals("Version", result.keySet().iterator().next());
+  }
+
+ private
+  ByteBuf toByteBuf(String params) {
+    ByteBuf byteBuf = Unpooled.buffer(params.length());
+    ByteBufUtil.writeUtf8(byteBuf, params);
+    return byteBuf;
+  }
+}
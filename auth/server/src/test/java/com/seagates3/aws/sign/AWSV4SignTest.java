@@ -21,13 +21,16 @@
 package com.seagates3.aws.sign;
 
 import com.seagates3.authentication.AWSV4Sign;
+import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.aws.AWSV4RequestHelper;
+import com.seagates3.cache.SigningKeyCache;
 import com.seagates3.exception.InvalidTokenException;
 import com.seagates3.authentication.ClientRequestToken;
 import com.seagates3.model.Requestor;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import java.util.Properties;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.modules.junit4.PowerMockRunner;
 
@@ -171,4 +174,24 @@ public class AWSV4SignTest {
         }
     }
 
+    @Test
+    public void Authenticate_CachedSigningKey_True() throws Exception {
+        Properties authServerConfig = new Properties();
+        authServerConfig.setProperty("samlMetadataFileName",
+                "saml-metadata.xml");
+        AuthServerConfig.init(authServerConfig);
+        SigningKeyCache.init();
+
+        Assert.assertTrue(awsv4Sign.authenticate(
+                AWSV4RequestHelper.getRequestClientTokenPathStyle(), requestor));
+        Assert.assertEquals(1, SigningKeyCache.size());
+        Assert.assertTrue(awsv4Sign.authenticate(
+                AWSV4RequestHelper.getRequestClientTokenPathStyle(), requestor));
+        Assert.assertEquals(1, SigningKeyCache.getHitCount());
+
+        ClientRequestToken requestToken
+                = AWSV4RequestHelper.getRequestClientTokenPathStyle();
+        requestToken.setHttpMethod("PUT");
+        Assert.assertFalse(awsv4Sign.authenticate(requestToken, requestor));
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public
+class ExpiringCacheTest {
+
+ private
+  long now;
+ private
+  ExpiringCache<String, String> cache;
+
+ private
+  ExpiringCache<String, String> newCache(int size) {
+    return new ExpiringCache<String, String>(size, 10, TimeUnit.SECONDS) {
+      @Override protected long currentTimeNanos() { return now; }
+    };
+  }
+
+  @Before public void setUp() {
+    now = 0;
+    cache = newCache(10);
+  }
+
+  @Test public void getTest_Hit() {
+    cache.put("key", "value");
+
+    assertEquals("value", cache.get("key"));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(0, cache.getMissCount());
+  }
+
+  @Test public void getTest_Miss() {
+    assertNull(cache.get("key"));
+    assertEquals(0, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test public void getTest_Expired() {
+    cache.put("key", "value");
+    now += TimeUnit.SECONDS.toNanos(10);
+
+    assertNull(cache.get("key"));
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(0, cache.size());
+  }
+
+  @Test public void invalidateTest() {
+    cache.put("key1", "value1");
+    cache.put("key2", "value2");
+
+    cache.invalidate("key1");
+
+    assertNull(cache.get("key1"));
+    assertEquals("value2", cache.get("key2"));
+
+    cache.invalidateAll();
+    assertEquals(0, cache.size());
+  }
+
+  @Test public void putTest_EvictsExpiredEntriesWhenFull() {
+    for (int i = 0; i < 10; i++) {
+      cache.put("old" + i, "value");
+    }
+    now += TimeUnit.SECONDS.toNanos(10);
+
+    cache.put("new", "value");
+
+    assertEquals(1, cache.size());
+    assertEquals(10, cache.getEvictionCount());
+    assertEquals("value", cache.get("new"));
+  }
+
+  @Test public void putTest_SizeIsBounded() {
+    for (int i = 0; i < 100; i++) {
+      cache.put("key" + i, "value");
+    }
+
+    assertTrue(cache.size() <= 10);
+    assertEquals("value", cache.get("key99"));
+    assertTrue(cache.getEvictionCount() >= 90);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void
+  constructorTest_InvalidSize() {
+    new ExpiringCache<String, String>(0, 10, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.model.Account;
+import com.seagates3.model.User;
+
+public
+class PrincipalCacheTest {
+
+ private
+  static final String ARN = "arn:aws:iam::123456789012:user/user1";
+
+ private
+  User user;
+
+  @Before public void setUp() throws Exception {
+    AuthServerConfig.init(getAuthProperties("true"));
+    PrincipalCache.init();
+
+    user = new User();
+    user.setId("AIDA5KZQJXPTROAIAKCKO");
+    user.setName("user1");
+    user.setArn(ARN);
+  }
+
+  @Test public void putGetUserIdTest() {
+    PrincipalCache.putUserId(ARN, user);
+
+    assertEquals(user.getId(), PrincipalCache.getUserId(ARN));
+    assertEquals(1, PrincipalCache.getHitCount());
+  }
+
+  @Test public void putUserIdTest_UserDoesNotExist() {
+    PrincipalCache.putUserId(ARN, new User());
+
+    assertEquals(PrincipalCache.NO_USER_ID, PrincipalCache.getUserId(ARN));
+  }
+
+  @Test public void putRootUserTest() {
+    User root = new User();
+    root.setId("AIDA5KZQJXPTROAIAKCKP");
+    root.setName("root");
+    PrincipalCache.putRootUser(root.getId(), root);
+    PrincipalCache.putRootUser(user.getId(), user);
+
+    assertTrue(PrincipalCache.isRootUser(root.getId()));
+    assertFalse(PrincipalCache.isRootUser(user.getId()));
+    assertNull(PrincipalCache.isRootUser("AIDA5KZQJXPTROAIAKCKQ"));
+  }
+
+  @Test public void putAccountTest_AccountDoesNotExist() {
+    Account account = new Account();
+    PrincipalCache.putAccount("C1234", account);
+
+    assertSame(account, PrincipalCache.getAccount("C1234"));
+  }
+
+  @Test public void invalidateUserTest() {
+    PrincipalCache.putUserId(ARN, user);
+    PrincipalCache.putRootUser(user.getId(), user);
+
+    PrincipalCache.invalidateUser(user);
+
+    assertNull(PrincipalCache.getUserId(ARN));
+    assertNull(PrincipalCache.isRootUser(user.getId()));
+  }
+
+  @Test public void invalidateAccountTest() {
+    Account account = new Account();
+    account.setName("s3test");
+    account.setCanonicalId("C1234");
+    PrincipalCache.putAccount("C1234", account);
+
+    PrincipalCache.invalidateAccount("C1234");
+
+    assertNull(PrincipalCache.getAccount("C1234"));
+  }
+
+  @Test public void initTest_Disabled() throws Exception {
+    AuthServerConfig.init(getAuthProperties("false"));
+    PrincipalCache.init();
+
+    PrincipalCache.putUserId(ARN, user);
+
+    assertFalse(PrincipalCache.isEnabled());
+    assertNull(PrincipalCache.getUserId(ARN));
+    assertEquals(0, PrincipalCache.size());
+  }
+
+ private
+  Properties getAuthProperties(String enabled) {
+    Properties authServerConfig = new Properties();
+    authServerConfig.setProperty("samlMetadataFileName", "saml-metadata.xml");
+    authServerConfig.setProperty("enablePrincipalCache", enabled);
+    return authServerConfig;
+  }
+}
@@ -217,7 +217,10 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("Action", "AuthenticateUser");
     ServerResponse response = controller.serve(httpRequest, requestBody);
 
-    assertEquals(new AuthorizationResponseGenerator().AccessDenied(), response);
+    ServerResponse expected =
+        new AuthorizationResponseGenerator().AccessDenied();
+    assertEquals(expected.getResponseStatus(), response.getResponseStatus());
+    assertEquals(expected.getResponseBody(), response.getResponseBody());
   }
 
   @Test public void serveTest_AccessDenied_Empty_Authheader() throws Exception {
@@ -225,7 +228,10 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("authorization", "");
     ServerResponse response = controller.serve(httpRequest, requestBody);
 
-    assertEquals(new AuthorizationResponseGenerator().AccessDenied(), response);
+    ServerResponse expected =
+        new AuthorizationResponseGenerator().AccessDenied();
+    assertEquals(expected.getResponseStatus(), response.getResponseStatus());
+    assertEquals(expected.getResponseBody(), response.getResponseBody());
   }
 
   @Test public void serveTest_AuthorizeUser() throws Exception {
@@ -278,6 +284,87 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     assertEquals(expectedResponseBody, response.getResponseBody());
   }
 
+  @Test public void serveTest_AuthenticateAndAuthorize() throws Exception {
+    acl = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+          "<AccessControlPolicy " +
+          "xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">\n" +
+          " <Owner>\n" + "  <ID>MH12</ID>\n" +
+          "  <DisplayName>Owner_Name</DisplayName>\n" + " </Owner>\n" +
+          " <AccessControlList>\n" + "  <Grant>\n" + "   <Grantee " +
+          "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+          "      xsi:type=\"CanonicalUser\">\n" + "    <ID>MH12</ID>\n" +
+          "    <DisplayName>Grantee_Name</DisplayName>\n" + "   </Grantee>\n" +
+          "   <Permission>READ</Permission>\n" + "  </Grant>\n" +
+          " </AccessControlList>\n" + "</AccessControlPolicy>\n";
+
+    requestBody.put("Action", "AuthenticateAndAuthorize");
+    requestBody.put("Method", "GET");
+    requestBody.put("ClientAbsoluteUri", "/seagatebucket-aj01/dir-1/abc1");
+    requestBody.put("ACL", BinaryUtil.encodeToBase64String(acl));
+    Account account = mock(Account.class);
+    when(AuthServerConfig.getReqId()).thenReturn("0000");
+    when(ClientRequestParser.parse(httpRequest, requestBody))
+        .thenReturn(clientRequestToken);
+    when(clientRequestToken.getSignature()).thenReturn("c2lnbmF0dXJl");
+    when(requestor.getId()).thenReturn("MH12");
+    when(requestor.getName()).thenReturn("tylerdurden");
+    when(requestor.getAccount()).thenReturn(account);
+    when(account.getId()).thenReturn("NS5144");
+    when(account.getName()).thenReturn("jack");
+    when(account.getCanonicalId()).thenReturn("MH12");
+    when(account.getEmail()).thenReturn("jack@seagate.com");
+    when(RequestorService.getRequestor(clientRequestToken))
+        .thenReturn(requestor);
+    whenNew(SignatureValidator.class).withNoArguments().thenReturn(
+        signatureValidator);
+    when(signatureValidator.validate(clientRequestToken, requestor))
+        .thenReturn(serverResponse);
+    when(serverResponse.getResponseStatus()).thenReturn(HttpResponseStatus.OK);
+
+    ServerResponse response = controller.serve(httpRequest, requestBody);
+
+    String expectedResponseBody =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=" +
+        "\"no\"?><AuthenticateAndAuthorizeResponse " +
+        "xmlns=\"https://iam.seagate.com/doc/2010-05-08/" +
+        "\"><AuthenticateAndAuthorizeResult><UserId>MH12</UserId>" +
+        "<UserName>tylerdurden</UserName><AccountId>NS5144</AccountId>" +
+        "<AccountName>jack</AccountName>" +
+        "<SignatureSHA256>c2lnbmF0dXJl</SignatureSHA256>" +
+        "<CanonicalId>MH12</CanonicalId>" +
+        "<Email>jack@seagate.com</Email></AuthenticateAndAuthorizeResult>" +
+        "<ResponseMetadata><RequestId>0000</RequestId></ResponseMetadata>" +
+        "</AuthenticateAndAuthorizeResponse>";
+    assertEquals(HttpResponseStatus.OK, response.getResponseStatus());
+    assertEquals(expectedResponseBody, response.getResponseBody());
+  }
+
+  @Test public void serveTest_AuthenticateAndAuthorize_Denied()
+      throws Exception {
+    requestBody.put("Action", "AuthenticateAndAuthorize");
+    Authorizer authorizer = mock(Authorizer.class);
+    ServerResponse deniedResponse = mock(ServerResponse.class);
+    when(ClientRequestParser.parse(httpRequest, requestBody))
+        .thenReturn(clientRequestToken);
+    when(RequestorService.getRequestor(clientRequestToken))
+        .thenReturn(requestor);
+    when(requestor.getAccount()).thenReturn(mock(Account.class));
+    whenNew(SignatureValidator.class).withNoArguments().thenReturn(
+        signatureValidator);
+    when(signatureValidator.validate(clientRequestToken, requestor))
+        .thenReturn(serverResponse);
+    when(serverResponse.getResponseStatus()).thenReturn(HttpResponseStatus.OK);
+    whenNew(Authorizer.class).withNoArguments().thenReturn(authorizer);
+    when(authorizer.authorize(requestor, requestBody))
+        .thenReturn(deniedResponse);
+    when(deniedResponse.getResponseStatus())
+        .thenReturn(HttpResponseStatus.FORBIDDEN);
+
+    ServerResponse response = controller.serve(httpRequest, requestBody);
+
+    assertEquals(deniedResponse, response);
+  }
+
   @Test public void serveTest_IncorrectSignature() throws Exception {
     requestBody.put("Action", "CreateUser");
     ClientRequestToken clientRequestToken = mock(ClientRequestToken.class);
@@ -575,10 +662,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
   }
 
   @Test public void validateRequestTest() throws Exception {
-    when(resourceMap.getParamValidatorClass()).thenReturn(
-        "com.seagates3.parameter.validator.AccountParameterValidator");
-    when(resourceMap.getParamValidatorMethod())
-        .thenReturn("isValidCreateParams");
+    resourceMap = new ResourceMap("Account", "create");
 
     Boolean result = WhiteboxImpl.invokeMethod(controller, "validateRequest",
                                                resourceMap, requestBody);
@@ -678,10 +762,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 
   @Test public void validateRequestTest_ClassNotFoundException()
       throws Exception {
-    when(resourceMap.getParamValidatorClass()).thenReturn(
-        "com.seagates3.parameter.validator.UnknownParameterValidator");
-    when(resourceMap.getParamValidatorMethod())
-        .thenReturn("isValidCreateParams");
+    resourceMap = new ResourceMap("Unknown", "create");
 
     Boolean result = WhiteboxImpl.invokeMethod(controller, "validateRequest",
                                                resourceMap, requestBody);
@@ -691,10 +772,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 
   @Test public void validateRequestTest_NoSuchMethodException()
       throws Exception {
-    when(resourceMap.getParamValidatorClass()).thenReturn(
-        "com.seagates3.parameter.validator.AccountParameterValidator");
-    when(resourceMap.getParamValidatorMethod())
-        .thenReturn("isValidUnknownParams");
+    resourceMap = new ResourceMap("Account", "unknown");
 
     Boolean result = WhiteboxImpl.invokeMethod(controller, "validateRequest",
                                                resourceMap, requestBody);
@@ -703,10 +781,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
   }
 
   @Test public void validateRequestTest_N() throws Exception {
-    when(resourceMap.getParamValidatorClass()).thenReturn(
-        "com.seagates3.parameter.validator.AccountParameterValidator");
-    when(resourceMap.getParamValidatorMethod())
-        .thenReturn("isValidCreateParams");
+    resourceMap = new ResourceMap("Account", "create");
 
     Boolean result = WhiteboxImpl.invokeMethod(controller, "validateRequest",
                                                resourceMap, requestBody);
@@ -872,8 +947,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 
   @Test public void performActionTest_ClassNotFoundException()
       throws Exception {
-    when(resourceMap.getControllerClass())
-        .thenReturn("com.seagates3.controller.UnknownController");
+    resourceMap = new ResourceMap("Unknown", "create");
 
     ServerResponse result = WhiteboxImpl.invokeMethod(
         controller, "performAction", resourceMap, requestBody, requestor);
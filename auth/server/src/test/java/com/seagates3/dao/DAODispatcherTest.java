@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao;
+
+import static org.junit.Assert.assertTrue;
+
+import com.seagates3.dao.ldap.AccessKeyImpl;
+import org.junit.After;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+public class DAODispatcherTest {
+
+    @After
+    public void tearDown() {
+        Whitebox.setInternalState(DAODispatcher.class, "provider",
+                (DAOProvider) null);
+    }
+
+    @Test
+    public void getResourceDAOTest() {
+        Whitebox.setInternalState(DAODispatcher.class, "provider",
+                DAOProvider.LDAP);
+
+        Object dao = DAODispatcher.getResourceDAO(DAOResource.ACCESS_KEY);
+
+        assertTrue(dao instanceof AccessKeyImpl);
+    }
+}
@@ -155,6 +155,9 @@ import com.seagates3.model.User;
         PowerMockito.mockStatic(LdapConnectionManager.class);
         PowerMockito.doReturn(ldapConnection)
             .when(LdapConnectionManager.class, "getConnection");
+        PowerMockito.doReturn(ldapConnection)
+            .when(LdapConnectionManager.class, "getReadConnection",
+                Matchers.anyString());
         PowerMockito.whenNew(LDAPConnection.class)
             .withArguments(socket_timeout)
             .thenReturn(ldapConnection);
@@ -212,7 +215,7 @@ import com.seagates3.model.User;
         setupAccessKeyAttr();
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                ACCESSKEY_BASE_DN, 2, filter, FIND_ATTRS
+                "AccessKeyImpl.find", ACCESSKEY_BASE_DN, 2, filter, FIND_ATTRS
         );
         PowerMockito.doReturn(ldapResults).when(ldapConnection).search(
             ACCESSKEY_BASE_DN, 2, filter, FIND_ATTRS, false);
@@ -266,6 +269,7 @@ import com.seagates3.model.User;
         String filter = "(&(s3userid=123)(objectclass=accesskey))";
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.find",
                 ACCESSKEY_BASE_DN, 2, filter, FIND_ALL_ATTRS
         );
 
@@ -284,6 +288,7 @@ import com.seagates3.model.User;
         String filter = "(&(s3userid=123)(objectclass=accesskey))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.find",
                 ACCESSKEY_BASE_DN, 2, filter, FIND_ALL_ATTRS
         );
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
@@ -302,9 +307,11 @@ import com.seagates3.model.User;
         String filter = "(&(s3userid=123)(objectclass=accesskey))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.find",
                 ACCESSKEY_BASE_DN, 2, filter, FIND_ALL_ATTRS
         );
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.find",
                 ACCESSKEY_BASE_DN, 2, filter, FIND_ALL_ATTRS
         );
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
@@ -330,6 +337,7 @@ import com.seagates3.model.User;
         String filter = "(&(s3userid=123)(objectclass=accesskey))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.find",
                 ACCESSKEY_BASE_DN, 2, filter, FIND_ALL_ATTRS
         );
         Mockito.when(ldapResults.hasMore())
@@ -347,6 +355,7 @@ import com.seagates3.model.User;
             throws Exception {
         String filter = "(&(s3userid=123)(objectclass=accesskey))";
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.getCount",
                 ACCESSKEY_BASE_DN, 2, filter, GETCOUNT_ATTRS
         );
 
@@ -361,6 +370,7 @@ import com.seagates3.model.User;
         exception.expect(DataAccessException.class);
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.getCount",
                 ACCESSKEY_BASE_DN, 2, filter, GETCOUNT_ATTRS
         );
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
@@ -374,6 +384,7 @@ import com.seagates3.model.User;
         String filter = "(&(s3userid=123)(objectclass=accesskey))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.getCount",
                 ACCESSKEY_BASE_DN, 2, filter, GETCOUNT_ATTRS
         );
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
@@ -387,6 +398,7 @@ import com.seagates3.model.User;
         String filter = "(&(s3userid=123)(objectclass=accesskey))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.getCount",
                 ACCESSKEY_BASE_DN, 2, filter, GETCOUNT_ATTRS
         );
         Mockito.when(ldapResults.hasMore())
@@ -404,6 +416,7 @@ import com.seagates3.model.User;
         String filter = "(&(s3userid=123)(objectclass=accesskey))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.getCount",
                 ACCESSKEY_BASE_DN, 2, filter, GETCOUNT_ATTRS
         );
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
@@ -417,6 +430,7 @@ import com.seagates3.model.User;
         String filter = "(&(s3userid=123)(objectclass=accesskey))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.getCount",
                 ACCESSKEY_BASE_DN, 2, filter, GETCOUNT_ATTRS
         );
         Mockito.when(ldapResults.hasMore())
@@ -436,7 +450,7 @@ import com.seagates3.model.User;
         String dn = "ak=AKIATEST,ou=accesskeys,dc=s3,dc=seagate,dc=com";
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "delete",
-                dn
+                "AccessKeyImpl.delete", dn
         );
 
         exception.expect(DataAccessException.class);
@@ -453,7 +467,7 @@ import com.seagates3.model.User;
 
         accesskeyImpl.delete(accessKey);
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.delete(dn);
+        LDAPUtils.delete("AccessKeyImpl.delete", dn);
     }
 
     @Test
@@ -465,7 +479,7 @@ import com.seagates3.model.User;
         accessKey.setStatus(AccessKey.AccessKeyStatus.ACTIVE);
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "add",
-                Matchers.any(LDAPEntry.class)
+                Matchers.eq("AccessKeyImpl.save"), Matchers.any(LDAPEntry.class)
         );
 
         exception.expect(DataAccessException.class);
@@ -515,7 +529,7 @@ import com.seagates3.model.User;
                 .withArguments("status", "Active");
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(accessKeyEntry);
+        LDAPUtils.add("AccessKeyImpl.save", accessKeyEntry);
     }
 
     @Test
@@ -529,7 +543,7 @@ import com.seagates3.model.User;
         accessKey.setStatus(AccessKey.AccessKeyStatus.ACTIVE);
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "add",
-                Matchers.any(LDAPEntry.class)
+                Matchers.eq("AccessKeyImpl.save"), Matchers.any(LDAPEntry.class)
         );
 
         exception.expect(DataAccessException.class);
@@ -585,7 +599,7 @@ import com.seagates3.model.User;
                 .withArguments("status", "Active");
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(accessKeyEntry);
+        LDAPUtils.add("AccessKeyImpl.save", accessKeyEntry);
     }
 
     @Test
@@ -608,7 +622,7 @@ import com.seagates3.model.User;
 
         String dn = "ak=AKIATEST,ou=accesskeys,dc=s3,dc=seagate,dc=com";
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "modify",
-                dn, modification
+                "AccessKeyImpl.update", dn, modification
         );
 
         exception.expect(DataAccessException.class);
@@ -636,13 +650,13 @@ import com.seagates3.model.User;
 
         String dn = "ak=AKIATEST,ou=accesskeys,dc=s3,dc=seagate,dc=com";
         PowerMockito.doNothing().when(LDAPUtils.class, "modify",
-                dn, modification
+                "AccessKeyImpl.update", dn, modification
         );
 
         accesskeyImpl.update(accessKey, "Active");
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.modify(dn, modification);
+        LDAPUtils.modify("AccessKeyImpl.update", dn, modification);
     }
 
     @Test
@@ -662,6 +676,7 @@ import com.seagates3.model.User;
         setupAccessKeyAttr();
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.findFromToken",
                 ACCESSKEY_BASE_DN, 2, filter, attrs);
         Mockito.when(ldapResults.hasMore())
                 .thenReturn(Boolean.TRUE)
@@ -682,6 +697,7 @@ import com.seagates3.model.User;
                 LDAPUtils.CREATE_TIMESTAMP, LDAPUtils.OBJECT_CLASS};
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.findFromToken",
                 ACCESSKEY_BASE_DN, 2, filter, attrs);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
 
@@ -697,6 +713,7 @@ import com.seagates3.model.User;
                 LDAPUtils.CREATE_TIMESTAMP, LDAPUtils.OBJECT_CLASS};
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.findFromToken",
                 ACCESSKEY_BASE_DN, 2, filter, attrs);
 
         accesskeyImpl.findFromToken("AWS_SEC_TOKEN");
@@ -710,6 +727,7 @@ import com.seagates3.model.User;
                 LDAPUtils.CREATE_TIMESTAMP, LDAPUtils.OBJECT_CLASS};
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.findFromToken",
                 ACCESSKEY_BASE_DN, 2, filter, attrs);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
         Mockito.when(ldapResults.next()).thenThrow(new LDAPException());
@@ -743,6 +761,7 @@ import com.seagates3.model.User;
                 .thenReturn(tokenAttr);
         Mockito.when(tokenAttr.getStringValue()).thenReturn("AWS_SEC_TOKEN");
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                "AccessKeyImpl.findFromToken",
                 ACCESSKEY_BASE_DN, 2, filter, attrs);
         Mockito.when(ldapResults.hasMore())
                 .thenReturn(Boolean.TRUE)
@@ -140,6 +140,9 @@ import com.seagates3.model.Account;
         PowerMockito.mockStatic(LdapConnectionManager.class);
         PowerMockito.doReturn(ldapConnection)
             .when(LdapConnectionManager.class, "getConnection");
+        PowerMockito.doReturn(ldapConnection)
+            .when(LdapConnectionManager.class, "getReadConnection",
+                Matchers.anyString());
         Mockito.when(ldapConnection.isConnected()).thenReturn(true);
         PowerMockito.doReturn(ldapResults).when(ldapConnection).search(
             BASE_DN, 2, FIND_FILTER, FIND_ATTRS, false);
@@ -156,6 +159,9 @@ import com.seagates3.model.Account;
       PowerMockito.mockStatic(LdapConnectionManager.class);
       PowerMockito.doReturn(ldapConnection)
           .when(LdapConnectionManager.class, "getConnection");
+      PowerMockito.doReturn(ldapConnection)
+          .when(LdapConnectionManager.class, "getReadConnection",
+                Matchers.anyString());
       Mockito.when(ldapConnection.isConnected()).thenReturn(true);
       PowerMockito.doThrow(new LDAPException()).when(ldapConnection).search(
           BASE_DN, 2, FIND_FILTER, FIND_ATTRS, false);
@@ -168,6 +174,9 @@ import com.seagates3.model.Account;
       PowerMockito.mockStatic(LdapConnectionManager.class);
       PowerMockito.doReturn(ldapConnection)
           .when(LdapConnectionManager.class, "getConnection");
+      PowerMockito.doReturn(ldapConnection)
+          .when(LdapConnectionManager.class, "getReadConnection",
+                Matchers.anyString());
       Mockito.when(ldapConnection.isConnected()).thenReturn(true);
       PowerMockito.doReturn(ldapResults).when(ldapConnection).search(
           BASE_DN, 2, FIND_FILTER, FIND_ATTRS, false);
@@ -186,6 +195,9 @@ import com.seagates3.model.Account;
         PowerMockito.mockStatic(LdapConnectionManager.class);
         PowerMockito.doReturn(ldapConnection)
             .when(LdapConnectionManager.class, "getConnection");
+        PowerMockito.doReturn(ldapConnection)
+            .when(LdapConnectionManager.class, "getReadConnection",
+                Matchers.anyString());
         Mockito.when(ldapConnection.isConnected()).thenReturn(true);
         PowerMockito.doReturn(ldapResults).when(ldapConnection).search(
             BASE_DN, 2, FIND_FILTER, FIND_ATTRS, false);
@@ -201,6 +213,9 @@ import com.seagates3.model.Account;
         PowerMockito.mockStatic(LdapConnectionManager.class);
         PowerMockito.doReturn(ldapConnection)
             .when(LdapConnectionManager.class, "getConnection");
+        PowerMockito.doReturn(ldapConnection)
+            .when(LdapConnectionManager.class, "getReadConnection",
+                Matchers.anyString());
         Mockito.when(ldapConnection.isConnected()).thenReturn(true);
         PowerMockito.doThrow(new LDAPException()).when(ldapConnection).search(
             BASE_DN, 2, FIND_FILTER, FIND_ATTRS, false);
@@ -223,13 +238,16 @@ import com.seagates3.model.Account;
         accountImpl.save(account);
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(Matchers.refEq(accountEntry));
+        LDAPUtils.add(Matchers.eq("AccountImpl.save"),
+                Matchers.refEq(accountEntry));
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(Matchers.refEq(userEntry));
+        LDAPUtils.add(Matchers.eq("AccountImpl.save"),
+                Matchers.refEq(userEntry));
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(Matchers.refEq(roleEntry));
+        LDAPUtils.add(Matchers.eq("AccountImpl.save"),
+                Matchers.refEq(roleEntry));
     }
 
     /**
@@ -246,7 +264,8 @@ import com.seagates3.model.Account;
         account.setEmail("testuser@seagate.com");
 
         PowerMockito.doThrow(new LDAPException()).when(
-                LDAPUtils.class, "add", Mockito.refEq(accountEntry));
+                LDAPUtils.class, "add", Mockito.eq("AccountImpl.save"),
+                Mockito.refEq(accountEntry));
         exception.expect(DataAccessException.class);
 
         accountImpl.save(account);
@@ -266,13 +285,15 @@ import com.seagates3.model.Account;
         account.setEmail("testuser@seagate.com");
 
         PowerMockito.doThrow(new LDAPException()).when(
-                LDAPUtils.class, "add", Mockito.refEq(userEntry));
+                LDAPUtils.class, "add", Mockito.eq("AccountImpl.save"),
+                Mockito.refEq(userEntry));
         exception.expect(DataAccessException.class);
 
         accountImpl.save(account);
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(Matchers.refEq(accountEntry));
+        LDAPUtils.add(Matchers.eq("AccountImpl.save"),
+                Matchers.refEq(accountEntry));
     }
 
     /**
@@ -289,22 +310,26 @@ import com.seagates3.model.Account;
         account.setEmail("testuser@seagate.com");
 
         PowerMockito.doThrow(new LDAPException()).when(
-                LDAPUtils.class, "add", Mockito.refEq(roleEntry));
+                LDAPUtils.class, "add", Mockito.eq("AccountImpl.save"),
+                Mockito.refEq(roleEntry));
         exception.expect(DataAccessException.class);
 
         accountImpl.save(account);
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(Matchers.refEq(accountEntry));
+        LDAPUtils.add(Matchers.eq("AccountImpl.save"),
+                Matchers.refEq(accountEntry));
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(Matchers.refEq(userEntry));
+        LDAPUtils.add(Matchers.eq("AccountImpl.save"),
+                Matchers.refEq(userEntry));
     }
 
     @Test
     public void FindAll_LDAPSearchFailed_ThrowException() throws Exception {
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class,
-                "search", Matchers.anyString(), Matchers.anyInt(),
+                "search", Matchers.eq("AccountImpl.findAll"),
+                Matchers.anyString(), Matchers.anyInt(),
                 Mockito.anyString(), Matchers.any(String[].class));
 
         exception.expect(DataAccessException.class);
@@ -314,6 +339,7 @@ import com.seagates3.model.Account;
     @Test
     public void FindAll_NoAccountsFound_ReturnNoAccounts() throws Exception {
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                Matchers.eq("AccountImpl.findAll"),
                 Matchers.anyString(), Matchers.anyInt(), Matchers.anyString(),
                 Matchers.any(String[].class));
        Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
@@ -325,6 +351,7 @@ import com.seagates3.model.Account;
     @Test
     public void FindAll_ReadLdapEntryFailed_ThrowException() throws Exception {
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                Matchers.eq("AccountImpl.findAll"),
                 Matchers.anyString(), Matchers.anyInt(), Matchers.anyString(),
                 Matchers.any(String[].class));
        Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE).
@@ -345,6 +372,7 @@ import com.seagates3.model.Account;
         Account[] expectedAccounts = {expectedAccount};
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
+                Matchers.eq("AccountImpl.findAll"),
                 Matchers.anyString(), Matchers.anyInt(), Matchers.anyString(),
                 Matchers.any(String[].class));
        Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE).
@@ -370,7 +398,7 @@ import com.seagates3.model.Account;
                 LDAPUtils.ACCOUNT_OBJECT_CLASS);
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                BASE_DN, 2, filter, attrs);
+                "AccountImpl.findByID", BASE_DN, 2, filter, attrs);
 
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
 
@@ -387,7 +415,7 @@ import com.seagates3.model.Account;
                 LDAPUtils.ACCOUNT_OBJECT_CLASS);
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "search",
-                BASE_DN, 2, filter, attrs);
+                "AccountImpl.findByID", BASE_DN, 2, filter, attrs);
 
         accountImpl.findByID("98765test");
     }
@@ -401,7 +429,7 @@ import com.seagates3.model.Account;
                 LDAPUtils.ACCOUNT_OBJECT_CLASS);
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                BASE_DN, 2, filter, attrs);
+                "AccountImpl.findByID", BASE_DN, 2, filter, attrs);
 
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
         Mockito.when(ldapResults.next()).thenThrow(new LDAPException());
@@ -423,7 +451,7 @@ import com.seagates3.model.Account;
                 LDAPUtils.ACCOUNT_OBJECT_CLASS);
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                BASE_DN, 2, filter, attrs);
+                "AccountImpl.findByCanonicalID", BASE_DN, 2, filter, attrs);
 
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
 
@@ -440,7 +468,7 @@ import com.seagates3.model.Account;
                 LDAPUtils.ACCOUNT_OBJECT_CLASS);
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "search",
-                BASE_DN, 2, filter, attrs);
+                "AccountImpl.findByCanonicalID", BASE_DN, 2, filter, attrs);
 
         accountImpl.findByCanonicalID("C12345");
     }
@@ -454,7 +482,7 @@ import com.seagates3.model.Account;
                 LDAPUtils.ACCOUNT_OBJECT_CLASS);
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                BASE_DN, 2, filter, attrs);
+                "AccountImpl.findByCanonicalID", BASE_DN, 2, filter, attrs);
 
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
         Mockito.when(ldapResults.next()).thenThrow(new LDAPException());
@@ -471,7 +499,8 @@ import com.seagates3.model.Account;
         accountImpl.delete(account);
 
         PowerMockito.verifyStatic();
-        LDAPUtils.delete("o=s3test,ou=accounts,dc=s3,dc=seagate,dc=com");
+        LDAPUtils.delete("AccountImpl.delete",
+                "o=s3test,ou=accounts,dc=s3,dc=seagate,dc=com");
     }
 
     @Test(expected = DataAccessException.class)
@@ -480,6 +509,7 @@ import com.seagates3.model.Account;
         Account account = new Account();
         account.setName("s3test");
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "delete",
+                "AccountImpl.delete",
                 "o=s3test,ou=accounts,dc=s3,dc=seagate,dc=com");
 
         accountImpl.delete(account);
@@ -494,7 +524,8 @@ import com.seagates3.model.Account;
         accountImpl.deleteOu(account, LDAPUtils.USER_OU);
 
         PowerMockito.verifyStatic();
-        LDAPUtils.delete("ou=users,o=s3test,ou=accounts,dc=s3,dc=seagate,dc=com");
+        LDAPUtils.delete("AccountImpl.deleteOu",
+                "ou=users,o=s3test,ou=accounts,dc=s3,dc=seagate,dc=com");
     }
 
     @Test(expected = DataAccessException.class)
@@ -503,6 +534,7 @@ import com.seagates3.model.Account;
         Account account = new Account();
         account.setName("s3test");
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "delete",
+                "AccountImpl.deleteOu",
                 "ou=users,o=s3test,ou=accounts,dc=s3,dc=seagate,dc=com");
 
         accountImpl.deleteOu(account, LDAPUtils.USER_OU);
@@ -75,7 +75,8 @@ import com.seagates3.util.KeyGenUtil;
     accountLoginProfileImpl.save(ACCOUNT);
 
     PowerMockito.verifyStatic(Mockito.times(1));
-    LDAPUtils.modify(Mockito.anyString(), Mockito.any(ArrayList.class));
+    LDAPUtils.modify(Mockito.eq("AccountLoginProfileImpl.save"),
+            Mockito.anyString(), Mockito.any(ArrayList.class));
     PowerMockito.verifyNoMoreInteractions(LDAPUtils.class);
   }
 
@@ -104,7 +105,8 @@ import com.seagates3.util.KeyGenUtil;
         .thenReturn(modification);
 
     PowerMockito.doThrow(new LDAPException())
-        .when(LDAPUtils.class, "modify", dn, modifyList);
+        .when(LDAPUtils.class, "modify", "AccountLoginProfileImpl.save",
+                dn, modifyList);
 
     accountLoginProfileImpl.save(ACCOUNT);
   }
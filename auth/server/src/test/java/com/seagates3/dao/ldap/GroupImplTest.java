@@ -86,7 +86,8 @@ import com.seagates3.model.Group;
                       LDAPUtils.OBJECT_CLASS, LDAPUtils.GROUP_OBJECT_CLASS);
 
     PowerMockito.doReturn(ldapResults)
-        .when(LDAPUtils.class, "search", BASE_DN, 2, filter, attrs);
+        .when(LDAPUtils.class, "search", "GroupImpl.findByPath",
+                BASE_DN, 2, filter, attrs);
 
     Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
 
@@ -114,7 +115,8 @@ import com.seagates3.model.Group;
     String filter = String.format("(%s=%s)", LDAPUtils.PATH, path);
 
     PowerMockito.doReturn(ldapResults)
-        .when(LDAPUtils.class, "search", ldapBase, 2, filter, attrs);
+        .when(LDAPUtils.class, "search", "GroupImpl.findByPathAndAccount",
+                ldapBase, 2, filter, attrs);
 
     Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
 
@@ -26,6 +26,8 @@ import com.novell.ldap.LDAPException;
 import com.novell.ldap.LDAPModification;
 import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.fi.FaultPoints;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.RecordingHistogram;
 import org.junit.Before;
 import org.junit.Test;
 import static org.mockito.Mockito.times;
@@ -45,6 +47,7 @@ import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.doReturn;
@@ -77,6 +80,8 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         when(ldapConnection.isConnected()).thenReturn(Boolean.TRUE);
         PowerMockito.mockStatic(LdapConnectionManager.class);
         doReturn(ldapConnection).when(LdapConnectionManager.class, "getConnection");
+        doReturn(ldapConnection).when(LdapConnectionManager.class,
+                "getReadConnection", anyString());
         PowerMockito.whenNew(LDAPConnection.class)
             .withArguments(socket_timeout)
             .thenReturn(ldapConnection);
@@ -90,7 +95,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         String[] attrs = {"s3userid", "path", "rolename", "objectclass", "createtimestamp"};
 
         // Act
-        LDAPUtils.search(baseDn, 2, filter, attrs);
+        LDAPUtils.search("LDAPUtilsTest.search", baseDn, 2, filter, attrs);
 
         // Verify
         verify(ldapConnection).search(baseDn, 2, filter, attrs, false);
@@ -99,6 +104,18 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         LdapConnectionManager.releaseConnection(ldapConnection);
     }
 
+    @Test
+    public void searchTest_RecordsLatency() throws LDAPException {
+        RecordingHistogram latency =
+                MetricsRegistry.getLdapHistogram("LDAPUtilsTest.search");
+        long count = latency.snapshot().getCount();
+
+        LDAPUtils.search("LDAPUtilsTest.search", "dc=s3,dc=seagate,dc=com", 2,
+                "(cn=s3testuser)", new String[] {"cn"});
+
+        assertEquals(count + 1, latency.snapshot().getCount());
+    }
+
     @Test
     public void searchTest() throws LDAPException {
         // Arrange
@@ -107,7 +124,8 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         String[] attrs = {"s3userid", "cn", "path", "createtimestamp"};
 
         // Act
-        LDAPUtils.search(baseDn, LDAPConnection.SCOPE_SUB, filter, attrs);
+        LDAPUtils.search("LDAPUtilsTest.search", baseDn,
+                LDAPConnection.SCOPE_SUB, filter, attrs);
 
         // Verify
         verify(ldapConnection).search(baseDn, 2, filter, attrs, false);
@@ -125,7 +143,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         doThrow(new LDAPException()).when(ldapConnection).search(baseDn, 2, filter, attrs, false);
 
         // Act
-        LDAPUtils.search(baseDn, 2, filter, attrs);
+        LDAPUtils.search("LDAPUtilsTest.search", baseDn, 2, filter, attrs);
     }
 
     @Test
@@ -136,7 +154,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         doThrow(new LDAPException(null, 82, null)).when(ldapConnection).search(baseDn, 2, filter, attrs, false);
 
         try {
-            LDAPUtils.search(baseDn, 2, filter, attrs);
+            LDAPUtils.search("LDAPUtilsTest.search", baseDn, 2, filter, attrs);
             fail("Expected LDAPException");
         } catch (LDAPException e) {
             assertEquals(LDAPException.LOCAL_ERROR, e.getResultCode());
@@ -155,7 +173,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         enableFaultInjection();
 
         // Act
-        LDAPUtils.search(baseDn, 2, filter, attrs);
+        LDAPUtils.search("LDAPUtilsTest.search", baseDn, 2, filter, attrs);
     }
 
     // Interaction Verification
@@ -165,7 +183,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         LDAPEntry ldapEntry = mock(LDAPEntry.class);
 
         // Act
-        LDAPUtils.add(ldapEntry);
+        LDAPUtils.add("LDAPUtilsTest.add", ldapEntry);
 
         // Verify
         verify(ldapConnection).add(ldapEntry);
@@ -181,7 +199,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         doThrow(new LDAPException()).when(ldapConnection).add(ldapEntry);
 
         // Act
-        LDAPUtils.add(ldapEntry);
+        LDAPUtils.add("LDAPUtilsTest.add", ldapEntry);
     }
 
     @Test
@@ -190,7 +208,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         doThrow(new LDAPException(null, 82, null)).when(ldapConnection).add(ldapEntry);
 
         try {
-            LDAPUtils.add(ldapEntry);
+            LDAPUtils.add("LDAPUtilsTest.add", ldapEntry);
             fail("Expected LDAPException");
         } catch (LDAPException e) {
             assertEquals(LDAPException.LOCAL_ERROR, e.getResultCode());
@@ -198,6 +216,8 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
 
         verifyStatic();
         LdapConnectionManager.releaseConnection(ldapConnection);
+        verifyStatic(never());
+        LdapConnectionManager.recordWrite(anyString());
     }
 
     @Test(expected = LDAPException.class)
@@ -207,7 +227,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         enableFaultInjection();
 
         // Act
-        LDAPUtils.add(ldapEntry);
+        LDAPUtils.add("LDAPUtilsTest.add", ldapEntry);
     }
 
     // Interaction Verification
@@ -217,11 +237,14 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         String dn = "ak=AKIATEST,ou=accesskeys,dc=s3,dc=seagate,dc=com";
 
         // Act
-        LDAPUtils.delete(dn);
+        LDAPUtils.delete("LDAPUtilsTest.delete", dn);
 
         // Verify
         verify(ldapConnection).delete(dn);
 
+        verifyStatic();
+        LdapConnectionManager.recordWrite(dn);
+
         verifyStatic();
         LdapConnectionManager.releaseConnection(ldapConnection);
     }
@@ -233,7 +256,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         doThrow(new LDAPException()).when(ldapConnection).delete(dn);
 
         // Act
-        LDAPUtils.delete(dn);
+        LDAPUtils.delete("LDAPUtilsTest.delete", dn);
     }
 
     @Test
@@ -242,7 +265,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         doThrow(new LDAPException(null, 82, null)).when(ldapConnection).delete(dn);
 
         try {
-            LDAPUtils.delete(dn);
+            LDAPUtils.delete("LDAPUtilsTest.delete", dn);
             fail("Expected LDAPException");
         } catch (LDAPException e) {
             assertEquals(LDAPException.LOCAL_ERROR, e.getResultCode());
@@ -259,7 +282,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         enableFaultInjection();
 
         // Act
-        LDAPUtils.delete(dn);
+        LDAPUtils.delete("LDAPUtilsTest.delete", dn);
     }
 
     // Interaction Verification
@@ -270,7 +293,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         LDAPModification ldapModification = mock(LDAPModification.class);
 
         // Act
-        LDAPUtils.modify(dn, ldapModification);
+        LDAPUtils.modify("LDAPUtilsTest.modify", dn, ldapModification);
 
         // Verify
         verify(ldapConnection).modify(dn, ldapModification);
@@ -287,7 +310,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         doThrow(new LDAPException()).when(ldapConnection).modify(dn, ldapModification);
 
         // Act
-        LDAPUtils.modify(dn, ldapModification);
+        LDAPUtils.modify("LDAPUtilsTest.modify", dn, ldapModification);
     }
 
     @Test
@@ -297,7 +320,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         doThrow(new LDAPException(null, 82, null)).when(ldapConnection).modify(dn, ldapModification);
 
         try {
-            LDAPUtils.modify(dn, ldapModification);
+            LDAPUtils.modify("LDAPUtilsTest.modify", dn, ldapModification);
             fail("Expected LDAPException");
         } catch (LDAPException e) {
             assertEquals(LDAPException.LOCAL_ERROR, e.getResultCode());
@@ -315,7 +338,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         enableFaultInjection();
 
         // Act
-        LDAPUtils.modify(dn, ldapModification);
+        LDAPUtils.modify("LDAPUtilsTest.modify", dn, ldapModification);
     }
 
     // Interaction Verification
@@ -326,7 +349,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         ArrayList modList = new ArrayList();
 
         // Act
-        LDAPUtils.modify(dn, modList);
+        LDAPUtils.modify("LDAPUtilsTest.modify", dn, modList);
 
         // Verify
         verify(ldapConnection).modify(anyString(), any(LDAPModification[].class));
@@ -343,7 +366,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         doThrow(new LDAPException()).when(ldapConnection).modify(anyString(), any(LDAPModification[].class));
 
         // Act
-        LDAPUtils.modify(dn, modList);
+        LDAPUtils.modify("LDAPUtilsTest.modify", dn, modList);
     }
 
     @Test
@@ -354,7 +377,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
                 any(LDAPModification[].class));
 
         try {
-            LDAPUtils.modify(dn, modList);
+            LDAPUtils.modify("LDAPUtilsTest.modify", dn, modList);
             fail("Expected LDAPException");
         } catch (LDAPException e) {
             assertEquals(LDAPException.LOCAL_ERROR, e.getResultCode());
@@ -372,7 +395,7 @@ import static org.powermock.api.mockito.PowerMockito.verifyStatic;
         enableFaultInjection();
 
         // Act
-        LDAPUtils.modify(dn, modList);
+        LDAPUtils.modify("LDAPUtilsTest.modify", dn, modList);
     }
 
     private void enableFaultInjection() throws Exception {
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.ldap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.novell.ldap.LDAPConnection;
+import com.novell.ldap.LDAPEntry;
+import com.novell.ldap.LDAPException;
+import com.novell.ldap.LDAPResponse;
+import com.novell.ldap.LDAPSearchResult;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.perf.MetricsRegistry;
+import com.seagates3.perf.RecordingHistogram;
+
+public
+class LdapAsyncSearcherTest {
+
+ private
+  static final RecordingHistogram LATENCY =
+      MetricsRegistry.getLdapHistogram("LdapAsyncSearcherTest.search");
+
+ private
+  ScheduledExecutorService executor;
+ private
+  LdapConnectionPool.ConnectionFactory factory;
+ private
+  LdapAsyncSearcher searcher;
+
+  @Before public void setUp() {
+    executor = Executors.newSingleThreadScheduledExecutor();
+    factory = mock(LdapConnectionPool.ConnectionFactory.class);
+    searcher = new LdapAsyncSearcher(executor, 1000, factory, 1);
+  }
+
+  @After public void tearDown() { executor.shutdownNow(); }
+
+  @Test public void onMessageTest_EntriesThenSuccess() throws Exception {
+    LdapAsyncSearcher.PendingSearch search = register(1);
+    LDAPEntry first = new LDAPEntry("cn=first");
+    LDAPEntry second = new LDAPEntry("cn=second");
+
+    searcher.onMessage(searchResult(1, first));
+    searcher.onMessage(searchResult(1, second));
+    assertFalse(search.future.isDone());
+    searcher.onMessage(response(1, LDAPException.SUCCESS));
+
+    List<LDAPEntry> entries = search.future.get(1, TimeUnit.SECONDS);
+    assertEquals(2, entries.size());
+    assertSame(first, entries.get(0));
+    assertSame(second, entries.get(1));
+    assertEquals(0, searcher.getPendingCount());
+  }
+
+  @Test public void onMessageTest_RecordsLatency() throws Exception {
+    long count = LATENCY.snapshot().getCount();
+    LdapAsyncSearcher.PendingSearch search = register(1);
+
+    searcher.onMessage(response(1, LDAPException.SUCCESS));
+    search.future.get(1, TimeUnit.SECONDS);
+
+    assertEquals(count + 1, LATENCY.snapshot().getCount());
+  }
+
+  @Test public void onMessageTest_NoEntries() throws Exception {
+    LdapAsyncSearcher.PendingSearch search = register(1);
+
+    searcher.onMessage(response(1, LDAPException.SUCCESS));
+
+    assertTrue(search.future.get(1, TimeUnit.SECONDS).isEmpty());
+  }
+
+  @Test public void onMessageTest_ErrorResult() throws Exception {
+    LdapAsyncSearcher.PendingSearch search = register(1);
+
+    searcher.onMessage(response(1, LDAPException.BUSY));
+
+    assertFailedWithDataAccessException(search.future);
+    assertEquals(0, searcher.getPendingCount());
+  }
+
+  @Test public void onMessageTest_ResponsesAreMatchedByMessageId()
+      throws Exception {
+    LdapAsyncSearcher.PendingSearch first = register(1);
+    LdapAsyncSearcher.PendingSearch second = register(2);
+    LDAPEntry entry = new LDAPEntry("cn=second");
+
+    searcher.onMessage(searchResult(2, entry));
+    searcher.onMessage(response(2, LDAPException.SUCCESS));
+    searcher.onMessage(response(3, LDAPException.SUCCESS));
+
+    assertSame(entry, second.future.get(1, TimeUnit.SECONDS).get(0));
+    assertFalse(first.future.isDone());
+    assertEquals(1, searcher.getPendingCount());
+  }
+
+  @Test public void expireTest() throws Exception {
+    LdapAsyncSearcher.PendingSearch search = register(1);
+
+    searcher.expire(search.startTime + TimeUnit.MILLISECONDS.toNanos(500));
+    assertFalse(search.future.isDone());
+
+    searcher.expire(search.startTime + TimeUnit.MILLISECONDS.toNanos(1500));
+    assertFailedWithDataAccessException(search.future);
+    assertEquals(0, searcher.getPendingCount());
+  }
+
+  @Test public void connectionTest_NotAbandonedWhenSearchCompletes()
+      throws Exception {
+    LDAPConnection connection = mock(LDAPConnection.class);
+    LdapAsyncSearcher.PendingSearch search =
+        new LdapAsyncSearcher.PendingSearch(connection, 1, LATENCY);
+    searcher.register(1, search);
+
+    searcher.onMessage(response(1, LDAPException.SUCCESS));
+    search.future.get(1, TimeUnit.SECONDS);
+    searcher.expire(search.startTime + TimeUnit.SECONDS.toNanos(2));
+
+    verify(connection, never()).abandon(1);
+  }
+
+  @Test public void connectionTest_AbandonedOnceWhenSearchExpires()
+      throws Exception {
+    LDAPConnection connection = mock(LDAPConnection.class);
+    LdapAsyncSearcher.PendingSearch search =
+        new LdapAsyncSearcher.PendingSearch(connection, 1, LATENCY);
+    searcher.register(1, search);
+
+    searcher.expire(search.startTime + TimeUnit.SECONDS.toNanos(2));
+    searcher.onMessage(searchResult(1, new LDAPEntry("cn=late")));
+    searcher.onMessage(response(1, LDAPException.SUCCESS));
+    searcher.expire(search.startTime + TimeUnit.SECONDS.toNanos(3));
+
+    assertFailedWithDataAccessException(search.future);
+    assertTrue(search.entries.isEmpty());
+    verify(connection, times(1)).abandon(1);
+    verify(connection, never()).disconnect();
+  }
+
+  @Test public void connectionTest_RoundRobin() throws Exception {
+    LDAPConnection first = connectedConnection();
+    LDAPConnection second = connectedConnection();
+    when(factory.create()).thenReturn(first, second);
+    searcher = new LdapAsyncSearcher(executor, 1000, factory, 2);
+
+    searcher.reconnect();
+
+    assertSame(first, searcher.nextConnection());
+    assertSame(second, searcher.nextConnection());
+    assertSame(first, searcher.nextConnection());
+  }
+
+  @Test public void connectionTest_SkipsLostConnection() throws Exception {
+    LDAPConnection first = connectedConnection();
+    LDAPConnection second = connectedConnection();
+    when(factory.create()).thenReturn(first, second);
+    searcher = new LdapAsyncSearcher(executor, 1000, factory, 2);
+    searcher.reconnect();
+
+    when(first.isConnected()).thenReturn(false);
+
+    assertSame(second, searcher.nextConnection());
+    assertSame(second, searcher.nextConnection());
+  }
+
+  @Test public void connectionTest_NoneConnected() throws Exception {
+    when(factory.create()).thenThrow(new LDAPException());
+    searcher = new LdapAsyncSearcher(executor, 1000, factory, 2);
+
+    searcher.reconnect();
+
+    assertNull(searcher.nextConnection());
+    verify(factory, times(2)).create();
+  }
+
+  @Test public void connectionTest_ReconnectReplacesLostConnection()
+      throws Exception {
+    LDAPConnection lost = connectedConnection();
+    LDAPConnection replacement = connectedConnection();
+    when(factory.create()).thenReturn(lost, replacement);
+    searcher = new LdapAsyncSearcher(executor, 1000, factory, 1);
+    searcher.reconnect();
+    when(lost.isConnected()).thenReturn(false);
+    assertNull(searcher.nextConnection());
+
+    searcher.reconnect();
+
+    assertSame(replacement, searcher.nextConnection());
+    verify(lost).disconnect();
+    verify(factory, times(2)).create();
+  }
+
+  @Test public void searchTest_Disabled() throws Exception {
+    LdapAsyncSearcher.shutdown();
+
+    assertFalse(LdapAsyncSearcher.isEnabled());
+    assertFailedWithDataAccessException(LdapAsyncSearcher.search(
+        "LdapAsyncSearcherTest.search", "dc=seagate,dc=com",
+        LDAPConnection.SCOPE_SUB, "(cn=root)", null));
+  }
+
+ private
+  LdapAsyncSearcher.PendingSearch register(int messageId) {
+    LdapAsyncSearcher.PendingSearch search =
+        new LdapAsyncSearcher.PendingSearch(null, messageId, LATENCY);
+    searcher.register(messageId, search);
+    return search;
+  }
+
+ private
+  LDAPConnection connectedConnection() {
+    LDAPConnection connection = mock(LDAPConnection.class);
+    when(connection.isConnected()).thenReturn(true);
+    return connection;
+  }
+
+ private
+  LDAPSearchResult searchResult(int messageId, LDAPEntry entry) {
+    LDAPSearchResult result = mock(LDAPSearchResult.class);
+    when(result.getMessageID()).thenReturn(messageId);
+    when(result.getEntry()).thenReturn(entry);
+    return result;
+  }
+
+ private
+  LDAPResponse response(int messageId, int resultCode) {
+    LDAPResponse response = mock(LDAPResponse.class);
+    when(response.getMessageID()).thenReturn(messageId);
+    when(response.getResultCode()).thenReturn(resultCode);
+    return response;
+  }
+
+ private
+  void assertFailedWithDataAccessException(CompletableFuture<?> future)
+      throws Exception {
+    try {
+      future.get(1, TimeUnit.SECONDS);
+      fail("Expected search to fail");
+    }
+    catch (ExecutionException ex) {
+      assertTrue(ex.getCause() instanceof DataAccessException);
+    }
+  }
+}
@@ -23,7 +23,6 @@ package com.seagates3.dao.ldap;
 import com.novell.ldap.LDAPConnection;
 import com.novell.ldap.LDAPException;
 import com.novell.ldap.LDAPJSSESecureSocketFactory;
-import com.novell.ldap.connectionpool.PoolManager;
 import com.seagates3.authserver.AuthServerConfig;
 import com.seagates3.exception.ServerInitialisationException;
 import com.seagates3.fi.FaultPoints;
@@ -37,12 +36,18 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.doReturn;
 
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.nio.file.Paths;
 
 @RunWith(PowerMockRunner.class)
@@ -50,16 +55,20 @@ import java.nio.file.Paths;
 @MockPolicy(Slf4jMockPolicy.class)
 public class LdapConnectionManagerTest {
 
-    private PoolManager ldapPool;
+    private LdapConnectionPool ldapPool;
     private LDAPConnection ldapConnection;
     private LDAPJSSESecureSocketFactory socketFactory;
     private final String LDAP_HOST = "127.0.0.1";
     private final int LDAP_PORT = 389;
     private final int LDAP_SSL_PORT = 636;
     private final int LDAP_MAX_CONN = 5;
-    private final int LDAP_MAX_SHARED_CONN = 1;
+    private final int LDAP_MIN_CONN = 2;
+    private final long ACQUIRE_TIMEOUT = 1000L;
     private final String LDAP_LOGIN_DN = "cn=admin,dc=seagate,dc=com";
     private final String LDAP_LOGIN_PASSWD = "seagate";
+    private final String ACCESS_KEYS_DN =
+            "ou=accesskeys,dc=s3,dc=seagate,dc=com";
+    private final String ACCESS_KEY_DN = "ak=AKIATEST," + ACCESS_KEYS_DN;
 
     @Before
     public void setUp() throws Exception {
@@ -68,7 +77,6 @@ public class LdapConnectionManagerTest {
         PowerMockito.doReturn(LDAP_HOST).when(AuthServerConfig.class, "getLdapHost");
         PowerMockito.doReturn(LDAP_PORT).when(AuthServerConfig.class, "getLdapPort");
         PowerMockito.doReturn(LDAP_MAX_CONN).when(AuthServerConfig.class, "getLdapMaxConnections");
-        PowerMockito.doReturn(LDAP_MAX_SHARED_CONN).when(AuthServerConfig.class, "getLdapMaxSharedConnections");
         PowerMockito.doReturn(LDAP_LOGIN_DN).when(AuthServerConfig.class, "getLdapLoginDN");
         PowerMockito.doReturn(LDAP_LOGIN_PASSWD).when(AuthServerConfig.class, "getLdapLoginPassword");
 
@@ -76,13 +84,22 @@ public class LdapConnectionManagerTest {
         PowerMockito.whenNew(LDAPJSSESecureSocketFactory.class)
                 .withNoArguments().thenReturn(socketFactory);
 
-        ldapPool = mock(PoolManager.class);
-        PowerMockito.whenNew(PoolManager.class).withArguments(LDAP_HOST,
-                LDAP_PORT, LDAP_MAX_CONN, LDAP_MAX_SHARED_CONN, null).thenReturn(ldapPool);
+        PowerMockito.doReturn(LDAP_MIN_CONN).when(AuthServerConfig.class, "getLdapMinConnections");
+        PowerMockito.doReturn(ACQUIRE_TIMEOUT).when(AuthServerConfig.class, "getLdapConnectionAcquireTimeout");
+        PowerMockito.doReturn(5).when(AuthServerConfig.class, "getLdapCircuitBreakerThreshold");
+        PowerMockito.doReturn(5000L).when(AuthServerConfig.class, "getLdapCircuitBreakerOpenTime");
+        PowerMockito.doReturn(30L).when(AuthServerConfig.class, "getLdapPoolValidationInterval");
+        PowerMockito.doReturn(new String[0]).when(AuthServerConfig.class, "getLdapReplicaHosts");
+        PowerMockito.doReturn(1000L).when(AuthServerConfig.class, "getLdapReadAfterWriteWindow");
+
+        ldapPool = mock(LdapConnectionPool.class);
+        PowerMockito.whenNew(LdapConnectionPool.class)
+                .withArguments(anyString(), any(LdapConnectionPool.ConnectionFactory.class),
+                        anyInt(), anyInt(), anyLong(), anyInt(), anyLong())
+                .thenReturn(ldapPool);
 
         ldapConnection = mock(LDAPConnection.class);
-        PowerMockito.when(ldapPool.getBoundConnection(LDAP_LOGIN_DN,
-                LDAP_LOGIN_PASSWD.getBytes("UTF-8"))).thenReturn(ldapConnection);
+        PowerMockito.when(ldapPool.acquire()).thenReturn(ldapConnection);
     }
 
     @Test
@@ -94,9 +111,15 @@ public class LdapConnectionManagerTest {
 
         PowerMockito.verifyNew(LDAPJSSESecureSocketFactory.class, times(0))
                 .withNoArguments();
-        PowerMockito.verifyNew(PoolManager.class, times(1))
-                .withArguments(LDAP_HOST, LDAP_PORT, LDAP_MAX_CONN,
-                                       LDAP_MAX_SHARED_CONN, null);
+        PowerMockito.verifyNew(LdapConnectionPool.class, times(1))
+                .withArguments(eq(LDAP_HOST + ":" + LDAP_PORT),
+                        any(LdapConnectionPool.ConnectionFactory.class),
+                        eq(LDAP_MIN_CONN),
+                        eq(LDAP_MAX_CONN),
+                        eq(ACQUIRE_TIMEOUT),
+                        eq(5),
+                        eq(5000L));
+        verify(ldapPool).start(30L);
     }
 
     @Test
@@ -113,16 +136,17 @@ public class LdapConnectionManagerTest {
         LdapConnectionManager.initLdap();
         PowerMockito.verifyNew(LDAPJSSESecureSocketFactory.class, times(1))
                 .withNoArguments();
-        PowerMockito.verifyNew(PoolManager.class, times(1))
-                .withArguments(LDAP_HOST, LDAP_SSL_PORT, LDAP_MAX_CONN,
-                                   LDAP_MAX_SHARED_CONN, socketFactory);
+        PowerMockito.verifyNew(LdapConnectionPool.class, times(1))
+                .withArguments(eq(LDAP_HOST + ":" + LDAP_SSL_PORT),
+                        any(LdapConnectionPool.ConnectionFactory.class),
+                        anyInt(), anyInt(), anyLong(), anyInt(), anyLong());
+        assertEquals(socketFactory, LdapConnectionManager.socketFactory);
     }
 
     @Test(expected = ServerInitialisationException.class)
     public void initLdapTest_ThrowException() throws Exception {
-        PowerMockito.whenNew(PoolManager.class).withArguments(LDAP_HOST, LDAP_PORT,
-                LDAP_MAX_CONN, LDAP_MAX_SHARED_CONN, null)
-                .thenThrow(LDAPException.class);
+        PowerMockito.doReturn(null)
+                .when(AuthServerConfig.class, "getLdapLoginPassword");
 
         LdapConnectionManager.initLdap();
     }
@@ -135,8 +159,18 @@ public class LdapConnectionManagerTest {
 
         // Verify
         assertNotNull(lc);
-        verify(ldapPool).getBoundConnection("cn=admin,dc=seagate,dc=com",
-                "seagate".getBytes("UTF-8"));
+        verify(ldapPool).acquire();
+    }
+
+    @Test
+    public void getConnectionTest_AcquireFailed() throws Exception {
+        PowerMockito.when(ldapPool.acquire()).thenThrow(new LDAPException(
+                "Timed out", LDAPException.LDAP_TIMEOUT, null));
+
+        LdapConnectionManager.initLdap();
+        LDAPConnection lc = LdapConnectionManager.getConnection();
+
+        assertNull(lc);
     }
 
     @Test
@@ -150,8 +184,7 @@ public class LdapConnectionManagerTest {
 
         // Verify
         assertNull(lc);
-        verify(ldapPool, times(0)).getBoundConnection("cn=admin,dc=seagate,dc=com",
-                "seagate".getBytes("UTF-8"));
+        verify(ldapPool, times(0)).acquire();
     }
 
     @Test
@@ -165,19 +198,191 @@ public class LdapConnectionManagerTest {
 
         // Verify
         assertNull(lc);
-        verify(ldapPool, times(0)).getBoundConnection("cn=admin,dc=seagate,dc=com",
-                "seagate".getBytes("UTF-8"));
+        verify(ldapPool, times(0)).acquire();
+    }
+
+    @Test
+    public void initLdapTest_Replicas() throws Exception {
+        PowerMockito.doReturn(new String[] {"replica1", "replica2:1389"})
+                .when(AuthServerConfig.class, "getLdapReplicaHosts");
+
+        LdapConnectionManager.initLdap();
+
+        assertEquals(2, LdapConnectionManager.getReadPools().size());
+        PowerMockito.verifyNew(LdapConnectionPool.class, times(1))
+                .withArguments(eq("replica1:" + LDAP_PORT),
+                        any(LdapConnectionPool.ConnectionFactory.class),
+                        anyInt(), anyInt(), anyLong(), anyInt(), anyLong());
+        PowerMockito.verifyNew(LdapConnectionPool.class, times(1))
+                .withArguments(eq("replica2:1389"),
+                        any(LdapConnectionPool.ConnectionFactory.class),
+                        anyInt(), anyInt(), anyLong(), anyInt(), anyLong());
+    }
+
+    @Test
+    public void getReadConnectionTest_NoReplicas() throws Exception {
+        LdapConnectionManager.initLdap();
+
+        LDAPConnection lc =
+                LdapConnectionManager.getReadConnection(ACCESS_KEYS_DN);
+
+        assertEquals(ldapConnection, lc);
+        verify(ldapPool).acquire();
+    }
+
+    @Test
+    public void selectReadPoolTest_LeastOutstanding() throws Exception {
+        LdapConnectionPool busy = mockReplica(3, false);
+        LdapConnectionPool idle = mockReplica(1, false);
+        useReplicas(busy, idle);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(idle, LdapConnectionManager.selectReadPool(
+                    ACCESS_KEYS_DN, System.nanoTime()));
+        }
+    }
+
+    @Test
+    public void selectReadPoolTest_SkipsUnhealthyReplicas() throws Exception {
+        LdapConnectionPool down = mockReplica(0, true);
+        LdapConnectionPool up = mockReplica(5, false);
+        useReplicas(down, up);
+
+        assertEquals(up, LdapConnectionManager.selectReadPool(ACCESS_KEYS_DN,
+                System.nanoTime()));
+
+        PowerMockito.when(up.isCircuitOpen()).thenReturn(true);
+        assertEquals(ldapPool, LdapConnectionManager.selectReadPool(
+                ACCESS_KEYS_DN, System.nanoTime()));
+    }
+
+    @Test
+    public void selectReadPoolTest_ReadAfterWrite() throws Exception {
+        LdapConnectionPool replica = mockReplica(0, false);
+        useReplicas(replica);
+
+        LdapConnectionManager.recordWrite(ACCESS_KEY_DN);
+        long writeTime = LdapConnectionManager.recentWrites.get(
+                ACCESS_KEY_DN.toLowerCase());
+
+        assertEquals(ldapPool, LdapConnectionManager.selectReadPool(
+                ACCESS_KEY_DN.toUpperCase(), writeTime + 1));
+        assertEquals(ldapPool, LdapConnectionManager.selectReadPool(
+                ACCESS_KEYS_DN, writeTime + 1));
+        assertEquals(replica, LdapConnectionManager.selectReadPool(
+                "ou=accounts,dc=s3,dc=seagate,dc=com", writeTime + 1));
+        assertEquals(replica, LdapConnectionManager.selectReadPool(
+                ACCESS_KEYS_DN,
+                writeTime + LdapConnectionManager.readAfterWriteNanos));
+    }
+
+    @Test
+    public void selectReadPoolTest_ReadAfterWriteOfParent() throws Exception {
+        LdapConnectionPool replica = mockReplica(0, false);
+        useReplicas(replica);
+        String accountDn = "o=s3test,ou=accounts,dc=s3,dc=seagate,dc=com";
+
+        LdapConnectionManager.recordWrite(accountDn);
+
+        assertEquals(ldapPool, LdapConnectionManager.selectReadPool(
+                "ou=users," + accountDn, System.nanoTime()));
+    }
+
+    @Test
+    public void selectReadPoolTest_WriteConnectionIsNotAWrite()
+            throws Exception {
+        LdapConnectionPool replica = mockReplica(0, false);
+        useReplicas(replica);
+
+        LdapConnectionManager.getConnection();
+
+        assertEquals(replica, LdapConnectionManager.selectReadPool(
+                ACCESS_KEY_DN, System.nanoTime()));
+    }
+
+    @Test
+    public void recordWriteTest_RemovesExpiredWrites() throws Exception {
+        useReplicas(mockReplica(0, false));
+        LdapConnectionManager.recentWrites.put("ou=expired", System.nanoTime()
+                - LdapConnectionManager.readAfterWriteNanos);
+
+        LdapConnectionManager.recordWrite(ACCESS_KEY_DN);
+
+        assertFalse(LdapConnectionManager.recentWrites.containsKey(
+                "ou=expired"));
+        assertEquals(1, LdapConnectionManager.recentWrites.size());
+    }
+
+    @Test
+    public void recordWriteTest_NoReplicas() throws Exception {
+        LdapConnectionManager.initLdap();
+        LdapConnectionManager.recentWrites.clear();
+
+        LdapConnectionManager.recordWrite(ACCESS_KEY_DN);
+
+        assertTrue(LdapConnectionManager.recentWrites.isEmpty());
+    }
+
+    @Test
+    public void getReadConnectionTest_ReplicaFailed() throws Exception {
+        LdapConnectionPool replica = mockReplica(0, false);
+        PowerMockito.when(replica.acquire()).thenThrow(new LDAPException(
+                "Timed out", LDAPException.LDAP_TIMEOUT, null));
+        useReplicas(replica);
+
+        LDAPConnection lc =
+                LdapConnectionManager.getReadConnection(ACCESS_KEYS_DN);
+
+        assertEquals(ldapConnection, lc);
+        verify(ldapPool).acquire();
+    }
+
+    @Test
+    public void releaseConnectionTest_Replica() throws Exception {
+        LdapConnectionPool replica = mockReplica(0, false);
+        PowerMockito.when(replica.release(ldapConnection)).thenReturn(true);
+        useReplicas(replica);
+
+        LdapConnectionManager.releaseConnection(ldapConnection);
+
+        verify(replica).release(ldapConnection);
+        verify(ldapConnection, times(0)).disconnect();
     }
 
     @Test
     public void releaseConnectionTest() throws Exception {
-        LdapConnectionManager.ldapPool = mock(PoolManager.class);
+        LdapConnectionManager.ldapPool = mock(LdapConnectionPool.class);
+        PowerMockito.when(LdapConnectionManager.ldapPool.release(ldapConnection))
+                .thenReturn(true);
 
         // Act
         LdapConnectionManager.releaseConnection(ldapConnection);
 
         // Verify
-        verify(LdapConnectionManager.ldapPool).makeConnectionAvailable(ldapConnection);
+        verify(LdapConnectionManager.ldapPool).release(ldapConnection);
+        verify(ldapConnection, times(0)).disconnect();
+    }
+
+    @Test
+    public void releaseConnectionTest_NotPooled() throws Exception {
+        LdapConnectionManager.ldapPool = mock(LdapConnectionPool.class);
+
+        LdapConnectionManager.releaseConnection(ldapConnection);
+
+        verify(ldapConnection).disconnect();
+    }
+
+    private LdapConnectionPool mockReplica(int outstanding, boolean open) {
+        LdapConnectionPool replica = mock(LdapConnectionPool.class);
+        PowerMockito.when(replica.getOutstandingCount()).thenReturn(outstanding);
+        PowerMockito.when(replica.isCircuitOpen()).thenReturn(open);
+        return replica;
+    }
+
+    private void useReplicas(LdapConnectionPool... replicas) throws Exception {
+        LdapConnectionManager.initLdap();
+        LdapConnectionManager.readPools = Arrays.asList(replicas);
+        LdapConnectionManager.recentWrites.clear();
     }
 
     private void enableFaultInjection(String faultPoint) throws Exception {
@@ -188,14 +393,30 @@ public class LdapConnectionManagerTest {
         doReturn(Boolean.TRUE).when(faultPoints).isFaultPointActive(faultPoint);
     }
     @Test public void getConnectionParameterizedTest() throws Exception {
+      PowerMockito.whenNew(LDAPConnection.class).withNoArguments().thenReturn(
+          ldapConnection);
       LdapConnectionManager.initLdap();
       LDAPConnection lc = LdapConnectionManager.getConnection(
           AuthServerConfig.getLdapLoginDN(),
           AuthServerConfig.getLdapLoginPassword());
       // Verify
       assertNotNull(lc);
-      verify(ldapPool).getBoundConnection("cn=admin,dc=seagate,dc=com",
-                                          "seagate".getBytes("UTF-8"));
+      verify(ldapConnection).connect(LDAP_HOST, LDAP_PORT);
+      verify(ldapConnection).bind(LDAPConnection.LDAP_V3,
+                                  "cn=admin,dc=seagate,dc=com",
+                                  "seagate".getBytes("UTF-8"));
+      verify(ldapPool, times(0)).acquire();
+    }
+
+    @Test public void getConnectionParameterizedTest_CircuitOpen()
+        throws Exception {
+      PowerMockito.when(ldapPool.isCircuitOpen()).thenReturn(true);
+      LdapConnectionManager.initLdap();
+      LDAPConnection lc = LdapConnectionManager.getConnection(
+          AuthServerConfig.getLdapLoginDN(),
+          AuthServerConfig.getLdapLoginPassword());
+
+      assertNull(lc);
     }
 
     @Test public void
@@ -208,7 +429,6 @@ public class LdapConnectionManagerTest {
           AuthServerConfig.getLdapLoginPassword());
       // Verify
       assertNull(lc);
-      verify(ldapPool, times(0)).getBoundConnection(
-          "cn=admin,dc=seagate,dc=com", "seagate".getBytes("UTF-8"));
+      verify(ldapPool, times(0)).acquire();
     }
 }
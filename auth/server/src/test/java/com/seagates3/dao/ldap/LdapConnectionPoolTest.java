@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.ldap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.novell.ldap.LDAPConnection;
+import com.novell.ldap.LDAPException;
+
+public
+class LdapConnectionPoolTest {
+
+ private
+  FakeFactory factory;
+
+  @Before public void setUp() { factory = new FakeFactory(); }
+
+  @Test public void startTest_CreatesMinimumConnections() {
+    LdapConnectionPool pool = createPool(2, 4);
+
+    pool.start(3600);
+
+    assertEquals(2, factory.created.size());
+    assertEquals(2, pool.getIdleCount());
+    assertEquals(2, pool.getTotalCount());
+    pool.stop();
+  }
+
+  @Test public void acquireReleaseTest() throws Exception {
+    LdapConnectionPool pool = createPool(1, 1);
+    pool.fill();
+
+    LDAPConnection lc = pool.acquire();
+
+    assertSame(factory.created.get(0), lc);
+    assertEquals(1, pool.getActiveCount());
+    assertEquals(0, pool.getIdleCount());
+    assertEquals(1, pool.getAcquireLatency().snapshot().getCount());
+
+    assertTrue(pool.release(lc));
+    assertEquals(0, pool.getActiveCount());
+    assertEquals(1, pool.getIdleCount());
+  }
+
+  @Test public void acquireTest_CreatesConnectionsUpToMaximum()
+      throws Exception {
+    LdapConnectionPool pool = createPool(0, 2);
+
+    pool.acquire();
+    pool.acquire();
+
+    assertEquals(2, pool.getTotalCount());
+    try {
+      pool.acquire();
+      fail("Expected acquire to time out");
+    }
+    catch (LDAPException ex) {
+      assertEquals(LDAPException.LDAP_TIMEOUT, ex.getResultCode());
+    }
+    assertEquals(1, pool.getAcquireTimeoutCount());
+    assertEquals(0, pool.getWaiterCount());
+  }
+
+  @Test public void acquireTest_DropsDisconnectedConnection()
+      throws Exception {
+    LdapConnectionPool pool = createPool(1, 2);
+    pool.fill();
+    LDAPConnection dead = factory.created.get(0);
+    when(dead.isConnected()).thenReturn(false);
+
+    LDAPConnection lc = pool.acquire();
+
+    assertSame(factory.created.get(1), lc);
+    assertEquals(1, pool.getDiscardedCount());
+    verify(dead).disconnect();
+  }
+
+  @Test public void releaseTest_DropsDisconnectedConnection()
+      throws Exception {
+    LdapConnectionPool pool = createPool(0, 1);
+    LDAPConnection lc = pool.acquire();
+    when(lc.isConnected()).thenReturn(false);
+
+    pool.release(lc);
+
+    assertEquals(0, pool.getIdleCount());
+    assertEquals(0, pool.getTotalCount());
+  }
+
+  @Test public void acquireTest_WaiterCreatesConnectionAfterDiscard()
+      throws Exception {
+    final LdapConnectionPool pool =
+        new LdapConnectionPool("test", factory, 0, 1, 5000, 2, 60000);
+    final LDAPConnection lc = pool.acquire();
+    Thread releaser = new Thread(new Runnable() {
+      @Override public void run() {
+        try {
+          Thread.sleep(50);
+        }
+        catch (InterruptedException ex) {
+          return;
+        }
+        when(lc.isConnected()).thenReturn(false);
+        pool.release(lc);
+      }
+    });
+    releaser.start();
+
+    LDAPConnection replacement = pool.acquire();
+    releaser.join();
+
+    assertSame(factory.created.get(1), replacement);
+    assertEquals(1, pool.getTotalCount());
+    assertEquals(0, pool.getAcquireTimeoutCount());
+  }
+
+  @Test public void releaseTest_NotPooled() {
+    LdapConnectionPool pool = createPool(0, 1);
+
+    assertFalse(pool.release(mock(LDAPConnection.class)));
+    assertEquals(0, pool.getActiveCount());
+  }
+
+  @Test public void acquireTest_CircuitBreakerOpens() throws Exception {
+    LdapConnectionPool pool = createPool(0, 2);
+    factory.fail = true;
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        pool.acquire();
+        fail("Expected acquire to fail");
+      }
+      catch (LDAPException ex) {
+        assertEquals(LDAPException.CONNECT_ERROR, ex.getResultCode());
+      }
+    }
+    assertTrue(pool.isCircuitOpen());
+
+    factory.fail = false;
+    try {
+      pool.acquire();
+      fail("Expected acquire to be rejected");
+    }
+    catch (LDAPException ex) {
+      assertEquals(LdapConnectionPool.CIRCUIT_OPEN, ex.getLDAPErrorMessage());
+    }
+    assertEquals(2, factory.attempts);
+    assertEquals(1, pool.getRejectedCount());
+  }
+
+  @Test public void acquireTest_CircuitBreakerCloses() throws Exception {
+    LdapConnectionPool pool =
+        new LdapConnectionPool("test", factory, 0, 2, 10, 1, 0);
+    factory.fail = true;
+    try {
+      pool.acquire();
+      fail("Expected acquire to fail");
+    }
+    catch (LDAPException ex) {
+      assertEquals(LDAPException.CONNECT_ERROR, ex.getResultCode());
+    }
+
+    factory.fail = false;
+    Thread.sleep(1);
+
+    assertFalse(pool.isCircuitOpen());
+    LDAPConnection lc = pool.acquire();
+    assertSame(factory.created.get(0), lc);
+  }
+
+  @Test public void validateTest_DropsDeadConnections() throws Exception {
+    LdapConnectionPool pool = createPool(2, 2);
+    pool.fill();
+    when(factory.created.get(0).isConnectionAlive()).thenReturn(false);
+
+    pool.validate();
+    assertEquals(1, pool.getTotalCount());
+
+    pool.fill();
+    assertEquals(2, pool.getTotalCount());
+    assertEquals(3, factory.created.size());
+  }
+
+  @Test public void validateTest_ChecksBoundedBatch() throws Exception {
+    int size = LdapConnectionPool.VALIDATION_BATCH + 2;
+    LdapConnectionPool pool = createPool(size, size);
+    pool.fill();
+    LDAPConnection dead = factory.created.get(0);
+    when(dead.isConnectionAlive()).thenReturn(false);
+
+    pool.validate();
+    assertEquals(size, pool.getTotalCount());
+    verify(dead, never()).isConnectionAlive();
+
+    pool.validate();
+    assertEquals(size - 1, pool.getTotalCount());
+    verify(dead).disconnect();
+  }
+
+ private
+  LdapConnectionPool createPool(int min, int max) {
+    return new LdapConnectionPool("test", factory, min, max, 10, 2, 60000);
+  }
+
+ private
+  static class FakeFactory implements LdapConnectionPool.ConnectionFactory {
+    final List<LDAPConnection> created = new ArrayList<>();
+    boolean fail;
+    int attempts;
+
+    @Override public LDAPConnection create() throws LDAPException {
+      attempts++;
+      if (fail) {
+        throw new LDAPException("Connect failed", LDAPException.CONNECT_ERROR,
+                                null);
+      }
+      LDAPConnection lc = mock(LDAPConnection.class);
+      when(lc.isConnected()).thenReturn(true);
+      when(lc.isConnectionAlive()).thenReturn(true);
+      created.add(lc);
+      return lc;
+    }
+  }
+}
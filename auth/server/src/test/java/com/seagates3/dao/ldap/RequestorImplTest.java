@@ -101,6 +101,9 @@ import org.powermock.modules.junit4.PowerMockRunner;
         PowerMockito.mockStatic(LdapConnectionManager.class);
         doReturn(ldapConnection)
             .when(LdapConnectionManager.class, "getConnection");
+        doReturn(ldapConnection)
+            .when(LdapConnectionManager.class, "getReadConnection",
+                  Mockito.anyString());
         PowerMockito.whenNew(LDAPConnection.class)
             .withArguments(socket_timeout)
             .thenReturn(ldapConnection);
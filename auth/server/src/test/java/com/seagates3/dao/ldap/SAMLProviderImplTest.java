@@ -141,7 +141,7 @@ public class SAMLProviderImplTest {
         String filter = "(&(accountid=12345)(cn=s3testprovider))";
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "search",
-                BASE_DN, 2, filter, FIND_ATTRS
+                "SAMLProviderImpl.find", BASE_DN, 2, filter, FIND_ATTRS
         );
 
         exception.expect(DataAccessException.class);
@@ -158,7 +158,7 @@ public class SAMLProviderImplTest {
         String filter = "(&(accountid=12345)(cn=s3testprovider))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                BASE_DN, 2, filter, FIND_ATTRS
+                "SAMLProviderImpl.find", BASE_DN, 2, filter, FIND_ATTRS
         );
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
 
@@ -186,7 +186,7 @@ public class SAMLProviderImplTest {
         String filter = "(&(accountid=12345)(cn=s3testprovider))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                BASE_DN, 2, filter, FIND_ATTRS
+                "SAMLProviderImpl.find", BASE_DN, 2, filter, FIND_ATTRS
         );
         Mockito.when(ldapResults.hasMore())
                 .thenReturn(Boolean.TRUE)
@@ -218,6 +218,7 @@ public class SAMLProviderImplTest {
                 "serializeToJson", samlMetadataTokens);
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "add",
+                Matchers.eq("SAMLProviderImpl.save"),
                 Matchers.any(LDAPEntry.class)
         );
 
@@ -269,7 +270,7 @@ public class SAMLProviderImplTest {
                 .withArguments("issuer", "http://s3test/issuer");
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(accessKeyEntry);
+        LDAPUtils.add("SAMLProviderImpl.save", accessKeyEntry);
     }
 
     @Test
@@ -279,7 +280,7 @@ public class SAMLProviderImplTest {
         String filter = "(&(objectclass=samlprovider)(accountid=12345))";
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "search",
-                ldapBase, 2, filter, FIND_ALL_ATTRS
+                "SAMLProviderImpl.findAll", ldapBase, 2, filter, FIND_ALL_ATTRS
         );
         exception.expect(DataAccessException.class);
 
@@ -296,7 +297,7 @@ public class SAMLProviderImplTest {
         String filter = "(&(objectclass=samlprovider)(accountid=12345))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                ldapBase, 2, filter, FIND_ALL_ATTRS
+                "SAMLProviderImpl.findAll", ldapBase, 2, filter, FIND_ALL_ATTRS
         );
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
 
@@ -312,7 +313,7 @@ public class SAMLProviderImplTest {
         String filter = "(&(objectclass=samlprovider)(accountid=12345))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                ldapBase, 2, filter, FIND_ALL_ATTRS
+                "SAMLProviderImpl.findAll", ldapBase, 2, filter, FIND_ALL_ATTRS
         );
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
         Mockito.doThrow(new LDAPException()).when(ldapResults).next();
@@ -337,7 +338,7 @@ public class SAMLProviderImplTest {
         String filter = "(&(objectclass=samlprovider)(accountid=12345))";
 
         PowerMockito.doReturn(ldapResults).when(LDAPUtils.class, "search",
-                ldapBase, 2, filter, FIND_ALL_ATTRS
+                "SAMLProviderImpl.findAll", ldapBase, 2, filter, FIND_ALL_ATTRS
         );
         Mockito.when(ldapResults.hasMore())
                 .thenReturn(Boolean.TRUE)
@@ -359,7 +360,7 @@ public class SAMLProviderImplTest {
 
         String dn = "issuer=http://s3test/issuer,ou=idp,dc=s3,dc=seagate,dc=com";
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "delete",
-                dn
+                "SAMLProviderImpl.delete", dn
         );
         exception.expect(DataAccessException.class);
 
@@ -378,7 +379,7 @@ public class SAMLProviderImplTest {
 
         samlProviderImpl.delete(samlProvider);
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.delete(dn);
+        LDAPUtils.delete("SAMLProviderImpl.delete", dn);
     }
 
     @Test
@@ -403,7 +404,7 @@ public class SAMLProviderImplTest {
                 .thenReturn(modification);
 
         PowerMockito.doThrow(new LDAPException()).when(LDAPUtils.class, "modify",
-                dn, modification
+                "SAMLProviderImpl.update", dn, modification
         );
 
         exception.expect(DataAccessException.class);
@@ -433,7 +434,7 @@ public class SAMLProviderImplTest {
                 .thenReturn(modification);
 
         PowerMockito.doNothing().when(LDAPUtils.class, "modify",
-                dn, modification
+                "SAMLProviderImpl.update", dn, modification
         );
 
         samlProviderImpl.update(samlProvider, UPDATE_SAML_METADATA);
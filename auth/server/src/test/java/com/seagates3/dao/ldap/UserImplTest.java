@@ -140,7 +140,8 @@ import com.seagates3.model.User;
         String userBaseDN = "ou=users,o=s3test,ou=accounts,"
                 + "dc=s3,dc=seagate,dc=com";
         PowerMockito.doThrow(new LDAPException()).when(
-            LDAPUtils.class, "search", userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
+            LDAPUtils.class, "search", "UserImpl.find",
+            userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
         exception.expect(DataAccessException.class);
 
         userImpl.find("s3test", "s3testuser");
@@ -156,7 +157,8 @@ import com.seagates3.model.User;
                 + "dc=s3,dc=seagate,dc=com";
 
         PowerMockito.doReturn(ldapResults).when(
-            LDAPUtils.class, "search", userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
+            LDAPUtils.class, "search", "UserImpl.find",
+            userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
 
         User user = userImpl.find("s3test", "s3testuser");
@@ -170,7 +172,8 @@ import com.seagates3.model.User;
                 + "dc=s3,dc=seagate,dc=com";
 
         PowerMockito.doReturn(ldapResults).when(
-            LDAPUtils.class, "search", userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
+            LDAPUtils.class, "search", "UserImpl.find",
+            userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
         Mockito.doThrow(new LDAPException()).when(ldapResults).next();
 
@@ -194,7 +197,8 @@ import com.seagates3.model.User;
         String userBaseDN = "ou=users,o=s3test,ou=accounts,"
                 + "dc=s3,dc=seagate,dc=com";
         PowerMockito.doReturn(ldapResults).when(
-            LDAPUtils.class, "search", userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
+            LDAPUtils.class, "search", "UserImpl.find",
+            userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
 
         User user = userImpl.find("s3test", "s3testuser");
@@ -220,7 +224,8 @@ import com.seagates3.model.User;
         String userBaseDN = "ou=users,o=s3test,ou=accounts,"
                 + "dc=s3,dc=seagate,dc=com";
         PowerMockito.doReturn(ldapResults).when(
-            LDAPUtils.class, "search", userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
+            LDAPUtils.class, "search", "UserImpl.find",
+            userBaseDN, 2, FIND_FILTER, FIND_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
 
         User user = userImpl.find("s3test", "s3testuser");
@@ -232,8 +237,8 @@ import com.seagates3.model.User;
         String userBaseDN = "ou=users,o=s3test,ou=accounts,"
                 + "dc=s3,dc=seagate,dc=com";
         PowerMockito.doThrow(new LDAPException())
-            .when(LDAPUtils.class, "search", userBaseDN, 2,
-                  FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
+            .when(LDAPUtils.class, "search", "UserImpl.findByUserId",
+                  userBaseDN, 2, FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
 
         userImpl.findByUserId("s3test", "s3UserId");
     }
@@ -248,8 +253,8 @@ import com.seagates3.model.User;
                 + "dc=s3,dc=seagate,dc=com";
 
         PowerMockito.doReturn(ldapResults)
-            .when(LDAPUtils.class, "search", userBaseDN, 2,
-                  FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
+            .when(LDAPUtils.class, "search", "UserImpl.findByUserId",
+                  userBaseDN, 2, FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
 
         User user = userImpl.findByUserId("s3test", "s3UserId");
@@ -263,8 +268,8 @@ import com.seagates3.model.User;
                 + "dc=s3,dc=seagate,dc=com";
 
         PowerMockito.doReturn(ldapResults)
-            .when(LDAPUtils.class, "search", userBaseDN, 2,
-                  FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
+            .when(LDAPUtils.class, "search", "UserImpl.findByUserId",
+                  userBaseDN, 2, FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
         Mockito.doThrow(new LDAPException()).when(ldapResults).next();
 
@@ -287,8 +292,8 @@ import com.seagates3.model.User;
 
         setupUserAttr();
         PowerMockito.doReturn(ldapResults)
-            .when(LDAPUtils.class, "search", userBaseDN, 2,
-                  FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
+            .when(LDAPUtils.class, "search", "UserImpl.findByUserId",
+                  userBaseDN, 2, FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
 
         User user = userImpl.findByUserId("s3test", "s3UserId");
@@ -314,8 +319,8 @@ import com.seagates3.model.User;
         String userBaseDN = "ou=users,o=s3test,ou=accounts,"
                 + "dc=s3,dc=seagate,dc=com";
         PowerMockito.doReturn(ldapResults)
-            .when(LDAPUtils.class, "search", userBaseDN, 2,
-                  FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
+            .when(LDAPUtils.class, "search", "UserImpl.findByUserId",
+                  userBaseDN, 2, FIND_BYUSERID_FILTER, FIND_BYUSERID_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
 
         User user = userImpl.findByUserId("s3test", "s3UserId");
@@ -332,7 +337,7 @@ import com.seagates3.model.User;
         String dn = "s3userid=123,ou=users,o=s3test,ou=accounts,dc=s3,"
                 + "dc=seagate,dc=com";
         PowerMockito.doThrow(new LDAPException())
-            .when(LDAPUtils.class, "delete", dn);
+            .when(LDAPUtils.class, "delete", "UserImpl.delete", dn);
         exception.expect(DataAccessException.class);
 
         userImpl.delete(user);
@@ -350,7 +355,7 @@ import com.seagates3.model.User;
 
         userImpl.delete(user);
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.delete(dn);
+        LDAPUtils.delete("UserImpl.delete", dn);
     }
 
     @Test
@@ -364,7 +369,8 @@ import com.seagates3.model.User;
         user.setArn("arn:aws:iam::accountid:user/s3test");
 
         PowerMockito.doThrow(new LDAPException())
-            .when(LDAPUtils.class, "add", Mockito.any(LDAPEntry.class));
+            .when(LDAPUtils.class, "add", Mockito.eq("UserImpl.save"),
+                    Mockito.any(LDAPEntry.class));
         exception.expect(DataAccessException.class);
 
         userImpl.save(user);
@@ -412,7 +418,7 @@ import com.seagates3.model.User;
             .withArguments("path", "/test");
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(userEntry);
+        LDAPUtils.add("UserImpl.save", userEntry);
     }
 
     @Test
@@ -457,7 +463,7 @@ import com.seagates3.model.User;
             .withArguments("rolename", "roleUserName");
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.add(userEntry);
+        LDAPUtils.add("UserImpl.save", userEntry);
     }
 
     @Test
@@ -467,7 +473,8 @@ import com.seagates3.model.User;
         String filter = "(&(path=/*)(objectclass=iamuser))";
 
         PowerMockito.doThrow(new LDAPException()).when(
-            LDAPUtils.class, "search", userBaseDN, 2, filter, FIND_ALL_ATTRS);
+            LDAPUtils.class, "search", "UserImpl.findAll",
+            userBaseDN, 2, filter, FIND_ALL_ATTRS);
         exception.expect(DataAccessException.class);
 
         userImpl.findAll("s3test", "/");
@@ -482,7 +489,8 @@ import com.seagates3.model.User;
         String filter = "(&(path=/*)(objectclass=iamuser))";
 
         PowerMockito.doReturn(ldapResults).when(
-            LDAPUtils.class, "search", userBaseDN, 2, filter, FIND_ALL_ATTRS);
+            LDAPUtils.class, "search", "UserImpl.findAll",
+            userBaseDN, 2, filter, FIND_ALL_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.FALSE);
 
         User[] userList = userImpl.findAll("s3test", "/");
@@ -496,7 +504,8 @@ import com.seagates3.model.User;
                 + "dc=seagate,dc=com";
         String filter = "(&(path=/*)(objectclass=iamuser))";
         PowerMockito.doReturn(ldapResults).when(
-            LDAPUtils.class, "search", userBaseDN, 2, filter, FIND_ALL_ATTRS);
+            LDAPUtils.class, "search", "UserImpl.findAll",
+            userBaseDN, 2, filter, FIND_ALL_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE);
         Mockito.doThrow(new LDAPException()).when(ldapResults).next();
 
@@ -520,7 +529,8 @@ import com.seagates3.model.User;
                 + "dc=seagate,dc=com";
         String filter = "(&(path=/*)(objectclass=iamuser))";
         PowerMockito.doReturn(ldapResults).when(
-            LDAPUtils.class, "search", userBaseDN, 2, filter, FIND_ALL_ATTRS);
+            LDAPUtils.class, "search", "UserImpl.findAll",
+            userBaseDN, 2, filter, FIND_ALL_ATTRS);
         Mockito.when(ldapResults.hasMore()).thenReturn(Boolean.TRUE).thenReturn(
             Boolean.FALSE);
 
@@ -539,7 +549,8 @@ import com.seagates3.model.User;
         String dn = "s3userid=123,ou=users,o=s3test,ou=accounts,dc=s3,"
                 + "dc=seagate,dc=com";
         PowerMockito.doThrow(new LDAPException())
-            .when(LDAPUtils.class, "modify", dn, new ArrayList());
+            .when(LDAPUtils.class, "modify", "UserImpl.update", dn,
+                  new ArrayList());
 
         exception.expect(DataAccessException.class);
 
@@ -583,7 +594,7 @@ import com.seagates3.model.User;
         Mockito.verify(modifyList, Mockito.times(3)).add(modification);
 
         PowerMockito.verifyStatic(Mockito.times(1));
-        LDAPUtils.modify(dn, modifyList);
+        LDAPUtils.modify("UserImpl.update", dn, modifyList);
     }
 
 }
@@ -110,7 +110,8 @@ import org.powermock.modules.junit4.PowerMockRunner;
         mockList);
 
     PowerMockito.doThrow(new LDAPException())
-        .when(LDAPUtils.class, "modify", dn, mockList);
+        .when(LDAPUtils.class, "modify", "UserLoginProfileImpl.save",
+                dn, mockList);
 
     exception.expect(DataAccessException.class);
 
@@ -154,6 +155,6 @@ import org.powermock.modules.junit4.PowerMockRunner;
     Mockito.verify(modifyList, Mockito.times(3)).add(modification);
 
     PowerMockito.verifyStatic(Mockito.times(1));
-    LDAPUtils.modify(dn, modifyList);
+    LDAPUtils.modify("UserLoginProfileImpl.save", dn, modifyList);
   }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.dao.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.seagates3.dao.ldap.LDAPUtils;
+import com.seagates3.exception.DataAccessException;
+import com.seagates3.model.Account;
+import com.seagates3.model.User;
+
+public
+class AccountImplTest {
+
+ private
+  AccountImpl accountImpl;
+
+  @Rule public final ExpectedException exception = ExpectedException.none();
+
+  @Before public void setUp() throws Exception {
+    MemoryStore.clear();
+    accountImpl = new AccountImpl();
+    accountImpl.save(createAccount("s3test", "test@seagate.com"));
+  }
+
+  @After public void tearDown() { MemoryStore.clear(); }
+
+  @Test public void findTest() throws Exception {
+    Account account = accountImpl.find("s3test");
+
+    assertTrue(account.exists());
+    assertEquals("12345", account.getId());
+    assertEquals("can1234", account.getCanonicalId());
+  }
+
+  @Test public void findTest_NotFound() throws Exception {
+    Account account = accountImpl.find("unknown");
+
+    assertFalse(account.exists());
+    assertEquals("unknown", account.getName());
+  }
+
+  @Test public void findByOtherAttributesTest() throws Exception {
+    assertEquals("s3test", accountImpl.findByID("12345").getName());
+    assertEquals("s3test", accountImpl.findByCanonicalID("can1234").getName());
+    assertEquals("s3test",
+                 accountImpl.findByEmailAddress("test@seagate.com").getName());
+    assertFalse(accountImpl.findByCanonicalID("unknown").exists());
+  }
+
+  @Test public void saveTest_DuplicateEmail() throws Exception {
+    exception.expect(DataAccessException.class);
+    exception.expectMessage("some attributes not unique");
+
+    Account account = createAccount("s3test2", "test@seagate.com");
+    account.setId("67890");
+    accountImpl.save(account);
+  }
+
+  @Test public void deleteOuTest() throws Exception {
+    UserImpl userImpl = new UserImpl();
+    User user = new User();
+    user.setId("AIDA123");
+    user.setName("root");
+    user.setAccountName("s3test");
+    user.setPath("/");
+    userImpl.save(user);
+
+    accountImpl.deleteOu(accountImpl.find("s3test"), LDAPUtils.USER_OU);
+    accountImpl.delete(accountImpl.find("s3test"));
+
+    assertFalse(userImpl.findByUserId("AIDA123").exists());
+    assertFalse(accountImpl.find("s3test").exists());
+    assertEquals(0, accountImpl.findAll().length);
+  }
+
+ private
+  static Account createAccount(String name, String email) {
+    Account account = new Account();
+    account.setId("12345");
+    account.setName(name);
+    account.setCanonicalId("can1234");
+    account.setEmail(email);
+    return account;
+  }
+}
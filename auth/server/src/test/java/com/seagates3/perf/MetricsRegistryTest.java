@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.perf;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public
+class MetricsRegistryTest {
+
+  @Test public void recordResponseTest() {
+    MetricsRegistry.recordResponse("RecordResponseTest", 200, 5000);
+    MetricsRegistry.recordResponse("RecordResponseTest", 200, 5000);
+    MetricsRegistry.recordResponse(null, 499, 1000);
+
+    String metrics = MetricsRegistry.render();
+
+    assertTrue(metrics.contains(
+        "# TYPE auth_request_duration_seconds histogram\n"));
+    assertTrue(metrics.contains("auth_request_duration_seconds_count" +
+                                "{action=\"RecordResponseTest\"} 2\n"));
+    assertTrue(metrics.contains("auth_responses_total{code=\"499\"} 1\n"));
+  }
+
+  @Test public void getLdapHistogramTest() {
+    MetricsRegistry.getLdapHistogram("TestImpl.find").record(1000);
+
+    String metrics = MetricsRegistry.render();
+
+    assertTrue(metrics.contains("auth_ldap_operation_duration_seconds_count" +
+                                "{method=\"TestImpl.find\"} 1\n"));
+  }
+
+  @Test public void renderTest_Stages() {
+    PerfRegistry.getHistogram("Render test").record(1000);
+
+    String metrics = MetricsRegistry.render();
+
+    assertTrue(metrics.contains(
+        "auth_stage_duration_seconds_count{stage=\"Render test\"} 1\n"));
+  }
+
+  @Test public void renderAsyncTest_Collector() throws Exception {
+    MetricsRegistry.Collector collector = new MetricsRegistry.Collector() {
+      @Override public void collect(PrometheusWriter writer) {
+        writer.family("test_gauge", "gauge", "Test.").sample("test_gauge",
+                                                             null, 7);
+      }
+    };
+    MetricsRegistry.register(collector);
+    try {
+      String metrics = MetricsRegistry.renderAsync().get();
+
+      assertTrue(metrics.contains("# TYPE test_gauge gauge\ntest_gauge 7\n"));
+    }
+    finally {
+      MetricsRegistry.unregister(collector);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.perf;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.exception.ServerInitialisationException;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.api.mockito.mockpolicies.Slf4jMockPolicy;
+import org.powermock.core.classloader.annotations.MockPolicy;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+@RunWith(PowerMockRunner.class) @PrepareForTest(AuthServerConfig.class)
+    @MockPolicy(Slf4jMockPolicy.class) public class PerfRegistryTest {
+
+  @Test public void getHistogramTest() {
+    RecordingHistogram histogram = PerfRegistry.getHistogram("getHistogram");
+
+    assertSame(histogram, PerfRegistry.getHistogram("getHistogram"));
+    assertSame(histogram, PerfRegistry.getHistograms().get("getHistogram"));
+  }
+
+  @Test public void exportTest() throws Exception {
+    RecordingHistogram histogram = PerfRegistry.getHistogram("export");
+    histogram.record(1000);
+    histogram.record(3000);
+
+    StringBuilder out = new StringBuilder();
+    PerfRegistry.export(out);
+
+    assertTrue(out.toString().contains(
+        ",export,count=2,mean=2.0,p50=1.0,p90=3.0,p99=3.0,p99.9=3.0," +
+        "max=3.0 us\n"));
+
+    out = new StringBuilder();
+    PerfRegistry.export(out);
+
+    assertFalse(out.toString().contains(",export,"));
+
+    histogram.record(2000);
+    PerfRegistry.export(out);
+
+    assertTrue(out.toString().contains(",export,count=1,mean=2.0,"));
+  }
+
+  @Test public void initTest_Disabled() throws Exception {
+    mockStatic(AuthServerConfig.class);
+    when(AuthServerConfig.isPerfEnabled()).thenReturn(false);
+
+    PerfRegistry.init();
+    PerfRegistry.clean();
+  }
+
+  @Test public void initTest() throws Exception {
+    File file = File.createTempFile("perf", ".log");
+    file.deleteOnExit();
+    mockStatic(AuthServerConfig.class);
+    when(AuthServerConfig.isPerfEnabled()).thenReturn(true);
+    when(AuthServerConfig.getPerfLogFile()).thenReturn(file.getPath());
+    when(AuthServerConfig.getPerfExportInterval()).thenReturn(60);
+
+    PerfRegistry.init();
+    PerfRegistry.getHistogram("init").record(5000);
+    PerfRegistry.clean();
+
+    String log =
+        new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    assertTrue(log.contains(",init,count=1,mean=5.0,"));
+  }
+
+  @Test(expected = ServerInitialisationException.class)
+  public void initTest_InvalidFile() throws Exception {
+    mockStatic(AuthServerConfig.class);
+    when(AuthServerConfig.isPerfEnabled()).thenReturn(true);
+    when(AuthServerConfig.getPerfLogFile())
+        .thenReturn("/nonexistent-dir/perf.log");
+
+    PerfRegistry.init();
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.perf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public
+class PrometheusWriterTest {
+
+  @Test public void sampleTest() {
+    StringBuilder out = new StringBuilder();
+
+    new PrometheusWriter(out)
+        .family("requests_total", "counter", "Requests.")
+        .sample("requests_total", PrometheusWriter.label("code", "200"), 5)
+        .sample("temperature", null, 1.5);
+
+    assertEquals("# HELP requests_total Requests.\n" +
+                     "# TYPE requests_total counter\n" +
+                     "requests_total{code=\"200\"} 5\n" + "temperature 1.5\n",
+                 out.toString());
+  }
+
+  @Test public void labelTest() {
+    assertEquals("action=\"a\\\"b\\\\c\\nd\"",
+                 PrometheusWriter.label("action", "a\"b\\c\nd"));
+  }
+
+  @Test public void histogramTest() {
+    RecordingHistogram histogram = new RecordingHistogram();
+    histogram.record(5000);
+    histogram.record(30000);
+    histogram.record(20000000000L);
+    StringBuilder out = new StringBuilder();
+
+    new PrometheusWriter(out)
+        .histogram("latency_seconds", "stage=\"s\"", histogram.snapshot());
+
+    String text = out.toString();
+    assertTrue(text.startsWith(
+        "latency_seconds_bucket{stage=\"s\",le=\"0.00001\"} 1\n" +
+        "latency_seconds_bucket{stage=\"s\",le=\"0.00002\"} 1\n" +
+        "latency_seconds_bucket{stage=\"s\",le=\"0.00005\"} 2\n"));
+    assertTrue(text.contains(
+        "latency_seconds_bucket{stage=\"s\",le=\"10\"} 2\n" +
+        "latency_seconds_bucket{stage=\"s\",le=\"+Inf\"} 3\n" +
+        "latency_seconds_sum{stage=\"s\"} 20.000035\n" +
+        "latency_seconds_count{stage=\"s\"} 3\n"));
+  }
+
+  @Test public void histogramTest_LatencyAboveBoundNotCounted() {
+    RecordingHistogram histogram = new RecordingHistogram();
+    histogram.record(9000);
+    histogram.record(10100);
+    StringBuilder out = new StringBuilder();
+
+    new PrometheusWriter(out).histogram("latency_seconds", null,
+                                        histogram.snapshot());
+
+    assertTrue(out.toString().startsWith(
+        "latency_seconds_bucket{le=\"0.00001\"} 1\n" +
+        "latency_seconds_bucket{le=\"0.00002\"} 2\n"));
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.perf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public
+class RecordingHistogramTest {
+
+  @Test public void getBucketTest() {
+    for (long nanos = 0; nanos < 64; nanos++) {
+      assertEquals(nanos, RecordingHistogram.getBucketUpperBoundNanos(
+                              RecordingHistogram.getBucket(nanos)));
+    }
+
+    int lastBucket = 0;
+    for (long nanos = 64; nanos <= RecordingHistogram.MAX_TRACKABLE_NANOS;
+         nanos += nanos / 7) {
+      int bucket = RecordingHistogram.getBucket(nanos);
+      long upperBound = RecordingHistogram.getBucketUpperBoundNanos(bucket);
+      assertTrue(bucket >= lastBucket);
+      assertTrue(upperBound >= nanos);
+      assertTrue(upperBound - nanos <= nanos / 32);
+      lastBucket = bucket;
+    }
+    assertEquals(RecordingHistogram.getBucketCount() - 1,
+                 RecordingHistogram.getBucket(
+                     RecordingHistogram.MAX_TRACKABLE_NANOS));
+  }
+
+  @Test public void recordTest() {
+    RecordingHistogram histogram = new RecordingHistogram();
+
+    histogram.record(10);
+    histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(7));
+
+    RecordingHistogram.Snapshot snapshot = histogram.snapshot();
+    assertEquals(3, snapshot.getCount());
+    assertEquals(1, snapshot.getBucketCount(10));
+    assertEquals(10 + 3000 + 7000000, snapshot.getSumNanos());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(7), snapshot.getMaxNanos());
+  }
+
+  @Test public void recordTest_Overflow() {
+    RecordingHistogram histogram = new RecordingHistogram();
+
+    histogram.record(TimeUnit.SECONDS.toNanos(100));
+    histogram.record(-1);
+
+    RecordingHistogram.Snapshot snapshot = histogram.snapshot();
+    assertEquals(1, snapshot.getBucketCount(
+                        RecordingHistogram.getBucketCount() - 1));
+    assertEquals(1, snapshot.getBucketCount(0));
+    assertEquals(RecordingHistogram.MAX_TRACKABLE_NANOS,
+                 snapshot.getMaxNanos());
+  }
+
+  @Test public void recordTest_Threads() throws Exception {
+    final RecordingHistogram histogram = new RecordingHistogram();
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(new Runnable() {
+        @Override public void run() {
+          for (int j = 0; j < 10000; j++) {
+            histogram.record(1000);
+          }
+        }
+      });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    RecordingHistogram.Snapshot snapshot = histogram.snapshot();
+    assertEquals(40000, snapshot.getCount());
+    assertEquals(40000000, snapshot.getSumNanos());
+  }
+
+  @Test public void getPercentileNanosTest() {
+    RecordingHistogram histogram = new RecordingHistogram();
+    for (int i = 0; i < 99; i++) {
+      histogram.record(TimeUnit.MICROSECONDS.toNanos(40));
+    }
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+
+    RecordingHistogram.Snapshot snapshot = histogram.snapshot();
+    long p50 = snapshot.getPercentileNanos(50);
+    assertTrue(p50 >= 40000 && p50 <= 40000 + 40000 / 32);
+    assertEquals(p50, snapshot.getPercentileNanos(99));
+    assertEquals(3000000, snapshot.getPercentileNanos(100));
+    assertEquals(0, new RecordingHistogram().snapshot().getPercentileNanos(99));
+  }
+
+  @Test public void sinceTest() {
+    RecordingHistogram histogram = new RecordingHistogram();
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+    RecordingHistogram.Snapshot earlier = histogram.snapshot();
+
+    histogram.record(100);
+    histogram.record(200);
+
+    RecordingHistogram.Snapshot interval = histogram.snapshot().since(earlier);
+    assertEquals(2, interval.getCount());
+    assertEquals(300, interval.getSumNanos());
+    assertEquals(150.0, interval.getMeanNanos(), 0);
+    assertEquals(RecordingHistogram.getBucketUpperBoundNanos(
+                     RecordingHistogram.getBucket(200)),
+                 interval.getMaxNanos());
+  }
+}
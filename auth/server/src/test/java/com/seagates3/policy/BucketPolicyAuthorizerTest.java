@@ -41,7 +41,6 @@ class BucketPolicyAuthorizerTest {
   static List<String> values = null;
   Map<String, String> requestBody = null;
   String key = "x-amz-acl";
-  BucketPolicyAuthorizer bpAuthorizer = new BucketPolicyAuthorizer();
   static Method isConditionMatching = null;
 
   @Before public void setUp() {
@@ -52,11 +51,16 @@ class BucketPolicyAuthorizerTest {
   @BeforeClass public static void setUpBeforeClass()
       throws NoSuchMethodException,
       SecurityException {
-    isConditionMatching = BucketPolicyAuthorizer.class.getDeclaredMethod(
+    isConditionMatching = CompiledBucketPolicy.class.getDeclaredMethod(
         "isConditionMatching", List.class, Map.class);
     isConditionMatching.setAccessible(true);
   }
 
+ private
+  static List<PolicyCondition> compile(List<Condition> conditions) {
+    return CompiledBucketPolicy.compileConditions(conditions);
+  }
+
   @Test public void testAuthorizePolicy_StringEquals_true() throws Exception {
     requestBody = new HashMap<String, String>();
     key = "max-keys";
@@ -68,7 +72,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -84,7 +88,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -99,7 +103,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -115,7 +119,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -131,7 +135,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -147,7 +151,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -163,7 +167,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -178,7 +182,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -193,7 +197,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -208,7 +212,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -223,7 +227,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -238,7 +242,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -254,7 +258,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -269,7 +273,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -285,7 +289,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -301,7 +305,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -317,7 +321,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -333,7 +337,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -349,7 +353,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -365,7 +369,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -381,7 +385,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -397,7 +401,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -412,7 +416,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -428,7 +432,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -443,7 +447,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -458,7 +462,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -472,7 +476,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -487,7 +491,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -502,7 +506,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                      requestBody));
   }
 
@@ -518,7 +522,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -534,7 +538,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -550,7 +554,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -566,7 +570,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -582,7 +586,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                      requestBody));
   }
 
@@ -598,7 +602,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -614,7 +618,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -629,7 +633,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                      requestBody));
   }
 
@@ -644,7 +648,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                       requestBody));
   }
 
@@ -660,7 +664,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                      requestBody));
   }
 
@@ -676,7 +680,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                       requestBody));
   }
 
@@ -692,7 +696,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                      requestBody));
   }
 
@@ -708,7 +712,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                       requestBody));
   }
 
@@ -724,7 +728,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -739,7 +743,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                      requestBody));
   }
 
@@ -754,7 +758,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                       requestBody));
   }
 
@@ -770,7 +774,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                      requestBody));
   }
 
@@ -786,7 +790,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                       requestBody));
   }
 
@@ -801,7 +805,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -817,7 +821,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -833,7 +837,7 @@ class BucketPolicyAuthorizerTest {
       condition.setValues(values);
       List<Condition> conditions = new ArrayList<>();
       conditions.add(condition);
-      assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+      assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                       requestBody));
   }
 
@@ -847,7 +851,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -862,7 +866,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -877,7 +881,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertTrue((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertTrue((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                    requestBody));
   }
 
@@ -892,7 +896,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 
@@ -907,7 +911,7 @@ class BucketPolicyAuthorizerTest {
     condition.setValues(values);
     List<Condition> conditions = new ArrayList<>();
     conditions.add(condition);
-    assertFalse((Boolean)isConditionMatching.invoke(bpAuthorizer, conditions,
+    assertFalse((Boolean)isConditionMatching.invoke(null, compile(conditions),
                                                     requestBody));
   }
 }
@@ -39,12 +39,14 @@ import com.seagates3.authorization.Authorizer;
 import com.seagates3.response.ServerResponse;
 import com.seagates3.response.generator.BucketPolicyResponseGenerator;
 import com.seagates3.util.BinaryUtil;
+import com.seagates3.dao.DAODispatcher;
+import com.seagates3.dao.DAOResource;
 import com.seagates3.dao.ldap.AccountImpl;
 import com.seagates3.model.Account;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 
-@RunWith(PowerMockRunner.class) @PrepareForTest({BucketPolicyValidator.class})
+@RunWith(PowerMockRunner.class) @PrepareForTest({BucketPolicyValidator.class, DAODispatcher.class})
     @PowerMockIgnore(
         {"javax.management.*"}) public class BucketPolicyValidatorTest {
 
@@ -57,6 +59,9 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 
   @Before public void setup() {
     mockaccountImpl = Mockito.mock(AccountImpl.class);
+    PowerMockito.mockStatic(DAODispatcher.class);
+    Mockito.when(DAODispatcher.getResourceDAO(DAOResource.ACCOUNT))
+        .thenReturn(mockaccountImpl);
     account = new Account();
     account.setId("1234");
   }
@@ -500,8 +505,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("ClientAbsoluteUri", "/MyBucket");
     requestBody.put("Policy",
                     BinaryUtil.encodeToBase64String(positiveJsonInput));
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockaccountImpl);
     Mockito.when(mockaccountImpl.findByCanonicalID(
                      "c73bfd36bc80701b1fbf1205498dc34625830069a8bff"))
         .thenReturn(account);
@@ -531,8 +534,6 @@ import io.netty.handler.codec.http.HttpResponseStatus;
     requestBody.put("ClientAbsoluteUri", "/MyBucket");
     requestBody.put("Policy",
                     BinaryUtil.encodeToBase64String(positiveJsonInput));
-    PowerMockito.whenNew(AccountImpl.class).withNoArguments().thenReturn(
-        mockaccountImpl);
     Mockito.when(mockaccountImpl.findByCanonicalID(
                      "c73bfd36bc80701b1fbf1205498dc34625830069a8bff"))
         .thenReturn(account);
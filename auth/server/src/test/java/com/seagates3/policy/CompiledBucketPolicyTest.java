@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.policy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.auth.policy.Statement.Effect;
+import com.seagates3.authserver.AuthServerConfig;
+import com.seagates3.model.Account;
+import com.seagates3.model.Requestor;
+
+public
+class CompiledBucketPolicyTest {
+
+ private
+  static final String ALLOW_ALL_GET =
+      "{\"Statement\": [{\"Sid\": \"1\", \"Effect\": \"Allow\"," +
+      "\"Principal\": {\"AWS\": \"*\"}, \"Action\": \"s3:Get*\"," +
+      "\"Resource\": \"arn:aws:s3:::mybucket/*\"}]}";
+
+ private
+  Requestor requestor;
+ private
+  Map<String, String> requestBody;
+
+  @Before public void setUp() throws Exception {
+    Account account = new Account();
+    account.setId("A1234");
+    account.setName("s3test");
+    account.setCanonicalId("C1234");
+    requestor = new Requestor();
+    requestor.setId("U1234");
+    requestor.setAccount(account);
+    requestBody = new HashMap<>();
+
+    AuthServerConfig.init(getAuthProperties("true"));
+    BucketPolicyCache.init();
+  }
+
+  @Test public void evaluateTest_ActionWildcard() throws Exception {
+    CompiledBucketPolicy policy = CompiledBucketPolicy.compile(ALLOW_ALL_GET);
+
+    assertEquals(Effect.Allow, policy.evaluate(requestor, "s3:getobject",
+                                               "mybucket/a.txt", requestBody));
+    assertEquals(Effect.Allow, policy.evaluate(requestor, "s3:getobjectacl",
+                                               "mybucket/a.txt", requestBody));
+    assertNull(policy.evaluate(requestor, "s3:putobject", "mybucket/a.txt",
+                               requestBody));
+  }
+
+  @Test public void evaluateTest_ResourceNotMatching() throws Exception {
+    CompiledBucketPolicy policy = CompiledBucketPolicy.compile(ALLOW_ALL_GET);
+
+    assertNull(policy.evaluate(requestor, "s3:getobject", "otherbucket/a.txt",
+                               requestBody));
+  }
+
+  @Test public void evaluateTest_AnonymousRequestor() throws Exception {
+    CompiledBucketPolicy policy = CompiledBucketPolicy.compile(
+        "{\"Statement\": [{\"Effect\": \"Allow\"," +
+        "\"Principal\": {\"AWS\": \"A1234\"}, \"Action\": \"s3:GetObject\"," +
+        "\"Resource\": \"arn:aws:s3:::mybucket/*\"}]}");
+
+    assertNull(policy.evaluate(null, "s3:getobject", "mybucket/a.txt",
+                               requestBody));
+    assertEquals(Effect.Allow, policy.evaluate(requestor, "s3:getobject",
+                                               "mybucket/a.txt", requestBody));
+  }
+
+  @Test public void evaluateTest_CanonicalUserPrincipal() throws Exception {
+    CompiledBucketPolicy policy = CompiledBucketPolicy.compile(
+        "{\"Statement\": [{\"Effect\": \"Deny\"," +
+        "\"Principal\": {\"CanonicalUser\": \"C1234\"}," +
+        "\"Action\": \"s3:*\", \"Resource\": \"arn:aws:s3:::mybucket\"}]}");
+
+    assertEquals(Effect.Deny, policy.evaluate(requestor, "s3:listbucket",
+                                              "mybucket", requestBody));
+  }
+
+  @Test public void evaluateTest_CanonicalUserAndAwsPrincipals()
+      throws Exception {
+    CompiledBucketPolicy policy = CompiledBucketPolicy.compile(
+        "{\"Statement\": [{\"Effect\": \"Allow\"," +
+        "\"Principal\": {\"AWS\": \"A9999\"," +
+        "\"CanonicalUser\": [\"C0000\", \"C1234\"]}," +
+        "\"Action\": \"s3:GetObject\"," +
+        "\"Resource\": \"arn:aws:s3:::mybucket/CanonicalUser/*\"}]}");
+
+    assertEquals(Effect.Allow,
+                 policy.evaluate(requestor, "s3:getobject",
+                                 "mybucket/CanonicalUser/a.txt", requestBody));
+    assertNull(policy.evaluate(null, "s3:getobject",
+                               "mybucket/CanonicalUser/a.txt", requestBody));
+  }
+
+  @Test public void evaluateTest_LastMatchingStatementWins() throws Exception {
+    CompiledBucketPolicy policy = CompiledBucketPolicy.compile(
+        "{\"Statement\": [" +
+        "{\"Effect\": \"Deny\", \"Principal\": {\"AWS\": \"*\"}," +
+        "\"Action\": \"s3:GetObject\"," +
+        "\"Resource\": \"arn:aws:s3:::mybucket/*\"}," +
+        "{\"Effect\": \"Allow\", \"Principal\": {\"AWS\": \"*\"}," +
+        "\"Action\": \"s3:GetObject\"," +
+        "\"Resource\": \"arn:aws:s3:::mybucket/public/*\"}]}");
+
+    assertEquals(Effect.Allow,
+                 policy.evaluate(requestor, "s3:getobject",
+                                 "mybucket/public/a.txt", requestBody));
+    assertEquals(Effect.Deny,
+                 policy.evaluate(requestor, "s3:getobject",
+                                 "mybucket/private/a.txt", requestBody));
+  }
+
+  @Test public void evaluateTest_Condition() throws Exception {
+    CompiledBucketPolicy policy = CompiledBucketPolicy.compile(
+        "{\"Statement\": [{\"Effect\": \"Allow\"," +
+        "\"Principal\": {\"AWS\": \"*\"}, \"Action\": \"s3:PutObject\"," +
+        "\"Resource\": \"arn:aws:s3:::mybucket/*\"," +
+        "\"Condition\": {\"StringEquals\": " +
+        "{\"s3:x-amz-acl\": \"bucket-owner-read\"}}}]}");
+
+    assertNull(policy.evaluate(requestor, "s3:putobject", "mybucket/a.txt",
+                               requestBody));
+
+    requestBody.put("x-amz-acl", "bucket-owner-read");
+    assertEquals(Effect.Allow, policy.evaluate(requestor, "s3:putobject",
+                                               "mybucket/a.txt", requestBody));
+  }
+
+  @Test public void patternMatcherTest() {
+    assertTrue(PatternMatcher.compile("*").matches("mybucket/a.txt"));
+    assertTrue(PatternMatcher.compile("mybucket").matches("mybucket"));
+    assertFalse(PatternMatcher.compile("mybucket").matches("mybucket/a"));
+    assertTrue(PatternMatcher.compile("mybucket/*").matches("mybucket/a"));
+    assertFalse(PatternMatcher.compile("mybucket/*").matches("mybucket"));
+    assertTrue(PatternMatcher.compile("my*/a?txt").matches("mybucket/a.txt"));
+    assertFalse(PatternMatcher.compile("my*/a?txt").matches("mybucket/a.tx"));
+  }
+
+  @Test public void bucketPolicyCacheTest_SameInstance() throws Exception {
+    CompiledBucketPolicy policy = BucketPolicyCache.get(ALLOW_ALL_GET);
+
+    assertSame(policy, BucketPolicyCache.get(ALLOW_ALL_GET));
+    assertEquals(1, BucketPolicyCache.getHitCount());
+    assertEquals(1, BucketPolicyCache.size());
+  }
+
+  @Test public void bucketPolicyCacheTest_Disabled() throws Exception {
+    AuthServerConfig.init(getAuthProperties("false"));
+    BucketPolicyCache.init();
+
+    assertFalse(BucketPolicyCache.isEnabled());
+    assertNotSame(BucketPolicyCache.get(ALLOW_ALL_GET),
+                  BucketPolicyCache.get(ALLOW_ALL_GET));
+  }
+
+ private
+  Properties getAuthProperties(String enabled) {
+    Properties authServerConfig = new Properties();
+    authServerConfig.setProperty("samlMetadataFileName", "saml-metadata.xml");
+    authServerConfig.setProperty("enableBucketPolicyCache", enabled);
+    return authServerConfig;
+  }
+}
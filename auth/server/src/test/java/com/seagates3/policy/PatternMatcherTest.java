@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.policy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public
+class PatternMatcherTest {
+
+ private
+  static final int ITERATIONS = 200000;
+
+  @Test public void matchesTest_Literal() {
+    assertTrue(PatternMatcher.matches("mybucket", "mybucket"));
+    assertFalse(PatternMatcher.matches("mybucket", "mybucke"));
+    assertTrue(PatternMatcher.matches("", ""));
+    assertFalse(PatternMatcher.matches("a", ""));
+  }
+
+  @Test public void matchesTest_Wildcards() {
+    assertTrue(PatternMatcher.matches("", "*"));
+    assertTrue(PatternMatcher.matches("", "***"));
+    assertFalse(PatternMatcher.matches("", "?"));
+    assertTrue(PatternMatcher.matches("s3:getobjectacl", "s3:get*acl"));
+    assertFalse(PatternMatcher.matches("s3:getobjectacl", "s3:get*acx"));
+    assertTrue(PatternMatcher.matches("abcbcd", "a*bcd"));
+    assertTrue(PatternMatcher.matches("aaab", "*a*b"));
+    assertTrue(PatternMatcher.matches("mybucket/a.txt", "my*/a?txt"));
+    assertFalse(PatternMatcher.matches("mybucket/a.tx", "my*/a?txt"));
+  }
+
+  @Test public void compileTest_Wildcards() {
+    assertTrue(PatternMatcher.compile("a?c").matches("abc"));
+    assertFalse(PatternMatcher.compile("a?c").matches("abcd"));
+    assertTrue(PatternMatcher.compile("*.jpg").matches("photos/a.jpg"));
+    assertFalse(PatternMatcher.compile("*.jpg").matches("jpg"));
+    assertTrue(PatternMatcher.compile("a*b*c").matches("abc"));
+    assertFalse(PatternMatcher.compile("ab*bc").matches("abc"));
+  }
+
+  /**
+   * Compare with the dynamic programming matcher PolicyUtil used to have on
+   * random inputs and patterns over a small alphabet, so that wildcards
+   * overlap often.
+   */
+  @Test public void matchesTest_SameAsDynamicProgramming() {
+    Random random = new Random(20201018L);
+    for (int count = 0; count < ITERATIONS; count++) {
+      String input = randomString(random, "ab", 8);
+      String pattern = randomString(random, "ab*?", 6);
+
+      boolean expected = matchesDynamicProgramming(input, pattern);
+      assertEquals(input + " / " + pattern, expected,
+                   PatternMatcher.matches(input, pattern));
+      assertEquals(input + " / " + pattern, expected,
+                   PatternMatcher.compile(pattern).matches(input));
+      assertEquals(input + " / " + pattern, expected,
+                   PolicyUtil.isPatternMatching(input, pattern));
+    }
+  }
+
+ private
+  static String randomString(Random random, String alphabet, int maxLength) {
+    int length = random.nextInt(maxLength + 1);
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+
+ private
+  static boolean matchesDynamicProgramming(String input, String pattern) {
+    int inputLength = input.length();
+    int patternLength = pattern.length();
+    if (patternLength == 0) return (inputLength == 0);
+    boolean[][] data = new boolean[inputLength + 1][patternLength + 1];
+    data[0][0] = true;
+    for (int count = 1; count <= patternLength; count++)
+      if (pattern.charAt(count - 1) == '*') data[0][count] = data[0][count - 1];
+    for (int i = 1; i <= inputLength; i++) {
+      for (int j = 1; j <= patternLength; j++) {
+        if (pattern.charAt(j - 1) == '*')
+          data[i][j] = data[i][j - 1] || data[i - 1][j];
+        else if (pattern.charAt(j - 1) == '?' ||
+                 input.charAt(i - 1) == pattern.charAt(j - 1))
+          data[i][j] = data[i - 1][j - 1];
+      }
+    }
+    return data[inputLength][patternLength];
+  }
+}
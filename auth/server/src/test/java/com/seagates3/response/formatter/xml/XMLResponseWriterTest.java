@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Seagate Technology LLC and/or its Affiliates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * For any questions about this software or licensing,
+ * please email opensource@seagate.com or cortx-questions@seagate.com.
+ *
+ */
+
+package com.seagates3.response.formatter.xml;
+
+import java.util.LinkedHashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public
+class XMLResponseWriterTest {
+
+ private
+  static final String DECLARATION =
+      "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>";
+
+  @Test public void toXMLTest_NestedElements() {
+    LinkedHashMap<String, String> elements = new LinkedHashMap<>();
+    elements.put("UserName", "s3test");
+    elements.put("Path", "/");
+
+    String xml = new XMLResponseWriter("GetUserResponse", "urn:test")
+                     .startElement("GetUserResult")
+                     .elements(elements)
+                     .endElement()
+                     .responseMetadata("0000")
+                     .toXML();
+
+    Assert.assertEquals(
+        DECLARATION + "<GetUserResponse xmlns=\"urn:test\"><GetUserResult>" +
+            "<UserName>s3test</UserName><Path>/</Path></GetUserResult>" +
+            "<ResponseMetadata><RequestId>0000</RequestId>" +
+            "</ResponseMetadata></GetUserResponse>",
+        xml);
+  }
+
+  @Test public void toXMLTest_EmptyElements() {
+    String xml = new XMLResponseWriter("Response", "urn:test")
+                     .startElement("Users")
+                     .endElement()
+                     .element("Marker", "")
+                     .toXML();
+
+    Assert.assertEquals(DECLARATION + "<Response xmlns=\"urn:test\">" +
+                            "<Users/><Marker/></Response>",
+                        xml);
+  }
+
+  @Test public void toXMLTest_ClosesOpenElements() {
+    String xml = new XMLResponseWriter("Response", "urn:test")
+                     .startElement("Result")
+                     .element("Name", "a")
+                     .toXML();
+
+    Assert.assertEquals(DECLARATION + "<Response xmlns=\"urn:test\">" +
+                            "<Result><Name>a</Name></Result></Response>",
+                        xml);
+  }
+
+  @Test public void toXMLTest_EscapesText() {
+    String xml = new XMLResponseWriter("R", "a\"b&c")
+                     .element("E", "<a & 'b'>\r\n\t\u0001\u0085\u00e9" +
+                                       "\ud83d\ude00")
+                     .toXML();
+
+    Assert.assertEquals(
+        DECLARATION + "<R xmlns=\"a&quot;b&amp;c\"><E>&lt;a &amp; 'b'&gt;" +
+            "&#13;\n\t&#1;&#133;\u00e9&#128512;</E></R>",
+        xml);
+  }
+
+  @Test public void toXMLTest_NullValue() {
+    String xml = new XMLResponseWriter("R", "urn:test")
+                     .element("E", null)
+                     .toXML();
+
+    Assert.assertNull(xml);
+  }
+
+  @Test public void toXMLTest_UnpairedSurrogate() {
+    Assert.assertNull(
+        new XMLResponseWriter("R", "urn:test").element("E", "\ud83da").toXML());
+    Assert.assertEquals(
+        DECLARATION + "<R xmlns=\"urn:test\"><E>a</E></R>",
+        new XMLResponseWriter("R", "urn:test").element("E", "a\ud83d").toXML());
+  }
+}
@@ -68,5 +68,46 @@ public class AuthenticationResponseGeneratorTest {
         Assert.assertEquals(expectedResponseBody, response.getResponseBody());
         Assert.assertEquals(HttpResponseStatus.OK, response.getResponseStatus());
     }
+
+    @Test
+    public void testAuthenticatedAndAuthorizedResponse() {
+        ClientRequestToken requestToken = new ClientRequestToken();
+        requestToken.setSignature("testsign");
+
+        Account account = new Account();
+        account.setId("12345");
+        account.setName("s3test");
+        account.setCanonicalId("dsfhgsjhsdgfQW23cdjbjb");
+        account.setEmail("abc@sjsj.com");
+
+        Requestor requestor = new Requestor();
+        requestor.setId("123");
+        requestor.setName("s3test");
+        requestor.setAccount(account);
+
+        final String expectedResponseBody =
+            "<?xml version=\"1.0\" " +
+            "encoding=\"UTF-8\" standalone=\"no\"?>" +
+            "<AuthenticateAndAuthorizeResponse " +
+            "xmlns=\"https://iam.seagate.com/doc/2010-05-08/\">" +
+            "<AuthenticateAndAuthorizeResult>" + "<UserId>123</UserId>" +
+            "<UserName>s3test</UserName>" + "<AccountId>12345</AccountId>" +
+            "<AccountName>s3test</AccountName>" +
+            "<SignatureSHA256>testsign</SignatureSHA256>" +
+            "<CanonicalId>dsfhgsjhsdgfQW23cdjbjb</CanonicalId>" +
+            "<Email>abc@sjsj.com</Email>" + "<ACL>PEFDTC8+</ACL>" +
+            "</AuthenticateAndAuthorizeResult>" +
+            "<ResponseMetadata>" + "<RequestId>0000</RequestId>" +
+            "</ResponseMetadata>" + "</AuthenticateAndAuthorizeResponse>";
+
+        AuthenticationResponseGenerator responseGenerator
+                = new AuthenticationResponseGenerator();
+        ServerResponse response = responseGenerator
+                .generateAuthenticatedAndAuthorizedResponse(requestor,
+                        requestToken, "PEFDTC8+");
+
+        Assert.assertEquals(expectedResponseBody, response.getResponseBody());
+        Assert.assertEquals(HttpResponseStatus.OK, response.getResponseStatus());
+    }
 }
 
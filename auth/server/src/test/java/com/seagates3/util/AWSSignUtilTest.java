@@ -41,4 +41,23 @@ public class AWSSignUtilTest {
 
     }
 
+    @Test
+    public void testCalculateSignatureAWSV4() {
+
+        String stringToSign = "AWS4-HMAC-SHA256\n" + "20150830T123600Z\n"
+                + "20150830/us-east-1/iam/aws4_request\n"
+                + "f536975d06c0309214f805bb90ccff08"
+                + "9219ecd68b2577efef23edd43b7e1a59";
+        String secretKey = "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY";
+
+        String expectedSignedValue = "5d672d79c15b13162d9279b0855cfba6"
+                + "789a8edb4c82c400e06b5924a6f2b5d7";
+
+        String signedValue = AWSSignUtil.calculateSignatureAWSV4(stringToSign,
+                secretKey, "20150830", "us-east-1", "iam");
+
+        assertEquals(expectedSignedValue, signedValue);
+
+    }
+
 }
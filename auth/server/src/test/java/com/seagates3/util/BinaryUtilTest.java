@@ -23,6 +23,7 @@ package com.seagates3.util;
 import org.junit.Test;
 
 import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
 
 import static org.junit.Assert.*;
 
@@ -144,6 +145,71 @@ public class BinaryUtilTest {
         BinaryUtil.hashSHA256(text);
     }
 
+    @Test
+    public void hashSHA256Test_IntoBuffer() throws UnsupportedEncodingException {
+        byte[] bytes = "xxThe Great A.I. Awakeningxx".getBytes("UTF-8");
+        byte[] expected = BinaryUtil.hashSHA256("The Great A.I. Awakening");
+        byte[] out = new byte[BinaryUtil.SHA256_LENGTH + 4];
+
+        boolean result = BinaryUtil.hashSHA256(bytes, 2, bytes.length - 4,
+                out, 4);
+
+        assertTrue(result);
+        assertArrayEquals(expected, Arrays.copyOfRange(out, 4, out.length));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void hashSHA256Test_IntoShortBuffer_ShouldThrowIllegalArgumentException()
+            throws UnsupportedEncodingException {
+        byte[] bytes = "The Great A.I. Awakening".getBytes("UTF-8");
+
+        BinaryUtil.hashSHA256(bytes, 0, bytes.length,
+                new byte[BinaryUtil.SHA256_LENGTH], 1);
+    }
+
+    @Test
+    public void hmacSHA256Test_IntoBuffer() throws UnsupportedEncodingException {
+        byte[] key = "ti2GeitodN_9LdQC-5EpYHZsuDreYTM2X11RQAMRyWg".getBytes("UTF-8");
+        byte[] data = "xxThe Great A.I. Awakening".getBytes("UTF-8");
+        byte[] expected = BinaryUtil.hmacSHA256(key,
+                "The Great A.I. Awakening".getBytes("UTF-8"));
+        byte[] out = new byte[BinaryUtil.SHA256_LENGTH];
+
+        boolean result = BinaryUtil.hmacSHA256(key, data, 2, data.length - 2,
+                out, 0);
+
+        assertTrue(result);
+        assertArrayEquals(expected, out);
+    }
+
+    @Test
+    public void hmacSHA256Test_ReusedAcrossKeys() throws UnsupportedEncodingException {
+        byte[] data = "The Great A.I. Awakening".getBytes("UTF-8");
+
+        byte[] first = BinaryUtil.hmacSHA256("key1".getBytes("UTF-8"), data);
+        byte[] second = BinaryUtil.hmacSHA256("key2".getBytes("UTF-8"), data);
+        byte[] again = BinaryUtil.hmacSHA256("key1".getBytes("UTF-8"), data);
+
+        assertFalse(Arrays.equals(first, second));
+        assertArrayEquals(first, again);
+    }
+
+    @Test
+    public void hmacSHA256Test_KeyModifiedInPlace() throws UnsupportedEncodingException {
+        byte[] data = "The Great A.I. Awakening".getBytes("UTF-8");
+        byte[] key = "key1".getBytes("UTF-8");
+
+        byte[] first = BinaryUtil.hmacSHA256(key, data);
+        key[3] = '2';
+        byte[] second = BinaryUtil.hmacSHA256(key, data);
+
+        assertArrayEquals(first,
+                BinaryUtil.hmacSHA256("key1".getBytes("UTF-8"), data));
+        assertArrayEquals(second,
+                BinaryUtil.hmacSHA256("key2".getBytes("UTF-8"), data));
+        assertFalse(Arrays.equals(first, second));
+    }
+
     @Test
     public void toHexTest() throws UnsupportedEncodingException {
         byte[] bytes = "The Great A.I. Awakening".getBytes("UTF-8");